@@ -0,0 +1,148 @@
+package com.flow.blocker.benchmark;
+
+import com.flow.blocker.domain.ContentPattern;
+import com.flow.blocker.domain.CustomExtension;
+import com.flow.blocker.domain.FixedExtension;
+import com.flow.blocker.policy.ContentScannerHolder;
+import com.flow.blocker.policy.ExtensionPolicyHolder;
+import com.flow.blocker.policy.PolicyChangeFeed;
+import com.flow.blocker.policy.UploadRuleHolder;
+import com.flow.blocker.repository.ContentPatternRepository;
+import com.flow.blocker.repository.CustomExtensionRepository;
+import com.flow.blocker.repository.FixedExtensionRepository;
+import com.flow.blocker.repository.PolicyChangeLogRepository;
+import com.flow.blocker.repository.PolicyVersionRepository;
+import com.flow.blocker.repository.UploadRuleRepository;
+import com.flow.blocker.validation.FileValidator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 벤치마크 공용 픽스처
+ * - DB 없이 정책 스냅샷을 채운 FileValidationService 생성
+ */
+final class BenchmarkFixtures {
+
+    static final Set<String> DEFAULT_FIXED = Set.of("bat", "cmd", "com", "cpl", "exe", "scr", "js");
+
+    private BenchmarkFixtures() {
+    }
+
+    static ExtensionPolicyHolder policyHolder(Set<String> fixed, Set<String> custom) {
+        List<FixedExtension> fixedExtensions = new ArrayList<>();
+        for (String extension : fixed) {
+            FixedExtension fixedExtension = new FixedExtension(extension);
+            fixedExtension.updateChecked(true);
+            fixedExtensions.add(fixedExtension);
+        }
+        List<CustomExtension> customExtensions = custom.stream().map(CustomExtension::new).toList();
+
+        ExtensionPolicyHolder holder = new ExtensionPolicyHolder(
+                repository(FixedExtensionRepository.class, Map.of("findByCheckedTrue", fixedExtensions)),
+                repository(CustomExtensionRepository.class, Map.of("findAll", customExtensions)),
+                repository(PolicyVersionRepository.class, Map.of("findVersion", Optional.of(1L))),
+                repository(PolicyChangeLogRepository.class, Map.of()),
+                new PolicyChangeFeed(16),
+                repository(PlatformTransactionManager.class, Map.of()));
+        holder.refresh();
+        return holder;
+    }
+
+    /**
+     * 규칙이 없는 보관소 (기본 규칙 사용)
+     */
+    static UploadRuleHolder uploadRuleHolder() {
+        UploadRuleHolder holder = new UploadRuleHolder(
+                repository(UploadRuleRepository.class, Map.of("findAllByOrderByIdAsc", List.of())));
+        holder.reload();
+        return holder;
+    }
+
+    /**
+     * 기본 내용 검사 패턴을 컴파일한 보관소
+     */
+    static ContentScannerHolder contentScannerHolder() {
+        List<ContentPattern> patterns = FileValidator.DEFAULT_CONTENT_PATTERNS.stream().map(ContentPattern::new).toList();
+        ContentScannerHolder holder = new ContentScannerHolder(
+                repository(ContentPatternRepository.class, Map.of("findAllByOrderByIdAsc", patterns)),
+                DataSize.ofMegabytes(32), DataSize.ofKilobytes(64));
+        holder.reload();
+        return holder;
+    }
+
+    /**
+     * 지정한 메소드만 고정 결과를 돌려주는 리포지토리 프록시
+     */
+    static <T> T repository(Class<T> type, Map<String, Object> results) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            String name = method.getName();
+            if (results.containsKey(name)) {
+                return results.get(name);
+            }
+            return switch (name) {
+                case "toString" -> type.getSimpleName() + "Stub";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(name);
+            };
+        }));
+    }
+
+    static MultipartFile multipartFile(String filename, String contentType, byte[] content) {
+        return new BytesMultipartFile(filename, contentType, content);
+    }
+
+    private record BytesMultipartFile(String filename, String contentType, byte[] content) implements MultipartFile {
+
+        @Override
+        public String getName() {
+            return "file";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return filename;
+        }
+
+        @Override
+        public String getContentType() {
+            return contentType;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return content.length == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return content.length;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return content;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public void transferTo(File dest) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
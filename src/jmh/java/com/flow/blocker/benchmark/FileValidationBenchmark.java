@@ -0,0 +1,96 @@
+package com.flow.blocker.benchmark;
+
+import com.flow.blocker.audit.UploadAuditQueue;
+import com.flow.blocker.exception.ExtensionException;
+import com.flow.blocker.metrics.ValidationMetrics;
+import com.flow.blocker.policy.ExtensionPolicyHolder;
+import com.flow.blocker.service.ContentVerdictCache;
+import com.flow.blocker.service.FileValidationService;
+import com.flow.blocker.validation.ArchiveInspector;
+import com.flow.blocker.validation.ArchiveLimits;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FileValidationService 검증 경로 벤치마크
+ * - 스프링 프록시 없이 서비스 자체 비용만 측정
+ * - 순수 판정(checkFilename) 비용은 validation-core의 FileValidatorBenchmark 참고
+ * - 차단/통과가 섞인 코퍼스이므로 예외 생성 비용도 포함
+ * - registry=NOOP(하위 레지스트리 없는 Composite)과 SIMPLE을 비교하여 메트릭 계측 비용 확인
+ * - 감사 큐를 비우는 작업이 없으므로 큐가 찬 뒤에는 폐기 경로(카운터 증가)가 측정됨
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FileValidationBenchmark {
+
+    @Param({"ASCII", "UNICODE", "DOUBLE_EXTENSION", "LONG", "MIXED"})
+    public FilenameCorpus corpus;
+
+    @Param({"NOOP", "SIMPLE"})
+    public String registry;
+
+    private FileValidationService fileValidationService;
+    private String[] names;
+    private MultipartFile[] files;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        ExtensionPolicyHolder policyHolder = BenchmarkFixtures.policyHolder(
+                BenchmarkFixtures.DEFAULT_FIXED, Set.of("sh", "php"));
+        MeterRegistry meterRegistry = "SIMPLE".equals(registry) ? new SimpleMeterRegistry() : new CompositeMeterRegistry();
+        fileValidationService = new FileValidationService(
+                policyHolder,
+                BenchmarkFixtures.uploadRuleHolder(),
+                new ValidationMetrics(meterRegistry),
+                new UploadAuditQueue(meterRegistry, 10_000),
+                new ContentVerdictCache(meterRegistry, 10_000),
+                new ArchiveInspector(new ArchiveLimits(10_000, 1L << 30, 100, 3)),
+                BenchmarkFixtures.contentScannerHolder());
+        names = corpus.names();
+
+        byte[] content = "%PDF-1.7 benchmark content".getBytes(StandardCharsets.US_ASCII);
+        files = new MultipartFile[names.length];
+        for (int i = 0; i < names.length; i++) {
+            files[i] = BenchmarkFixtures.multipartFile(names[i], "application/octet-stream", content);
+        }
+    }
+
+    @Benchmark
+    public boolean validateFilename() {
+        try {
+            return fileValidationService.validateFilename(next());
+        } catch (ExtensionException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean validateFile() {
+        MultipartFile file = files[cursor++ & (FilenameCorpus.SIZE - 1)];
+        try {
+            return fileValidationService.validateFile(file);
+        } catch (ExtensionException e) {
+            return false;
+        }
+    }
+
+    private String next() {
+        return names[cursor++ & (FilenameCorpus.SIZE - 1)];
+    }
+}
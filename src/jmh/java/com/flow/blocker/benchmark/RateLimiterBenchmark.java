@@ -0,0 +1,94 @@
+package com.flow.blocker.benchmark;
+
+import com.flow.blocker.ratelimit.TokenBucketRateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate Limiter 경합 벤치마크
+ * - 8개 스레드가 같은 클라이언트(HOT) 또는 여러 클라이언트(SPREAD)로 동시에 요청
+ * - 기준선: 이전 RateLimitInterceptor의 클라이언트별 synchronized 고정 윈도우 카운터
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class RateLimiterBenchmark {
+
+    @Param({"HOT", "SPREAD"})
+    public String keys;
+
+    private static final int CLIENTS = 4096;
+
+    private TokenBucketRateLimiter tokenBucket;
+    private SynchronizedWindowLimiter synchronizedWindow;
+    private String[] clients;
+
+    @Setup
+    public void setUp() {
+        // 한도에 거의 걸리지 않도록 크게 잡아 획득 경로 자체의 비용을 측정
+        tokenBucket = new TokenBucketRateLimiter(Integer.MAX_VALUE, Duration.ofMinutes(1), 100_000, Duration.ofMinutes(10));
+        synchronizedWindow = new SynchronizedWindowLimiter(Integer.MAX_VALUE);
+        clients = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clients[i] = "HOT".equals(keys) ? "10.0.0.1" : "10.0." + (i >> 8) + "." + (i & 0xFF);
+        }
+    }
+
+    @Benchmark
+    public boolean tokenBucket() {
+        return tokenBucket.tryAcquire(client());
+    }
+
+    @Benchmark
+    public boolean synchronizedWindow() {
+        return synchronizedWindow.tryAcquire(client());
+    }
+
+    private String client() {
+        return clients[ThreadLocalRandom.current().nextInt(CLIENTS)];
+    }
+
+    /**
+     * 이전 구현 재현 (비교용)
+     */
+    static final class SynchronizedWindowLimiter {
+
+        private final Map<String, Window> windows = new ConcurrentHashMap<>();
+        private final int limit;
+
+        SynchronizedWindowLimiter(int limit) {
+            this.limit = limit;
+        }
+
+        boolean tryAcquire(String client) {
+            Window window = windows.computeIfAbsent(client, k -> new Window());
+            synchronized (window) {
+                long now = System.currentTimeMillis();
+                if (now - window.start > TimeUnit.MINUTES.toMillis(1)) {
+                    window.start = now;
+                    window.count = 0;
+                }
+                return ++window.count <= limit;
+            }
+        }
+
+        static final class Window {
+            long start = System.currentTimeMillis();
+            int count;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.flow.blocker.benchmark;
+
+import com.flow.blocker.audit.UploadAuditQueue;
+import com.flow.blocker.exception.ExtensionException;
+import com.flow.blocker.metrics.ValidationMetrics;
+import com.flow.blocker.policy.ExtensionPolicyHolder;
+import com.flow.blocker.service.ContentVerdictCache;
+import com.flow.blocker.service.FileValidationService;
+import com.flow.blocker.validation.ArchiveInspector;
+import com.flow.blocker.validation.ArchiveLimits;
+import com.flow.blocker.validation.ValidationResult;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거부 경로 처리량 벤치마크 (공격 트래픽처럼 모든 요청이 차단되는 경우)
+ * - 예외 기반 API(validateXxx)와 판정 결과 API(checkXxx)의 초당 처리 건수 비교
+ * - 예외 기반 쪽은 컨트롤러가 하던 것처럼 예외를 잡아 메시지를 꺼내는 비용까지 포함
+ * - 판정 결과 쪽은 응답할 때 메시지를 만드는 비용 제외 (사유별 캐시 인스턴스 반환만 측정)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RejectionPathBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private FileValidationService fileValidationService;
+    private String[] names;
+    private MultipartFile[] files;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        ExtensionPolicyHolder policyHolder = BenchmarkFixtures.policyHolder(
+                BenchmarkFixtures.DEFAULT_FIXED, Set.of("sh", "php"));
+        CompositeMeterRegistry meterRegistry = new CompositeMeterRegistry();
+        fileValidationService = new FileValidationService(
+                policyHolder,
+                BenchmarkFixtures.uploadRuleHolder(),
+                new ValidationMetrics(meterRegistry),
+                new UploadAuditQueue(meterRegistry, 10_000),
+                new ContentVerdictCache(meterRegistry, 10_000),
+                new ArchiveInspector(new ArchiveLimits(10_000, 1L << 30, 100, 3)),
+                BenchmarkFixtures.contentScannerHolder());
+
+        // 차단 확장자, 이중 확장자, Null Byte가 섞인 전부 거부되는 입력
+        String[] templates = {"payload_%d.exe", "invoice_%d.pdf.exe", "report_%d.txt\0.sh", "setup_%d.BAT"};
+        byte[] content = "MZ benchmark content".getBytes(StandardCharsets.US_ASCII);
+        names = new String[SIZE];
+        files = new MultipartFile[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            names[i] = String.format(templates[i % templates.length], i);
+            files[i] = BenchmarkFixtures.multipartFile(names[i], "application/octet-stream", content);
+        }
+    }
+
+    @Benchmark
+    public String validateFilenameThrowing() {
+        try {
+            fileValidationService.validateFilename(names[next()]);
+            return null;
+        } catch (ExtensionException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public ValidationResult checkFilename() {
+        return fileValidationService.checkFilename(names[next()]);
+    }
+
+    @Benchmark
+    public String validateFileThrowing() {
+        try {
+            fileValidationService.validateFile(files[next()], "127.0.0.1");
+            return null;
+        } catch (ExtensionException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public ValidationResult checkFile() {
+        return fileValidationService.checkFile(files[next()], "127.0.0.1");
+    }
+
+    private int next() {
+        return cursor++ & (SIZE - 1);
+    }
+}
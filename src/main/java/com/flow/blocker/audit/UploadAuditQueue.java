@@ -0,0 +1,93 @@
+package com.flow.blocker.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업로드 판정 감사 큐
+ * - 검증 스레드는 락 없이 기록만 넣고 바로 반환 (DB 쓰기는 UploadAuditWriter가 별도로 수행)
+ * - 용량을 넘으면 대기하지 않고 버리며, 버린 건수는 upload.audit.dropped로 집계
+ */
+@Slf4j
+@Component
+public class UploadAuditQueue {
+
+    private final Queue<UploadVerdict> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong droppedTotal = new AtomicLong();
+    private final int capacity;
+    private final Counter enqueued;
+    private final Counter dropped;
+
+    public UploadAuditQueue(MeterRegistry registry,
+                            @Value("${audit.queue-capacity:10000}") int capacity) {
+        this.capacity = Math.max(capacity, 1);
+        this.enqueued = Counter.builder("upload.audit.enqueued")
+                .description("감사 큐에 들어간 판정 수")
+                .register(registry);
+        this.dropped = Counter.builder("upload.audit.dropped")
+                .description("감사 큐 포화로 버린 판정 수")
+                .register(registry);
+        Gauge.builder("upload.audit.queue.size", size, AtomicInteger::get)
+                .description("감사 큐에 대기 중인 판정 수")
+                .register(registry);
+    }
+
+    /**
+     * 판정 기록 추가 (블로킹 없음)
+     * - 자리를 먼저 확보한 경우에만 큐에 넣으므로 큐 길이는 용량을 넘지 않음
+     * @return 큐에 들어갔으면 true, 포화로 버렸으면 false
+     */
+    public boolean offer(UploadVerdict verdict) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            drop();
+            return false;
+        }
+        queue.offer(verdict);
+        enqueued.increment();
+        return true;
+    }
+
+    /**
+     * 최대 max건을 꺼내 sink에 추가
+     * @return 꺼낸 건수
+     */
+    public int drainTo(List<UploadVerdict> sink, int max) {
+        int drained = 0;
+        UploadVerdict verdict;
+        while (drained < max && (verdict = queue.poll()) != null) {
+            size.decrementAndGet();
+            sink.add(verdict);
+            drained++;
+        }
+        return drained;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public long droppedCount() {
+        return droppedTotal.get();
+    }
+
+    private void drop() {
+        dropped.increment();
+        long total = droppedTotal.incrementAndGet();
+        // 포화가 이어질 때 로그가 넘치지 않도록 1, 2, 4, 8... 번째에만 기록
+        if ((total & (total - 1)) == 0) {
+            log.warn("감사 큐 포화로 판정 기록 폐기: capacity={}, 누적 폐기={}", capacity, total);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.flow.blocker.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 감사 큐를 upload_audit 테이블로 옮기는 백그라운드 작업
+ * - audit.flush-interval-ms 주기로 큐를 비우며 audit.batch-size 단위로 JDBC 배치 INSERT
+ * - 한 번의 실행은 시작 시점에 쌓여 있던 건수까지만 저장 (업로드가 계속 들어와도 실행이 끝나야 다른 스케줄 작업이 돎)
+ * - 저장 실패 시 해당 배치는 버리고 upload.audit.failed로 집계 (검증 경로에 영향 없음)
+ */
+@Slf4j
+@Component
+public class UploadAuditWriter {
+
+    static final String INSERT_SQL = """
+            INSERT INTO upload_audit
+                (filename, extension, allowed, reason, file_size, client_ip, policy_version, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final int MAX_FILENAME_LENGTH = 255;
+    private static final int MAX_EXTENSION_LENGTH = 50;
+    private static final int MAX_CLIENT_IP_LENGTH = 45;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UploadAuditQueue queue;
+    private final int batchSize;
+    private final Counter written;
+    private final Counter failed;
+
+    public UploadAuditWriter(JdbcTemplate jdbcTemplate,
+                             UploadAuditQueue queue,
+                             MeterRegistry registry,
+                             @Value("${audit.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = queue;
+        this.batchSize = Math.max(batchSize, 1);
+        this.written = Counter.builder("upload.audit.written")
+                .description("upload_audit에 저장된 판정 수")
+                .register(registry);
+        this.failed = Counter.builder("upload.audit.failed")
+                .description("저장 실패로 버린 판정 수")
+                .register(registry);
+    }
+
+    /**
+     * 호출 시점에 큐에 쌓여 있던 기록을 저장 (이후 도착한 기록은 다음 실행에서 저장)
+     * @return 저장한 건수
+     */
+    @Scheduled(fixedDelayString = "${audit.flush-interval-ms:500}")
+    public int flush() {
+        List<UploadVerdict> batch = new ArrayList<>(batchSize);
+        int pending = queue.size();
+        int total = 0;
+        int drained;
+        while (pending > 0 && (drained = queue.drainTo(batch, Math.min(batchSize, pending))) > 0) {
+            pending -= drained;
+            total += write(batch);
+            batch.clear();
+        }
+        return total;
+    }
+
+    private int write(List<UploadVerdict> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, verdict) -> {
+                ps.setString(1, truncate(verdict.filename(), MAX_FILENAME_LENGTH));
+                ps.setString(2, truncate(verdict.extension(), MAX_EXTENSION_LENGTH));
+                ps.setBoolean(3, verdict.allowed());
+                if (verdict.reason() != null) {
+                    ps.setString(4, verdict.reason().name());
+                } else {
+                    ps.setNull(4, Types.VARCHAR);
+                }
+                ps.setLong(5, verdict.size());
+                ps.setString(6, truncate(verdict.clientIp(), MAX_CLIENT_IP_LENGTH));
+                ps.setLong(7, verdict.policyVersion());
+                ps.setTimestamp(8, Timestamp.from(verdict.timestamp()));
+            });
+            written.increment(batch.size());
+            return batch.size();
+        } catch (DataAccessException e) {
+            failed.increment(batch.size());
+            log.error("감사 기록 저장 실패: {}건 폐기", batch.size(), e);
+            return 0;
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        int flushed = flush();
+        log.info("종료 전 감사 기록 저장: {}건", flushed);
+    }
+}
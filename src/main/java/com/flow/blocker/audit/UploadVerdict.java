@@ -0,0 +1,25 @@
+package com.flow.blocker.audit;
+
+import com.flow.blocker.validation.RejectionReason;
+
+import java.time.Instant;
+
+/**
+ * 업로드 판정 감사 기록
+ * @param reason 차단 사유 (허용이면 null)
+ * @param size 파일 크기 (본문을 받기 전에 차단된 경우 -1)
+ */
+public record UploadVerdict(
+        String filename,
+        String extension,
+        RejectionReason reason,
+        long size,
+        String clientIp,
+        long policyVersion,
+        Instant timestamp
+) {
+
+    public boolean allowed() {
+        return reason == null;
+    }
+}
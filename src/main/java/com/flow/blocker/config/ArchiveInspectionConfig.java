@@ -0,0 +1,26 @@
+package com.flow.blocker.config;
+
+import com.flow.blocker.validation.ArchiveInspector;
+import com.flow.blocker.validation.ArchiveLimits;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 압축 파일 검사 설정
+ * - 업로드된 ZIP 계열 파일의 항목 검사 한도 (upload.archive.*)
+ */
+@Configuration
+public class ArchiveInspectionConfig {
+
+    @Bean
+    public ArchiveInspector archiveInspector(
+            @Value("${upload.archive.max-entries:10000}") int maxEntries,
+            @Value("${upload.archive.max-total-size:1GB}") DataSize maxTotalSize,
+            @Value("${upload.archive.max-compression-ratio:100}") int maxCompressionRatio,
+            @Value("${upload.archive.max-depth:3}") int maxDepth) {
+        return new ArchiveInspector(new ArchiveLimits(
+                maxEntries, maxTotalSize.toBytes(), maxCompressionRatio, maxDepth));
+    }
+}
@@ -11,7 +11,7 @@ import java.util.Arrays;
 
 /**
  * 캐싱 설정
- * - 차단 확장자 목록 캐싱으로 성능 최적화
+ * - 차단 확장자 목록은 ExtensionPolicyHolder 스냅샷으로 관리 (Spring Cache 미사용)
  */
 @Configuration
 @EnableCaching
@@ -21,7 +21,6 @@ public class CacheConfig {
     public CacheManager cacheManager() {
         SimpleCacheManager cacheManager = new SimpleCacheManager();
         cacheManager.setCaches(Arrays.asList(
-            new ConcurrentMapCache("blockedExtensions"),
             new ConcurrentMapCache("fixedExtensions"),
             new ConcurrentMapCache("customExtensions")
         ));
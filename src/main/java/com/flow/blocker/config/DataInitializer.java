@@ -1,6 +1,8 @@
 package com.flow.blocker.config;
 
+import com.flow.blocker.service.ContentPatternService;
 import com.flow.blocker.service.ExtensionService;
+import com.flow.blocker.service.UploadRuleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -17,6 +19,8 @@ import org.springframework.context.annotation.Profile;
 public class DataInitializer implements CommandLineRunner {
 
     private final ExtensionService extensionService;
+    private final UploadRuleService uploadRuleService;
+    private final ContentPatternService contentPatternService;
 
     @Override
     public void run(String... args) {
@@ -26,6 +30,14 @@ public class DataInitializer implements CommandLineRunner {
             // 고정 확장자 초기화
             extensionService.initializeFixedExtensions();
             log.info("고정 확장자 초기화 완료");
+
+            // 업로드 정책 기본 규칙 초기화
+            uploadRuleService.initializeDefaultRules();
+            log.info("업로드 기본 규칙 초기화 완료");
+
+            // 내용 검사 기본 패턴 초기화
+            contentPatternService.initializeDefaultPatterns();
+            log.info("내용 검사 기본 패턴 초기화 완료");
             
         } catch (Exception e) {
             log.error("초기 데이터 설정 실패", e);
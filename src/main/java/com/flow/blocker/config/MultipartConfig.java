@@ -0,0 +1,49 @@
+package com.flow.blocker.config;
+
+import com.flow.blocker.multipart.EarlyRejectMultipartResolver;
+import com.flow.blocker.service.FileValidationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * Multipart 설정
+ * - 업로드 API는 파트 헤더 단계에서 파일명을 검증하는 스트리밍 파서 사용
+ * - 그 외 요청은 기본 StandardServletMultipartResolver 사용
+ */
+@Configuration
+public class MultipartConfig {
+
+    private static final Set<String> EARLY_REJECT_PATHS = Set.of(
+            "/api/files/upload",
+            "/api/files/upload-multiple"
+    );
+
+    @Bean(name = DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+    public MultipartResolver multipartResolver(MultipartProperties properties,
+                                               FileValidationService fileValidationService,
+                                               @Value("${server.tomcat.max-part-count:50}") int maxPartCount) {
+        StandardServletMultipartResolver delegate = new StandardServletMultipartResolver();
+        delegate.setResolveLazily(properties.isResolveLazily());
+        delegate.setStrictServletCompliance(properties.isStrictServletCompliance());
+
+        return new EarlyRejectMultipartResolver(
+                delegate,
+                fileValidationService,
+                EARLY_REJECT_PATHS,
+                properties.getMaxFileSize().toBytes(),
+                properties.getMaxRequestSize().toBytes(),
+                maxPartCount,
+                (int) properties.getFileSizeThreshold().toBytes(),
+                StringUtils.hasText(properties.getLocation()) ? Path.of(properties.getLocation()) : null
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.flow.blocker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * - 차단 정책 동기화 폴링 (PolicySynchronizer), 규칙/패턴 재적재, 감사 기록 저장
+ * - 느린 작업 하나가 정책 동기화를 막지 않도록 스케줄러 스레드는 spring.task.scheduling.pool.size로 여러 개 사용
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,66 @@
+package com.flow.blocker.controller;
+
+import com.flow.blocker.dto.ApiResponse;
+import com.flow.blocker.dto.ContentPatternRequest;
+import com.flow.blocker.dto.ContentPatternResponse;
+import com.flow.blocker.service.ContentPatternService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/content-patterns")
+@RequiredArgsConstructor
+@Tag(name = "Content Pattern API", description = "업로드 내용 검사 패턴 관리 API")
+public class ContentPatternApiController {
+
+    private final ContentPatternService contentPatternService;
+
+    /**
+     * 패턴 전체 조회
+     */
+    @GetMapping
+    @Operation(summary = "내용 검사 패턴 목록 조회", description = "업로드 본문에서 찾는 패턴 목록을 조회합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    public ResponseEntity<ApiResponse<List<ContentPatternResponse>>> getPatterns() {
+        return ResponseEntity.ok(ApiResponse.success(contentPatternService.getAllPatterns()));
+    }
+
+    /**
+     * 패턴 추가
+     */
+    @PostMapping
+    @Operation(summary = "내용 검사 패턴 추가", description = "업로드 본문에서 찾을 문자열을 추가합니다. (최대 200개, 100자 제한, 대소문자 구분 없음)")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "추가 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 (중복, 제한 초과 등)")
+    })
+    public ResponseEntity<ApiResponse<ContentPatternResponse>> addPattern(
+            @Valid @RequestBody ContentPatternRequest request) {
+        ContentPatternResponse response = contentPatternService.addPattern(request.getPattern());
+        return ResponseEntity.ok(ApiResponse.success("패턴이 추가되었습니다.", response));
+    }
+
+    /**
+     * 패턴 삭제
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "내용 검사 패턴 삭제", description = "등록된 패턴을 삭제합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "삭제 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "패턴을 찾을 수 없음")
+    })
+    public ResponseEntity<ApiResponse<Void>> deletePattern(@Parameter(description = "패턴 ID") @PathVariable Long id) {
+        contentPatternService.deletePattern(id);
+        return ResponseEntity.ok(ApiResponse.success("패턴이 삭제되었습니다.", null));
+    }
+}
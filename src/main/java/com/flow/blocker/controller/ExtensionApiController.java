@@ -1,9 +1,14 @@
 package com.flow.blocker.controller;
 
 import com.flow.blocker.dto.ApiResponse;
+import com.flow.blocker.dto.BulkExtensionRequest;
+import com.flow.blocker.dto.BulkExtensionResponse;
 import com.flow.blocker.dto.ExtensionRequest;
 import com.flow.blocker.dto.ExtensionResponse;
+import com.flow.blocker.service.CustomExtensionBulkService;
 import com.flow.blocker.service.ExtensionService;
+import com.flow.blocker.web.ExtensionListPayloads;
+import com.flow.blocker.web.PrecomputedPayload;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,8 +17,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -25,19 +32,21 @@ import java.util.Map;
 public class ExtensionApiController {
 
     private final ExtensionService extensionService;
+    private final CustomExtensionBulkService customExtensionBulkService;
+    private final ExtensionListPayloads extensionListPayloads;
 
     /**
      * 고정 확장자 전체 조회
      */
     @GetMapping("/fixed")
-    @Operation(summary = "고정 확장자 목록 조회", description = "시스템에 등록된 모든 고정 확장자 목록을 조회합니다.")
+    @Operation(summary = "고정 확장자 목록 조회", description = "시스템에 등록된 모든 고정 확장자 목록을 조회합니다. (ETag/If-None-Match 지원)")
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공",
-            content = @Content(schema = @Schema(implementation = ExtensionResponse.class)))
+            content = @Content(schema = @Schema(implementation = ExtensionResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음")
     })
-    public ResponseEntity<ApiResponse<List<ExtensionResponse>>> getFixedExtensions() {
-        List<ExtensionResponse> extensions = extensionService.getAllFixedExtensions();
-        return ResponseEntity.ok(ApiResponse.success(extensions));
+    public ResponseEntity<byte[]> getFixedExtensions(WebRequest request) {
+        return conditional(extensionListPayloads.fixed(), request);
     }
 
     /**
@@ -63,13 +72,13 @@ public class ExtensionApiController {
      * 커스텀 확장자 전체 조회
      */
     @GetMapping("/custom")
-    @Operation(summary = "커스텀 확장자 목록 조회", description = "등록된 모든 커스텀 확장자 목록을 조회합니다.")
+    @Operation(summary = "커스텀 확장자 목록 조회", description = "등록된 모든 커스텀 확장자 목록을 조회합니다. (ETag/If-None-Match 지원)")
     @ApiResponses({
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음")
     })
-    public ResponseEntity<ApiResponse<List<ExtensionResponse>>> getCustomExtensions() {
-        List<ExtensionResponse> extensions = extensionService.getAllCustomExtensions();
-        return ResponseEntity.ok(ApiResponse.success(extensions));
+    public ResponseEntity<byte[]> getCustomExtensions(WebRequest request) {
+        return conditional(extensionListPayloads.custom(), request);
     }
 
     /**
@@ -102,4 +111,80 @@ public class ExtensionApiController {
         extensionService.deleteCustomExtension(id);
         return ResponseEntity.ok(ApiResponse.success("확장자가 삭제되었습니다.", null));
     }
+
+    /**
+     * 커스텀 확장자 내보내기
+     */
+    @GetMapping("/custom/export")
+    @Operation(summary = "커스텀 확장자 내보내기", description = "커스텀 확장자 이름 목록을 정렬하여 반환합니다. (교체 요청에 그대로 사용 가능)")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    public ResponseEntity<ApiResponse<List<String>>> exportCustomExtensions() {
+        return ResponseEntity.ok(ApiResponse.success(customExtensionBulkService.exportCustomExtensions()));
+    }
+
+    /**
+     * 커스텀 확장자 일괄 추가
+     */
+    @PostMapping("/custom/bulk")
+    @Operation(summary = "커스텀 확장자 일괄 추가", description = "여러 확장자를 한 트랜잭션으로 추가합니다. 하나라도 유효하지 않으면 아무것도 반영하지 않습니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "추가 성공 (항목별 결과 포함)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 항목 포함 (항목별 결과 포함)")
+    })
+    public ResponseEntity<ApiResponse<BulkExtensionResponse>> addCustomExtensions(
+            @Valid @RequestBody BulkExtensionRequest request) {
+        return toResponse(customExtensionBulkService.addAll(request.getExtensions()));
+    }
+
+    /**
+     * 커스텀 확장자 일괄 삭제
+     */
+    @DeleteMapping("/custom/bulk")
+    @Operation(summary = "커스텀 확장자 일괄 삭제", description = "여러 확장자를 한 트랜잭션으로 삭제합니다. 하나라도 유효하지 않으면 아무것도 반영하지 않습니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "삭제 성공 (항목별 결과 포함)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 항목 포함 (항목별 결과 포함)")
+    })
+    public ResponseEntity<ApiResponse<BulkExtensionResponse>> deleteCustomExtensions(
+            @Valid @RequestBody BulkExtensionRequest request) {
+        return toResponse(customExtensionBulkService.removeAll(request.getExtensions()));
+    }
+
+    /**
+     * 커스텀 확장자 전체 교체 (가져오기)
+     */
+    @PutMapping("/custom")
+    @Operation(summary = "커스텀 확장자 가져오기", description = "커스텀 확장자 목록을 요청 목록으로 교체합니다. 하나라도 유효하지 않으면 아무것도 반영하지 않습니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "교체 성공 (항목별 결과 포함)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 항목 포함 (항목별 결과 포함)")
+    })
+    public ResponseEntity<ApiResponse<BulkExtensionResponse>> replaceCustomExtensions(
+            @Valid @RequestBody BulkExtensionRequest request) {
+        return toResponse(customExtensionBulkService.replaceAll(request.getExtensions()));
+    }
+
+    /**
+     * If-None-Match가 ETag와 같으면 304, 아니면 미리 직렬화한 본문 반환
+     */
+    private static ResponseEntity<byte[]> conditional(PrecomputedPayload payload, WebRequest request) {
+        if (request.checkNotModified(payload.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(payload.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(payload.body());
+    }
+
+    private static ResponseEntity<ApiResponse<BulkExtensionResponse>> toResponse(BulkExtensionResponse response) {
+        if (!response.applied()) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("유효하지 않은 확장자가 있어 반영하지 않았습니다.", response));
+        }
+        return ResponseEntity.ok(ApiResponse.success(
+                "추가 " + response.added() + "건, 삭제 " + response.removed() + "건이 반영되었습니다.", response));
+    }
 }
@@ -2,7 +2,13 @@ package com.flow.blocker.controller;
 
 import com.flow.blocker.dto.ApiResponse;
 import com.flow.blocker.dto.FileUploadResponse;
+import com.flow.blocker.service.BulkFilenameValidationService;
+import com.flow.blocker.service.FileBatchValidationService;
 import com.flow.blocker.service.FileValidationService;
+import com.flow.blocker.service.ValidationMessages;
+import com.flow.blocker.validation.ValidationResult;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
@@ -10,7 +16,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -23,6 +30,8 @@ import java.util.List;
 public class FileUploadController {
 
     private final FileValidationService fileValidationService;
+    private final FileBatchValidationService fileBatchValidationService;
+    private final BulkFilenameValidationService bulkFilenameValidationService;
 
     /**
      * 단일 파일 업로드 검증
@@ -33,40 +42,36 @@ public class FileUploadController {
         
         log.info("파일 업로드 요청: {}, 크기: {} bytes", 
                 file.getOriginalFilename(), file.getSize());
-        
-        try {
-            // 파일 검증
-            boolean isValid = fileValidationService.validateFile(file);
-            
-            if (isValid) {
-                // 실제 파일 저장 로직은 여기에 구현
-                // 현재는 검증만 수행
-                FileUploadResponse response = new FileUploadResponse(
-                    file.getOriginalFilename(),
-                    file.getSize(),
-                    file.getContentType(),
-                    true,
-                    "파일 업로드가 허용되었습니다."
-                );
-                
-                return ResponseEntity.ok(ApiResponse.success("파일 검증 통과", response));
-            }
-        } catch (Exception e) {
-            log.error("파일 업로드 실패: {}", file.getOriginalFilename(), e);
-            
+
+        // 파일 검증 (차단은 결과로 반환, 파일을 읽지 못하는 등 실제 오류만 예외)
+        ValidationResult result = fileValidationService.checkFile(file);
+
+        if (!result.isAllowed()) {
+            String message = ValidationMessages.of(result);
             FileUploadResponse response = new FileUploadResponse(
                 file.getOriginalFilename(),
                 file.getSize(),
                 file.getContentType(),
                 false,
-                e.getMessage()
+                message,
+                result.reason(),
+                result.messageKey()
             );
-            
-            return ResponseEntity.ok(ApiResponse.error(e.getMessage(), response));
+
+            return ResponseEntity.ok(ApiResponse.error(message, response));
         }
-        
-        return ResponseEntity.badRequest()
-            .body(ApiResponse.error("파일 업로드 실패", null));
+
+        // 실제 파일 저장 로직은 여기에 구현
+        // 현재는 검증만 수행
+        FileUploadResponse response = new FileUploadResponse(
+            file.getOriginalFilename(),
+            file.getSize(),
+            file.getContentType(),
+            true,
+            "파일 업로드가 허용되었습니다."
+        );
+
+        return ResponseEntity.ok(ApiResponse.success("파일 검증 통과", response));
     }
 
     /**
@@ -78,35 +83,9 @@ public class FileUploadController {
         
         log.info("다중 파일 업로드 요청: {} 개", files.length);
         
-        List<FileUploadResponse> responses = new ArrayList<>();
-        int successCount = 0;
-        int failCount = 0;
-        
-        for (MultipartFile file : files) {
-            try {
-                boolean isValid = fileValidationService.validateFile(file);
-                
-                if (isValid) {
-                    responses.add(new FileUploadResponse(
-                        file.getOriginalFilename(),
-                        file.getSize(),
-                        file.getContentType(),
-                        true,
-                        "검증 통과"
-                    ));
-                    successCount++;
-                }
-            } catch (Exception e) {
-                responses.add(new FileUploadResponse(
-                    file.getOriginalFilename(),
-                    file.getSize(),
-                    file.getContentType(),
-                    false,
-                    e.getMessage()
-                ));
-                failCount++;
-            }
-        }
+        List<FileUploadResponse> responses = fileBatchValidationService.validateAll(files);
+        long successCount = responses.stream().filter(FileUploadResponse::isAllowed).count();
+        long failCount = responses.size() - successCount;
         
         String message = String.format("전체 %d개 중 성공: %d개, 실패: %d개", 
                 files.length, successCount, failCount);
@@ -121,34 +100,35 @@ public class FileUploadController {
     public ResponseEntity<ApiResponse<Boolean>> validateFilename(
             @RequestBody String filename) {
         
-        try {
-            // 파일명만으로 간단 검증
-            String extension = extractExtension(filename);
-            var blockedExtensions = fileValidationService.validateFilename(filename);
-            
-//            boolean isBlocked = blockedExtensions.contains(extension.toLowerCase());
-            
-            if (!blockedExtensions) {
-                return ResponseEntity.ok(
-                    ApiResponse.error(String.format("차단된 확장자: .%s", extension), false)
-                );
-            }
-            
-            return ResponseEntity.ok(
-                ApiResponse.success("허용된 확장자입니다.", true)
-            );
-        } catch (Exception e) {
+        // 파일명만으로 간단 검증
+        ValidationResult result = fileValidationService.checkFilename(filename);
+
+        if (!result.isAllowed()) {
             return ResponseEntity.ok(
-                ApiResponse.error(e.getMessage(), false)
+                ApiResponse.error(ValidationMessages.of(result), false)
             );
         }
+
+        return ResponseEntity.ok(
+            ApiResponse.success("허용된 확장자입니다.", true)
+        );
     }
 
-    private String extractExtension(String filename) {
-        int lastDotIndex = filename.lastIndexOf('.');
-        if (lastDotIndex == -1 || lastDotIndex == filename.length() - 1) {
-            return "";
+    /**
+     * 대량 파일명 검증 (NDJSON 스트리밍)
+     * - 요청 본문을 한 줄씩 읽어 판정 결과를 바로 응답에 기록
+     */
+    @PostMapping(value = "/validate/bulk",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_PLAIN_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void validateBulk(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (request.getCharacterEncoding() == null) {
+            request.setCharacterEncoding(StandardCharsets.UTF_8.name());
         }
-        return filename.substring(lastDotIndex + 1).toLowerCase().trim();
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        long count = bulkFilenameValidationService.validate(request.getReader(), response.getOutputStream());
+        log.info("대량 파일명 검증 완료: {}건", count);
     }
 }
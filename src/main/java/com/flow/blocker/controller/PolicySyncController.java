@@ -0,0 +1,46 @@
+package com.flow.blocker.controller;
+
+import com.flow.blocker.dto.ApiResponse;
+import com.flow.blocker.dto.PolicyChangesResponse;
+import com.flow.blocker.policy.PolicyChangeFeed;
+import com.flow.blocker.web.PolicyLongPollRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+@RestController
+@RequestMapping("/api/policy")
+@RequiredArgsConstructor
+@Tag(name = "Policy Sync API", description = "차단 정책 변경분 동기화 API")
+public class PolicySyncController {
+
+    private final PolicyChangeFeed policyChangeFeed;
+    private final PolicyLongPollRegistry policyLongPollRegistry;
+
+    /**
+     * 정책 변경분 조회 (롱 폴링)
+     */
+    @GetMapping("/changes")
+    @Operation(summary = "정책 변경분 조회",
+            description = "sinceVersion 이후 추가/삭제된 차단 확장자를 반환합니다. wait=true면 변경이 생기거나 타임아웃될 때까지 응답을 보류합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공 (변경이 없으면 빈 목록)")
+    })
+    public DeferredResult<ApiResponse<PolicyChangesResponse>> getChanges(
+            @Parameter(description = "클라이언트가 가진 정책 버전 (처음이면 0)") @RequestParam(defaultValue = "0") long sinceVersion,
+            @Parameter(description = "변경이 없을 때 대기 여부") @RequestParam(defaultValue = "true") boolean wait) {
+        if (wait) {
+            return policyLongPollRegistry.poll(sinceVersion);
+        }
+        DeferredResult<ApiResponse<PolicyChangesResponse>> result = new DeferredResult<>();
+        result.setResult(ApiResponse.success(policyChangeFeed.changesSince(sinceVersion)));
+        return result;
+    }
+}
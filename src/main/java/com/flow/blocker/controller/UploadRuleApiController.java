@@ -0,0 +1,65 @@
+package com.flow.blocker.controller;
+
+import com.flow.blocker.dto.ApiResponse;
+import com.flow.blocker.dto.UploadRuleRequest;
+import com.flow.blocker.dto.UploadRuleResponse;
+import com.flow.blocker.service.UploadRuleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/upload-rules")
+@RequiredArgsConstructor
+@Tag(name = "Upload Rule API", description = "업로드 정책 규칙 관리 API")
+public class UploadRuleApiController {
+
+    private final UploadRuleService uploadRuleService;
+
+    /**
+     * 규칙 전체 조회
+     */
+    @GetMapping
+    @Operation(summary = "업로드 규칙 목록 조회", description = "확장자별 차단, 크기 제한, MIME Type 허용 목록 규칙을 조회합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    public ResponseEntity<ApiResponse<List<UploadRuleResponse>>> getRules() {
+        return ResponseEntity.ok(ApiResponse.success(uploadRuleService.getAllRules()));
+    }
+
+    /**
+     * 규칙 추가
+     */
+    @PostMapping
+    @Operation(summary = "업로드 규칙 추가", description = "확장자(또는 전체 확장자 *)에 대한 규칙을 추가합니다. 업로드(UPLOAD), 파일명 검증(VALIDATE), 둘 다(ALL) 중 적용 경로를 지정합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "추가 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    public ResponseEntity<ApiResponse<UploadRuleResponse>> addRule(@Valid @RequestBody UploadRuleRequest request) {
+        UploadRuleResponse response = uploadRuleService.addRule(request);
+        return ResponseEntity.ok(ApiResponse.success("규칙이 추가되었습니다.", response));
+    }
+
+    /**
+     * 규칙 삭제
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "업로드 규칙 삭제", description = "등록된 규칙을 삭제합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "삭제 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "규칙을 찾을 수 없음")
+    })
+    public ResponseEntity<ApiResponse<Void>> deleteRule(@Parameter(description = "규칙 ID") @PathVariable Long id) {
+        uploadRuleService.deleteRule(id);
+        return ResponseEntity.ok(ApiResponse.success("규칙이 삭제되었습니다.", null));
+    }
+}
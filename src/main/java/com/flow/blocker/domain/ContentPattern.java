@@ -0,0 +1,42 @@
+package com.flow.blocker.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * 내용 검사 패턴 엔티티
+ * - 업로드 본문에서 찾을 문자열 (예: <script, eval(, powershell -enc)
+ * - 최대 200개, 최대 길이 100자, 대소문자 구분 없음 (소문자로 저장)
+ * - 각 노드는 전체 패턴을 하나의 Aho-Corasick 오토마톤으로 컴파일하여 메모리에 보관
+ */
+@Entity
+@Table(name = "content_patterns",
+    indexes = {
+        @Index(name = "idx_content_pattern", columnList = "pattern")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ContentPattern {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String pattern;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public ContentPattern(String pattern) {
+        this.pattern = pattern.trim().toLowerCase(Locale.ROOT);
+    }
+}
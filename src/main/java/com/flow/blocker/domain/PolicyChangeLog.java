@@ -0,0 +1,59 @@
+package com.flow.blocker.domain;
+
+import com.flow.blocker.validation.PolicyDelta;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 차단 정책 변경 로그
+ * - 확장자 변경과 같은 트랜잭션에서 기록
+ * - 각 노드는 자신의 버전 이후 로그만 읽어 스냅샷에 적용
+ */
+@Entity
+@Table(name = "policy_change_log",
+    indexes = {
+        @Index(name = "idx_policy_change_version", columnList = "version_no", unique = true)
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PolicyChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "version_no", nullable = false)
+    private long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private PolicyDelta.Scope scope;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private PolicyDelta.Action action;
+
+    @Column(nullable = false, length = 20)
+    private String extension;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public PolicyChangeLog(long version, PolicyDelta.Scope scope, PolicyDelta.Action action, String extension) {
+        this.version = version;
+        this.scope = scope;
+        this.action = action;
+        this.extension = extension;
+    }
+
+    public PolicyDelta toDelta() {
+        return new PolicyDelta(version, scope, action, extension);
+    }
+}
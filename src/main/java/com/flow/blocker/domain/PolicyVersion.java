@@ -0,0 +1,37 @@
+package com.flow.blocker.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 차단 정책 버전 (단일 행)
+ * - 확장자 변경 트랜잭션마다 행 잠금 후 1 증가
+ * - 잠금으로 변경이 직렬화되므로 버전 순서 = 커밋 순서
+ */
+@Entity
+@Table(name = "policy_version")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PolicyVersion {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "version_no", nullable = false)
+    private long version;
+
+    public static PolicyVersion initial() {
+        PolicyVersion policyVersion = new PolicyVersion();
+        policyVersion.id = SINGLETON_ID;
+        policyVersion.version = 0L;
+        return policyVersion;
+    }
+
+    public long increment() {
+        return ++version;
+    }
+}
@@ -0,0 +1,54 @@
+package com.flow.blocker.domain;
+
+import com.flow.blocker.validation.RejectionReason;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 판정 감사 로그
+ * - 쓰기는 UploadAuditWriter의 JDBC 배치 INSERT로만 수행 (엔티티는 스키마 정의와 조회용)
+ */
+@Entity
+@Table(name = "upload_audit",
+    indexes = {
+        @Index(name = "idx_upload_audit_created_at", columnList = "created_at"),
+        @Index(name = "idx_upload_audit_client_ip", columnList = "client_ip")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UploadAudit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 255)
+    private String filename;
+
+    @Column(length = 50)
+    private String extension;
+
+    @Column(nullable = false)
+    private boolean allowed;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private RejectionReason reason;
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    @Column(name = "client_ip", length = 45)
+    private String clientIp;
+
+    @Column(name = "policy_version", nullable = false)
+    private long policyVersion;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
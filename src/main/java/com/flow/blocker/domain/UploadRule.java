@@ -0,0 +1,106 @@
+package com.flow.blocker.domain;
+
+import com.flow.blocker.validation.DecisionRule;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 업로드 정책 규칙 엔티티
+ * - 확장자별(또는 전체 확장자 *) 차단, 크기 제한, MIME Type 허용 목록
+ * - 업로드와 파일명 검증에 서로 다른 규칙을 둘 수 있음 (mode)
+ * - 각 노드는 전체 규칙을 확장자별 판정 테이블로 컴파일하여 메모리에 보관
+ */
+@Entity
+@Table(name = "upload_rules",
+    indexes = {
+        @Index(name = "idx_upload_rule_extension", columnList = "extension")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UploadRule {
+
+    /** MIME Type 목록 컬럼 길이 (구분자 포함) */
+    public static final int MIME_TYPES_MAX_LENGTH = 500;
+
+    private static final String MIME_TYPE_SEPARATOR = ",";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String extension;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private DecisionRule.Mode mode;
+
+    @Column(nullable = false)
+    private boolean blocked;
+
+    @Column(name = "max_size_bytes")
+    private Long maxSizeBytes;
+
+    @Column(name = "mime_types", length = MIME_TYPES_MAX_LENGTH)
+    private String mimeTypes;
+
+    @Column(name = "strict_mime", nullable = false)
+    private boolean strictMime;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public UploadRule(String extension, DecisionRule.Mode mode, boolean blocked, Long maxSizeBytes,
+                      Set<String> mimeTypes, boolean strictMime) {
+        this.extension = extension.toLowerCase().trim();
+        this.mode = mode;
+        this.blocked = blocked;
+        this.maxSizeBytes = maxSizeBytes;
+        this.mimeTypes = mimeTypes.isEmpty() ? null : String.join(MIME_TYPE_SEPARATOR, mimeTypes);
+        this.strictMime = strictMime;
+    }
+
+    public static UploadRule from(DecisionRule rule) {
+        return new UploadRule(rule.extension(), rule.mode(), rule.blocked(),
+                rule.maxSizeBytes() >= 0 ? rule.maxSizeBytes() : null,
+                new LinkedHashSet<>(rule.mimeTypes()), rule.strictMime());
+    }
+
+    public Set<String> getMimeTypeSet() {
+        if (mimeTypes == null || mimeTypes.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(mimeTypes.split(MIME_TYPE_SEPARATOR))
+                .map(String::trim)
+                .filter(mimeType -> !mimeType.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    public DecisionRule toRule() {
+        return new DecisionRule(extension, mode, blocked,
+                maxSizeBytes != null ? maxSizeBytes : DecisionRule.NO_LIMIT, getMimeTypeSet(), strictMime);
+    }
+
+    /**
+     * MIME Type 목록을 컬럼에 저장했을 때의 길이
+     */
+    public static int mimeTypesLength(Set<String> mimeTypes) {
+        return String.join(MIME_TYPE_SEPARATOR, mimeTypes).length();
+    }
+}
@@ -0,0 +1,23 @@
+package com.flow.blocker.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 커스텀 확장자 일괄 요청
+ * - 항목별 형식 검사는 서비스에서 수행하여 결과를 항목마다 반환
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkExtensionRequest {
+
+    @NotNull(message = "확장자 목록을 입력해주세요.")
+    @Size(max = 1000, message = "한 번에 최대 1000개까지 요청 가능합니다.")
+    private List<String> extensions;
+}
@@ -0,0 +1,16 @@
+package com.flow.blocker.dto;
+
+import java.util.List;
+
+/**
+ * 일괄 요청 결과
+ * - applied가 false면 REJECTED 항목 때문에 아무것도 반영되지 않음 (나머지 항목 상태는 검증 결과)
+ * @param version 반영 후 정책 버전
+ */
+public record BulkExtensionResponse(boolean applied, long version, int added, int removed,
+									List<BulkExtensionResult> results) {
+
+	public static BulkExtensionResponse rejected(long version, List<BulkExtensionResult> results) {
+		return new BulkExtensionResponse(false, version, 0, 0, results);
+	}
+}
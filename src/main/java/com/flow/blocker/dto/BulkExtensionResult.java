@@ -0,0 +1,24 @@
+package com.flow.blocker.dto;
+
+/**
+ * 일괄 요청의 항목별 결과
+ * @param input 요청 값 (교체로 삭제된 항목은 null)
+ * @param extension 정규화된 확장자 (형식 오류면 null)
+ */
+public record BulkExtensionResult(String input, String extension, Status status, String message) {
+
+	public enum Status {
+		ADDED,
+		REMOVED,
+		UNCHANGED,
+		REJECTED
+	}
+
+	public static BulkExtensionResult of(String input, String extension, Status status) {
+		return new BulkExtensionResult(input, extension, status, null);
+	}
+
+	public static BulkExtensionResult rejected(String input, String extension, String message) {
+		return new BulkExtensionResult(input, extension, Status.REJECTED, message);
+	}
+}
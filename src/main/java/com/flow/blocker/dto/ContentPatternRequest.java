@@ -0,0 +1,17 @@
+package com.flow.blocker.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ContentPatternRequest {
+
+    @NotBlank(message = "패턴을 입력해주세요.")
+    @Size(max = 100, message = "패턴은 최대 100자까지 입력 가능합니다.")
+    private String pattern;
+}
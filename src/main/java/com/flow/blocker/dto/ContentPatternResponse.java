@@ -0,0 +1,16 @@
+package com.flow.blocker.dto;
+
+import com.flow.blocker.domain.ContentPattern;
+
+import java.time.LocalDateTime;
+
+public record ContentPatternResponse(Long id, String pattern, LocalDateTime createdAt) {
+
+	public static ContentPatternResponse from(ContentPattern contentPattern) {
+		return new ContentPatternResponse(
+				contentPattern.getId(),
+				contentPattern.getPattern(),
+				contentPattern.getCreatedAt()
+		);
+	}
+}
@@ -14,7 +14,7 @@ public class ExtensionRequest {
 
     @NotBlank(message = "확장자를 입력해주세요.")
     @Size(max = 20, message = "확장자는 최대 20자까지 입력 가능합니다.")
-    @Pattern(regexp = "^[a-zA-Z0-9]+$", message = "확장자는 영문자와 숫자만 입력 가능합니다.")
+    @Pattern(regexp = "^[a-zA-Z0-9*?]+$", message = "확장자는 영문자, 숫자와 와일드카드(*, ?)만 입력 가능합니다.")
     private String extension;
 
     public String getExtension() {
@@ -1,11 +1,13 @@
 package com.flow.blocker.dto;
 
+import com.flow.blocker.validation.RejectionReason;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 /**
  * 파일 업로드 응답 DTO
+ * - reason, messageKey는 검증 판정으로 차단된 경우에만 채워짐 (클라이언트 분기/다국어 처리용)
  */
 @Getter
 @NoArgsConstructor
@@ -16,4 +18,10 @@ public class FileUploadResponse {
     private String contentType;
     private boolean allowed;
     private String message;
+    private RejectionReason reason;
+    private String messageKey;
+
+    public FileUploadResponse(String filename, Long fileSize, String contentType, boolean allowed, String message) {
+        this(filename, fileSize, contentType, allowed, message, null, null);
+    }
 }
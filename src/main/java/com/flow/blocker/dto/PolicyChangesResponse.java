@@ -0,0 +1,16 @@
+package com.flow.blocker.dto;
+
+import java.util.List;
+
+/**
+ * 정책 변경분 응답
+ * - 클라이언트는 removed를 지우고 added를 더한 뒤 version을 다음 sinceVersion으로 사용
+ * - fullSync면 added가 전체 차단 목록이므로 기존 목록을 버리고 교체
+ * @param version 응답 시점의 정책 버전
+ */
+public record PolicyChangesResponse(long version, boolean fullSync, List<String> added, List<String> removed) {
+
+	public static PolicyChangesResponse none(long version) {
+		return new PolicyChangesResponse(version, false, List.of(), List.of());
+	}
+}
@@ -0,0 +1,37 @@
+package com.flow.blocker.dto;
+
+import com.flow.blocker.validation.DecisionRule;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class UploadRuleRequest {
+
+    @NotBlank(message = "확장자를 입력해주세요.")
+    @Size(max = 20, message = "확장자는 최대 20자까지 입력 가능합니다.")
+    private String extension;
+
+    @NotNull(message = "적용 경로를 선택해주세요.")
+    private DecisionRule.Mode mode;
+
+    private boolean blocked;
+
+    @PositiveOrZero(message = "최대 크기는 0 이상이어야 합니다.")
+    private Long maxSizeBytes;
+
+    @NotNull(message = "MIME Type 목록을 입력해주세요.")
+    @Size(max = 20, message = "MIME Type은 최대 20개까지 입력 가능합니다.")
+    private Set<String> mimeTypes = new LinkedHashSet<>();
+
+    private boolean strictMime;
+}
@@ -0,0 +1,22 @@
+package com.flow.blocker.dto;
+
+import com.flow.blocker.domain.UploadRule;
+import com.flow.blocker.validation.DecisionRule;
+
+import java.util.Set;
+
+public record UploadRuleResponse(Long id, String extension, DecisionRule.Mode mode, boolean blocked,
+                                 Long maxSizeBytes, Set<String> mimeTypes, boolean strictMime) {
+
+	public static UploadRuleResponse from(UploadRule rule) {
+		return new UploadRuleResponse(
+				rule.getId(),
+				rule.getExtension(),
+				rule.getMode(),
+				rule.isBlocked(),
+				rule.getMaxSizeBytes(),
+				rule.getMimeTypeSet(),
+				rule.isStrictMime()
+		);
+	}
+}
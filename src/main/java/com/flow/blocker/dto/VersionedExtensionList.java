@@ -0,0 +1,10 @@
+package com.flow.blocker.dto;
+
+import java.util.List;
+
+/**
+ * 정책 버전과 함께 읽은 확장자 목록
+ * @param version 목록을 읽은 시점의 DB 정책 버전
+ */
+public record VersionedExtensionList(long version, List<ExtensionResponse> extensions) {
+}
@@ -1,38 +1,80 @@
 package com.flow.blocker.event;
 
+import com.flow.blocker.policy.ContentScannerHolder;
+import com.flow.blocker.policy.ExtensionPolicyHolder;
+import com.flow.blocker.policy.UploadRuleHolder;
+import com.flow.blocker.validation.PolicyDelta;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.CacheManager;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
 
 /**
  * 캐시 무효화 이벤트 처리
- * - 확장자 설정 변경 시 캐시 무효화
+ * - 확장자 설정 변경이 커밋된 뒤 이벤트에 실린 변경분을 스냅샷에 바로 적용 (DB 조회 없음)
+ * - 변경분이 현재 버전에서 이어지지 않으면 DB 버전까지 변경 로그로 동기화
+ * - 업로드 규칙 변경이 커밋되면 판정 테이블 재컴파일
+ * - 내용 검사 패턴 변경이 커밋되면 내용 검사 오토마톤 재컴파일
+ * - 롤백된 변경은 반영하지 않음 (다른 노드는 PolicySynchronizer 폴링으로 반영)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CacheEvictionEvent {
 
-    private final CacheManager cacheManager;
+    private final ExtensionPolicyHolder policyHolder;
+    private final UploadRuleHolder uploadRuleHolder;
+    private final ContentScannerHolder contentScannerHolder;
 
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleExtensionChangeEvent(ExtensionChangeEvent event) {
         log.info("확장자 변경 이벤트 수신: {}", event.message());
-        
-        // 차단 확장자 캐시 무효화
-        var cache = cacheManager.getCache("blockedExtensions");
-        if (cache != null) {
-            cache.clear();
-            log.info("차단 확장자 캐시 무효화 완료");
+
+        // 차단 정책 스냅샷 교체 (변경분 적용, 이어지지 않으면 변경 로그 동기화)
+        if (!policyHolder.applyCommitted(event.deltas())) {
+            policyHolder.revalidate();
         }
+        log.info("차단 정책 스냅샷 교체 완료: version={}", policyHolder.version());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleUploadRuleChangeEvent(UploadRuleChangeEvent event) {
+        log.info("업로드 규칙 변경 이벤트 수신: {}", event.message());
+
+        var table = uploadRuleHolder.reload();
+        log.info("업로드 정책 판정 테이블 교체 완료: {}", table);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleContentPatternChangeEvent(ContentPatternChangeEvent event) {
+        log.info("내용 검사 패턴 변경 이벤트 수신: {}", event.message());
+
+        var scanner = contentScannerHolder.reload();
+        log.info("내용 검사 오토마톤 교체 완료: {}", scanner);
     }
 
 	/**
 	 * 확장자 변경 이벤트
+	 * @param deltas 같은 트랜잭션에서 기록된 변경분 (버전 오름차순)
+	 */
+	public record ExtensionChangeEvent(String message, List<PolicyDelta> deltas) {
+
+	}
+
+	/**
+	 * 업로드 규칙 변경 이벤트
+	 */
+	public record UploadRuleChangeEvent(String message) {
+
+	}
+
+	/**
+	 * 내용 검사 패턴 변경 이벤트
 	 */
-	public record ExtensionChangeEvent(String message) {
+	public record ContentPatternChangeEvent(String message) {
 
 	}
 }
@@ -4,4 +4,11 @@ public class ExtensionException extends RuntimeException {
     public ExtensionException(String message) {
         super(message);
     }
+
+    /**
+     * 예상된 거부를 알리는 용도라 스택 트레이스가 필요 없는 경우 (생성 비용 절감)
+     */
+    protected ExtensionException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
@@ -1,6 +1,10 @@
 package com.flow.blocker.exception;
 
 import com.flow.blocker.dto.ApiResponse;
+import com.flow.blocker.dto.FileUploadResponse;
+import com.flow.blocker.validation.ValidationResult;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -8,11 +12,34 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * 업로드 조기 차단
+     * - 검증 판정 거부와 같은 형태로 응답: 200 OK, success=false, 사유 코드(reason)와 메시지 키(messageKey) 포함
+     *   (컨트롤러 단계에서 거부된 경우와 상태 코드/본문이 같아 클라이언트는 판정 코드로만 분기)
+     * - 남은 본문을 받지 않도록 연결 종료
+     * - 다중 업로드는 목록 형태로 응답
+     */
+    @ExceptionHandler(UploadRejectedException.class)
+    public ResponseEntity<ApiResponse<Object>> handleUploadRejectedException(UploadRejectedException e,
+                                                                             HttpServletRequest request) {
+        ValidationResult result = e.getResult();
+        FileUploadResponse response = new FileUploadResponse(
+                e.getFilename(), null, e.getContentType(), false, e.getMessage(),
+                result.reason(), result.messageKey());
+        Object data = request.getRequestURI().endsWith("/upload-multiple") ? List.of(response) : response;
+
+        return ResponseEntity
+                .ok()
+                .header(HttpHeaders.CONNECTION, "close")
+                .body(ApiResponse.error(e.getMessage(), data));
+    }
+
     @ExceptionHandler(ExtensionException.class)
     public ResponseEntity<ApiResponse<String>> handleExtensionException(ExtensionException e) {
         return ResponseEntity
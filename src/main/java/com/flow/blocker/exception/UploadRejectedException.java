@@ -0,0 +1,24 @@
+package com.flow.blocker.exception;
+
+import com.flow.blocker.validation.ValidationResult;
+import lombok.Getter;
+
+/**
+ * 업로드 본문을 받기 전에 파일명 검증으로 차단된 경우
+ * - 멀티파트 파싱을 중단하기 위한 예외이므로 스택 트레이스를 남기지 않음
+ * - 판정 결과를 그대로 담아 컨트롤러의 차단 응답과 같은 사유 코드/메시지 키로 응답
+ */
+@Getter
+public class UploadRejectedException extends ExtensionException {
+
+    private final ValidationResult result;
+    private final String filename;
+    private final String contentType;
+
+    public UploadRejectedException(String message, ValidationResult result, String filename, String contentType) {
+        super(message, false);
+        this.result = result;
+        this.filename = filename;
+        this.contentType = contentType;
+    }
+}
@@ -0,0 +1,122 @@
+package com.flow.blocker.metrics;
+
+import com.flow.blocker.validation.RejectionReason;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일 검증 메트릭
+ * - file.validation.stage: 단계별 소요 시간 (analyze: 정제/확장자 추출/이중 확장자, lookup: 차단 목록 조회, content: MIME/시그니처)
+ * - file.validation: 전체 소요 시간 (outcome=allowed|rejected)
+ * - file.validation.rejected: 차단 건수 (reason, extension)
+ * - file.validation.scan.*: 내용 검사 처리량(MB/s), 검사한 바이트 수, 한도에 걸려 끝까지 검사하지 못한 파일 수
+ * - 미터는 미리 만들어 두거나 한 번만 등록하여 검증 경로에서는 조회 비용만 발생
+ */
+@Component
+public class ValidationMetrics {
+
+    public enum Stage {
+        ANALYZE("analyze"),
+        LOOKUP("lookup"),
+        CONTENT("content");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /** 차단 목록/고위험 목록에 없는 확장자는 하나의 태그로 묶음 (태그 카디널리티 제한) */
+    public static final String OTHER_EXTENSION = "other";
+
+    private static final double BYTES_PER_MB = 1024 * 1024;
+
+    private final MeterRegistry registry;
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Timer allowedTimer;
+    private final Timer rejectedTimer;
+    private final Map<RejectionReason, Map<String, Counter>> rejectionCounters = new EnumMap<>(RejectionReason.class);
+    private final DistributionSummary scanThroughput;
+    private final Counter scannedBytes;
+    private final Counter scanTruncated;
+
+    public ValidationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, timer("file.validation.stage", "stage", stage.tag));
+        }
+        this.allowedTimer = timer("file.validation", "outcome", "allowed");
+        this.rejectedTimer = timer("file.validation", "outcome", "rejected");
+        for (RejectionReason reason : RejectionReason.values()) {
+            rejectionCounters.put(reason, new ConcurrentHashMap<>());
+        }
+        this.scanThroughput = DistributionSummary.builder("file.validation.scan.throughput")
+                .description("파일별 내용 검사 처리량")
+                .baseUnit("MB/s")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+        this.scannedBytes = Counter.builder("file.validation.scan.bytes")
+                .description("내용 검사한 바이트 수")
+                .baseUnit("bytes")
+                .register(registry);
+        this.scanTruncated = Counter.builder("file.validation.scan.truncated")
+                .description("검사 한도에 걸려 끝까지 검사하지 못한 파일 수")
+                .register(registry);
+    }
+
+    public void recordStage(Stage stage, long nanos) {
+        stageTimers.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordValidation(boolean allowed, long nanos) {
+        (allowed ? allowedTimer : rejectedTimer).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 내용 검사 기록 (파일 하나)
+     * @param bytes 검사한 바이트 수
+     * @param nanos 검사 소요 시간
+     * @param truncated 바이트 한도에 걸려 끝까지 검사하지 못했는지 여부
+     */
+    public void recordScan(long bytes, long nanos, boolean truncated) {
+        scannedBytes.increment(bytes);
+        if (truncated) {
+            scanTruncated.increment();
+        }
+        if (bytes > 0 && nanos > 0) {
+            scanThroughput.record(bytes / BYTES_PER_MB / (nanos / 1e9));
+        }
+    }
+
+    /**
+     * 차단 건수 증가
+     * @param extension 태그로 남길 확장자 (null이면 other)
+     */
+    public void rejected(RejectionReason reason, String extension) {
+        String tag = extension != null ? extension : OTHER_EXTENSION;
+        rejectionCounters.get(reason)
+                .computeIfAbsent(tag, key -> Counter.builder("file.validation.rejected")
+                        .description("차단된 파일 수")
+                        .tag("reason", reason.name())
+                        .tag("extension", key)
+                        .register(registry))
+                .increment();
+    }
+
+    private Timer timer(String name, String tagKey, String tagValue) {
+        return Timer.builder(name)
+                .tag(tagKey, tagValue)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,229 @@
+package com.flow.blocker.multipart;
+
+import com.flow.blocker.exception.UploadRejectedException;
+import com.flow.blocker.service.FileValidationService;
+import com.flow.blocker.service.ValidationMessages;
+import com.flow.blocker.validation.ValidationResult;
+import com.flow.blocker.web.ClientIpResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.multipart.MultipartResolver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 업로드 조기 차단 MultipartResolver
+ * - 지정된 업로드 경로는 요청 본문을 직접 스트리밍 파싱
+ * - 파트 헤더(Content-Disposition)가 도착하는 즉시 파일명을 검증하고, 차단 대상이면 본문을 받기 전에 요청 중단
+ * - 요청 최대 크기는 preamble, 파트 헤더, 본문을 포함한 요청 본문 전체에 적용하고 파트 수도 제한 (컨테이너 검사를 대신함)
+ * - 그 외 경로는 기본 StandardServletMultipartResolver에 위임
+ */
+@Slf4j
+public class EarlyRejectMultipartResolver implements MultipartResolver {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_FIELD_SIZE = 64 * 1024;
+
+    private final MultipartResolver delegate;
+    private final FileValidationService fileValidationService;
+    private final Set<String> paths;
+    private final long maxFileSize;
+    private final long maxRequestSize;
+    private final int maxPartCount;
+    private final int fileSizeThreshold;
+    private final Path location;
+
+    public EarlyRejectMultipartResolver(MultipartResolver delegate,
+                                        FileValidationService fileValidationService,
+                                        Set<String> paths,
+                                        long maxFileSize,
+                                        long maxRequestSize,
+                                        int maxPartCount,
+                                        int fileSizeThreshold,
+                                        Path location) {
+        this.delegate = delegate;
+        this.fileValidationService = fileValidationService;
+        this.paths = paths;
+        this.maxFileSize = maxFileSize < 0 ? Long.MAX_VALUE : maxFileSize;
+        this.maxRequestSize = maxRequestSize < 0 ? Long.MAX_VALUE : maxRequestSize;
+        this.maxPartCount = maxPartCount < 0 ? Integer.MAX_VALUE : maxPartCount;
+        this.fileSizeThreshold = Math.max(fileSizeThreshold, 0);
+        this.location = location;
+    }
+
+    @Override
+    public boolean isMultipart(HttpServletRequest request) {
+        return delegate.isMultipart(request);
+    }
+
+    @Override
+    public MultipartHttpServletRequest resolveMultipart(HttpServletRequest request) throws MultipartException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!paths.contains(path)) {
+            return delegate.resolveMultipart(request);
+        }
+
+        MultiValueMap<String, MultipartFile> files = new LinkedMultiValueMap<>();
+        Map<String, List<String>> fields = new LinkedHashMap<>();
+        Map<String, String> contentTypes = new HashMap<>();
+
+        try {
+            parse(request, files, fields, contentTypes);
+        } catch (MultipartStream.LimitExceededException e) {
+            deleteAll(files);
+            throw new MaxUploadSizeExceededException(e.getLimit(), e);
+        } catch (IOException e) {
+            deleteAll(files);
+            throw new MultipartException("multipart 요청을 해석할 수 없습니다.", e);
+        } catch (IllegalArgumentException e) {
+            deleteAll(files);
+            throw new MultipartException("잘못된 multipart 파트 헤더입니다.", e);
+        } catch (RuntimeException e) {
+            deleteAll(files);
+            throw e;
+        }
+
+        Map<String, String[]> parameters = new LinkedHashMap<>();
+        fields.forEach((name, values) -> parameters.put(name, values.toArray(new String[0])));
+        return new SpooledMultipartHttpServletRequest(request, files, parameters, contentTypes);
+    }
+
+    @Override
+    public void cleanupMultipart(MultipartHttpServletRequest request) {
+        if (request instanceof SpooledMultipartHttpServletRequest) {
+            deleteAll(request.getMultiFileMap());
+        } else {
+            delegate.cleanupMultipart(request);
+        }
+    }
+
+    private void parse(HttpServletRequest request,
+                       MultiValueMap<String, MultipartFile> files,
+                       Map<String, List<String>> fields,
+                       Map<String, String> contentTypes) throws IOException {
+        MultipartStream stream = new MultipartStream(
+                new LimitedInputStream(request.getInputStream(), maxRequestSize), extractBoundary(request), BUFFER_SIZE);
+        Charset defaultCharset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+        String clientIp = ClientIpResolver.resolve(request);
+        int partCount = 0;
+
+        boolean hasPart = stream.skipPreamble();
+        while (hasPart) {
+            if (++partCount > maxPartCount) {
+                throw new MultipartException("multipart 파트 수가 제한(" + maxPartCount + ")을 초과했습니다.");
+            }
+            Map<String, String> headers = stream.readHeaders();
+            String disposition = headers.get("content-disposition");
+            String partContentType = headers.get("content-type");
+
+            if (disposition == null) {
+                // 이름 없는 파트는 버림 (요청 전체 크기 제한만 적용)
+                stream.readBody(OutputStream.nullOutputStream(), Long.MAX_VALUE);
+            } else {
+                ContentDisposition contentDisposition = ContentDisposition.parse(disposition);
+                String name = contentDisposition.getName();
+                String filename = contentDisposition.getFilename();
+
+                if (filename == null) {
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    stream.readBody(out, MAX_FIELD_SIZE);
+                    fields.computeIfAbsent(name, k -> new ArrayList<>()).add(out.toString(charsetOf(partContentType, defaultCharset)));
+                    if (partContentType != null) {
+                        contentTypes.put(name, partContentType);
+                    }
+                } else {
+                    // 본문을 받기 전에 파일명 검증
+                    rejectIfBlocked(filename, partContentType, clientIp);
+
+                    files.add(name, spool(stream, name, filename, partContentType, maxFileSize));
+                }
+            }
+            hasPart = stream.readBoundaryTail();
+        }
+    }
+
+    private void rejectIfBlocked(String filename, String contentType, String clientIp) {
+        if (filename.isEmpty()) {
+            return;
+        }
+        ValidationResult result = fileValidationService.checkUploadFilename(filename, clientIp);
+        if (!result.isAllowed()) {
+            log.warn("업로드 조기 차단: filename={}, reason={}", filename, result.reason());
+            throw new UploadRejectedException(ValidationMessages.of(result), result, filename, contentType);
+        }
+    }
+
+    private SpooledMultipartFile spool(MultipartStream stream, String name, String filename,
+                                       String contentType, long limit) throws IOException {
+        SpoolingOutputStream out = new SpoolingOutputStream(fileSizeThreshold, location);
+        try {
+            stream.readBody(out, limit);
+            out.close();
+        } catch (IOException | RuntimeException e) {
+            out.discard();
+            throw e;
+        }
+        return out.isFileBacked()
+                ? new SpooledMultipartFile(name, filename, contentType, out.size(), out.file(), out.digest())
+                : new SpooledMultipartFile(name, filename, contentType, out.toByteArray(), out.digest());
+    }
+
+    private String extractBoundary(HttpServletRequest request) {
+        String boundary = MediaType.parseMediaType(request.getContentType()).getParameter("boundary");
+        if (!StringUtils.hasText(boundary)) {
+            throw new MultipartException("multipart boundary가 없습니다.");
+        }
+        if (boundary.length() > 1 && boundary.startsWith("\"") && boundary.endsWith("\"")) {
+            boundary = boundary.substring(1, boundary.length() - 1);
+        }
+        return boundary;
+    }
+
+    private Charset charsetOf(String contentType, Charset defaultCharset) {
+        if (contentType != null) {
+            try {
+                Charset charset = MediaType.parseMediaType(contentType).getCharset();
+                if (charset != null) {
+                    return charset;
+                }
+            } catch (IllegalArgumentException ignored) {
+                // 잘못된 Content-Type은 기본 문자셋 사용
+            }
+        }
+        return defaultCharset;
+    }
+
+    private void deleteAll(MultiValueMap<String, MultipartFile> files) {
+        files.values().forEach(list -> list.forEach(file -> {
+            if (file instanceof SpooledMultipartFile spooled) {
+                try {
+                    spooled.delete();
+                } catch (IOException e) {
+                    log.warn("임시 업로드 파일 삭제 실패: {}", spooled.getFile(), e);
+                }
+            }
+        }));
+    }
+}
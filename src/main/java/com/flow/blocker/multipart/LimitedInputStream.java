@@ -0,0 +1,52 @@
+package com.flow.blocker.multipart;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 읽은 바이트 수 제한 스트림
+ * - preamble, 파트 헤더, 본문, epilogue를 가리지 않고 요청 본문 전체에 최대 크기를 적용
+ */
+class LimitedInputStream extends FilterInputStream {
+
+    private final long limit;
+    private long count;
+
+    LimitedInputStream(InputStream in, long limit) {
+        super(in);
+        this.limit = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = super.read(b, off, len);
+        if (read > 0) {
+            count(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+    }
+
+    private void count(long read) throws MultipartStream.LimitExceededException {
+        count += read;
+        if (count > limit) {
+            throw new MultipartStream.LimitExceededException(limit);
+        }
+    }
+}
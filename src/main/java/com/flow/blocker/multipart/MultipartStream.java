@@ -0,0 +1,209 @@
+package com.flow.blocker.multipart;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * multipart/form-data 스트리밍 파서
+ * - 고정 크기 버퍼 하나로 본문을 흘려보내며 파트 경계를 탐지
+ * - 파트 헤더를 본문보다 먼저 돌려주므로, 본문을 읽기 전에 파일명을 검사할 수 있음
+ */
+class MultipartStream {
+
+    private static final int MIN_BUFFER_SIZE = 4 * 1024;
+    private static final int MAX_HEADER_SIZE = 16 * 1024;
+
+    private final InputStream in;
+    private final byte[] delimiter;
+    private final byte[] buffer;
+    private int head;
+    private int tail;
+    private boolean eof;
+
+    MultipartStream(InputStream in, String boundary, int bufferSize) {
+        this.in = in;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.buffer = new byte[Math.max(bufferSize, MIN_BUFFER_SIZE)];
+        // 첫 경계 앞에 CRLF가 없으므로 가상의 CRLF로 시작
+        this.buffer[0] = '\r';
+        this.buffer[1] = '\n';
+        this.tail = 2;
+    }
+
+    /**
+     * 첫 경계까지의 preamble을 건너뜀 (크기는 입력 스트림의 요청 전체 제한으로 제한)
+     * @return 파트가 이어지면 true
+     */
+    boolean skipPreamble() throws IOException {
+        readBody(OutputStream.nullOutputStream(), Long.MAX_VALUE);
+        return readBoundaryTail();
+    }
+
+    /**
+     * 파트 헤더 읽기 (헤더 이름은 소문자)
+     */
+    Map<String, String> readHeaders() throws IOException {
+        Map<String, String> headers = new LinkedHashMap<>();
+        int total = 0;
+        while (true) {
+            String line = readLine(MAX_HEADER_SIZE - total);
+            if (line.isEmpty()) {
+                return headers;
+            }
+            total += line.length() + 2;
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+            }
+        }
+    }
+
+    /**
+     * 다음 경계까지 파트 본문을 복사 (경계는 소비됨)
+     * @param limit 허용 최대 바이트 수
+     * @return 복사한 바이트 수
+     */
+    long readBody(OutputStream out, long limit) throws IOException {
+        long copied = 0;
+        while (true) {
+            int index = indexOfDelimiter();
+            int safeEnd = index >= 0 ? index : Math.max(head, tail - (delimiter.length - 1));
+            int length = safeEnd - head;
+            if (length > 0) {
+                copied += length;
+                if (copied > limit) {
+                    throw new LimitExceededException(limit);
+                }
+                out.write(buffer, head, length);
+                head = safeEnd;
+            }
+            if (index >= 0) {
+                head = index + delimiter.length;
+                return copied;
+            }
+            if (eof) {
+                throw new MalformedException("파트 경계를 찾을 수 없습니다.");
+            }
+            fill();
+        }
+    }
+
+    /**
+     * 경계 뒤의 "--"(종료) 또는 CRLF(다음 파트)를 읽음
+     * @return 다음 파트가 있으면 true
+     */
+    boolean readBoundaryTail() throws IOException {
+        ensure(2);
+        // RFC 2046 transport padding
+        while (available() > 0 && (buffer[head] == ' ' || buffer[head] == '\t')) {
+            head++;
+            ensure(2);
+        }
+        if (available() < 2) {
+            throw new MalformedException("파트 경계가 올바르지 않습니다.");
+        }
+        byte first = buffer[head];
+        byte second = buffer[head + 1];
+        head += 2;
+        if (first == '-' && second == '-') {
+            return false;
+        }
+        if (first == '\r' && second == '\n') {
+            return true;
+        }
+        throw new MalformedException("파트 경계가 올바르지 않습니다.");
+    }
+
+    private String readLine(int maxLength) throws IOException {
+        while (true) {
+            for (int i = head; i + 1 < tail; i++) {
+                if (buffer[i] == '\r' && buffer[i + 1] == '\n') {
+                    String line = new String(buffer, head, i - head, StandardCharsets.UTF_8);
+                    head = i + 2;
+                    return line;
+                }
+            }
+            if (available() > maxLength) {
+                throw new MalformedException("파트 헤더가 너무 큽니다.");
+            }
+            if (eof) {
+                throw new MalformedException("파트 헤더가 끝나지 않았습니다.");
+            }
+            fill();
+        }
+    }
+
+    private int indexOfDelimiter() {
+        int last = tail - delimiter.length;
+        outer:
+        for (int i = head; i <= last; i++) {
+            if (buffer[i] != '\r') {
+                continue;
+            }
+            for (int j = 1; j < delimiter.length; j++) {
+                if (buffer[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private int available() {
+        return tail - head;
+    }
+
+    private void ensure(int count) throws IOException {
+        while (available() < count && !eof) {
+            fill();
+        }
+    }
+
+    private void fill() throws IOException {
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            head = 0;
+        }
+        if (tail == buffer.length) {
+            throw new MalformedException("파트 헤더가 너무 큽니다.");
+        }
+        int read = in.read(buffer, tail, buffer.length - tail);
+        if (read < 0) {
+            eof = true;
+        } else {
+            tail += read;
+        }
+    }
+
+    /**
+     * 형식이 잘못된 multipart 본문
+     */
+    static class MalformedException extends IOException {
+        MalformedException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * 파트 크기 제한 초과
+     */
+    static class LimitExceededException extends IOException {
+        private final long limit;
+
+        LimitExceededException(long limit) {
+            super("크기 제한을 초과했습니다: " + limit);
+            this.limit = limit;
+        }
+
+        long getLimit() {
+            return limit;
+        }
+    }
+}
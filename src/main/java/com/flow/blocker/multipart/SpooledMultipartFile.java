@@ -0,0 +1,129 @@
+package com.flow.blocker.multipart;
+
+import com.flow.blocker.validation.ContentDigest;
+import org.springframework.lang.NonNull;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 스트리밍 파서가 저장한 업로드 파일
+ * - 임계값 이하는 메모리(byte[]), 초과 시 임시 파일에 보관
+ * - 저장하면서 계산한 내용 다이제스트를 함께 보관
+ */
+public class SpooledMultipartFile implements MultipartFile {
+
+    private final String name;
+    private final String originalFilename;
+    private final String contentType;
+    private final long size;
+    private final byte[] content;
+    private final Path file;
+    private final ContentDigest contentDigest;
+
+    SpooledMultipartFile(String name, String originalFilename, String contentType,
+                         byte[] content, ContentDigest contentDigest) {
+        this(name, originalFilename, contentType, content.length, content, null, contentDigest);
+    }
+
+    SpooledMultipartFile(String name, String originalFilename, String contentType,
+                         long size, Path file, ContentDigest contentDigest) {
+        this(name, originalFilename, contentType, size, null, file, contentDigest);
+    }
+
+    private SpooledMultipartFile(String name, String originalFilename, String contentType,
+                                 long size, byte[] content, Path file, ContentDigest contentDigest) {
+        this.name = name;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.size = size;
+        this.content = content;
+        this.file = file;
+        this.contentDigest = contentDigest;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    @NonNull
+    public byte[] getBytes() throws IOException {
+        return content != null ? content.clone() : Files.readAllBytes(file);
+    }
+
+    @Override
+    @NonNull
+    public InputStream getInputStream() throws IOException {
+        return content != null ? new ByteArrayInputStream(content) : Files.newInputStream(file);
+    }
+
+    @Override
+    public void transferTo(@NonNull File dest) throws IOException {
+        transferTo(dest.toPath());
+    }
+
+    @Override
+    public void transferTo(@NonNull Path dest) throws IOException {
+        if (content != null) {
+            Files.write(dest, content);
+        } else {
+            Files.copy(file, dest, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 임시 파일 보관 여부
+     */
+    public boolean isFileBacked() {
+        return file != null;
+    }
+
+    /**
+     * 임시 파일 경로 (메모리 보관이면 null)
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * 내용 다이제스트 (SHA-256)
+     */
+    public ContentDigest getContentDigest() {
+        return contentDigest;
+    }
+
+    void delete() throws IOException {
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+}
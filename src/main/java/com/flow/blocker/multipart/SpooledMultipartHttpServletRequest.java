@@ -0,0 +1,21 @@
+package com.flow.blocker.multipart;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.support.DefaultMultipartHttpServletRequest;
+
+import java.util.Map;
+
+/**
+ * 스트리밍 파서로 해석한 multipart 요청
+ */
+class SpooledMultipartHttpServletRequest extends DefaultMultipartHttpServletRequest {
+
+    SpooledMultipartHttpServletRequest(HttpServletRequest request,
+                                       MultiValueMap<String, MultipartFile> files,
+                                       Map<String, String[]> parameters,
+                                       Map<String, String> contentTypes) {
+        super(request, files, parameters, contentTypes);
+    }
+}
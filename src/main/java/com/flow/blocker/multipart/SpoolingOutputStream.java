@@ -0,0 +1,102 @@
+package com.flow.blocker.multipart;
+
+import com.flow.blocker.validation.ContentDigest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+
+/**
+ * 임계값까지는 메모리에, 초과분부터는 임시 파일에 기록하는 출력 스트림
+ * - 기록하는 바이트로 내용 다이제스트를 함께 계산 (검증 시 파일을 다시 읽지 않기 위함)
+ */
+class SpoolingOutputStream extends OutputStream {
+
+    private final int threshold;
+    private final Path directory;
+    private final MessageDigest messageDigest = ContentDigest.newMessageDigest();
+    private ByteArrayOutputStream memory = new ByteArrayOutputStream();
+    private OutputStream fileOut;
+    private Path file;
+    private long size;
+
+    SpoolingOutputStream(int threshold, Path directory) {
+        this.threshold = threshold;
+        this.directory = directory;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (fileOut == null && size + len > threshold) {
+            switchToFile();
+        }
+        if (fileOut != null) {
+            fileOut.write(b, off, len);
+        } else {
+            memory.write(b, off, len);
+        }
+        messageDigest.update(b, off, len);
+        size += len;
+    }
+
+    private void switchToFile() throws IOException {
+        file = directory != null
+                ? Files.createTempFile(directory, "upload-", ".tmp")
+                : Files.createTempFile("upload-", ".tmp");
+        fileOut = Files.newOutputStream(file);
+        memory.writeTo(fileOut);
+        memory = null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (fileOut != null) {
+            fileOut.close();
+        }
+    }
+
+    /**
+     * 기록 실패 시 임시 파일 정리
+     */
+    void discard() {
+        try {
+            close();
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException ignored) {
+            // 정리 실패는 무시 (임시 디렉토리)
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    boolean isFileBacked() {
+        return file != null;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    /**
+     * 기록한 내용의 다이제스트 (기록이 끝난 뒤 한 번만 호출)
+     */
+    ContentDigest digest() {
+        return ContentDigest.of(messageDigest);
+    }
+
+    byte[] toByteArray() {
+        return memory.toByteArray();
+    }
+}
@@ -0,0 +1,99 @@
+package com.flow.blocker.policy;
+
+import com.flow.blocker.domain.ContentPattern;
+import com.flow.blocker.repository.ContentPatternRepository;
+import com.flow.blocker.validation.ContentScanLimits;
+import com.flow.blocker.validation.ContentScanner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * 내용 검사 오토마톤 보관소
+ * - 검증 경로는 volatile 읽기 한 번으로 컴파일된 오토마톤을 얻음 (DB 조회 없음)
+ * - 패턴 집합이 실제로 바뀌었을 때만 다시 컴파일하고 버전을 올림 (버전은 검사 결과 캐시 키에 사용)
+ * - 이 노드의 변경은 커밋 후 이벤트, 다른 노드의 변경은 주기적 재적재로 반영
+ * - DB에 패턴이 없으면 내용 검사를 하지 않음
+ * - 웹 서버가 요청을 받기 전(싱글톤 초기화 직후)에 적재하므로 검증 경로가 DB에 가지 않음
+ */
+@Slf4j
+@Component
+public class ContentScannerHolder implements SmartInitializingSingleton {
+
+    private final ContentPatternRepository contentPatternRepository;
+    private final ContentScanLimits limits;
+
+    private volatile ContentScanner current;
+
+    public ContentScannerHolder(ContentPatternRepository contentPatternRepository,
+                                @Value("${upload.content-scan.max-bytes:32MB}") DataSize maxBytes,
+                                @Value("${upload.content-scan.chunk-size:64KB}") DataSize chunkSize) {
+        this.contentPatternRepository = contentPatternRepository;
+        this.limits = new ContentScanLimits(maxBytes.toBytes(), (int) chunkSize.toBytes());
+    }
+
+    /**
+     * 현재 오토마톤 조회 (적재 전이면 동시에 들어온 호출 중 하나만 적재)
+     */
+    public ContentScanner current() {
+        ContentScanner scanner = current;
+        return scanner != null ? scanner : loadIfAbsent();
+    }
+
+    /**
+     * 파일당 검사 한도
+     */
+    public ContentScanLimits limits() {
+        return limits;
+    }
+
+    /**
+     * DB에서 패턴 전체를 다시 읽어 바뀌었으면 오토마톤 교체
+     * - 조회가 한 번뿐이라 저장소의 읽기 트랜잭션으로 충분 (기동 시 적재, poll의 내부 호출도 같은 동작)
+     */
+    public synchronized ContentScanner reload() {
+        List<String> patterns = contentPatternRepository.findAllByOrderByIdAsc().stream()
+                .map(ContentPattern::getPattern)
+                .toList();
+        ContentScanner previous = current;
+        if (previous != null && new HashSet<>(previous.patterns()).equals(new HashSet<>(patterns))) {
+            return previous;
+        }
+        ContentScanner scanner = ContentScanner.compile(previous == null ? 1L : previous.version() + 1, patterns);
+        current = scanner;
+        log.debug("내용 검사 오토마톤 교체: {}", scanner);
+        return scanner;
+    }
+
+    /**
+     * 기동 시 적재 (웹 서버 시작 전)
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    private synchronized ContentScanner loadIfAbsent() {
+        ContentScanner scanner = current;
+        return scanner != null ? scanner : reload();
+    }
+
+    /**
+     * 다른 노드에서 바뀐 패턴 반영 (최대 지연 = 재적재 주기)
+     */
+    @Scheduled(fixedDelayString = "${upload.content-scan.reload-interval-ms:60000}",
+            initialDelayString = "${upload.content-scan.reload-interval-ms:60000}")
+    public void poll() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("내용 검사 패턴 재적재 실패", e);
+        }
+    }
+}
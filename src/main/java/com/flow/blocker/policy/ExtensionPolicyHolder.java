@@ -0,0 +1,344 @@
+package com.flow.blocker.policy;
+
+import com.flow.blocker.domain.CustomExtension;
+import com.flow.blocker.domain.FixedExtension;
+import com.flow.blocker.domain.PolicyChangeLog;
+import com.flow.blocker.domain.PolicyVersion;
+import com.flow.blocker.repository.CustomExtensionRepository;
+import com.flow.blocker.repository.FixedExtensionRepository;
+import com.flow.blocker.repository.PolicyChangeLogRepository;
+import com.flow.blocker.repository.PolicyVersionRepository;
+import com.flow.blocker.validation.ExtensionPolicy;
+import com.flow.blocker.validation.PolicyDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 차단 정책 스냅샷 보관소
+ * - 검증 경로는 volatile 읽기 한 번으로 현재 스냅샷을 얻음 (DB 조회 없음)
+ * - 스냅샷 버전은 DB의 policy_version과 같으며, 모든 노드가 같은 버전에서 같은 내용을 가짐
+ * - 동기화 시 버전 행만 읽어 비교하고, 뒤처진 경우에만 이후 변경 로그를 적용 (보관 범위보다 뒤처지면 전체 재적재)
+ * - 적재는 한 번에 하나만 수행하고, 적재 중 도착한 요청은 다음 적재 결과 하나를 함께 사용 (요청 합치기)
+ * - 이 노드에서 커밋된 변경은 이벤트에 실린 변경분을 메모리에서 바로 적용 (연달아 들어온 변경은 교체 한 번으로 합침)
+ * - 웹 서버가 요청을 받기 전(싱글톤 초기화 직후)에 읽기 트랜잭션 하나로 적재하므로 검증 경로가 DB에 가지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExtensionPolicyHolder implements SmartInitializingSingleton {
+
+    private final FixedExtensionRepository fixedExtensionRepository;
+    private final CustomExtensionRepository customExtensionRepository;
+    private final PolicyVersionRepository policyVersionRepository;
+    private final PolicyChangeLogRepository policyChangeLogRepository;
+    private final PolicyChangeFeed policyChangeFeed;
+    private final PlatformTransactionManager transactionManager;
+
+    /** 스냅샷이 있으면 진행 중인 적재를 기다리지 않고 현재 스냅샷으로 응답 (revalidate) */
+    @Value("${policy.refresh.stale-while-revalidate:false}")
+    private boolean staleWhileRevalidate;
+
+    /** 변경 로그로 따라잡을 최대 버전 차이 (변경 로그 보관 수, 넘으면 로그를 읽지 않고 전체 재적재) */
+    @Value("${policy.change-log.retained-versions:10000}")
+    private long retainedVersions = PolicyChangeLogCleaner.DEFAULT_RETAINED_VERSIONS;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final AtomicLong loadsStarted = new AtomicLong();
+    private final AtomicBoolean revalidationPending = new AtomicBoolean();
+
+    // 커밋 후 적용을 기다리는 변경분 (잠금을 쥔 스레드가 한꺼번에 적용)
+    private final Queue<PolicyDelta> committedDeltas = new ConcurrentLinkedQueue<>();
+
+    // 앞 버전을 기다리는 변경분 (loadLock 안에서만 접근)
+    private final NavigableMap<Long, PolicyDelta> heldDeltas = new TreeMap<>();
+
+    // 마지막으로 성공한 적재의 시작 순번 (loadLock 안에서만 변경)
+    private volatile long lastLoaded;
+
+    private volatile ExtensionPolicy current;
+
+    /**
+     * 현재 정책 스냅샷 조회
+     * - 스냅샷은 기동 시 적재되므로 보통 volatile 읽기 한 번으로 끝남
+     * - 기동 시 적재가 실패해 스냅샷이 없으면 동시에 들어온 요청 중 하나만 읽기 트랜잭션으로 적재하고 나머지는 그 결과를 사용
+     */
+    public ExtensionPolicy current() {
+        ExtensionPolicy policy = current;
+        if (policy != null) {
+            return policy;
+        }
+
+        loadLock.lock();
+        try {
+            policy = current;
+            return policy != null ? policy : runLoad(this::loadAllReadOnly);
+        } finally {
+            releaseLoadLock();
+        }
+    }
+
+    /**
+     * 현재 정책 스냅샷 버전
+     */
+    public long version() {
+        return current().version();
+    }
+
+    /**
+     * DB에서 정책 전체를 다시 읽어 스냅샷 교체
+     * - 호출 이후 시작된 적재가 이미 끝났으면 그 결과를 그대로 반환
+     */
+    @Transactional(readOnly = true)
+    public ExtensionPolicy refresh() {
+        return coalesce(this::loadAll);
+    }
+
+    /**
+     * DB 버전까지 변경 로그를 적용
+     * - 버전이 같으면 기본키 조회 한 번으로 종료
+     * - 로그가 비어 있거나 중간이 빠졌거나 DB 버전이 더 낮으면 전체 재적재
+     * - 커밋 직후 호출될 수 있으므로 항상 새 트랜잭션에서 읽음
+     * - 진행 중인 적재가 있으면 기다린 뒤, 그동안 도착한 요청과 함께 한 번만 다시 읽음
+     */
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public ExtensionPolicy synchronize() {
+        return coalesce(this::applyChanges);
+    }
+
+    /**
+     * 변경 반영 요청 (폴링, 커밋 후 이벤트용)
+     * - stale-while-revalidate가 켜져 있고 스냅샷이 있으면 진행 중인 적재를 기다리지 않고 현재 스냅샷 반환
+     *   (진행 중인 적재를 끝낸 스레드가 이어서 한 번 더 동기화하여 요청 시점 이후 변경까지 반영)
+     * - 꺼져 있으면 synchronize()와 같음
+     */
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public ExtensionPolicy revalidate() {
+        ExtensionPolicy policy = current;
+        if (!staleWhileRevalidate || policy == null) {
+            return coalesce(this::applyChanges);
+        }
+
+        if (!loadLock.tryLock()) {
+            revalidationPending.set(true);
+            return policy;
+        }
+        try {
+            return runLoad(this::applyChanges);
+        } finally {
+            releaseLoadLock();
+        }
+    }
+
+    /**
+     * 커밋된 변경분을 DB 조회 없이 스냅샷에 적용
+     * - 잠금을 기다리는 동안 쌓인 다른 커밋의 변경분까지 모아 스냅샷을 한 번만 교체
+     * - 이미 반영된 버전은 건너뛰고, 현재 버전에서 이어지는 구간만 적용
+     * @return 변경분의 마지막 버전까지 반영되었으면 true (앞 버전이 비어 있으면 false, 호출자가 동기화)
+     */
+    public boolean applyCommitted(List<PolicyDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return true;
+        }
+
+        committedDeltas.addAll(deltas);
+        long target = deltas.stream().mapToLong(PolicyDelta::version).max().getAsLong();
+        loadLock.lock();
+        try {
+            drainCommitted();
+            ExtensionPolicy policy = current;
+            return policy != null && policy.version() >= target;
+        } finally {
+            releaseLoadLock();
+        }
+    }
+
+    /**
+     * 기동 시 전체 적재 (웹 서버 시작 전)
+     * - 프록시를 거치지 않는 호출이므로 읽기 트랜잭션을 직접 열어 버전 행과 확장자 목록을 한 트랜잭션에서 읽음
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        coalesce(this::loadAllReadOnly);
+    }
+
+    /**
+     * 기동 완료 후 전체 재적재 (첫 적재는 afterSingletonsInstantiated)
+     * - 웹 서버 시작 후 실행된 초기 데이터 설정(CommandLineRunner)의 결과를 폴링 주기를 기다리지 않고 반영
+     * - refresh()를 내부 호출하면 프록시를 거치지 않으므로, 이벤트 리스너(프록시 경유 호출)에서 읽기 트랜잭션을 열어
+     *   버전 행과 확장자 목록을 한 트랜잭션에서 읽음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        refresh();
+    }
+
+    /**
+     * 요청 합치기
+     * - 도착 이후 시작된 적재가 이미 성공했다면 그 결과가 도착 시점보다 새로우므로 다시 읽지 않음
+     */
+    private ExtensionPolicy coalesce(Supplier<ExtensionPolicy> loader) {
+        long arrival = loadsStarted.get();
+        loadLock.lock();
+        try {
+            ExtensionPolicy policy = current;
+            if (policy != null && lastLoaded > arrival) {
+                return policy;
+            }
+            return runLoad(loader);
+        } finally {
+            releaseLoadLock();
+        }
+    }
+
+    private ExtensionPolicy runLoad(Supplier<ExtensionPolicy> loader) {
+        long sequence = loadsStarted.incrementAndGet();
+        // 이 적재가 대기 중이던 재검증 요청까지 충족
+        revalidationPending.set(false);
+        ExtensionPolicy policy = loader.get();
+        lastLoaded = sequence;
+        return policy;
+    }
+
+    /**
+     * 대기 중인 커밋 변경분을 한 번의 교체로 적용 (loadLock 안에서만 호출)
+     * - 앞 버전이 아직 도착하지 않은 변경분은 보류했다가 이어지는 시점에 함께 적용
+     * - 이미 반영된 버전의 변경분은 버림 (동기화가 먼저 반영한 경우)
+     */
+    private void drainCommitted() {
+        for (PolicyDelta delta; (delta = committedDeltas.poll()) != null; ) {
+            heldDeltas.put(delta.version(), delta);
+        }
+
+        ExtensionPolicy policy = current;
+        if (policy == null || heldDeltas.isEmpty()) {
+            return;
+        }
+
+        heldDeltas.headMap(policy.version(), true).clear();
+        List<PolicyDelta> deltas = new ArrayList<>();
+        long expected = policy.version() + 1;
+        for (PolicyDelta delta; (delta = heldDeltas.remove(expected)) != null; expected++) {
+            deltas.add(delta);
+        }
+
+        if (!deltas.isEmpty()) {
+            swap(policy.apply(deltas), deltas);
+        }
+    }
+
+    /**
+     * 잠금 해제 (기다리지 않고 돌아간 재검증 요청이나 커밋 변경분이 있으면 이어서 처리)
+     * - 해제 직전에 등록된 요청을 놓치지 않도록 해제 후 다시 확인
+     */
+    private void releaseLoadLock() {
+        do {
+            try {
+                drainCommitted();
+                if (revalidationPending.compareAndSet(true, false)) {
+                    runLoad(this::applyChanges);
+                }
+            } catch (RuntimeException e) {
+                log.warn("차단 정책 재검증 실패 (다음 동기화 주기에 재시도)", e);
+            } finally {
+                loadLock.unlock();
+            }
+        } while ((revalidationPending.get() || !committedDeltas.isEmpty()) && loadLock.tryLock());
+    }
+
+    /**
+     * 읽기 트랜잭션 안에서 전체 적재 (프록시 밖 호출용: 기동 시 적재, 스냅샷이 없을 때의 적재)
+     */
+    private ExtensionPolicy loadAllReadOnly() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> loadAll());
+    }
+
+    private ExtensionPolicy loadAll() {
+        // 버전을 먼저 읽으므로 목록이 버전보다 앞설 수는 있어도 뒤처지지 않음 (이후 변경분 재적용은 결과가 같음)
+        long version = latestVersion();
+
+        Set<String> fixed = fixedExtensionRepository.findByCheckedTrue()
+                .stream()
+                .map(FixedExtension::getExtension)
+                .collect(Collectors.toSet());
+
+        Set<String> custom = customExtensionRepository.findAll()
+                .stream()
+                .map(CustomExtension::getExtension)
+                .collect(Collectors.toSet());
+
+        return swap(new ExtensionPolicy(version, fixed, custom), List.of());
+    }
+
+    private ExtensionPolicy applyChanges() {
+        ExtensionPolicy policy = current;
+        if (policy == null) {
+            return loadAll();
+        }
+
+        long latest = latestVersion();
+        if (latest == policy.version()) {
+            return policy;
+        }
+        // 되돌아갔거나, 뒤처진 만큼의 변경 로그가 정리되었을 수 있으면 전체 재적재
+        if (latest < policy.version() || latest - policy.version() > retainedVersions) {
+            return loadAll();
+        }
+
+        List<PolicyDelta> deltas = policyChangeLogRepository.findByVersionGreaterThanOrderByVersionAsc(policy.version())
+                .stream()
+                .map(PolicyChangeLog::toDelta)
+                .toList();
+        if (!isContiguous(policy.version(), deltas)) {
+            return loadAll();
+        }
+
+        return swap(policy.apply(deltas), deltas);
+    }
+
+    private long latestVersion() {
+        return policyVersionRepository.findVersion(PolicyVersion.SINGLETON_ID).orElse(0L);
+    }
+
+    private static boolean isContiguous(long from, List<PolicyDelta> deltas) {
+        long expected = from + 1;
+        for (PolicyDelta delta : deltas) {
+            if (delta.version() != expected++) {
+                return false;
+            }
+        }
+        return !deltas.isEmpty();
+    }
+
+    private ExtensionPolicy swap(ExtensionPolicy policy, List<PolicyDelta> deltas) {
+        current = policy;
+        log.debug("차단 정책 스냅샷 교체: version={}, 차단 확장자 {} 개",
+                policy.version(), policy.blockedExtensions().size());
+        policyChangeFeed.publish(policy, deltas);
+        return policy;
+    }
+}
@@ -0,0 +1,118 @@
+package com.flow.blocker.policy;
+
+import com.flow.blocker.dto.PolicyChangesResponse;
+import com.flow.blocker.validation.ExtensionPolicy;
+import com.flow.blocker.validation.PolicyDelta;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongConsumer;
+
+/**
+ * 정책 변경분 피드
+ * - 스냅샷이 교체될 때마다 적용된 변경분을 최근 policy.feed.history-size 건까지 메모리에 보관
+ * - sinceVersion 이후 변경을 확장자별로 합쳐 추가/삭제 목록으로 반환 (DB 조회 없음)
+ * - 보관 범위를 벗어난 버전이나 전체 재적재 이전 버전은 전체 목록으로 응답
+ */
+@Slf4j
+@Component
+public class PolicyChangeFeed {
+
+    private final int historySize;
+    private final List<LongConsumer> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile State state = new State(ExtensionPolicy.empty(), 0L, List.of());
+
+    public PolicyChangeFeed(@Value("${policy.feed.history-size:1024}") int historySize) {
+        this.historySize = Math.max(historySize, 1);
+    }
+
+    /**
+     * 버전이 바뀔 때 호출할 리스너 등록 (스냅샷을 교체한 스레드에서 호출됨)
+     */
+    public void addListener(LongConsumer listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 새 스냅샷 반영 (스냅샷 보관소가 교체 직후 호출, 호출은 한 스레드씩)
+     * @param deltas 이전 스냅샷에 적용된 변경분 (전체 재적재면 빈 목록)
+     */
+    public void publish(ExtensionPolicy policy, List<PolicyDelta> deltas) {
+        State previous = state;
+        long previousVersion = previous.policy().version();
+
+        if (deltas.isEmpty() && policy.version() == previousVersion) {
+            state = new State(policy, previous.baseVersion(), previous.history());
+            return;
+        }
+        if (!deltas.isEmpty() && deltas.get(0).version() == previousVersion + 1) {
+            List<PolicyDelta> history = new ArrayList<>(previous.history().size() + deltas.size());
+            history.addAll(previous.history());
+            history.addAll(deltas);
+            int drop = Math.max(history.size() - historySize, 0);
+            long baseVersion = drop == 0 ? previous.baseVersion() : history.get(drop - 1).version();
+            state = new State(policy, baseVersion, List.copyOf(history.subList(drop, history.size())));
+        } else {
+            // 전체 재적재 또는 버전 불연속: 이전 버전 구독자는 전체 목록으로 다시 동기화
+            state = new State(policy, policy.version(), List.of());
+        }
+
+        if (policy.version() != previousVersion) {
+            for (LongConsumer listener : listeners) {
+                try {
+                    listener.accept(policy.version());
+                } catch (RuntimeException e) {
+                    log.warn("정책 변경 알림 실패", e);
+                }
+            }
+        }
+    }
+
+    public long version() {
+        return state.policy().version();
+    }
+
+    /**
+     * sinceVersion 이후 변경분
+     * - 같은 버전이면 빈 변경분, 보관 범위 밖이거나 클라이언트가 앞서 있으면 전체 목록
+     */
+    public PolicyChangesResponse changesSince(long sinceVersion) {
+        State current = state;
+        ExtensionPolicy policy = current.policy();
+        if (sinceVersion == policy.version()) {
+            return PolicyChangesResponse.none(policy.version());
+        }
+        if (sinceVersion < current.baseVersion() || sinceVersion > policy.version()) {
+            return new PolicyChangesResponse(policy.version(), true,
+                    List.copyOf(new TreeSet<>(policy.blockedExtensions())), List.of());
+        }
+
+        // history[i].version == baseVersion + 1 + i
+        int from = (int) (sinceVersion - current.baseVersion());
+        Set<String> blocked = policy.blockedExtensions();
+        Set<String> added = new TreeSet<>();
+        Set<String> removed = new TreeSet<>();
+        for (PolicyDelta delta : current.history().subList(from, current.history().size())) {
+            // 여러 번 바뀐 확장자는 최종 스냅샷 기준으로 한 번만 보고
+            if (blocked.contains(delta.extension())) {
+                added.add(delta.extension());
+            } else {
+                removed.add(delta.extension());
+            }
+        }
+        return new PolicyChangesResponse(policy.version(), false, List.copyOf(added), List.copyOf(removed));
+    }
+
+    /**
+     * @param baseVersion history가 이 버전 직후부터 빠짐없이 이어짐
+     */
+    private record State(ExtensionPolicy policy, long baseVersion, List<PolicyDelta> history) {
+    }
+}
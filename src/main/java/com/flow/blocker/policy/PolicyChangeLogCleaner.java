@@ -0,0 +1,52 @@
+package com.flow.blocker.policy;
+
+import com.flow.blocker.domain.PolicyVersion;
+import com.flow.blocker.repository.PolicyChangeLogRepository;
+import com.flow.blocker.repository.PolicyVersionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 차단 정책 변경 로그 정리
+ * - 현재 정책 버전에서 최근 retained-versions 개 변경만 남기고 이전 로그 삭제 (변경 로그가 끝없이 쌓이지 않게)
+ * - 남긴 범위보다 뒤처진 스냅샷은 변경 로그를 읽지 않고 전체를 다시 적재 (ExtensionPolicyHolder, CustomExtensionBulkService)
+ * - 여러 노드가 동시에 실행해도 같은 버전 이하만 지우므로 결과가 같음
+ */
+@Slf4j
+@Component
+public class PolicyChangeLogCleaner {
+
+    /** 기본 보관 변경 수 (변경 로그로 따라잡을 수 있는 최대 버전 차이) */
+    public static final long DEFAULT_RETAINED_VERSIONS = 10_000;
+
+    private final PolicyVersionRepository policyVersionRepository;
+    private final PolicyChangeLogRepository policyChangeLogRepository;
+    private final long retainedVersions;
+
+    public PolicyChangeLogCleaner(PolicyVersionRepository policyVersionRepository,
+                                  PolicyChangeLogRepository policyChangeLogRepository,
+                                  @Value("${policy.change-log.retained-versions:10000}") long retainedVersions) {
+        this.policyVersionRepository = policyVersionRepository;
+        this.policyChangeLogRepository = policyChangeLogRepository;
+        this.retainedVersions = Math.max(retainedVersions, 1);
+    }
+
+    @Scheduled(fixedDelayString = "${policy.change-log.cleanup-interval-ms:600000}",
+            initialDelayString = "${policy.change-log.cleanup-interval-ms:600000}")
+    public void purge() {
+        try {
+            long threshold = policyVersionRepository.findVersion(PolicyVersion.SINGLETON_ID).orElse(0L) - retainedVersions;
+            if (threshold <= 0) {
+                return;
+            }
+            int deleted = policyChangeLogRepository.deleteUpTo(threshold);
+            if (deleted > 0) {
+                log.info("차단 정책 변경 로그 정리: version {} 이하 {} 건 삭제", threshold, deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("차단 정책 변경 로그 정리 실패 (다음 주기에 재시도)", e);
+        }
+    }
+}
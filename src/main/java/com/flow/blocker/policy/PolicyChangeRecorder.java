@@ -0,0 +1,129 @@
+package com.flow.blocker.policy;
+
+import com.flow.blocker.domain.PolicyChangeLog;
+import com.flow.blocker.domain.PolicyVersion;
+import com.flow.blocker.repository.PolicyChangeLogRepository;
+import com.flow.blocker.repository.PolicyVersionRepository;
+import com.flow.blocker.validation.PolicyDelta;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 차단 정책 변경 기록
+ * - 확장자 변경 트랜잭션 안에서 버전 행을 잠그고 증가시킨 뒤 변경 로그 저장
+ * - 변경이 롤백되면 버전과 로그도 함께 롤백됨
+ * - 일괄 변경은 버전 행을 한 번만 잠그고 로그를 JDBC 배치로 저장
+ * - 버전 행은 기동 시 한 번만 만들고, 변경 기록 중에는 만들지 않음 (잠글 행이 없는 상태의 동시 생성 방지)
+ */
+@Slf4j
+@Component
+public class PolicyChangeRecorder {
+
+    static final String INSERT_LOG_SQL = """
+            INSERT INTO policy_change_log (version_no, scope, action, extension, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final PolicyVersionRepository policyVersionRepository;
+    private final PolicyChangeLogRepository policyChangeLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate seedTransaction;
+    private final int batchSize;
+
+    public PolicyChangeRecorder(PolicyVersionRepository policyVersionRepository,
+                                PolicyChangeLogRepository policyChangeLogRepository,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:20}") int batchSize) {
+        this.policyVersionRepository = policyVersionRepository;
+        this.policyChangeLogRepository = policyChangeLogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.seedTransaction = new TransactionTemplate(transactionManager);
+        this.seedTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    /**
+     * 버전 행 생성 (기동 시, 변경 기록 전에 호출)
+     * - 별도 트랜잭션에서 저장하므로 여러 노드가 동시에 기동해 한쪽이 중복 키로 실패해도 호출한 트랜잭션은 그대로 진행
+     */
+    public void initialize() {
+        if (policyVersionRepository.existsById(PolicyVersion.SINGLETON_ID)) {
+            return;
+        }
+        try {
+            seedTransaction.executeWithoutResult(
+                    status -> policyVersionRepository.saveAndFlush(PolicyVersion.initial()));
+        } catch (DataIntegrityViolationException e) {
+            log.info("정책 버전 행이 다른 노드에서 먼저 생성됨");
+        }
+    }
+
+    /**
+     * 버전 행 잠금 (커밋까지 다른 변경 트랜잭션은 대기)
+     * @return 잠근 시점의 정책 버전
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long lock() {
+        return lockVersion().getVersion();
+    }
+
+    /**
+     * 변경 기록
+     * @return 새 정책 버전
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public PolicyDelta record(PolicyDelta.Scope scope, PolicyDelta.Action action, String extension) {
+        PolicyVersion policyVersion = lockVersion();
+
+        PolicyChangeLog changeLog = new PolicyChangeLog(policyVersion.increment(), scope, action, extension);
+        policyChangeLogRepository.save(changeLog);
+        return changeLog.toDelta();
+    }
+
+    /**
+     * 같은 종류의 변경 여러 건을 연속된 버전으로 기록
+     * @return 버전 순 변경분
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<PolicyDelta> recordAll(PolicyDelta.Scope scope, PolicyDelta.Action action, Collection<String> extensions) {
+        if (extensions.isEmpty()) {
+            return List.of();
+        }
+        PolicyVersion policyVersion = lockVersion();
+
+        List<PolicyDelta> deltas = new ArrayList<>(extensions.size());
+        for (String extension : extensions) {
+            deltas.add(new PolicyDelta(policyVersion.increment(), scope, action, extension));
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_LOG_SQL, deltas, batchSize, (ps, delta) -> {
+            ps.setLong(1, delta.version());
+            ps.setString(2, delta.scope().name());
+            ps.setString(3, delta.action().name());
+            ps.setString(4, delta.extension());
+            ps.setTimestamp(5, now);
+        });
+        return deltas;
+    }
+
+    private PolicyVersion lockVersion() {
+        return policyVersionRepository.findForUpdate(PolicyVersion.SINGLETON_ID)
+                .orElseThrow(() -> new IllegalStateException("정책 버전 행이 없습니다 (기동 시 initialize 필요)"));
+    }
+}
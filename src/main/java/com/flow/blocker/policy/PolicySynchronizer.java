@@ -0,0 +1,33 @@
+package com.flow.blocker.policy;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 차단 정책 동기화 폴러
+ * - 다른 노드에서 커밋된 변경을 주기적으로 반영 (최대 지연 = 폴링 주기)
+ * - 변경이 없으면 버전 행 기본키 조회 한 번
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PolicySynchronizer {
+
+    private final ExtensionPolicyHolder policyHolder;
+
+    @Scheduled(fixedDelayString = "${policy.sync.interval-ms:1000}",
+            initialDelayString = "${policy.sync.interval-ms:1000}")
+    public void poll() {
+        try {
+            long before = policyHolder.current().version();
+            long after = policyHolder.revalidate().version();
+            if (after != before) {
+                log.info("차단 정책 동기화: version {} -> {}", before, after);
+            }
+        } catch (RuntimeException e) {
+            log.warn("차단 정책 동기화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.flow.blocker.policy;
+
+import com.flow.blocker.domain.UploadRule;
+import com.flow.blocker.repository.UploadRuleRepository;
+import com.flow.blocker.validation.DecisionRule;
+import com.flow.blocker.validation.DecisionTable;
+import com.flow.blocker.validation.FileValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 업로드 정책 판정 테이블 보관소
+ * - 검증 경로는 volatile 읽기 한 번으로 컴파일된 판정 테이블을 얻음 (DB 조회 없음)
+ * - 규칙이 바뀔 때만 전체 규칙을 다시 읽어 컴파일 (이 노드의 변경은 커밋 후 이벤트, 다른 노드의 변경은 주기적 재적재)
+ * - 규칙 집합이 실제로 바뀌었을 때만 다시 컴파일하고 버전을 올림 (버전은 검사 결과 캐시 키에 사용)
+ * - DB에 규칙이 하나도 없으면 기본 규칙(FileValidator.DEFAULT_RULES) 사용
+ * - 웹 서버가 요청을 받기 전(싱글톤 초기화 직후)에 적재하므로 검증 경로가 DB에 가지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadRuleHolder implements SmartInitializingSingleton {
+
+    private final UploadRuleRepository uploadRuleRepository;
+
+    private volatile DecisionTable current;
+    private List<DecisionRule> currentRules;
+
+    /**
+     * 현재 판정 테이블 조회 (적재 전이면 동시에 들어온 호출 중 하나만 적재)
+     */
+    public DecisionTable current() {
+        DecisionTable table = current;
+        return table != null ? table : loadIfAbsent();
+    }
+
+    /**
+     * DB에서 규칙 전체를 다시 읽어 바뀌었으면 판정 테이블 교체
+     * - 조회가 한 번뿐이라 저장소의 읽기 트랜잭션으로 충분 (기동 시 적재, poll의 내부 호출도 같은 동작)
+     */
+    public synchronized DecisionTable reload() {
+        List<DecisionRule> rules = uploadRuleRepository.findAllByOrderByIdAsc().stream()
+                .map(UploadRule::toRule)
+                .toList();
+        DecisionTable previous = current;
+        if (previous != null && rules.equals(currentRules)) {
+            return previous;
+        }
+        long version = previous == null ? 1L : previous.version() + 1;
+        DecisionTable table = DecisionTable.compile(version, rules.isEmpty() ? FileValidator.DEFAULT_RULES : rules);
+        currentRules = rules;
+        current = table;
+        log.debug("업로드 정책 판정 테이블 교체: {}", table);
+        return table;
+    }
+
+    /**
+     * 기동 시 적재 (웹 서버 시작 전)
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    private synchronized DecisionTable loadIfAbsent() {
+        DecisionTable table = current;
+        return table != null ? table : reload();
+    }
+
+    /**
+     * 다른 노드에서 바뀐 규칙 반영 (최대 지연 = 재적재 주기)
+     */
+    @Scheduled(fixedDelayString = "${upload.rule.reload-interval-ms:60000}",
+            initialDelayString = "${upload.rule.reload-interval-ms:60000}")
+    public void poll() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("업로드 정책 규칙 재적재 실패", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.flow.blocker.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate Limit 설정 (rate-limit.*)
+ * - routes는 선언 순서대로 매칭하며, 처음 일치한 경로의 한도를 적용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    /** 경로별 최대 추적 클라이언트 수 */
+    private int maxClients = 100_000;
+
+    /** 이 시간 동안 요청이 없던 클라이언트는 추적 대상에서 제거 */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /** 한도 적용 제외 경로 */
+    private List<String> excludePaths = new ArrayList<>(List.of("/api/docs/**"));
+
+    private List<Route> routes = new ArrayList<>(List.of(
+            new Route("upload", List.of("/api/files/upload", "/api/files/upload-multiple"), 10, Duration.ofMinutes(1)),
+            new Route("api", List.of("/api/**"), 300, Duration.ofMinutes(1))
+    ));
+
+    @Getter
+    @Setter
+    public static class Route {
+
+        private String name;
+        private List<String> paths = new ArrayList<>();
+        private int limit;
+        private Duration period = Duration.ofMinutes(1);
+
+        public Route() {
+        }
+
+        public Route(String name, List<String> paths, int limit, Duration period) {
+            this.name = name;
+            this.paths = new ArrayList<>(paths);
+            this.limit = limit;
+            this.period = period;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.flow.blocker.ratelimit;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 클라이언트별 토큰 버킷 Rate Limiter (GCRA)
+ * - 버킷 상태는 "이론적 도착 시각(TAT)" long 하나이며 CAS로만 갱신 (락 없음)
+ * - 토큰이 주기 동안 연속적으로 채워지므로 고정 윈도우처럼 분 경계에서 두 배 버스트가 생기지 않음
+ * - 추적 클라이언트 수는 maxClients를 넘지 않으며, 가득 차면 가장 먼저 추적한 버킷 하나를 내보내고 새 클라이언트를 받음
+ *   (요청마다 전체를 훑지 않음, 새 클라이언트를 거부하지 않음 - 내보낸 클라이언트는 다음 요청에서 가득 찬 버킷으로 다시 시작)
+ */
+public class TokenBucketRateLimiter {
+
+    private final long emissionInterval;
+    private final long burstTolerance;
+    private final int maxClients;
+    private final long idleTimeout;
+    private final LongSupplier clock;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Queue<Tracked> order = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger trackedClients = new AtomicInteger();
+    private final AtomicLong lastSweep;
+
+    public TokenBucketRateLimiter(int limit, Duration period, int maxClients, Duration idleTimeout) {
+        this(limit, period, maxClients, idleTimeout, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int limit, Duration period, int maxClients, Duration idleTimeout, LongSupplier clock) {
+        if (limit <= 0 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("limit과 period는 0보다 커야 합니다.");
+        }
+        this.emissionInterval = Math.max(period.toNanos() / limit, 1);
+        this.burstTolerance = emissionInterval * limit;
+        this.maxClients = maxClients;
+        this.idleTimeout = idleTimeout.toNanos();
+        this.clock = clock;
+        this.lastSweep = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * 토큰 1개 획득 시도
+     * @return 허용 여부
+     */
+    public boolean tryAcquire(String client) {
+        long now = clock.getAsLong();
+        sweepIfDue(now);
+
+        Bucket bucket = bucket(client, now);
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + emissionInterval;
+            if (newTat - now > burstTolerance) {
+                return false;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 현재 추적 중인 클라이언트 수
+     */
+    public int trackedClients() {
+        return trackedClients.get();
+    }
+
+    /**
+     * 유휴 버킷 정리
+     * - 마지막 사용 이후 idleTimeout이 지난 버킷은 이미 가득 찬 상태이므로 제거해도 한도 판정이 달라지지 않음
+     */
+    public void evictIdle() {
+        evictIdle(clock.getAsLong());
+    }
+
+    private Bucket bucket(String client, long now) {
+        Bucket bucket = buckets.get(client);
+        if (bucket != null) {
+            return bucket;
+        }
+        Bucket created = new Bucket(now);
+        if (!reserveSlot()) {
+            // 추적할 수 없으면 저장하지 않은 새 버킷으로 판정 (거부하지 않음)
+            return created;
+        }
+        Bucket existing = buckets.putIfAbsent(client, created);
+        if (existing != null) {
+            trackedClients.decrementAndGet();
+            return existing;
+        }
+        order.add(new Tracked(client, created));
+        return created;
+    }
+
+    /**
+     * 추적 자리 확보 (가득 차면 가장 먼저 추적한 버킷부터 내보냄, 요청당 O(1) 분할 상환)
+     */
+    private boolean reserveSlot() {
+        while (true) {
+            int tracked = trackedClients.get();
+            if (tracked < maxClients) {
+                if (trackedClients.compareAndSet(tracked, tracked + 1)) {
+                    return true;
+                }
+            } else if (!evictOldest()) {
+                return false;
+            }
+        }
+    }
+
+    private boolean evictOldest() {
+        Tracked oldest;
+        while ((oldest = order.poll()) != null) {
+            // 이미 유휴 정리로 제거된 항목은 건너뜀
+            if (buckets.remove(oldest.client(), oldest.bucket())) {
+                trackedClients.decrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void sweepIfDue(long now) {
+        long last = lastSweep.get();
+        if (now - last >= idleTimeout && lastSweep.compareAndSet(last, now)) {
+            evictIdle(now);
+        }
+    }
+
+    private void evictIdle(long now) {
+        boolean removed = false;
+        for (Map.Entry<String, Bucket> entry : buckets.entrySet()) {
+            if (now - entry.getValue().get() >= idleTimeout
+                    && buckets.remove(entry.getKey(), entry.getValue())) {
+                trackedClients.decrementAndGet();
+                removed = true;
+            }
+        }
+        if (removed) {
+            order.removeIf(tracked -> buckets.get(tracked.client()) != tracked.bucket());
+        }
+    }
+
+    private record Tracked(String client, Bucket bucket) {
+    }
+
+    /**
+     * 버킷 상태 (TAT, 나노초)
+     */
+    private static final class Bucket extends AtomicLong {
+
+        Bucket(long now) {
+            super(now);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.flow.blocker.repository;
+
+import com.flow.blocker.domain.ContentPattern;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ContentPatternRepository extends JpaRepository<ContentPattern, Long> {
+    boolean existsByPattern(String pattern);
+    long countBy();
+    List<ContentPattern> findAllByOrderByIdAsc();
+}
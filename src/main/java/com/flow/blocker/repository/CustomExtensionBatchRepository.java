@@ -0,0 +1,48 @@
+package com.flow.blocker.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 커스텀 확장자 일괄 저장/삭제
+ * - IDENTITY 키는 Hibernate INSERT 배치가 꺼지므로 JDBC 배치로 직접 실행
+ * - 호출한 트랜잭션에 참여 (JPA와 같은 커넥션)
+ */
+@Repository
+public class CustomExtensionBatchRepository {
+
+    static final String INSERT_SQL = "INSERT INTO custom_extensions (extension, created_at) VALUES (?, ?)";
+    static final String DELETE_SQL = "DELETE FROM custom_extensions WHERE extension = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public CustomExtensionBatchRepository(JdbcTemplate jdbcTemplate,
+                                          @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:20}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    public void insertAll(Collection<String> extensions) {
+        if (extensions.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, extensions, batchSize, (ps, extension) -> {
+            ps.setString(1, extension);
+            ps.setTimestamp(2, now);
+        });
+    }
+
+    public void deleteAll(Collection<String> extensions) {
+        if (extensions.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, extensions, batchSize, (ps, extension) -> ps.setString(1, extension));
+    }
+}
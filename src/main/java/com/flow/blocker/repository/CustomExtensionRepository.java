@@ -4,6 +4,7 @@ import com.flow.blocker.domain.CustomExtension;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +12,5 @@ public interface CustomExtensionRepository extends JpaRepository<CustomExtension
     Optional<CustomExtension> findByExtension(String extension);
     boolean existsByExtension(String extension);
     long countBy();
+    List<CustomExtension> findAllByOrderByIdAsc();
 }
@@ -14,6 +14,7 @@ public interface FixedExtensionRepository extends JpaRepository<FixedExtension,
     boolean existsByExtension(String extension);
     List<FixedExtension> findByCheckedTrue();
     long countByCheckedTrue();
+    List<FixedExtension> findAllByOrderByIdAsc();
     
     @Query("SELECT f FROM FixedExtension f ORDER BY f.extension ASC")
     List<FixedExtension> findAllOrderByExtension();
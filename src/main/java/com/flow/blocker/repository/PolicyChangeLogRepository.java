@@ -0,0 +1,21 @@
+package com.flow.blocker.repository;
+
+import com.flow.blocker.domain.PolicyChangeLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface PolicyChangeLogRepository extends JpaRepository<PolicyChangeLog, Long> {
+    List<PolicyChangeLog> findByVersionGreaterThanOrderByVersionAsc(long version);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PolicyChangeLog l WHERE l.version <= :version")
+    int deleteUpTo(@Param("version") long version);
+}
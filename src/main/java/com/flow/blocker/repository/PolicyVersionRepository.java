@@ -0,0 +1,22 @@
+package com.flow.blocker.repository;
+
+import com.flow.blocker.domain.PolicyVersion;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PolicyVersionRepository extends JpaRepository<PolicyVersion, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM PolicyVersion v WHERE v.id = :id")
+    Optional<PolicyVersion> findForUpdate(@Param("id") Long id);
+
+    @Query("SELECT v.version FROM PolicyVersion v WHERE v.id = :id")
+    Optional<Long> findVersion(@Param("id") Long id);
+}
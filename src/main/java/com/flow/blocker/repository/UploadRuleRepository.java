@@ -0,0 +1,12 @@
+package com.flow.blocker.repository;
+
+import com.flow.blocker.domain.UploadRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UploadRuleRepository extends JpaRepository<UploadRule, Long> {
+    List<UploadRule> findAllByOrderByIdAsc();
+}
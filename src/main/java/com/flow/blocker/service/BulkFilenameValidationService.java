@@ -0,0 +1,147 @@
+package com.flow.blocker.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.blocker.policy.ExtensionPolicyHolder;
+import com.flow.blocker.policy.UploadRuleHolder;
+import com.flow.blocker.validation.DecisionRule;
+import com.flow.blocker.validation.DecisionTable;
+import com.flow.blocker.validation.ExtensionPolicy;
+import com.flow.blocker.validation.FileValidator;
+import com.flow.blocker.validation.RejectionReason;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+
+/**
+ * 대량 파일명 검증 서비스 (NDJSON 입출력)
+ * - 입력: 한 줄에 파일명 하나 (JSON 문자열 또는 일반 텍스트)
+ * - 출력: 한 줄에 판정 하나 {"line", "filename", "allowed", "reason", "policyVersion"}
+ * - 업로드 정책 규칙은 파일명 검증(VALIDATE) 경로 규칙을 적용
+ * - 전체 스트림을 하나의 정책 스냅샷으로 판정하며, 한 줄씩 읽고 바로 기록하므로 메모리 사용량은 입력 크기와 무관
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkFilenameValidationService {
+
+    static final int MAX_LINE_LENGTH = 4096;
+    private static final int FLUSH_INTERVAL = 256;
+
+    private final ExtensionPolicyHolder policyHolder;
+    private final UploadRuleHolder uploadRuleHolder;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 대량 검증
+     * @return 판정한 줄 수
+     */
+    public long validate(Reader reader, OutputStream out) throws IOException {
+        ExtensionPolicy policy = policyHolder.current();
+        DecisionTable rules = uploadRuleHolder.current();
+        LineReader lines = new LineReader(reader, MAX_LINE_LENGTH);
+        long lineNumber = 0;
+        long count = 0;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // 루트 값 사이 구분자는 직접 기록하는 개행만 사용
+            generator.setRootValueSeparator(null);
+            String line;
+            while ((line = lines.next()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                String filename = lines.overflowed() ? line : decode(line);
+                RejectionReason reason = filename == null || lines.overflowed()
+                        ? RejectionReason.INVALID_FILENAME
+                        : FileValidator.checkFilename(filename, policy, rules, DecisionRule.Mode.VALIDATE);
+
+                writeVerdict(generator, lineNumber, filename != null ? filename : line, reason, policy.version());
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * JSON 문자열이면 해석, 아니면 그대로 사용 (해석 실패 시 null)
+     */
+    private String decode(String line) {
+        String trimmed = line.strip();
+        if (!trimmed.startsWith("\"")) {
+            return line;
+        }
+        try {
+            return objectMapper.readValue(trimmed, String.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private void writeVerdict(JsonGenerator generator, long lineNumber, String filename,
+                              RejectionReason reason, long policyVersion) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("line", lineNumber);
+        generator.writeStringField("filename", filename);
+        generator.writeBooleanField("allowed", reason == null);
+        generator.writeStringField("reason", reason != null ? reason.name() : null);
+        generator.writeNumberField("policyVersion", policyVersion);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * 최대 길이 제한이 있는 줄 단위 Reader
+     * - 최대 길이를 넘는 줄은 잘라서 반환하고 나머지는 버림
+     */
+    private static final class LineReader {
+
+        private final Reader reader;
+        private final char[] buffer;
+        private int length;
+        private boolean overflow;
+
+        LineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.buffer = new char[maxLength];
+        }
+
+        String next() throws IOException {
+            length = 0;
+            overflow = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (c == '\n') {
+                    return current();
+                }
+                if (length < buffer.length) {
+                    buffer[length++] = (char) c;
+                } else {
+                    overflow = true;
+                }
+            }
+            return length > 0 || overflow ? current() : null;
+        }
+
+        boolean overflowed() {
+            return overflow;
+        }
+
+        private String current() {
+            int end = length;
+            if (end > 0 && buffer[end - 1] == '\r') {
+                end--;
+            }
+            return new String(buffer, 0, end);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.flow.blocker.service;
+
+import com.flow.blocker.domain.ContentPattern;
+import com.flow.blocker.dto.ContentPatternResponse;
+import com.flow.blocker.event.CacheEvictionEvent;
+import com.flow.blocker.exception.ExtensionException;
+import com.flow.blocker.repository.ContentPatternRepository;
+import com.flow.blocker.validation.FileValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 내용 검사 패턴 관리 서비스
+ * - 커스텀 확장자와 같은 방식으로 관리 (개수/길이 제한, 중복 방지, 정규화)
+ * - 패턴 변경은 커밋 후 이벤트로 내용 검사 오토마톤을 다시 컴파일
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ContentPatternService {
+
+    static final int MAX_PATTERNS = 200;
+    static final int MAX_LENGTH = 100;
+
+    static final String LIMIT_EXCEEDED_MESSAGE = "내용 검사 패턴은 최대 200개까지만 추가 가능합니다.";
+    static final String DUPLICATE_MESSAGE = "이미 추가된 패턴입니다.";
+
+    private final ContentPatternRepository contentPatternRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 패턴 전체 조회 (등록 순)
+     */
+    @Transactional(readOnly = true)
+    public List<ContentPatternResponse> getAllPatterns() {
+        return contentPatternRepository.findAllByOrderByIdAsc().stream()
+                .map(ContentPatternResponse::from)
+                .toList();
+    }
+
+    /**
+     * 패턴 추가 (앞뒤 공백 제거, 소문자 변환)
+     */
+    public ContentPatternResponse addPattern(String pattern) {
+        if (pattern == null || pattern.trim().isEmpty()) {
+            throw new ExtensionException("패턴을 입력해주세요.");
+        }
+        String normalized = pattern.trim().toLowerCase(Locale.ROOT);
+
+        if (normalized.length() > MAX_LENGTH) {
+            throw new ExtensionException("패턴은 최대 100자까지 입력 가능합니다.");
+        }
+        if (contentPatternRepository.countBy() >= MAX_PATTERNS) {
+            throw new ExtensionException(LIMIT_EXCEEDED_MESSAGE);
+        }
+        if (contentPatternRepository.existsByPattern(normalized)) {
+            throw new ExtensionException(DUPLICATE_MESSAGE);
+        }
+
+        ContentPattern saved = contentPatternRepository.save(new ContentPattern(normalized));
+
+        // 내용 검사 오토마톤 재컴파일 이벤트 발행
+        eventPublisher.publishEvent(new CacheEvictionEvent.ContentPatternChangeEvent("내용 검사 패턴 추가: " + normalized));
+        return ContentPatternResponse.from(saved);
+    }
+
+    /**
+     * 패턴 삭제
+     */
+    public void deletePattern(Long id) {
+        ContentPattern pattern = contentPatternRepository.findById(id)
+                .orElseThrow(() -> new ExtensionException("존재하지 않는 패턴입니다."));
+        contentPatternRepository.delete(pattern);
+
+        // 내용 검사 오토마톤 재컴파일 이벤트 발행
+        eventPublisher.publishEvent(
+                new CacheEvictionEvent.ContentPatternChangeEvent("내용 검사 패턴 삭제: " + pattern.getPattern()));
+    }
+
+    /**
+     * 기본 패턴 저장 (패턴이 하나도 없을 때만)
+     */
+    public void initializeDefaultPatterns() {
+        if (contentPatternRepository.count() > 0) {
+            return;
+        }
+        contentPatternRepository.saveAll(FileValidator.DEFAULT_CONTENT_PATTERNS.stream().map(ContentPattern::new).toList());
+        eventPublisher.publishEvent(new CacheEvictionEvent.ContentPatternChangeEvent("내용 검사 기본 패턴 초기화"));
+    }
+}
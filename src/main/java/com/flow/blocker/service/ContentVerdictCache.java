@@ -0,0 +1,81 @@
+package com.flow.blocker.service;
+
+import com.flow.blocker.validation.ContentDigest;
+import com.flow.blocker.validation.ContentVerdict;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 파일 내용 검사 결과 캐시 (LRU)
+ * - 키는 (내용 다이제스트, 정책 버전, 판정 테이블 버전, 내용 검사 패턴 버전): 정책, 규칙, 패턴 중 하나라도 바뀌면 이전 결과는 조회되지 않고 LRU로 밀려남
+ *   (압축 파일 항목 판정이 차단 목록과 업로드 정책 규칙을 모두 따르므로)
+ * - 같은 파일을 다시 올리면 내용 검사를 건너뜀
+ */
+@Component
+public class ContentVerdictCache {
+
+    private final int maxEntries;
+    private final Map<Key, ContentVerdict> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ContentVerdictCache(MeterRegistry registry,
+                               @Value("${upload.validation.content-cache-size:10000}") int maxEntries) {
+        this.maxEntries = Math.max(maxEntries, 0);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, ContentVerdict> eldest) {
+                return size() > ContentVerdictCache.this.maxEntries;
+            }
+        };
+        this.hits = Counter.builder("file.validation.content.cache")
+                .description("내용 검사 결과 캐시 조회")
+                .tag("result", "hit")
+                .register(registry);
+        this.misses = Counter.builder("file.validation.content.cache")
+                .description("내용 검사 결과 캐시 조회")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("file.validation.content.cache.size", this, ContentVerdictCache::size)
+                .description("캐시된 내용 검사 결과 수")
+                .register(registry);
+    }
+
+    /**
+     * 캐시 조회
+     * @return 캐시된 결과, 없으면 null
+     */
+    public ContentVerdict get(ContentDigest digest, long policyVersion, long ruleVersion, long scannerVersion) {
+        ContentVerdict verdict;
+        synchronized (entries) {
+            verdict = entries.get(new Key(digest, policyVersion, ruleVersion, scannerVersion));
+        }
+        (verdict != null ? hits : misses).increment();
+        return verdict;
+    }
+
+    public void put(ContentDigest digest, long policyVersion, long ruleVersion, long scannerVersion,
+                    ContentVerdict verdict) {
+        if (maxEntries == 0) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(new Key(digest, policyVersion, ruleVersion, scannerVersion), verdict);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Key(ContentDigest digest, long policyVersion, long ruleVersion, long scannerVersion) {
+    }
+}
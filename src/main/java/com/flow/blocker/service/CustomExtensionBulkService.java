@@ -0,0 +1,275 @@
+package com.flow.blocker.service;
+
+import com.flow.blocker.domain.CustomExtension;
+import com.flow.blocker.domain.FixedExtension;
+import com.flow.blocker.domain.PolicyChangeLog;
+import com.flow.blocker.dto.BulkExtensionResponse;
+import com.flow.blocker.dto.BulkExtensionResult;
+import com.flow.blocker.dto.BulkExtensionResult.Status;
+import com.flow.blocker.event.CacheEvictionEvent;
+import com.flow.blocker.policy.ExtensionPolicyHolder;
+import com.flow.blocker.policy.PolicyChangeLogCleaner;
+import com.flow.blocker.policy.PolicyChangeRecorder;
+import com.flow.blocker.repository.CustomExtensionBatchRepository;
+import com.flow.blocker.repository.CustomExtensionRepository;
+import com.flow.blocker.repository.FixedExtensionRepository;
+import com.flow.blocker.repository.PolicyChangeLogRepository;
+import com.flow.blocker.validation.ExtensionPolicy;
+import com.flow.blocker.validation.PolicyDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 커스텀 확장자 일괄 추가/삭제/교체
+ * - 버전 행을 잠근 뒤 현재 스냅샷으로 전체 요청을 메모리에서 검증 (항목별 조회 없음)
+ * - 하나라도 REJECTED면 아무것도 쓰지 않음, 통과하면 JDBC 배치로 한 트랜잭션에 반영
+ * - 변경 이벤트는 요청당 한 번 발행 (스냅샷 갱신 한 번)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CustomExtensionBulkService {
+
+    private static final String REQUEST_DUPLICATE_MESSAGE = "요청에 중복된 확장자입니다.";
+    private static final String NOT_FOUND_MESSAGE = "존재하지 않는 확장자입니다.";
+
+    private final ExtensionPolicyHolder policyHolder;
+    private final PolicyChangeRecorder policyChangeRecorder;
+    private final FixedExtensionRepository fixedExtensionRepository;
+    private final CustomExtensionBatchRepository customExtensionBatchRepository;
+    private final CustomExtensionRepository customExtensionRepository;
+    private final PolicyChangeLogRepository policyChangeLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 변경 로그로 따라잡을 최대 버전 차이 (변경 로그 보관 수) */
+    @Value("${policy.change-log.retained-versions:10000}")
+    private long retainedVersions = PolicyChangeLogCleaner.DEFAULT_RETAINED_VERSIONS;
+
+    /**
+     * 커스텀 확장자 내보내기 (스냅샷 기준, 정렬됨)
+     * - 결과를 그대로 교체 요청에 넣으면 같은 정책이 됨
+     */
+    @Transactional(readOnly = true)
+    public List<String> exportCustomExtensions() {
+        return policyHolder.current().customExtensions().stream()
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * 일괄 추가 (이미 있는 확장자는 UNCHANGED)
+     */
+    public BulkExtensionResponse addAll(List<String> extensions) {
+        ExtensionPolicy policy = lockedSnapshot();
+        Set<String> current = policy.customExtensions();
+        Set<String> fixed = fixedExtensionNames();
+
+        List<BulkExtensionResult> results = new ArrayList<>(extensions.size());
+        Set<String> toAdd = new LinkedHashSet<>();
+        for (String input : extensions) {
+            String error = CustomExtensionRules.patternFormatError(input);
+            if (error != null) {
+                results.add(BulkExtensionResult.rejected(input, null, error));
+                continue;
+            }
+            String extension = CustomExtensionRules.normalize(input);
+            if (fixed.contains(extension)) {
+                results.add(BulkExtensionResult.rejected(input, extension, CustomExtensionRules.FIXED_DUPLICATE_MESSAGE));
+            } else if (current.contains(extension)) {
+                results.add(new BulkExtensionResult(input, extension, Status.UNCHANGED,
+                        CustomExtensionRules.CUSTOM_DUPLICATE_MESSAGE));
+            } else if (toAdd.contains(extension)) {
+                results.add(new BulkExtensionResult(input, extension, Status.UNCHANGED, REQUEST_DUPLICATE_MESSAGE));
+            } else if (current.size() + toAdd.size() >= CustomExtensionRules.MAX_CUSTOM_EXTENSIONS) {
+                results.add(BulkExtensionResult.rejected(input, extension, CustomExtensionRules.LIMIT_EXCEEDED_MESSAGE));
+            } else {
+                toAdd.add(extension);
+                results.add(BulkExtensionResult.of(input, extension, Status.ADDED));
+            }
+        }
+
+        if (hasRejected(results)) {
+            return BulkExtensionResponse.rejected(policy.version(), results);
+        }
+        return apply(policy.version(), Set.of(), toAdd, results, "커스텀 확장자 일괄 추가");
+    }
+
+    /**
+     * 일괄 삭제 (없는 확장자는 UNCHANGED)
+     */
+    public BulkExtensionResponse removeAll(List<String> extensions) {
+        ExtensionPolicy policy = lockedSnapshot();
+        Set<String> current = policy.customExtensions();
+
+        List<BulkExtensionResult> results = new ArrayList<>(extensions.size());
+        Set<String> toRemove = new LinkedHashSet<>();
+        for (String input : extensions) {
+            String error = CustomExtensionRules.patternFormatError(input);
+            if (error != null) {
+                results.add(BulkExtensionResult.rejected(input, null, error));
+                continue;
+            }
+            String extension = CustomExtensionRules.normalize(input);
+            if (toRemove.contains(extension)) {
+                results.add(new BulkExtensionResult(input, extension, Status.UNCHANGED, REQUEST_DUPLICATE_MESSAGE));
+            } else if (!current.contains(extension)) {
+                results.add(new BulkExtensionResult(input, extension, Status.UNCHANGED, NOT_FOUND_MESSAGE));
+            } else {
+                toRemove.add(extension);
+                results.add(BulkExtensionResult.of(input, extension, Status.REMOVED));
+            }
+        }
+
+        if (hasRejected(results)) {
+            return BulkExtensionResponse.rejected(policy.version(), results);
+        }
+        return apply(policy.version(), toRemove, Set.of(), results, "커스텀 확장자 일괄 삭제");
+    }
+
+    /**
+     * 커스텀 확장자 전체 교체 (가져오기)
+     * - 요청에 없는 기존 확장자는 REMOVED 항목으로 결과 끝에 추가
+     */
+    public BulkExtensionResponse replaceAll(List<String> extensions) {
+        ExtensionPolicy policy = lockedSnapshot();
+        Set<String> current = policy.customExtensions();
+        Set<String> fixed = fixedExtensionNames();
+
+        List<BulkExtensionResult> results = new ArrayList<>(extensions.size());
+        Set<String> desired = new LinkedHashSet<>();
+        Set<String> toAdd = new LinkedHashSet<>();
+        for (String input : extensions) {
+            String error = CustomExtensionRules.patternFormatError(input);
+            if (error != null) {
+                results.add(BulkExtensionResult.rejected(input, null, error));
+                continue;
+            }
+            String extension = CustomExtensionRules.normalize(input);
+            if (fixed.contains(extension)) {
+                results.add(BulkExtensionResult.rejected(input, extension, CustomExtensionRules.FIXED_DUPLICATE_MESSAGE));
+            } else if (desired.contains(extension)) {
+                results.add(new BulkExtensionResult(input, extension, Status.UNCHANGED, REQUEST_DUPLICATE_MESSAGE));
+            } else if (desired.size() >= CustomExtensionRules.MAX_CUSTOM_EXTENSIONS) {
+                results.add(BulkExtensionResult.rejected(input, extension, CustomExtensionRules.LIMIT_EXCEEDED_MESSAGE));
+            } else {
+                desired.add(extension);
+                if (current.contains(extension)) {
+                    results.add(BulkExtensionResult.of(input, extension, Status.UNCHANGED));
+                } else {
+                    toAdd.add(extension);
+                    results.add(BulkExtensionResult.of(input, extension, Status.ADDED));
+                }
+            }
+        }
+
+        if (hasRejected(results)) {
+            return BulkExtensionResponse.rejected(policy.version(), results);
+        }
+
+        Set<String> toRemove = current.stream()
+                .filter(extension -> !desired.contains(extension))
+                .sorted()
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        toRemove.forEach(extension -> results.add(BulkExtensionResult.of(null, extension, Status.REMOVED)));
+        return apply(policy.version(), toRemove, toAdd, results, "커스텀 확장자 일괄 교체");
+    }
+
+    /**
+     * 삭제 후 추가 순으로 배치 반영, 변경 로그 기록, 이벤트 한 번 발행
+     */
+    private BulkExtensionResponse apply(long version, Set<String> toRemove, Set<String> toAdd,
+                                        List<BulkExtensionResult> results, String description) {
+        if (toRemove.isEmpty() && toAdd.isEmpty()) {
+            return new BulkExtensionResponse(true, version, 0, 0, results);
+        }
+
+        customExtensionBatchRepository.deleteAll(toRemove);
+        customExtensionBatchRepository.insertAll(toAdd);
+
+        List<PolicyDelta> deltas = new ArrayList<>(toRemove.size() + toAdd.size());
+        record(PolicyDelta.Action.REMOVE, toRemove, deltas);
+        record(PolicyDelta.Action.ADD, toAdd, deltas);
+        long latest = deltas.get(deltas.size() - 1).version();
+
+        // 캐시 무효화 이벤트 발행 (요청당 한 번, 변경분 전체를 실어 스냅샷 교체도 한 번)
+        eventPublisher.publishEvent(new CacheEvictionEvent.ExtensionChangeEvent(
+                description + ": 추가 " + toAdd.size() + "건, 삭제 " + toRemove.size() + "건", deltas));
+
+        return new BulkExtensionResponse(true, latest, toAdd.size(), toRemove.size(), results);
+    }
+
+    /**
+     * 변경 로그 기록 (기록된 변경분을 deltas에 이어 붙임)
+     */
+    private void record(PolicyDelta.Action action, Set<String> extensions, List<PolicyDelta> deltas) {
+        if (extensions.isEmpty()) {
+            return;
+        }
+        deltas.addAll(policyChangeRecorder.recordAll(PolicyDelta.Scope.CUSTOM, action, extensions));
+    }
+
+    /**
+     * 버전 행을 잠근 뒤 그 버전의 스냅샷 반환
+     * - 잠금을 쥔 동안 다른 변경은 커밋될 수 없으므로 검증 결과가 반영 시점까지 유효
+     * - 스냅샷이 뒤처져 있으면 빠진 변경 로그를 이 트랜잭션에서 읽어 적용 (잠금을 쥔 채 새 트랜잭션/커넥션을 쓰지 않음)
+     * - 로그가 이어지지 않거나 변경 로그 보관 범위보다 뒤처졌으면 이 트랜잭션에서 확장자 목록 전체를 읽어 만듦
+     * - 보관소 스냅샷은 바꾸지 않음 (커밋 후 이벤트나 동기화 주기에 반영)
+     */
+    private ExtensionPolicy lockedSnapshot() {
+        long version = policyChangeRecorder.lock();
+        ExtensionPolicy policy = policyHolder.current();
+        if (policy.version() == version) {
+            return policy;
+        }
+        if (policy.version() < version && version - policy.version() <= retainedVersions) {
+            List<PolicyDelta> deltas = policyChangeLogRepository
+                    .findByVersionGreaterThanOrderByVersionAsc(policy.version()).stream()
+                    .map(PolicyChangeLog::toDelta)
+                    .toList();
+            if (isContiguous(policy.version(), version, deltas)) {
+                return policy.apply(deltas);
+            }
+        }
+        return loadPolicy(version);
+    }
+
+    private ExtensionPolicy loadPolicy(long version) {
+        Set<String> fixed = fixedExtensionRepository.findByCheckedTrue().stream()
+                .map(FixedExtension::getExtension)
+                .collect(Collectors.toSet());
+        Set<String> custom = customExtensionRepository.findAll().stream()
+                .map(CustomExtension::getExtension)
+                .collect(Collectors.toSet());
+        return new ExtensionPolicy(version, fixed, custom);
+    }
+
+    private static boolean isContiguous(long from, long to, List<PolicyDelta> deltas) {
+        long expected = from + 1;
+        for (PolicyDelta delta : deltas) {
+            if (delta.version() != expected++) {
+                return false;
+            }
+        }
+        return expected - 1 == to;
+    }
+
+    private Set<String> fixedExtensionNames() {
+        return fixedExtensionRepository.findAll().stream()
+                .map(FixedExtension::getExtension)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private static boolean hasRejected(List<BulkExtensionResult> results) {
+        return results.stream().anyMatch(result -> result.status() == Status.REJECTED);
+    }
+}
@@ -0,0 +1,76 @@
+package com.flow.blocker.service;
+
+/**
+ * 커스텀 확장자 입력 규칙
+ * - 단건 추가와 일괄 처리가 같은 정규화/형식 검사를 사용
+ * - 커스텀 확장자는 와일드카드 패턴(* 0글자 이상, ? 한 글자)도 허용
+ */
+final class CustomExtensionRules {
+
+    static final int MAX_CUSTOM_EXTENSIONS = 200;
+    static final int MAX_LENGTH = 20;
+
+    static final String LIMIT_EXCEEDED_MESSAGE = "커스텀 확장자는 최대 200개까지만 추가 가능합니다.";
+    static final String FIXED_DUPLICATE_MESSAGE = "이미 고정 확장자에 존재합니다.";
+    static final String CUSTOM_DUPLICATE_MESSAGE = "이미 추가된 확장자입니다.";
+    static final String INVALID_PATTERN_MESSAGE = "확장자는 영문자, 숫자와 와일드카드(*, ?)만 입력 가능합니다.";
+    static final String WILDCARD_ONLY_MESSAGE = "와일드카드만으로 된 패턴은 사용할 수 없습니다.";
+
+    private CustomExtensionRules() {
+    }
+
+    /**
+     * . 제거 및 소문자 변환, 공백 제거
+     */
+    static String normalize(String extension) {
+        return extension.toLowerCase().trim().replaceAll("^\\.", "");
+    }
+
+    /**
+     * 형식 검사
+     * @return 오류 메시지, 올바르면 null
+     */
+    static String formatError(String extension) {
+        // 빈 문자열 체크
+        if (extension == null || extension.trim().isEmpty()) {
+            return "확장자를 입력해주세요.";
+        }
+
+        String normalized = normalize(extension);
+
+        // 길이 체크
+        if (normalized.length() > MAX_LENGTH) {
+            return "확장자는 최대 20자까지 입력 가능합니다.";
+        }
+
+        // 형식 체크 (영문자, 숫자만)
+        if (!normalized.matches("^[a-zA-Z0-9]+$")) {
+            return "확장자는 영문자와 숫자만 입력 가능합니다.";
+        }
+        return null;
+    }
+
+    /**
+     * 패턴 형식 검사 (커스텀 확장자용)
+     * - 영문자, 숫자, *, ?만 허용하며 영문자나 숫자가 하나 이상 있어야 함 (모든 확장자 차단 방지)
+     * @return 오류 메시지, 올바르면 null
+     */
+    static String patternFormatError(String extension) {
+        if (extension == null || extension.trim().isEmpty()) {
+            return "확장자를 입력해주세요.";
+        }
+
+        String normalized = normalize(extension);
+
+        if (normalized.length() > MAX_LENGTH) {
+            return "확장자는 최대 20자까지 입력 가능합니다.";
+        }
+        if (!normalized.matches("^[a-zA-Z0-9*?]+$")) {
+            return INVALID_PATTERN_MESSAGE;
+        }
+        if (!normalized.matches(".*[a-zA-Z0-9].*")) {
+            return WILDCARD_ONLY_MESSAGE;
+        }
+        return null;
+    }
+}
@@ -2,16 +2,23 @@ package com.flow.blocker.service;
 
 import com.flow.blocker.domain.CustomExtension;
 import com.flow.blocker.domain.FixedExtension;
+import com.flow.blocker.domain.PolicyVersion;
 import com.flow.blocker.dto.ExtensionResponse;
+import com.flow.blocker.dto.VersionedExtensionList;
 import com.flow.blocker.event.CacheEvictionEvent;
 import com.flow.blocker.exception.ExtensionException;
+import com.flow.blocker.policy.PolicyChangeRecorder;
 import com.flow.blocker.repository.CustomExtensionRepository;
 import com.flow.blocker.repository.FixedExtensionRepository;
+import com.flow.blocker.repository.PolicyVersionRepository;
+import com.flow.blocker.validation.PolicyDelta;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,22 +30,37 @@ public class ExtensionService {
     private final FixedExtensionRepository fixedExtensionRepository;
     private final CustomExtensionRepository customExtensionRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final PolicyChangeRecorder policyChangeRecorder;
+    private final PolicyVersionRepository policyVersionRepository;
 
-    private static final int MAX_CUSTOM_EXTENSIONS = 200;
     private static final List<String> FIXED_EXTENSION_LIST = List.of(
             "bat", "cmd", "com", "cpl", "exe", "scr", "js"
     );
 
     /**
      * 초기 데이터 세팅 - 고정 확장자 목록
+     * - 행을 새로 만들면 정책 버전을 올림 (웹 서버 시작 후 실행되므로, 시드 전에 만든 빈 목록 응답과 ETag가 겹치지 않게)
+     * - 새 행은 체크 해제 상태이므로 차단 해제 변경분으로 기록 (스냅샷의 차단 목록은 그대로)
      */
     @Transactional
     public void initializeFixedExtensions() {
+        policyChangeRecorder.initialize();
+        List<String> seeded = new ArrayList<>();
         for (String ext : FIXED_EXTENSION_LIST) {
             if (!fixedExtensionRepository.existsByExtension(ext)) {
                 fixedExtensionRepository.save(new FixedExtension(ext));
+                seeded.add(ext);
             }
         }
+        if (seeded.isEmpty()) {
+            return;
+        }
+
+        List<PolicyDelta> deltas = policyChangeRecorder.recordAll(
+                PolicyDelta.Scope.FIXED, PolicyDelta.Action.REMOVE, seeded);
+        eventPublisher.publishEvent(
+            new CacheEvictionEvent.ExtensionChangeEvent("고정 확장자 초기 데이터 생성: " + seeded, deltas)
+        );
     }
 
     /**
@@ -50,6 +72,19 @@ public class ExtensionService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 고정 확장자 전체 조회 (정책 버전 포함)
+     * - 버전과 목록을 같은 스냅샷에서 읽어 버전이 같으면 목록도 같음
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public VersionedExtensionList getVersionedFixedExtensions() {
+        long version = currentVersion();
+        List<ExtensionResponse> extensions = fixedExtensionRepository.findAllByOrderByIdAsc().stream()
+                .map(ExtensionResponse::from)
+                .toList();
+        return new VersionedExtensionList(version, extensions);
+    }
+
     /**
      * 고정 확장자 체크 상태 변경
      */
@@ -58,11 +93,17 @@ public class ExtensionService {
         FixedExtension fixedExtension = fixedExtensionRepository.findByExtension(extension)
                 .orElseThrow(() -> new ExtensionException("존재하지 않는 고정 확장자입니다."));
         
-        fixedExtension.updateChecked(checked);
+        List<PolicyDelta> deltas = List.of();
+        if (fixedExtension.isChecked() != checked) {
+            fixedExtension.updateChecked(checked);
+            // 정책 변경 기록 (같은 트랜잭션)
+            deltas = List.of(policyChangeRecorder.record(PolicyDelta.Scope.FIXED,
+                    checked ? PolicyDelta.Action.ADD : PolicyDelta.Action.REMOVE, fixedExtension.getExtension()));
+        }
         
         // 캐시 무효화 이벤트 발행
         eventPublisher.publishEvent(
-            new CacheEvictionEvent.ExtensionChangeEvent("고정 확장자 상태 변경: " + extension)
+            new CacheEvictionEvent.ExtensionChangeEvent("고정 확장자 상태 변경: " + extension, deltas)
         );
         
         return ExtensionResponse.from(fixedExtension);
@@ -77,50 +118,52 @@ public class ExtensionService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 커스텀 확장자 전체 조회 (정책 버전 포함)
+     * - 버전과 목록을 같은 스냅샷에서 읽어 버전이 같으면 목록도 같음
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public VersionedExtensionList getVersionedCustomExtensions() {
+        long version = currentVersion();
+        List<ExtensionResponse> extensions = customExtensionRepository.findAllByOrderByIdAsc().stream()
+                .map(ExtensionResponse::from)
+                .toList();
+        return new VersionedExtensionList(version, extensions);
+    }
+
     /**
      * 커스텀 확장자 추가
      */
     @Transactional
     public ExtensionResponse addCustomExtension(String extension) {
-        // 빈 문자열 체크
-        if (extension == null || extension.trim().isEmpty()) {
-            throw new ExtensionException("확장자를 입력해주세요.");
-        }
-
-        // . 제거 및 정규화
-        String normalized = extension.toLowerCase().trim().replaceAll("^\\.", "");
-
-        // 길이 체크
-        if (normalized.length() > 20) {
-            throw new ExtensionException("확장자는 최대 20자까지 입력 가능합니다.");
-        }
-
-        // 형식 체크 (영문자, 숫자만)
-        if (!normalized.matches("^[a-zA-Z0-9]+$")) {
-            throw new ExtensionException("확장자는 영문자와 숫자만 입력 가능합니다.");
+        String error = CustomExtensionRules.patternFormatError(extension);
+        if (error != null) {
+            throw new ExtensionException(error);
         }
+        String normalized = CustomExtensionRules.normalize(extension);
 
         // 최대 개수 체크
-        if (customExtensionRepository.countBy() >= MAX_CUSTOM_EXTENSIONS) {
-            throw new ExtensionException("커스텀 확장자는 최대 200개까지만 추가 가능합니다.");
+        if (customExtensionRepository.countBy() >= CustomExtensionRules.MAX_CUSTOM_EXTENSIONS) {
+            throw new ExtensionException(CustomExtensionRules.LIMIT_EXCEEDED_MESSAGE);
         }
 
         // 고정 확장자와 중복 체크
         if (fixedExtensionRepository.existsByExtension(normalized)) {
-            throw new ExtensionException("이미 고정 확장자에 존재합니다.");
+            throw new ExtensionException(CustomExtensionRules.FIXED_DUPLICATE_MESSAGE);
         }
 
         // 커스텀 확장자 중복 체크
         if (customExtensionRepository.existsByExtension(normalized)) {
-            throw new ExtensionException("이미 추가된 확장자입니다.");
+            throw new ExtensionException(CustomExtensionRules.CUSTOM_DUPLICATE_MESSAGE);
         }
 
         CustomExtension customExtension = new CustomExtension(normalized);
         CustomExtension saved = customExtensionRepository.save(customExtension);
+        PolicyDelta delta = policyChangeRecorder.record(PolicyDelta.Scope.CUSTOM, PolicyDelta.Action.ADD, normalized);
         
         // 캐시 무효화 이벤트 발행
         eventPublisher.publishEvent(
-            new CacheEvictionEvent.ExtensionChangeEvent("커스텀 확장자 추가: " + normalized)
+            new CacheEvictionEvent.ExtensionChangeEvent("커스텀 확장자 추가: " + normalized, List.of(delta))
         );
         
         return ExtensionResponse.from(saved);
@@ -136,10 +179,15 @@ public class ExtensionService {
         
         String extension = customExtension.getExtension();
         customExtensionRepository.delete(customExtension);
+        PolicyDelta delta = policyChangeRecorder.record(PolicyDelta.Scope.CUSTOM, PolicyDelta.Action.REMOVE, extension);
         
         // 캐시 무효화 이벤트 발행
         eventPublisher.publishEvent(
-            new CacheEvictionEvent.ExtensionChangeEvent("커스텀 확장자 삭제: " + extension)
+            new CacheEvictionEvent.ExtensionChangeEvent("커스텀 확장자 삭제: " + extension, List.of(delta))
         );
     }
+
+    private long currentVersion() {
+        return policyVersionRepository.findVersion(PolicyVersion.SINGLETON_ID).orElse(0L);
+    }
 }
@@ -0,0 +1,145 @@
+package com.flow.blocker.service;
+
+import com.flow.blocker.dto.FileUploadResponse;
+import com.flow.blocker.validation.ValidationResult;
+import com.flow.blocker.web.ClientIpResolver;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 다중 파일 병렬 검증 서비스
+ * - 전용 스레드 풀(전역 동시성 상한)에서 요청당 최대 N개 파일을 동시에 검증
+ * - 결과는 입력 순서 그대로 반환
+ * - 배치 제한 시간을 넘긴 파일은 시간 초과로 실패 처리
+ * - 워커는 파일마다 제한 시간을 확인하므로, 풀이 포화되어 요청 스레드에서 검증해도 제한 시간 이후의 파일은 검증하지 않음
+ */
+@Slf4j
+@Service
+public class FileBatchValidationService {
+
+    static final String TIMEOUT_MESSAGE = "검증 시간이 초과되었습니다.";
+
+    private final FileValidationService fileValidationService;
+    private final ThreadPoolExecutor executor;
+    private final int perRequestConcurrency;
+    private final Duration batchTimeout;
+
+    public FileBatchValidationService(
+            FileValidationService fileValidationService,
+            @Value("${upload.validation.global-concurrency:8}") int globalConcurrency,
+            @Value("${upload.validation.queue-capacity:256}") int queueCapacity,
+            @Value("${upload.validation.per-request-concurrency:4}") int perRequestConcurrency,
+            @Value("${upload.validation.batch-timeout:10s}") Duration batchTimeout) {
+        this.fileValidationService = fileValidationService;
+        this.perRequestConcurrency = Math.max(perRequestConcurrency, 1);
+        this.batchTimeout = batchTimeout;
+        this.executor = new ThreadPoolExecutor(
+                globalConcurrency, globalConcurrency,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("file-validation-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 파일 목록 병렬 검증
+     * - 워커는 공유 인덱스에서 다음 파일을 가져가 결과 배열의 같은 위치에 기록
+     */
+    public List<FileUploadResponse> validateAll(MultipartFile[] files) {
+        // 워커 스레드에는 요청 컨텍스트가 없으므로 클라이언트 IP를 미리 확인
+        String clientIp = ClientIpResolver.current();
+        long deadline = System.nanoTime() + batchTimeout.toNanos();
+        int count = files.length;
+        AtomicReferenceArray<FileUploadResponse> results = new AtomicReferenceArray<>(count);
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(count);
+
+        Runnable worker = () -> {
+            int index;
+            while (System.nanoTime() - deadline < 0 && (index = next.getAndIncrement()) < count) {
+                results.compareAndSet(index, null, validate(files[index], clientIp));
+                done.countDown();
+            }
+        };
+
+        List<Future<?>> futures = new ArrayList<>();
+        int workers = Math.min(count, perRequestConcurrency);
+        for (int i = 0; i < workers; i++) {
+            try {
+                futures.add(executor.submit(worker));
+            } catch (RejectedExecutionException e) {
+                log.warn("검증 스레드 풀 포화: 요청 스레드에서 검증 수행");
+                break;
+            }
+        }
+        if (futures.isEmpty()) {
+            worker.run();
+        }
+
+        awaitOrExpire(done, next, count, deadline);
+        futures.forEach(future -> future.cancel(true));
+
+        List<FileUploadResponse> responses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // 제한 시간 이후 기록된 결과는 무시하고 시간 초과로 확정
+            results.compareAndSet(i, null, timeout(files[i]));
+            responses.add(results.get(i));
+        }
+        return responses;
+    }
+
+    private void awaitOrExpire(CountDownLatch done, AtomicInteger next, int count, long deadline) {
+        try {
+            if (!done.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                log.warn("다중 파일 검증 시간 초과: timeout={}ms, 완료={}/{}",
+                        batchTimeout.toMillis(), count - done.getCount(), count);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 남은 파일은 더 이상 가져가지 않도록 인덱스 소진
+        next.set(count);
+    }
+
+    private FileUploadResponse validate(MultipartFile file, String clientIp) {
+        try {
+            ValidationResult result = fileValidationService.checkFile(file, clientIp);
+            if (!result.isAllowed()) {
+                return new FileUploadResponse(file.getOriginalFilename(), file.getSize(), file.getContentType(),
+                        false, ValidationMessages.of(result), result.reason(), result.messageKey());
+            }
+            return new FileUploadResponse(
+                    file.getOriginalFilename(), file.getSize(), file.getContentType(), true, "검증 통과");
+        } catch (Exception e) {
+            // 파일을 읽지 못하는 등 판정 외 오류
+            return new FileUploadResponse(
+                    file.getOriginalFilename(), file.getSize(), file.getContentType(), false, e.getMessage());
+        }
+    }
+
+    private FileUploadResponse timeout(MultipartFile file) {
+        return new FileUploadResponse(
+                file.getOriginalFilename(), file.getSize(), file.getContentType(), false, TIMEOUT_MESSAGE);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,251 +1,502 @@
 package com.flow.blocker.service;
 
+import com.flow.blocker.audit.UploadAuditQueue;
+import com.flow.blocker.audit.UploadVerdict;
 import com.flow.blocker.exception.ExtensionException;
-import com.flow.blocker.repository.CustomExtensionRepository;
-import com.flow.blocker.repository.FixedExtensionRepository;
+import com.flow.blocker.metrics.ValidationMetrics;
+import com.flow.blocker.multipart.SpooledMultipartFile;
+import com.flow.blocker.policy.ContentScannerHolder;
+import com.flow.blocker.policy.ExtensionPolicyHolder;
+import com.flow.blocker.policy.UploadRuleHolder;
+import com.flow.blocker.validation.ArchiveFinding;
+import com.flow.blocker.validation.ArchiveInspector;
+import com.flow.blocker.validation.ContentDigest;
+import com.flow.blocker.validation.ContentMatch;
+import com.flow.blocker.validation.ContentScanResult;
+import com.flow.blocker.validation.ContentScanner;
+import com.flow.blocker.validation.ContentVerdict;
+import com.flow.blocker.validation.DecisionRule;
+import com.flow.blocker.validation.DecisionTable;
+import com.flow.blocker.validation.ExtensionPolicy;
+import com.flow.blocker.validation.FileSignature;
+import com.flow.blocker.validation.FileValidator;
+import com.flow.blocker.validation.FilenameAnalysis;
+import com.flow.blocker.validation.MagicNumberDetector;
+import com.flow.blocker.validation.RejectionReason;
+import com.flow.blocker.validation.UploadDecision;
+import com.flow.blocker.validation.ValidationResult;
+import com.flow.blocker.web.ClientIpResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 /**
  * 파일 업로드 검증 서비스
  * - 차단된 확장자 검증
+ * - 업로드 정책 규칙 (확장자별 크기 제한, MIME Type 허용 목록, 경로별 차단): 판정 테이블 조회 한 번 + 조건 몇 개
  * - MIME Type 검증
  * - 파일 시그니처(Magic Number) 검증
  * - 이중 확장자 검증
+ * - 내용 검사: 업로드 본문을 청크 단위로 읽으며 관리 중인 패턴(스크립트, 매크로 표식 등)을 한 번에 찾음
+ *   (임시 파일로 저장된 업로드는 스트림 대신 파일 채널에서 스레드별 다이렉트 버퍼로 읽어 힙 복사 없이 검사)
  * - Null Byte Injection 방지
+ * - 트랜잭션 없음: 메모리 정책 스냅샷만 읽으므로 검증 중 DB 커넥션을 잡지 않음 (DB 접근은 정책 갱신 시에만)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class FileValidationService {
 
-	private final FixedExtensionRepository fixedExtensionRepository;
-	private final CustomExtensionRepository customExtensionRepository;
-
-    // MIME Type과 확장자 매핑
-    private static final Map<String, Set<String>> MIME_TYPE_MAPPING = new HashMap<>();
-    static {
-        MIME_TYPE_MAPPING.put("application/x-msdownload", Set.of("exe", "dll", "com"));
-        MIME_TYPE_MAPPING.put("application/x-msdos-program", Set.of("exe", "com", "bat"));
-        MIME_TYPE_MAPPING.put("application/x-executable", Set.of("exe"));
-        MIME_TYPE_MAPPING.put("application/x-sh", Set.of("sh"));
-        MIME_TYPE_MAPPING.put("application/x-batch", Set.of("bat", "cmd"));
-        MIME_TYPE_MAPPING.put("text/javascript", Set.of("js"));
-        MIME_TYPE_MAPPING.put("application/javascript", Set.of("js"));
-        MIME_TYPE_MAPPING.put("application/x-vbscript", Set.of("vbs"));
-        MIME_TYPE_MAPPING.put("application/java-archive", Set.of("jar"));
-        MIME_TYPE_MAPPING.put("application/pdf", Set.of("pdf"));
-        MIME_TYPE_MAPPING.put("image/jpeg", Set.of("jpg", "jpeg"));
-        MIME_TYPE_MAPPING.put("image/png", Set.of("png"));
-        MIME_TYPE_MAPPING.put("image/gif", Set.of("gif"));
-    }
-
-    // 위험한 확장자 목록 (하드코딩)
-	private static final Set<String> HIGH_RISK_EXTENSIONS = Set.of(
-			"exe", "com", "bat", "cmd", "scr", "vbs", "vbe", "js", "jse",
-			"ws", "wsf", "wsc", "wsh", "ps1", "ps1xml", "ps2", "ps2xml",
-			"psc1", "psc2", "msh", "msh1", "msh2", "mshxml", "msh1xml",
-			"msh2xml", "scf", "lnk", "inf", "reg", "dll", "app", "jar",
-			"jsp", "jspx", "asp", "aspx", "php", "php3", "php4", "php5"
-	);
-
-    /**
-     * 파일 업로드 검증
+    private final ExtensionPolicyHolder policyHolder;
+    private final UploadRuleHolder uploadRuleHolder;
+    private final ValidationMetrics validationMetrics;
+    private final UploadAuditQueue uploadAuditQueue;
+    private final ContentVerdictCache contentVerdictCache;
+    private final ArchiveInspector archiveInspector;
+    private final ContentScannerHolder contentScannerHolder;
+
+    /** 임시 파일 내용 검사용 다이렉트 버퍼 (스레드별로 재사용, 크기는 청크 크기) */
+    private final ThreadLocal<ByteBuffer> scanBuffers =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(contentScannerHolder.limits().chunkSize()));
+
+    private static final ValidationResult EMPTY_FILE =
+            new ValidationResult(RejectionReason.INVALID_FILENAME, ValidationMessages.EMPTY_FILE_KEY, null);
+
+    /**
+     * 파일 업로드 검증 (예외 기반 호출자용)
      * @param file 업로드된 파일
      * @return 검증 통과 여부
+     * @throws ExtensionException 차단된 경우 (사용자 메시지 포함)
      */
-    @Transactional
     public boolean validateFile(MultipartFile file) {
+        return orThrow(checkFile(file, ClientIpResolver.current()));
+    }
+
+    /**
+     * 파일 업로드 검증 (요청 스레드 밖에서 검증할 때 클라이언트 IP를 직접 전달)
+     * @throws ExtensionException 차단된 경우 (사용자 메시지 포함)
+     */
+    public boolean validateFile(MultipartFile file, String clientIp) {
+        return orThrow(checkFile(file, clientIp));
+    }
+
+    /**
+     * 파일 업로드 판정 (거부도 예외 없이 결과로 반환)
+     * - 예외는 파일을 읽지 못하는 등 실제 오류에만 사용
+     */
+    public ValidationResult checkFile(MultipartFile file) {
+        return checkFile(file, ClientIpResolver.current());
+    }
+
+    /**
+     * 파일 업로드 판정 (요청 스레드 밖에서 검증할 때 클라이언트 IP를 직접 전달)
+     * @param file 업로드된 파일
+     * @param clientIp 감사 기록에 남길 클라이언트 IP
+     */
+    public ValidationResult checkFile(MultipartFile file, String clientIp) {
+        long start = System.nanoTime();
+        boolean allowed = false;
+        try {
+            ValidationResult result = inspectFile(file, clientIp, start);
+            allowed = result.isAllowed();
+            return result;
+        } finally {
+            validationMetrics.recordValidation(allowed, System.nanoTime() - start);
+        }
+    }
+
+    private ValidationResult inspectFile(MultipartFile file, String clientIp, long start) {
+        // 판정 전체에 같은 스냅샷 사용 (감사 기록의 정책 버전도 이 스냅샷 기준, 도중에 교체되어도 섞이지 않음)
+        ExtensionPolicy policy = policyHolder.current();
+
         if (file == null || file.isEmpty()) {
-            throw new ExtensionException("파일이 비어있습니다.");
+            return reject(EMPTY_FILE, null, file, null, null, clientIp, policy.version());
         }
 
-        String filename = sanitizeFilename(file.getOriginalFilename());
-        if (filename == null || filename.trim().isEmpty()) {
-            throw new ExtensionException("파일명이 유효하지 않습니다.");
+        String originalFilename = file.getOriginalFilename();
+        if (originalFilename == null) {
+            return reject(ValidationResult.rejected(RejectionReason.INVALID_FILENAME), null, file, null, null,
+                    clientIp, policy.version());
+        }
+
+        // 정제, Null Byte, 확장자, 이중 확장자를 한 번에 분석
+        FilenameAnalysis analysis = FileValidator.analyze(originalFilename);
+        long analyzed = System.nanoTime();
+        validationMetrics.recordStage(ValidationMetrics.Stage.ANALYZE, analyzed - start);
+
+        if (analysis.isEmpty()) {
+            return reject(ValidationResult.rejected(RejectionReason.INVALID_FILENAME), null, file,
+                    originalFilename, null, clientIp, policy.version());
         }
 
+        String filename = analysis.filename();
+        String extension = analysis.extension();
+        DecisionTable rules = uploadRuleHolder.current();
+        UploadDecision decision = rules.lookup(extension, DecisionRule.Mode.UPLOAD);
+
         // Null Byte Injection 방지
-        if (filename.contains("\0") || filename.contains("%00")) {
+        if (analysis.hasNullByte()) {
             log.warn("파일 차단: filename={}, reason=NULL_BYTE_INJECTION", filename);
-            throw new ExtensionException("유효하지 않은 파일명입니다.");
+            return reject(ValidationResult.rejected(RejectionReason.NULL_BYTE_INJECTION), metricExtension(analysis),
+                    file, filename, extension, clientIp, policy.version());
         }
 
-        // 파일 확장자 추출
-        String extension = extractExtension(filename);
-        
-        // 파일 크기 검증 (100MB 제한)
-        if (file.getSize() > 100 * 1024 * 1024) {
+        // 파일 크기 검증 (확장자별 제한, 기본 100MB)
+        if (!decision.isSizeAllowed(file.getSize())) {
             log.warn("파일 차단: filename={}, extension={}, reason=SIZE_EXCEEDED", filename, extension);
-            throw new ExtensionException("파일 크기는 100MB를 초과할 수 없습니다.");
+            return reject(ValidationResult.rejected(RejectionReason.SIZE_EXCEEDED, formatSize(decision.maxSizeBytes())),
+                    metricExtension(analysis), file, filename, extension, clientIp, policy.version());
         }
-        
+
         // 이중 확장자 검증 (ex: file.jpg.exe) - 먼저 체크
-        if (hasDoubleExtension(filename)) {
+        if (analysis.hasDoubleExtension()) {
+            logDoubleExtension(analysis);
             log.warn("파일 차단: filename={}, extension={}, reason=DOUBLE_EXTENSION", filename, extension);
-            throw new ExtensionException("이중 확장자는 허용되지 않습니다.");
+            return reject(ValidationResult.rejected(RejectionReason.DOUBLE_EXTENSION), metricExtension(analysis),
+                    file, filename, extension, clientIp, policy.version());
         }
 
-        // 차단된 확장자 목록 조회 (캐시 서비스 사용)
-        Set<String> blockedExtensions = getBlockedExtensions();
-        
-        // 확장자 검증
-        if (blockedExtensions.contains(extension.toLowerCase())) {
+        // 확장자 검증 (메모리 스냅샷 조회)
+        boolean blocked = policy.isBlocked(analysis) || decision.blocked();
+        long lookedUp = System.nanoTime();
+        validationMetrics.recordStage(ValidationMetrics.Stage.LOOKUP, lookedUp - analyzed);
+        if (blocked) {
             log.warn("파일 차단: filename={}, extension={}, reason=EXTENSION_BLOCKED", filename, extension);
-            throw new ExtensionException(String.format("차단된 확장자입니다: .%s", extension));
+            return reject(ValidationResult.rejected(RejectionReason.EXTENSION_BLOCKED, extension),
+                    blockedMetricExtension(analysis, policy), file, filename, extension, clientIp, policy.version());
         }
 
         // 고위험 확장자 추가 검증
-        if (HIGH_RISK_EXTENSIONS.contains(extension.toLowerCase())) {
+        if (analysis.extensionIn(FileValidator.HIGH_RISK_TABLE)) {
             log.warn("보안 경고: filename={}, extension={}, reason=HIGH_RISK_EXTENSION", filename, extension);
         }
 
-        // MIME Type 검증
-        if (!validateMimeType(file, extension)) {
-            log.warn("파일 차단: filename={}, extension={}, reason=MIME_TYPE_MISMATCH", filename, extension);
-            throw new ExtensionException("파일 형식이 일치하지 않습니다.");
+        // 압축 파일 항목 검사가 분석 버퍼를 재사용하므로 태그를 미리 계산
+        String metricExtension = metricExtension(analysis);
+
+        try {
+            // MIME Type 검증
+            if (!decision.isMimeTypeAllowed(file.getContentType())) {
+                log.warn("파일 차단: filename={}, extension={}, reason=MIME_TYPE_MISMATCH", filename, extension);
+                return reject(ValidationResult.rejected(RejectionReason.MIME_TYPE_MISMATCH), metricExtension,
+                        file, filename, extension, clientIp, policy.version());
+            }
+
+            ContentVerdict content = inspectContent(file, policy, rules);
+
+            // 파일 시그니처(Magic Number) 검증 - 실행 파일을 다른 확장자로 위장한 경우 차단
+            FileSignature signature = content.signature();
+            if (FileValidator.isDisguisedExecutable(signature, extension)) {
+                log.warn("파일 차단: filename={}, extension={}, signature={}, reason=MIME_TYPE_MISMATCH",
+                        filename, extension, signature);
+                return reject(ValidationResult.rejected(RejectionReason.MIME_TYPE_MISMATCH), metricExtension,
+                        file, filename, extension, clientIp, policy.version());
+            }
+
+            // 압축 파일 항목 검사
+            ArchiveFinding archive = content.archive();
+            if (archive != null) {
+                log.warn("파일 차단: filename={}, extension={}, entry={}, detail={}, reason={}",
+                        filename, extension, archive.entryName(), archive.detail(), archive.reason());
+                String entryName = archive.reason() == RejectionReason.ARCHIVE_ENTRY_BLOCKED ? archive.entryName() : null;
+                return reject(ValidationResult.rejected(archive.reason(), entryName), metricExtension,
+                        file, filename, extension, clientIp, policy.version());
+            }
+
+            // 내용 검사 (허용된 형식 안에 숨긴 스크립트 등)
+            ContentMatch match = content.contentMatch();
+            if (match != null) {
+                log.warn("파일 차단: filename={}, extension={}, pattern={}, offset={}, reason=CONTENT_PATTERN_DETECTED",
+                        filename, extension, match.pattern(), match.offset());
+                return reject(ValidationResult.rejected(RejectionReason.CONTENT_PATTERN_DETECTED), metricExtension,
+                        file, filename, extension, clientIp, policy.version());
+            }
+        } finally {
+            validationMetrics.recordStage(ValidationMetrics.Stage.CONTENT, System.nanoTime() - lookedUp);
         }
 
         log.info("파일 검증 통과: {}", filename);
-        return true;
+        audit(filename, extension, null, file.getSize(), clientIp, policy.version());
+        return ValidationResult.ALLOWED;
     }
 
     /**
-     * 파일명만으로 검증 (빠른 검증용)
+     * 업로드 파트 헤더 단계의 파일명 판정 (본문을 받기 전)
+     * - 차단 시 파일 크기를 알 수 없으므로 -1로 감사 기록
+     * @param filename 파일명
+     * @param clientIp 감사 기록에 남길 클라이언트 IP
+     */
+    public ValidationResult checkUploadFilename(String filename, String clientIp) {
+        ExtensionPolicy policy = policyHolder.current();
+        ValidationResult result = inspectFilename(filename, policy, DecisionRule.Mode.UPLOAD);
+        if (!result.isAllowed()) {
+            // 분석 결과는 스레드별로 재사용되므로 거부 경로에서만 확장자를 다시 추출
+            String extension = null;
+            if (StringUtils.hasText(filename)) {
+                FilenameAnalysis analysis = FileValidator.analyze(filename);
+                extension = analysis.hasExtension() ? analysis.extension() : null;
+            }
+            audit(filename, extension, result.reason(), -1, clientIp, policy.version());
+        }
+        return result;
+    }
+
+    /**
+     * 파일명만으로 검증 (빠른 검증용, 예외 기반 호출자용)
      * @param filename 파일명
      * @return 검증 통과 여부
+     * @throws ExtensionException 차단된 경우 (사용자 메시지 포함)
      */
     public boolean validateFilename(String filename) {
+        return orThrow(checkFilename(filename));
+    }
+
+    /**
+     * 파일명만으로 판정 (빠른 검증용, 거부도 예외 없이 결과로 반환)
+     * - 업로드 정책 규칙은 파일명 검증(VALIDATE) 경로 규칙을 적용
+     */
+    public ValidationResult checkFilename(String filename) {
+        return inspectFilename(filename, policyHolder.current(), DecisionRule.Mode.VALIDATE);
+    }
+
+    private ValidationResult inspectFilename(String filename, ExtensionPolicy policy, DecisionRule.Mode mode) {
         if (!StringUtils.hasText(filename)) {
-            throw new ExtensionException("파일명이 유효하지 않습니다.");
+            validationMetrics.rejected(RejectionReason.INVALID_FILENAME, null);
+            return ValidationResult.rejected(RejectionReason.INVALID_FILENAME);
         }
 
-        filename = sanitizeFilename(filename);
+        FilenameAnalysis analysis = FileValidator.analyze(filename);
 
         // Null Byte Injection 방지
-        if (filename.contains("\0") || filename.contains("%00")) {
-            throw new ExtensionException("유효하지 않은 파일명입니다.");
+        if (analysis.hasNullByte()) {
+            validationMetrics.rejected(RejectionReason.NULL_BYTE_INJECTION, metricExtension(analysis));
+            return ValidationResult.rejected(RejectionReason.NULL_BYTE_INJECTION);
         }
 
-        String extension = extractExtension(filename);
-        
         // 이중 확장자 검증
-        if (hasDoubleExtension(filename)) {
-            throw new ExtensionException("이중 확장자는 허용되지 않습니다.");
+        if (analysis.hasDoubleExtension()) {
+            logDoubleExtension(analysis);
+            validationMetrics.rejected(RejectionReason.DOUBLE_EXTENSION, metricExtension(analysis));
+            return ValidationResult.rejected(RejectionReason.DOUBLE_EXTENSION);
         }
 
-        Set<String> blockedExtensions = getBlockedExtensions();
-        
-        if (blockedExtensions.contains(extension.toLowerCase())) {
-            throw new ExtensionException(String.format("차단된 확장자입니다: .%s", extension));
+        DecisionTable rules = uploadRuleHolder.current();
+        if (policy.isBlocked(analysis) || analysis.decisionIn(rules, mode).blocked()) {
+            validationMetrics.rejected(RejectionReason.EXTENSION_BLOCKED, blockedMetricExtension(analysis, policy));
+            return ValidationResult.rejected(RejectionReason.EXTENSION_BLOCKED, analysis.extension());
         }
 
-        if (HIGH_RISK_EXTENSIONS.contains(extension.toLowerCase())) {
-            log.warn("보안상 위험한 확장자입니다: .{}", extension);
+        if (analysis.extensionIn(FileValidator.HIGH_RISK_TABLE)) {
+            log.warn("보안상 위험한 확장자입니다: .{}", analysis.extension());
         }
 
+        return ValidationResult.ALLOWED;
+    }
+
+    /**
+     * 차단 메트릭/감사 기록 후 판정 결과 반환
+     * @param policyVersion 판정에 사용한 정책 스냅샷의 버전
+     */
+    private ValidationResult reject(ValidationResult result, String metricExtension, MultipartFile file,
+                                    String filename, String extension, String clientIp, long policyVersion) {
+        validationMetrics.rejected(result.reason(), metricExtension);
+        audit(filename, extension, result.reason(), file != null ? file.getSize() : 0, clientIp, policyVersion);
+        return result;
+    }
+
+    /**
+     * 거부 판정을 사용자 메시지를 담은 예외로 변환 (예외 기반 호출자 호환)
+     */
+    private static boolean orThrow(ValidationResult result) {
+        if (!result.isAllowed()) {
+            throw new ExtensionException(ValidationMessages.of(result));
+        }
         return true;
     }
 
+    private void audit(String filename, String extension, RejectionReason reason, long size,
+                       String clientIp, long policyVersion) {
+        uploadAuditQueue.offer(new UploadVerdict(
+                filename, extension, reason, size, clientIp, policyVersion, Instant.now()));
+    }
+
     /**
-     * 파일명 정제 (XSS 방지)
+     * 메트릭 태그용 확장자
+     * - 고위험 확장자만 그대로 사용하고 나머지는 other로 묶음 (태그 카디널리티 제한)
      */
-    private String sanitizeFilename(String filename) {
-        if (filename == null) {
-            return null;
+    private static String metricExtension(FilenameAnalysis analysis) {
+        return analysis.hasExtension() && analysis.extensionIn(FileValidator.HIGH_RISK_TABLE) ? analysis.extension() : null;
+    }
+
+    /**
+     * 차단 목록 조회 단계 거부의 메트릭 태그
+     * - 정확한 차단 항목이면 확장자, 패턴에 걸렸으면 패턴 문자열을 사용
+     * - 정책 밖의 규칙(* 등)으로 차단되면 고위험 확장자 외에는 other (요청 값이 태그로 쌓이지 않음)
+     */
+    private static String blockedMetricExtension(FilenameAnalysis analysis, ExtensionPolicy policy) {
+        String entry = analysis.hasExtension() ? policy.matchedEntry(analysis.extension()) : null;
+        return entry != null ? entry : metricExtension(analysis);
+    }
+
+    /**
+     * 크기 제한 문구용 표기 (MB, KB 단위로 나누어떨어지면 단위 표기)
+     */
+    private static String formatSize(long bytes) {
+        if (bytes >= 1024 * 1024 && bytes % (1024 * 1024) == 0) {
+            return bytes / (1024 * 1024) + "MB";
+        }
+        if (bytes >= 1024 && bytes % 1024 == 0) {
+            return bytes / 1024 + "KB";
+        }
+        return bytes + "B";
+    }
+
+    private void logDoubleExtension(FilenameAnalysis analysis) {
+        String riskySegment = analysis.riskySegment();
+        if (riskySegment != null) {
+            log.warn("이중 확장자 감지: {} in {}", riskySegment, analysis.filename());
         }
-        // HTML 특수문자 제거
-        return filename.replaceAll("[<>\"'&]", "")
-                      .replaceAll("[\r\n]", "")
-                      .trim();
     }
 
     /**
-     * MIME Type 검증
+     * 내용 검사 (같은 내용, 같은 정책/판정 테이블/패턴 버전이면 캐시된 결과 재사용)
+     * - 스트리밍 파서가 저장하면서 계산한 다이제스트가 있으면 파일을 읽기 전에 캐시 조회
+     * - 다이제스트가 없는 파일은 캐시를 거치지 않음 (다이제스트 계산에 전체를 읽어야 하므로)
      */
-    private boolean validateMimeType(MultipartFile file, String extension) {
-        String contentType = file.getContentType();
-        if (contentType == null) {
-            // MIME Type이 없는 경우, 일부 확장자는 허용
-            return !HIGH_RISK_EXTENSIONS.contains(extension.toLowerCase());
+    private ContentVerdict inspectContent(MultipartFile file, ExtensionPolicy policy, DecisionTable rules) {
+        ContentScanner scanner = contentScannerHolder.current();
+        ContentDigest digest = file instanceof SpooledMultipartFile spooled ? spooled.getContentDigest() : null;
+        if (digest == null) {
+            return computeContentVerdict(file, policy, rules, scanner);
         }
 
-        // MIME Type과 확장자 매칭 검증
-        Set<String> allowedExtensions = MIME_TYPE_MAPPING.get(contentType.toLowerCase());
-        if (allowedExtensions != null) {
-            return allowedExtensions.contains(extension.toLowerCase());
+        ContentVerdict cached = contentVerdictCache.get(digest, policy.version(), rules.version(), scanner.version());
+        if (cached != null) {
+            return cached;
         }
+        ContentVerdict verdict = computeContentVerdict(file, policy, rules, scanner);
+        contentVerdictCache.put(digest, policy.version(), rules.version(), scanner.version(), verdict);
+        return verdict;
+    }
 
-        // 알려지지 않은 MIME Type은 위험한 확장자가 아닌 경우만 허용
-        return !HIGH_RISK_EXTENSIONS.contains(extension.toLowerCase());
+    private ContentVerdict computeContentVerdict(MultipartFile file, ExtensionPolicy policy, DecisionTable rules,
+                                                 ContentScanner scanner) {
+        if (file instanceof SpooledMultipartFile spooled && spooled.isFileBacked()) {
+            return computeFileBackedVerdict(spooled, policy, rules, scanner);
+        }
+        FileSignature signature = detectSignature(file);
+        ArchiveFinding archive = signature == FileSignature.ZIP ? inspectArchive(file, policy, rules) : null;
+        ContentMatch match = archive == null ? scanContent(file, scanner) : null;
+        return new ContentVerdict(signature, archive, match);
     }
 
     /**
-     * 차단된 확장자 목록 조회 (캐싱 적용)
+     * 본문 다중 패턴 검사 (고정 크기 청크로 읽으며 파일당 바이트 한도까지)
+     * - 한도를 넘는 부분은 검사하지 않고 통과 (메트릭으로 집계)
      */
-    @Cacheable(value = "blockedExtensions", unless = "#result.isEmpty()")
-    public Set<String> getBlockedExtensions() {
-		Set<String> blocked = new HashSet<>();
+    private ContentMatch scanContent(MultipartFile file, ContentScanner scanner) {
+        if (scanner.isEmpty()) {
+            return null;
+        }
+        long start = System.nanoTime();
+        try (InputStream in = file.getInputStream()) {
+            return completeScan(file, scanner.scan(in, contentScannerHolder.limits()), start);
+        } catch (IOException e) {
+            log.error("내용 검사 실패: {}", file.getOriginalFilename(), e);
+            throw new ExtensionException("파일을 읽을 수 없습니다.");
+        }
+    }
 
-		// 체크된 고정 확장자
-		blocked.addAll(
-				fixedExtensionRepository.findByCheckedTrue()
-						.stream()
-						.map(ext -> ext.getExtension().toLowerCase())
-						.collect(Collectors.toSet())
-		);
+    /**
+     * 임시 파일로 저장된 업로드 검사 (파일 채널 하나로 시그니처와 내용 검사)
+     * - 스트림 래퍼 없이 스레드별 다이렉트 버퍼로 읽어 힙 배열로 복사하지 않음
+     * - 메모리 매핑 대신 채널 읽기를 쓰고 채널은 검사가 끝나면 바로 닫음 (매핑 해제를 GC에 맡기지 않아 임시 파일 정리와 무관)
+     */
+    private ContentVerdict computeFileBackedVerdict(SpooledMultipartFile file, ExtensionPolicy policy,
+                                                    DecisionTable rules, ContentScanner scanner) {
+        try (FileChannel channel = FileChannel.open(file.getFile(), StandardOpenOption.READ)) {
+            FileSignature signature = MagicNumberDetector.defaults().detect(readPrefix(channel));
+            ArchiveFinding archive = signature == FileSignature.ZIP ? inspectArchive(file, policy, rules) : null;
+            if (archive != null || scanner.isEmpty()) {
+                return new ContentVerdict(signature, archive, null);
+            }
+            long start = System.nanoTime();
+            ContentScanResult result = scanner.scan(channel.position(0), scanBuffers.get(), contentScannerHolder.limits());
+            ContentMatch match = completeScan(file, result, start);
+            return new ContentVerdict(signature, null, match);
+        } catch (IOException e) {
+            log.error("파일 검사 실패: {}", file.getOriginalFilename(), e);
+            throw new ExtensionException("파일을 읽을 수 없습니다.");
+        }
+    }
 
-		// 모든 커스텀 확장자
-		blocked.addAll(
-				customExtensionRepository.findAll()
-						.stream()
-						.map(ext -> ext.getExtension().toLowerCase())
-						.collect(Collectors.toSet())
-		);
+    private static ByteBuffer readPrefix(FileChannel channel) throws IOException {
+        ByteBuffer prefix = ByteBuffer.allocate(MagicNumberDetector.defaults().prefixLength());
+        // 위치 지정 읽기라 채널 위치는 그대로 (내용 검사는 처음부터)
+        int read;
+        do {
+            read = channel.read(prefix, prefix.position());
+        } while (read > 0 && prefix.hasRemaining());
+        return prefix.flip();
+    }
 
-		log.debug("차단된 확장자 목록 로드: {} 개", blocked.size());
-		return blocked;
+    private ContentMatch completeScan(MultipartFile file, ContentScanResult result, long start) {
+        validationMetrics.recordScan(result.scannedBytes(), System.nanoTime() - start, result.truncated());
+        if (result.truncated()) {
+            log.debug("내용 검사 한도 초과, 앞부분만 검사: filename={}, scanned={}",
+                    file.getOriginalFilename(), result.scannedBytes());
+        }
+        return result.match();
     }
 
     /**
-     * 파일 확장자 추출
+     * ZIP 계열 압축 파일의 항목 검사
+     * - 임시 파일로 저장된 업로드는 중앙 디렉터리로, 그 외에는 스트림으로 검사
+     * - 항목 파일명은 업로드 자체와 같은 차단 목록과 판정 테이블(업로드 경로 규칙)로 판정
      */
-    private String extractExtension(String filename) {
-        int lastDotIndex = filename.lastIndexOf('.');
-        if (lastDotIndex == -1 || lastDotIndex == filename.length() - 1) {
-            return "";
+    private ArchiveFinding inspectArchive(MultipartFile file, ExtensionPolicy policy, DecisionTable rules) {
+        Function<String, RejectionReason> entryCheck =
+                name -> FileValidator.checkFilename(name, policy, rules, DecisionRule.Mode.UPLOAD);
+        try {
+            if (file instanceof SpooledMultipartFile spooled && spooled.isFileBacked()) {
+                return archiveInspector.inspect(spooled.getFile(), entryCheck);
+            }
+            try (InputStream in = file.getInputStream()) {
+                return archiveInspector.inspect(in, entryCheck);
+            }
+        } catch (IOException e) {
+            log.error("압축 파일 검사 실패: {}", file.getOriginalFilename(), e);
+            throw new ExtensionException("파일을 읽을 수 없습니다.");
         }
-        return filename.substring(lastDotIndex + 1).toLowerCase().trim();
     }
 
     /**
-     * 이중 확장자 검증
+     * 파일 시그니처 탐지 (선두 바이트만 읽음)
      */
-    private boolean hasDoubleExtension(String filename) {
-        // 파일명에서 마지막 점 이전에 또 다른 확장자가 있는지 검사
-        String[] parts = filename.split("\\.");
-        if (parts.length < 3) {
-            return false;
+    private FileSignature detectSignature(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            return MagicNumberDetector.defaults().detect(in);
+        } catch (IOException e) {
+            log.error("파일 시그니처 확인 실패: {}", file.getOriginalFilename(), e);
+            throw new ExtensionException("파일을 읽을 수 없습니다.");
         }
+    }
 
-        // 모든 부분에서 위험한 확장자 검사 (마지막 제외)
-        for (int i = 1; i < parts.length; i++) {
-            if (HIGH_RISK_EXTENSIONS.contains(parts[i].toLowerCase())) {
-                log.warn("이중 확장자 감지: {} in {}", parts[i], filename);
-                return true;
-            }
-        }
-        
-        // 연속된 점 검사 (file..exe 형태 방지)
-        return filename.contains("..");
+    /**
+     * 차단된 확장자 목록 조회 (현재 정책 스냅샷)
+     */
+    public Set<String> getBlockedExtensions() {
+        return policyHolder.current().blockedExtensions();
     }
 }
@@ -0,0 +1,111 @@
+package com.flow.blocker.service;
+
+import com.flow.blocker.domain.UploadRule;
+import com.flow.blocker.dto.UploadRuleRequest;
+import com.flow.blocker.dto.UploadRuleResponse;
+import com.flow.blocker.event.CacheEvictionEvent;
+import com.flow.blocker.exception.ExtensionException;
+import com.flow.blocker.repository.UploadRuleRepository;
+import com.flow.blocker.validation.DecisionRule;
+import com.flow.blocker.validation.FileValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 정책 규칙 관리 서비스
+ * - 규칙 변경은 커밋 후 이벤트로 판정 테이블을 다시 컴파일
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class UploadRuleService {
+
+    static final String INVALID_MIME_TYPE_MESSAGE = "MIME Type 형식이 올바르지 않습니다: ";
+    static final String MIME_TYPES_TOO_LONG_MESSAGE =
+            "MIME Type 목록은 최대 " + UploadRule.MIME_TYPES_MAX_LENGTH + "자까지 입력 가능합니다.";
+
+    private static final Pattern MIME_TYPE_PATTERN = Pattern.compile("^[a-z0-9][a-z0-9.+-]*/[a-z0-9][a-z0-9.+-]*$");
+
+    private final UploadRuleRepository uploadRuleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 규칙 전체 조회 (등록 순)
+     */
+    @Transactional(readOnly = true)
+    public List<UploadRuleResponse> getAllRules() {
+        return uploadRuleRepository.findAllByOrderByIdAsc().stream()
+                .map(UploadRuleResponse::from)
+                .toList();
+    }
+
+    /**
+     * 규칙 추가
+     * - 확장자는 영문자/숫자 또는 전체 확장자(*)
+     * - MIME Type 목록은 저장 컬럼 길이 안이어야 함
+     */
+    public UploadRuleResponse addRule(UploadRuleRequest request) {
+        String extension = request.getExtension() == null ? null : request.getExtension().trim();
+        if (!DecisionRule.ANY_EXTENSION.equals(extension)) {
+            String error = CustomExtensionRules.formatError(extension);
+            if (error != null) {
+                throw new ExtensionException(error);
+            }
+            extension = CustomExtensionRules.normalize(extension);
+        }
+
+        if (request.getMimeTypes() == null) {
+            throw new ExtensionException("MIME Type 목록을 입력해주세요.");
+        }
+        Set<String> mimeTypes = new LinkedHashSet<>();
+        for (String mimeType : request.getMimeTypes()) {
+            String normalized = mimeType == null ? "" : mimeType.trim().toLowerCase(Locale.ROOT);
+            if (!MIME_TYPE_PATTERN.matcher(normalized).matches()) {
+                throw new ExtensionException(INVALID_MIME_TYPE_MESSAGE + mimeType);
+            }
+            mimeTypes.add(normalized);
+        }
+        if (UploadRule.mimeTypesLength(mimeTypes) > UploadRule.MIME_TYPES_MAX_LENGTH) {
+            throw new ExtensionException(MIME_TYPES_TOO_LONG_MESSAGE);
+        }
+
+        UploadRule saved = uploadRuleRepository.save(new UploadRule(extension, request.getMode(), request.isBlocked(),
+                request.getMaxSizeBytes(), mimeTypes, request.isStrictMime()));
+
+        // 판정 테이블 재컴파일 이벤트 발행
+        eventPublisher.publishEvent(new CacheEvictionEvent.UploadRuleChangeEvent("업로드 규칙 추가: " + extension));
+        return UploadRuleResponse.from(saved);
+    }
+
+    /**
+     * 규칙 삭제
+     */
+    public void deleteRule(Long id) {
+        UploadRule rule = uploadRuleRepository.findById(id)
+                .orElseThrow(() -> new ExtensionException("존재하지 않는 규칙입니다."));
+        uploadRuleRepository.delete(rule);
+
+        // 판정 테이블 재컴파일 이벤트 발행
+        eventPublisher.publishEvent(
+                new CacheEvictionEvent.UploadRuleChangeEvent("업로드 규칙 삭제: " + rule.getExtension()));
+    }
+
+    /**
+     * 기본 규칙 저장 (규칙이 하나도 없을 때만)
+     */
+    public void initializeDefaultRules() {
+        if (uploadRuleRepository.count() > 0) {
+            return;
+        }
+        uploadRuleRepository.saveAll(FileValidator.DEFAULT_RULES.stream().map(UploadRule::from).toList());
+        eventPublisher.publishEvent(new CacheEvictionEvent.UploadRuleChangeEvent("업로드 기본 규칙 초기화"));
+    }
+}
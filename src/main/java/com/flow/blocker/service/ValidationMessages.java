@@ -0,0 +1,52 @@
+package com.flow.blocker.service;
+
+import com.flow.blocker.validation.ValidationResult;
+
+import java.util.Map;
+
+import static java.util.Map.entry;
+
+/**
+ * 검증 결과 메시지 키 -> 사용자 문구
+ * - 거부 판정을 응답할 때만 문구를 만듦 (판정 경로에서는 키만 전달)
+ * - 상세값이 있으면 문구의 %s 자리에 넣고, 없으면 상세값 없는 문구 사용
+ */
+public final class ValidationMessages {
+
+    /** 빈 파일 (사유는 INVALID_FILENAME, 문구만 다름) */
+    public static final String EMPTY_FILE_KEY = "rejection.empty-file";
+
+    private static final String DEFAULT_MESSAGE = "파일 검증에 실패했습니다.";
+
+    private static final Map<String, String> MESSAGES = Map.ofEntries(
+            entry(EMPTY_FILE_KEY, "파일이 비어있습니다."),
+            entry("rejection.invalid-filename", "파일명이 유효하지 않습니다."),
+            entry("rejection.null-byte-injection", "유효하지 않은 파일명입니다."),
+            entry("rejection.size-exceeded", "파일 크기는 %s를 초과할 수 없습니다."),
+            entry("rejection.double-extension", "이중 확장자는 허용되지 않습니다."),
+            entry("rejection.extension-blocked", "차단된 확장자입니다: .%s"),
+            entry("rejection.mime-type-mismatch", "파일 형식이 일치하지 않습니다."),
+            entry("rejection.archive-entry-blocked", "압축 파일에 허용되지 않는 파일이 포함되어 있습니다: %s"),
+            entry("rejection.archive-limit-exceeded", "압축 파일 검사 한도를 초과했습니다."),
+            entry("rejection.archive-invalid", "압축 파일을 읽을 수 없습니다."),
+            entry("rejection.content-pattern-detected", "파일에 허용되지 않는 내용이 포함되어 있습니다.")
+    );
+
+    // 상세값 자리(%s)가 있는 문구의 상세값 없는 문구
+    private static final Map<String, String> MESSAGES_WITHOUT_DETAIL = Map.of(
+            "rejection.size-exceeded", "허용된 파일 크기를 초과했습니다.",
+            "rejection.extension-blocked", "차단된 확장자입니다.",
+            "rejection.archive-entry-blocked", "압축 파일에 허용되지 않는 파일이 포함되어 있습니다."
+    );
+
+    private ValidationMessages() {
+    }
+
+    public static String of(ValidationResult result) {
+        if (result.detail() == null) {
+            String message = MESSAGES_WITHOUT_DETAIL.get(result.messageKey());
+            return message != null ? message : MESSAGES.getOrDefault(result.messageKey(), DEFAULT_MESSAGE);
+        }
+        return String.format(MESSAGES.getOrDefault(result.messageKey(), DEFAULT_MESSAGE), result.detail());
+    }
+}
@@ -0,0 +1,58 @@
+package com.flow.blocker.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 클라이언트 IP 조회
+ * - 프록시 헤더를 순서대로 확인하고 없으면 remoteAddr 사용
+ * - 여러 IP가 있는 경우 첫 번째 IP 사용
+ */
+public final class ClientIpResolver {
+
+    public static final String UNKNOWN = "unknown";
+
+    private static final String[] HEADERS = {
+            "X-Forwarded-For",
+            "Proxy-Client-IP",
+            "WL-Proxy-Client-IP",
+            "HTTP_CLIENT_IP",
+            "HTTP_X_FORWARDED_FOR"
+    };
+
+    private ClientIpResolver() {
+    }
+
+    public static String resolve(HttpServletRequest request) {
+        String ip = null;
+        for (String header : HEADERS) {
+            ip = request.getHeader(header);
+            if (ip != null && !ip.isEmpty() && !UNKNOWN.equalsIgnoreCase(ip)) {
+                break;
+            }
+        }
+        if (ip == null || ip.isEmpty() || UNKNOWN.equalsIgnoreCase(ip)) {
+            ip = request.getRemoteAddr();
+        }
+
+        if (ip != null && ip.contains(",")) {
+            ip = ip.split(",")[0].trim();
+        }
+
+        return ip;
+    }
+
+    /**
+     * 현재 요청 스레드의 클라이언트 IP (요청 스레드가 아니면 unknown)
+     */
+    public static String current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            String ip = resolve(servletAttributes.getRequest());
+            return ip != null ? ip : UNKNOWN;
+        }
+        return UNKNOWN;
+    }
+}
@@ -0,0 +1,92 @@
+package com.flow.blocker.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.blocker.dto.ApiResponse;
+import com.flow.blocker.dto.VersionedExtensionList;
+import com.flow.blocker.policy.ExtensionPolicyHolder;
+import com.flow.blocker.service.ExtensionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 확장자 목록 조회 응답 캐시
+ * - 목록 JSON을 정책 버전별로 한 번만 직렬화하여 바이트로 보관
+ * - 스냅샷 버전이 캐시 버전보다 앞설 때만 DB에서 다시 읽음 (그 외에는 DB 조회 없음)
+ * - ETag는 정책 버전에서 만들어지므로 If-None-Match 비교도 메모리에서 끝남
+ */
+@Slf4j
+@Component
+public class ExtensionListPayloads {
+
+    private final ExtensionPolicyHolder policyHolder;
+    private final ObjectMapper objectMapper;
+
+    private final Slot fixed;
+    private final Slot custom;
+
+    public ExtensionListPayloads(ExtensionService extensionService,
+                                 ExtensionPolicyHolder policyHolder,
+                                 ObjectMapper objectMapper) {
+        this.policyHolder = policyHolder;
+        this.objectMapper = objectMapper;
+        this.fixed = new Slot("fixed", extensionService::getVersionedFixedExtensions);
+        this.custom = new Slot("custom", extensionService::getVersionedCustomExtensions);
+    }
+
+    public PrecomputedPayload fixed() {
+        return fixed.get();
+    }
+
+    public PrecomputedPayload custom() {
+        return custom.get();
+    }
+
+    /**
+     * 목록 종류별 캐시 (재생성은 한 스레드만)
+     */
+    private final class Slot {
+
+        private final String name;
+        private final Supplier<VersionedExtensionList> loader;
+        private volatile PrecomputedPayload payload;
+
+        Slot(String name, Supplier<VersionedExtensionList> loader) {
+            this.name = name;
+            this.loader = loader;
+        }
+
+        PrecomputedPayload get() {
+            PrecomputedPayload cached = payload;
+            if (isFresh(cached)) {
+                return cached;
+            }
+            synchronized (this) {
+                cached = payload;
+                if (isFresh(cached)) {
+                    return cached;
+                }
+                payload = build();
+                return payload;
+            }
+        }
+
+        // DB 버전으로 만든 본문은 로컬 스냅샷보다 앞설 수 있으므로 같거나 크면 유효
+        private boolean isFresh(PrecomputedPayload cached) {
+            return cached != null && cached.version() >= policyHolder.version();
+        }
+
+        private PrecomputedPayload build() {
+            VersionedExtensionList list = loader.get();
+            try {
+                byte[] body = objectMapper.writeValueAsBytes(ApiResponse.success(list.extensions()));
+                log.debug("확장자 목록 응답 재생성: {} v{} ({} bytes)", name, list.version(), body.length);
+                return PrecomputedPayload.of(name, list.version(), body);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("확장자 목록 직렬화 실패: " + name, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.flow.blocker.web;
+
+import com.flow.blocker.dto.ApiResponse;
+import com.flow.blocker.dto.PolicyChangesResponse;
+import com.flow.blocker.policy.PolicyChangeFeed;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 정책 변경 롱 폴링 대기열
+ * - 대기 중인 요청은 DeferredResult로 보관하여 서블릿 스레드를 점유하지 않음
+ * - 스냅샷 버전이 바뀌면 피드 리스너에서 대기 요청을 한 번에 완료 (같은 sinceVersion은 결과 공유)
+ * - 대기 수가 policy.long-poll.max-waiters를 넘으면 기다리지 않고 바로 응답 (짧은 폴링으로 전환)
+ */
+@Component
+public class PolicyLongPollRegistry {
+
+    private final PolicyChangeFeed policyChangeFeed;
+    private final long timeoutMillis;
+    private final int maxWaiters;
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+
+    public PolicyLongPollRegistry(PolicyChangeFeed policyChangeFeed,
+                                  MeterRegistry registry,
+                                  @Value("${policy.long-poll.timeout:30s}") Duration timeout,
+                                  @Value("${policy.long-poll.max-waiters:10000}") int maxWaiters) {
+        this.policyChangeFeed = policyChangeFeed;
+        this.timeoutMillis = timeout.toMillis();
+        this.maxWaiters = maxWaiters;
+        Gauge.builder("policy.long-poll.waiters", waiters, Set::size)
+                .description("정책 변경을 기다리는 롱 폴링 요청 수")
+                .register(registry);
+        policyChangeFeed.addListener(this::onVersionChanged);
+    }
+
+    /**
+     * sinceVersion 이후 변경이 있으면 바로, 없으면 변경되거나 타임아웃될 때 응답
+     * - 타임아웃 시 빈 변경분(현재 버전) 응답
+     */
+    public DeferredResult<ApiResponse<PolicyChangesResponse>> poll(long sinceVersion) {
+        DeferredResult<ApiResponse<PolicyChangesResponse>> result = new DeferredResult<>(timeoutMillis);
+        PolicyChangesResponse changes = policyChangeFeed.changesSince(sinceVersion);
+        if (changes.version() != sinceVersion || waiters.size() >= maxWaiters) {
+            result.setResult(ApiResponse.success(changes));
+            return result;
+        }
+
+        Waiter waiter = new Waiter(sinceVersion, result);
+        result.onTimeout(() -> result.setResult(ApiResponse.success(policyChangeFeed.changesSince(sinceVersion))));
+        result.onCompletion(() -> waiters.remove(waiter));
+        result.onError(error -> waiters.remove(waiter));
+        waiters.add(waiter);
+
+        // 확인과 등록 사이에 바뀐 경우 알림을 놓치지 않도록 다시 확인
+        if (policyChangeFeed.version() != sinceVersion) {
+            complete(waiter, ApiResponse.success(policyChangeFeed.changesSince(sinceVersion)));
+        }
+        return result;
+    }
+
+    public int waiting() {
+        return waiters.size();
+    }
+
+    private void onVersionChanged(long version) {
+        Map<Long, ApiResponse<PolicyChangesResponse>> bySince = new HashMap<>();
+        for (Waiter waiter : waiters) {
+            if (waiter.sinceVersion() != version) {
+                complete(waiter, bySince.computeIfAbsent(waiter.sinceVersion(),
+                        since -> ApiResponse.success(policyChangeFeed.changesSince(since))));
+            }
+        }
+    }
+
+    private void complete(Waiter waiter, ApiResponse<PolicyChangesResponse> response) {
+        waiters.remove(waiter);
+        waiter.result().setResult(response);
+    }
+
+    private record Waiter(long sinceVersion, DeferredResult<ApiResponse<PolicyChangesResponse>> result) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.flow.blocker.web;
+
+/**
+ * 미리 직렬화한 응답 본문
+ * @param version 본문을 만든 정책 버전
+ * @param etag 강한 ETag (따옴표 포함)
+ */
+public record PrecomputedPayload(long version, String etag, byte[] body) {
+
+    public static PrecomputedPayload of(String name, long version, byte[] body) {
+        return new PrecomputedPayload(version, "\"" + name + "-v" + version + "\"", body);
+    }
+}
@@ -0,0 +1,98 @@
+package com.flow.blocker.audit;
+
+import com.flow.blocker.validation.RejectionReason;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("UploadAuditQueue 테스트")
+class UploadAuditQueueTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private static UploadVerdict verdict(String filename) {
+        return new UploadVerdict(filename, "exe", RejectionReason.EXTENSION_BLOCKED, 10, "127.0.0.1", 1L, Instant.now());
+    }
+
+    @Test
+    @DisplayName("용량을 넘는 기록은 대기 없이 버리고 폐기 건수를 집계한다")
+    void offer_DropsWhenFull() {
+        // given
+        UploadAuditQueue queue = new UploadAuditQueue(registry, 2);
+
+        // when
+        boolean first = queue.offer(verdict("a.exe"));
+        boolean second = queue.offer(verdict("b.exe"));
+        boolean third = queue.offer(verdict("c.exe"));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.droppedCount()).isEqualTo(1);
+        assertThat(registry.get("upload.audit.dropped").counter().count()).isEqualTo(1);
+        assertThat(registry.get("upload.audit.queue.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 건수만큼 순서대로 꺼내고 비운 자리만큼 다시 받는다")
+    void drainTo_RespectsMax() {
+        // given
+        UploadAuditQueue queue = new UploadAuditQueue(registry, 3);
+        queue.offer(verdict("a.exe"));
+        queue.offer(verdict("b.exe"));
+        queue.offer(verdict("c.exe"));
+        List<UploadVerdict> sink = new ArrayList<>();
+
+        // when
+        int drained = queue.drainTo(sink, 2);
+
+        // then
+        assertThat(drained).isEqualTo(2);
+        assertThat(sink).extracting(UploadVerdict::filename).containsExactly("a.exe", "b.exe");
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.offer(verdict("d.exe"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시에 넣어도 큐 길이는 용량을 넘지 않고 넣은 건수와 버린 건수의 합이 시도 건수와 같다")
+    void offer_Concurrent() throws InterruptedException {
+        // given
+        int threads = 8;
+        int perThread = 1_000;
+        UploadAuditQueue queue = new UploadAuditQueue(registry, 500);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    queue.offer(verdict("file.exe"));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        List<UploadVerdict> sink = new ArrayList<>();
+        int drained = queue.drainTo(sink, Integer.MAX_VALUE);
+        assertThat(drained).isEqualTo(500);
+        assertThat(drained + queue.droppedCount()).isEqualTo((long) threads * perThread);
+    }
+}
@@ -0,0 +1,111 @@
+package com.flow.blocker.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UploadAuditWriter 테스트")
+class UploadAuditWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private UploadAuditQueue queue;
+    private UploadAuditWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        queue = new UploadAuditQueue(registry, 100);
+        writer = new UploadAuditWriter(jdbcTemplate, queue, registry, 2);
+    }
+
+    private static UploadVerdict verdict(String filename) {
+        return new UploadVerdict(filename, "txt", null, 10, "127.0.0.1", 1L, Instant.now());
+    }
+
+    @Test
+    @DisplayName("큐의 기록을 배치 크기 단위로 나누어 저장한다")
+    @SuppressWarnings("unchecked")
+    void flush_WritesInBatches() {
+        // given
+        queue.offer(verdict("a.txt"));
+        queue.offer(verdict("b.txt"));
+        queue.offer(verdict("c.txt"));
+
+        // when
+        int written = writer.flush();
+
+        // then
+        assertThat(written).isEqualTo(3);
+        assertThat(queue.size()).isZero();
+        then(jdbcTemplate).should(times(2))
+                .batchUpdate(eq(UploadAuditWriter.INSERT_SQL), any(List.class), anyInt(), any());
+        assertThat(registry.get("upload.audit.written").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 배치는 버리고 실패 건수를 집계한다")
+    @SuppressWarnings("unchecked")
+    void flush_CountsFailures() {
+        // given
+        queue.offer(verdict("a.txt"));
+        given(jdbcTemplate.batchUpdate(anyString(), any(List.class), anyInt(), any()))
+                .willThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when
+        int written = writer.flush();
+
+        // then
+        assertThat(written).isZero();
+        assertThat(queue.size()).isZero();
+        assertThat(registry.get("upload.audit.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장 중 도착한 기록은 다음 실행으로 넘겨 한 번의 실행이 끝나지 않는 일이 없다")
+    @SuppressWarnings("unchecked")
+    void flush_BoundedToPendingOnEntry() {
+        // given
+        queue.offer(verdict("a.txt"));
+        queue.offer(verdict("b.txt"));
+        queue.offer(verdict("c.txt"));
+        // 배치를 저장할 때마다 새 기록이 두 건씩 도착
+        given(jdbcTemplate.batchUpdate(anyString(), any(List.class), anyInt(), any())).willAnswer(invocation -> {
+            queue.offer(verdict("late-1.txt"));
+            queue.offer(verdict("late-2.txt"));
+            return new int[0][];
+        });
+
+        // when
+        int written = writer.flush();
+
+        // then
+        assertThat(written).isEqualTo(3);
+        assertThat(queue.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("큐가 비어 있으면 DB에 접근하지 않는다")
+    void flush_EmptyQueue() {
+        // when
+        int written = writer.flush();
+
+        // then
+        assertThat(written).isZero();
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+}
@@ -1,16 +1,23 @@
 package com.flow.blocker.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.blocker.dto.ApiResponse;
+import com.flow.blocker.dto.BulkExtensionResponse;
+import com.flow.blocker.dto.BulkExtensionResult;
 import com.flow.blocker.dto.ExtensionRequest;
 import com.flow.blocker.dto.ExtensionResponse;
 import com.flow.blocker.exception.ExtensionException;
+import com.flow.blocker.service.CustomExtensionBulkService;
 import com.flow.blocker.service.ExtensionService;
+import com.flow.blocker.web.ExtensionListPayloads;
+import com.flow.blocker.web.PrecomputedPayload;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -37,6 +44,16 @@ class ExtensionApiControllerTest {
     @MockBean
     private ExtensionService extensionService;
 
+    @MockBean
+    private CustomExtensionBulkService customExtensionBulkService;
+
+    @MockBean
+    private ExtensionListPayloads extensionListPayloads;
+
+    private PrecomputedPayload payload(String name, long version, List<ExtensionResponse> extensions) throws Exception {
+        return PrecomputedPayload.of(name, version, objectMapper.writeValueAsBytes(ApiResponse.success(extensions)));
+    }
+
     @Nested
     @DisplayName("GET /api/extensions/fixed")
     class GetFixedExtensions {
@@ -57,7 +74,7 @@ class ExtensionApiControllerTest {
                 .build();
             List<ExtensionResponse> extensions = Arrays.asList(ext1, ext2);
             
-            given(extensionService.getAllFixedExtensions()).willReturn(extensions);
+            given(extensionListPayloads.fixed()).willReturn(payload("fixed", 1L, extensions));
 
             // when & then
             mockMvc.perform(get("/api/extensions/fixed"))
@@ -76,7 +93,7 @@ class ExtensionApiControllerTest {
         @DisplayName("고정 확장자가 없는 경우 빈 배열을 반환한다")
         void getFixedExtensions_Empty() throws Exception {
             // given
-            given(extensionService.getAllFixedExtensions()).willReturn(Collections.emptyList());
+            given(extensionListPayloads.fixed()).willReturn(payload("fixed", 1L, Collections.emptyList()));
 
             // when & then
             mockMvc.perform(get("/api/extensions/fixed"))
@@ -85,6 +102,22 @@ class ExtensionApiControllerTest {
                 .andExpect(jsonPath("$.data").isArray())
                 .andExpect(jsonPath("$.data.length()").value(0));
         }
+
+        @Test
+        @DisplayName("정책 버전으로 만든 ETag를 반환하고 같은 ETag로 요청하면 304를 반환한다")
+        void getFixedExtensions_NotModified() throws Exception {
+            // given
+            given(extensionListPayloads.fixed()).willReturn(payload("fixed", 3L, Collections.emptyList()));
+
+            // when & then
+            mockMvc.perform(get("/api/extensions/fixed"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"fixed-v3\""));
+
+            mockMvc.perform(get("/api/extensions/fixed").header(HttpHeaders.IF_NONE_MATCH, "\"fixed-v3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        }
     }
 
     @Nested
@@ -155,7 +188,7 @@ class ExtensionApiControllerTest {
                 .build();
             List<ExtensionResponse> extensions = Arrays.asList(ext1, ext2);
             
-            given(extensionService.getAllCustomExtensions()).willReturn(extensions);
+            given(extensionListPayloads.custom()).willReturn(payload("custom", 1L, extensions));
 
             // when & then
             mockMvc.perform(get("/api/extensions/custom"))
@@ -308,4 +341,95 @@ class ExtensionApiControllerTest {
                 .andExpect(jsonPath("$.message").value("존재하지 않는 확장자입니다."));
         }
     }
+
+    @Nested
+    @DisplayName("커스텀 확장자 일괄 처리")
+    class BulkCustomExtensions {
+
+        @Test
+        @DisplayName("일괄 추가가 반영되면 항목별 결과를 반환한다")
+        void addCustomExtensions_Success() throws Exception {
+            // given
+            BulkExtensionResponse response = new BulkExtensionResponse(true, 3L, 2, 0, List.of(
+                BulkExtensionResult.of("sh", "sh", BulkExtensionResult.Status.ADDED),
+                BulkExtensionResult.of(".PY", "py", BulkExtensionResult.Status.ADDED)
+            ));
+            given(customExtensionBulkService.addAll(List.of("sh", ".PY"))).willReturn(response);
+
+            // when & then
+            mockMvc.perform(post("/api/extensions/custom/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of("extensions", List.of("sh", ".PY")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.added").value(2))
+                .andExpect(jsonPath("$.data.results[1].extension").value("py"))
+                .andExpect(jsonPath("$.data.results[1].status").value("ADDED"));
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 항목이 있으면 400과 항목별 결과를 반환한다")
+        void addCustomExtensions_Rejected() throws Exception {
+            // given
+            BulkExtensionResponse response = BulkExtensionResponse.rejected(1L, List.of(
+                BulkExtensionResult.of("sh", "sh", BulkExtensionResult.Status.ADDED),
+                BulkExtensionResult.rejected("exe", "exe", "이미 고정 확장자에 존재합니다.")
+            ));
+            given(customExtensionBulkService.addAll(List.of("sh", "exe"))).willReturn(response);
+
+            // when & then
+            mockMvc.perform(post("/api/extensions/custom/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of("extensions", List.of("sh", "exe")))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.data.applied").value(false))
+                .andExpect(jsonPath("$.data.results[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.data.results[1].message").value("이미 고정 확장자에 존재합니다."));
+        }
+
+        @Test
+        @DisplayName("확장자 목록이 없으면 400 에러를 반환한다")
+        void addCustomExtensions_MissingList() throws Exception {
+            // when & then
+            mockMvc.perform(post("/api/extensions/custom/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{}"))
+                .andExpect(status().isBadRequest());
+
+            then(customExtensionBulkService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("커스텀 확장자를 이름 목록으로 내보낼 수 있다")
+        void exportCustomExtensions() throws Exception {
+            // given
+            given(customExtensionBulkService.exportCustomExtensions()).willReturn(List.of("py", "sh"));
+
+            // when & then
+            mockMvc.perform(get("/api/extensions/custom/export"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0]").value("py"))
+                .andExpect(jsonPath("$.data[1]").value("sh"));
+        }
+
+        @Test
+        @DisplayName("PUT 요청으로 커스텀 확장자 목록을 교체할 수 있다")
+        void replaceCustomExtensions() throws Exception {
+            // given
+            BulkExtensionResponse response = new BulkExtensionResponse(true, 5L, 1, 1, List.of(
+                BulkExtensionResult.of("py", "py", BulkExtensionResult.Status.ADDED),
+                BulkExtensionResult.of(null, "sh", BulkExtensionResult.Status.REMOVED)
+            ));
+            given(customExtensionBulkService.replaceAll(List.of("py"))).willReturn(response);
+
+            // when & then
+            mockMvc.perform(put("/api/extensions/custom")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of("extensions", List.of("py")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("추가 1건, 삭제 1건이 반영되었습니다."))
+                .andExpect(jsonPath("$.data.version").value(5));
+        }
+    }
 }
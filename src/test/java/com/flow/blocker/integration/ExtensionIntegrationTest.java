@@ -292,7 +292,7 @@ class ExtensionIntegrationTest {
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest())
-                .andExpect(jsonPath("$.message").value("확장자는 영문자와 숫자만 입력 가능합니다."));
+                .andExpect(jsonPath("$.message").value("확장자는 영문자, 숫자와 와일드카드(*, ?)만 입력 가능합니다."));
         }
     }
 
@@ -0,0 +1,186 @@
+package com.flow.blocker.integration;
+
+import com.flow.blocker.exception.ExtensionException;
+import com.flow.blocker.repository.CustomExtensionRepository;
+import com.flow.blocker.service.ExtensionService;
+import com.flow.blocker.service.FileValidationService;
+import com.flow.blocker.validation.RejectionReason;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:validationdb",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "policy.sync.interval-ms=3600000"
+})
+@DisplayName("파일 검증 통합 테스트")
+class FileValidationIntegrationTest {
+
+    @Autowired
+    private FileValidationService fileValidationService;
+
+    @Autowired
+    private ExtensionService extensionService;
+
+    @Autowired
+    private CustomExtensionRepository customExtensionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        extensionService.initializeFixedExtensions();
+        extensionService.updateFixedExtensionCheck("exe", true);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        extensionService.getAllCustomExtensions()
+            .forEach(ext -> extensionService.deleteCustomExtension(ext.id()));
+    }
+
+    @Test
+    @DisplayName("검증 시 SQL이 한 건도 실행되지 않는다")
+    void validation_RunsNoSql() {
+        // given
+        MockMultipartFile file = new MockMultipartFile(
+            "file", "document.txt", "text/plain", "Hello World".getBytes()
+        );
+        statistics.clear();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            fileValidationService.validateFilename("report-" + i + ".txt");
+            fileValidationService.validateFile(file);
+            assertThatThrownBy(() -> fileValidationService.validateFilename("virus.exe"))
+                .isInstanceOf(ExtensionException.class);
+        }
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryExecutionCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("검증 중에는 DB 커넥션을 한 번도 가져오지 않는다")
+    void validation_AcquiresNoConnection() {
+        // given
+        MockMultipartFile file = new MockMultipartFile(
+            "file", "document.txt", "text/plain", "Hello World".getBytes()
+        );
+        MockMultipartFile blocked = new MockMultipartFile(
+            "file", "setup.exe", "application/x-msdownload", "MZ".getBytes()
+        );
+        ConnectionCountingDataSource counting = (ConnectionCountingDataSource) dataSource;
+        Thread current = Thread.currentThread();
+        int before = counting.acquiredBy(current);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            assertThat(fileValidationService.validateFile(file)).isTrue();
+            assertThat(fileValidationService.checkFile(blocked, "127.0.0.1").reason())
+                .isEqualTo(RejectionReason.EXTENSION_BLOCKED);
+            assertThat(fileValidationService.checkFilename("report-" + i + ".txt").isAllowed()).isTrue();
+        }
+
+        // then (감사 기록 저장은 백그라운드 스레드에서 수행되므로 검증 스레드만 확인)
+        assertThat(counting.acquiredBy(current)).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("확장자 변경은 즉시 새 스냅샷에 반영된다")
+    void mutation_SwapsSnapshot() {
+        // given
+        assertThat(fileValidationService.validateFilename("report.pdf")).isTrue();
+
+        // when
+        extensionService.addCustomExtension("pdf");
+
+        // then
+        assertThatThrownBy(() -> fileValidationService.validateFilename("report.pdf"))
+            .isInstanceOf(ExtensionException.class)
+            .hasMessage("차단된 확장자입니다: .pdf");
+        assertThat(customExtensionRepository.existsByExtension("pdf")).isTrue();
+
+        // when
+        extensionService.updateFixedExtensionCheck("exe", false);
+
+        // then
+        assertThat(fileValidationService.validateFilename("setup.exe")).isTrue();
+    }
+
+    @TestConfiguration
+    static class ConnectionCountingConfig {
+
+        @Bean
+        static BeanPostProcessor connectionCountingPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof ConnectionCountingDataSource)
+                            ? new ConnectionCountingDataSource(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * 스레드별 커넥션 획득 횟수를 세는 DataSource
+     */
+    static class ConnectionCountingDataSource extends DelegatingDataSource {
+
+        private final Map<Thread, AtomicInteger> acquired = new ConcurrentHashMap<>();
+
+        ConnectionCountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            count();
+            return super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            count();
+            return super.getConnection(username, password);
+        }
+
+        int acquiredBy(Thread thread) {
+            AtomicInteger count = acquired.get(thread);
+            return count != null ? count.get() : 0;
+        }
+
+        private void count() {
+            acquired.computeIfAbsent(Thread.currentThread(), thread -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.flow.blocker.integration;
+
+import com.flow.blocker.FileExtensionBlockerApplication;
+import com.flow.blocker.dto.ExtensionResponse;
+import com.flow.blocker.policy.ExtensionPolicyHolder;
+import com.flow.blocker.service.ExtensionService;
+import org.junit.jupiter.api.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 두 노드(애플리케이션 컨텍스트)가 하나의 H2 DB를 공유할 때
+ * 한 노드의 변경이 다른 노드 스냅샷에 폴링으로 반영되는지 검증
+ */
+@DisplayName("다중 노드 정책 전파 통합 테스트")
+class PolicyPropagationIntegrationTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:propagationdb;DB_CLOSE_DELAY=-1";
+    private static final long PROPAGATION_TIMEOUT_SECONDS = 5;
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode("create");
+        nodeB = startNode("none");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode(String ddlAuto) {
+        return new SpringApplicationBuilder(FileExtensionBlockerApplication.class)
+            .properties(
+                "spring.datasource.url=" + DB_URL,
+                "spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                "server.port=0",
+                "policy.sync.interval-ms=100"
+            )
+            .run();
+    }
+
+    @Test
+    @DisplayName("한 노드에서 추가한 커스텀 확장자가 다른 노드에 반영된다")
+    void customExtension_PropagatesToOtherNode() throws InterruptedException {
+        // given
+        ExtensionPolicyHolder holderB = nodeB.getBean(ExtensionPolicyHolder.class);
+        assertThat(holderB.current().isBlocked("iso")).isFalse();
+
+        // when
+        ExtensionResponse added = nodeA.getBean(ExtensionService.class).addCustomExtension("iso");
+
+        // then
+        awaitPropagation(() -> holderB.current().isBlocked("iso"));
+        assertThat(holderB.current().version())
+            .isEqualTo(nodeA.getBean(ExtensionPolicyHolder.class).current().version());
+
+        // when
+        nodeA.getBean(ExtensionService.class).deleteCustomExtension(added.id());
+
+        // then
+        awaitPropagation(() -> !holderB.current().isBlocked("iso"));
+    }
+
+    @Test
+    @DisplayName("고정 확장자 체크 변경이 다른 노드에 반영된다")
+    void fixedExtension_PropagatesToOtherNode() throws InterruptedException {
+        // given
+        ExtensionPolicyHolder holderA = nodeA.getBean(ExtensionPolicyHolder.class);
+        ExtensionService serviceB = nodeB.getBean(ExtensionService.class);
+
+        // when
+        serviceB.updateFixedExtensionCheck("scr", true);
+
+        // then
+        awaitPropagation(() -> holderA.current().isBlocked("scr"));
+
+        // when
+        serviceB.updateFixedExtensionCheck("scr", false);
+
+        // then
+        awaitPropagation(() -> !holderA.current().isBlocked("scr"));
+        assertThat(holderA.current().version())
+            .isEqualTo(nodeB.getBean(ExtensionPolicyHolder.class).current().version());
+    }
+
+    private static void awaitPropagation(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(PROPAGATION_TIMEOUT_SECONDS);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail(PROPAGATION_TIMEOUT_SECONDS + "초 안에 정책이 전파되지 않았습니다.");
+            }
+            Thread.sleep(50);
+        }
+    }
+}
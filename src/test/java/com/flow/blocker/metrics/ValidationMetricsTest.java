@@ -0,0 +1,81 @@
+package com.flow.blocker.metrics;
+
+import com.flow.blocker.validation.RejectionReason;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ValidationMetrics 테스트")
+class ValidationMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private ValidationMetrics validationMetrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        validationMetrics = new ValidationMetrics(registry);
+    }
+
+    @Test
+    @DisplayName("단계별 소요 시간이 stage 태그로 기록된다")
+    void recordStage() {
+        // when
+        validationMetrics.recordStage(ValidationMetrics.Stage.LOOKUP, 1_000);
+
+        // then
+        Timer timer = registry.get("file.validation.stage").tag("stage", "lookup").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.NANOSECONDS)).isEqualTo(1_000);
+        assertThat(registry.get("file.validation.stage").tag("stage", "analyze").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 소요 시간이 결과별로 기록된다")
+    void recordValidation() {
+        // when
+        validationMetrics.recordValidation(true, 500);
+        validationMetrics.recordValidation(false, 700);
+        validationMetrics.recordValidation(false, 900);
+
+        // then
+        assertThat(registry.get("file.validation").tag("outcome", "allowed").timer().count()).isEqualTo(1);
+        assertThat(registry.get("file.validation").tag("outcome", "rejected").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("내용 검사 처리량과 한도 초과 건수가 기록된다")
+    void recordScan() {
+        // when
+        validationMetrics.recordScan(2L * 1024 * 1024, 1_000_000_000L, true);
+        validationMetrics.recordScan(0, 0, false);
+
+        // then
+        assertThat(registry.get("file.validation.scan.throughput").summary().count()).isEqualTo(1);
+        assertThat(registry.get("file.validation.scan.throughput").summary().max()).isEqualTo(2.0);
+        assertThat(registry.get("file.validation.scan.bytes").counter().count()).isEqualTo(2L * 1024 * 1024);
+        assertThat(registry.get("file.validation.scan.truncated").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("차단 건수가 사유와 확장자별로 집계되고 확장자가 없으면 other로 묶인다")
+    void rejected() {
+        // when
+        validationMetrics.rejected(RejectionReason.EXTENSION_BLOCKED, "exe");
+        validationMetrics.rejected(RejectionReason.EXTENSION_BLOCKED, "exe");
+        validationMetrics.rejected(RejectionReason.DOUBLE_EXTENSION, null);
+
+        // then
+        assertThat(registry.get("file.validation.rejected")
+                .tags("reason", "EXTENSION_BLOCKED", "extension", "exe").counter().count()).isEqualTo(2);
+        assertThat(registry.get("file.validation.rejected")
+                .tags("reason", "DOUBLE_EXTENSION", "extension", ValidationMetrics.OTHER_EXTENSION).counter().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,347 @@
+package com.flow.blocker.multipart;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.blocker.dto.ApiResponse;
+import com.flow.blocker.exception.GlobalExceptionHandler;
+import com.flow.blocker.exception.UploadRejectedException;
+import com.flow.blocker.service.FileValidationService;
+import com.flow.blocker.validation.RejectionReason;
+import com.flow.blocker.validation.ValidationResult;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.DelegatingServletInputStream;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.multipart.MultipartResolver;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EarlyRejectMultipartResolver 테스트")
+class EarlyRejectMultipartResolverTest {
+
+    private static final String BOUNDARY = "----TestBoundary7MA4YWxkTrZu0gW";
+
+    @Mock
+    private MultipartResolver delegate;
+
+    @Mock
+    private FileValidationService fileValidationService;
+
+    @TempDir
+    Path tempDir;
+
+    private EarlyRejectMultipartResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new EarlyRejectMultipartResolver(
+                delegate, fileValidationService, Set.of("/api/files/upload", "/api/files/upload-multiple"),
+                1024 * 1024, 4 * 1024 * 1024, 8, 2 * 1024, tempDir);
+    }
+
+    @Nested
+    @DisplayName("조기 차단")
+    class EarlyRejectTests {
+
+        @Test
+        @DisplayName("차단 파일명은 본문을 읽기 전에 거부된다")
+        void blockedFilename_RejectedBeforeBody() {
+            // given
+            given(fileValidationService.checkUploadFilename(eq("malware.exe"), anyString()))
+                    .willReturn(ValidationResult.rejected(RejectionReason.EXTENSION_BLOCKED, "exe"));
+            byte[] body = multipart(filePart("file", "malware.exe", "application/octet-stream", new byte[512 * 1024]));
+            CountingInputStream counting = new CountingInputStream(new ByteArrayInputStream(body));
+            MockHttpServletRequest request = request("/api/files/upload", new DelegatingServletInputStream(counting));
+
+            // when & then
+            assertThatThrownBy(() -> resolver.resolveMultipart(request))
+                    .isInstanceOf(UploadRejectedException.class)
+                    .hasMessage("차단된 확장자입니다: .exe")
+                    .extracting("filename").isEqualTo("malware.exe");
+            assertThat(counting.count).isLessThan(64 * 1024);
+            assertThat(tempDir.toFile().list()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("조기 차단 응답은 컨트롤러의 차단 응답과 같이 사유 코드와 메시지 키를 담는다")
+        void blockedFilename_ResponseCarriesVerdict() throws Exception {
+            // given
+            given(fileValidationService.checkUploadFilename(eq("malware.exe"), anyString()))
+                    .willReturn(ValidationResult.rejected(RejectionReason.EXTENSION_BLOCKED, "exe"));
+            MockHttpServletRequest request = request("/api/files/upload",
+                    multipart(filePart("file", "malware.exe", "application/octet-stream", new byte[16])));
+            UploadRejectedException rejected = catchThrowableOfType(UploadRejectedException.class,
+                    () -> resolver.resolveMultipart(request));
+
+            // when
+            ResponseEntity<ApiResponse<Object>> response =
+                    new GlobalExceptionHandler().handleUploadRejectedException(rejected, request);
+            String json = new ObjectMapper().writeValueAsString(response.getBody());
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getFirst(HttpHeaders.CONNECTION)).isEqualTo("close");
+            assertThat(JsonPath.<Boolean>read(json, "$.success")).isFalse();
+            assertThat(JsonPath.<String>read(json, "$.data.reason")).isEqualTo("EXTENSION_BLOCKED");
+            assertThat(JsonPath.<String>read(json, "$.data.messageKey")).isEqualTo("rejection.extension-blocked");
+            assertThat(JsonPath.<String>read(json, "$.data.message")).isEqualTo("차단된 확장자입니다: .exe");
+        }
+
+        @Test
+        @DisplayName("다중 업로드 중 차단 파일이 나오면 앞서 받은 임시 파일을 정리한다")
+        void blockedFilename_CleansUpPreviousParts() {
+            // given
+            given(fileValidationService.checkUploadFilename(eq("large.bin"), anyString())).willReturn(ValidationResult.ALLOWED);
+            given(fileValidationService.checkUploadFilename(eq("malware.exe"), anyString()))
+                    .willReturn(ValidationResult.rejected(RejectionReason.EXTENSION_BLOCKED, "exe"));
+            byte[] body = multipart(
+                    filePart("files", "large.bin", "application/octet-stream", new byte[16 * 1024]),
+                    filePart("files", "malware.exe", "application/octet-stream", new byte[16])
+            );
+            MockHttpServletRequest request = request("/api/files/upload-multiple", body);
+
+            // when & then
+            assertThatThrownBy(() -> resolver.resolveMultipart(request))
+                    .isInstanceOf(UploadRejectedException.class);
+            assertThat(tempDir.toFile().list()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("정상 파싱")
+    class ParseTests {
+
+        @Test
+        @DisplayName("허용된 파일과 폼 필드를 해석한다")
+        void allowedFile_Parsed() throws IOException {
+            // given
+            given(fileValidationService.checkUploadFilename(eq("document.txt"), anyString())).willReturn(ValidationResult.ALLOWED);
+            byte[] content = "Hello World\r\n--not-a-boundary".getBytes(StandardCharsets.UTF_8);
+            byte[] body = multipart(
+                    fieldPart("description", "설명"),
+                    filePart("file", "document.txt", "text/plain", content)
+            );
+            MockHttpServletRequest request = request("/api/files/upload", body);
+
+            // when
+            MultipartHttpServletRequest result = resolver.resolveMultipart(request);
+
+            // then
+            MultipartFile file = result.getFile("file");
+            assertThat(file).isNotNull();
+            assertThat(file.getOriginalFilename()).isEqualTo("document.txt");
+            assertThat(file.getContentType()).isEqualTo("text/plain");
+            assertThat(file.getBytes()).isEqualTo(content);
+            assertThat(((SpooledMultipartFile) file).getContentDigest().value()).isEqualTo(sha256(content));
+            assertThat(result.getParameter("description")).isEqualTo("설명");
+        }
+
+        @Test
+        @DisplayName("임계값을 넘는 파일은 임시 파일로 저장하고 정리 시 삭제한다")
+        void largeFile_SpooledToDisk() throws IOException {
+            // given
+            given(fileValidationService.checkUploadFilename(eq("image.png"), anyString())).willReturn(ValidationResult.ALLOWED);
+            byte[] content = new byte[64 * 1024];
+            Arrays.fill(content, (byte) 7);
+            MockHttpServletRequest request = request("/api/files/upload",
+                    multipart(filePart("file", "image.png", "image/png", content)));
+
+            // when
+            MultipartHttpServletRequest result = resolver.resolveMultipart(request);
+            SpooledMultipartFile file = (SpooledMultipartFile) result.getFile("file");
+
+            // then
+            assertThat(file.isFileBacked()).isTrue();
+            assertThat(file.getSize()).isEqualTo(content.length);
+            assertThat(file.getBytes()).isEqualTo(content);
+            assertThat(file.getContentDigest().value()).isEqualTo(sha256(content));
+
+            resolver.cleanupMultipart(result);
+            assertThat(Files.exists(file.getFile())).isFalse();
+        }
+
+        @Test
+        @DisplayName("최대 파일 크기를 초과하면 예외가 발생한다")
+        void tooLargeFile_ThrowsException() {
+            // given
+            given(fileValidationService.checkUploadFilename(eq("big.txt"), anyString())).willReturn(ValidationResult.ALLOWED);
+            MockHttpServletRequest request = request("/api/files/upload",
+                    multipart(filePart("file", "big.txt", "text/plain", new byte[1024 * 1024 + 1])));
+
+            // when & then
+            assertThatThrownBy(() -> resolver.resolveMultipart(request))
+                    .isInstanceOf(MaxUploadSizeExceededException.class);
+            assertThat(tempDir.toFile().list()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("preamble과 파트 헤더도 요청 최대 크기에 포함된다")
+        void oversizedPreambleAndHeaders_ThrowsException() {
+            // given
+            byte[] preamble = concat(new byte[4 * 1024 * 1024], multipart(fieldPart("a", "b")));
+            MockHttpServletRequest preambleRequest = request("/api/files/upload", preamble);
+            StringBuilder headers = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                headers.append("--").append(BOUNDARY).append("\r\n")
+                        .append("X-Padding-1: ").append("p".repeat(6 * 1024)).append("\r\n")
+                        .append("X-Padding-2: ").append("p".repeat(6 * 1024)).append("\r\n")
+                        .append("Content-Disposition: form-data; name=\"f").append(i).append("\"\r\n\r\n\r\n");
+            }
+            headers.append("--").append(BOUNDARY).append("--\r\n");
+            EarlyRejectMultipartResolver small = new EarlyRejectMultipartResolver(
+                    delegate, fileValidationService, Set.of("/api/files/upload"), 1024, 64 * 1024, 8, 1024, tempDir);
+            MockHttpServletRequest headerRequest = request("/api/files/upload",
+                    headers.toString().getBytes(StandardCharsets.US_ASCII));
+
+            // when & then
+            assertThatThrownBy(() -> resolver.resolveMultipart(preambleRequest))
+                    .isInstanceOf(MaxUploadSizeExceededException.class);
+            assertThatThrownBy(() -> small.resolveMultipart(headerRequest))
+                    .isInstanceOf(MaxUploadSizeExceededException.class);
+        }
+
+        @Test
+        @DisplayName("파트 수가 제한을 넘으면 예외가 발생하고 받은 파일을 정리한다")
+        void tooManyParts_ThrowsException() {
+            // given
+            given(fileValidationService.checkUploadFilename(eq("large.bin"), anyString())).willReturn(ValidationResult.ALLOWED);
+            byte[][] parts = new byte[9][];
+            parts[0] = filePart("files", "large.bin", "application/octet-stream", new byte[16 * 1024]);
+            for (int i = 1; i < parts.length; i++) {
+                parts[i] = fieldPart("field" + i, "");
+            }
+            MockHttpServletRequest request = request("/api/files/upload", multipart(parts));
+
+            // when & then
+            assertThatThrownBy(() -> resolver.resolveMultipart(request))
+                    .isInstanceOf(MultipartException.class)
+                    .hasMessageContaining("파트 수");
+            assertThat(tempDir.toFile().list()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("대상 경로가 아니면 기본 Resolver에 위임한다")
+        void otherPath_Delegated() {
+            // given
+            MockHttpServletRequest request = request("/api/other", multipart(fieldPart("a", "b")));
+
+            // when
+            resolver.resolveMultipart(request);
+
+            // then
+            then(delegate).should().resolveMultipart(request);
+            then(fileValidationService).shouldHaveNoInteractions();
+        }
+    }
+
+    private static MockHttpServletRequest request(String uri, byte[] body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        request.setContent(body);
+        return request;
+    }
+
+    private static MockHttpServletRequest request(String uri, ServletInputStream in) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri) {
+            @Override
+            public ServletInputStream getInputStream() {
+                return in;
+            }
+        };
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        return request;
+    }
+
+    private static byte[] filePart(String name, String filename, String contentType, byte[] content) {
+        String headers = "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + filename + "\"\r\n"
+                + "Content-Type: " + contentType + "\r\n\r\n";
+        return concat(headers.getBytes(StandardCharsets.UTF_8), content);
+    }
+
+    private static byte[] fieldPart(String name, String value) {
+        String part = "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n" + value;
+        return part.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] multipart(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(("--" + BOUNDARY + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.writeBytes(part);
+            out.writeBytes("\r\n".getBytes(StandardCharsets.US_ASCII));
+        }
+        out.writeBytes(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        return out.toByteArray();
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        byte[] result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+
+        long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+    }
+}
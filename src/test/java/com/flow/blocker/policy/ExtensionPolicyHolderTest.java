@@ -0,0 +1,475 @@
+package com.flow.blocker.policy;
+
+import com.flow.blocker.domain.CustomExtension;
+import com.flow.blocker.domain.FixedExtension;
+import com.flow.blocker.domain.PolicyChangeLog;
+import com.flow.blocker.domain.PolicyVersion;
+import com.flow.blocker.repository.CustomExtensionRepository;
+import com.flow.blocker.repository.FixedExtensionRepository;
+import com.flow.blocker.repository.PolicyChangeLogRepository;
+import com.flow.blocker.repository.PolicyVersionRepository;
+import com.flow.blocker.validation.ExtensionPolicy;
+import com.flow.blocker.validation.PolicyDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExtensionPolicyHolder 테스트")
+class ExtensionPolicyHolderTest {
+
+    @InjectMocks
+    private ExtensionPolicyHolder policyHolder;
+
+    @Mock
+    private FixedExtensionRepository fixedExtensionRepository;
+
+    @Mock
+    private CustomExtensionRepository customExtensionRepository;
+
+    @Mock
+    private PolicyVersionRepository policyVersionRepository;
+
+    @Mock
+    private PolicyChangeLogRepository policyChangeLogRepository;
+
+    @Mock
+    private PolicyChangeFeed policyChangeFeed;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private static FixedExtension checked(String extension) {
+        FixedExtension fixedExt = new FixedExtension(extension);
+        fixedExt.updateChecked(true);
+        return fixedExt;
+    }
+
+    private static void awaitBlocked(List<Thread> threads) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (threads.stream().anyMatch(thread -> thread.getState() != Thread.State.WAITING)) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("전체 적재")
+    class RefreshTests {
+
+        @Test
+        @DisplayName("체크된 고정 확장자와 커스텀 확장자를 모두 차단한다")
+        void refresh_MergesFixedAndCustom() {
+            // given
+            given(policyVersionRepository.findVersion(PolicyVersion.SINGLETON_ID)).willReturn(Optional.of(3L));
+            given(fixedExtensionRepository.findByCheckedTrue()).willReturn(List.of(checked("exe")));
+            given(customExtensionRepository.findAll()).willReturn(List.of(new CustomExtension("pdf")));
+
+            // when
+            ExtensionPolicy policy = policyHolder.refresh();
+
+            // then
+            assertThat(policy.version()).isEqualTo(3L);
+            assertThat(policy.blockedExtensions()).containsExactlyInAnyOrder("exe", "pdf");
+            assertThat(policy.isBlocked("exe")).isTrue();
+            assertThat(policy.isBlocked("bat")).isFalse();
+        }
+
+        @Test
+        @DisplayName("기동 시 읽기 트랜잭션 하나에서 스냅샷을 적재한다")
+        void afterSingletonsInstantiated_LoadsInReadOnlyTransaction() {
+            // given
+            given(policyVersionRepository.findVersion(PolicyVersion.SINGLETON_ID)).willReturn(Optional.of(2L));
+            given(fixedExtensionRepository.findByCheckedTrue()).willReturn(List.of(checked("exe")));
+            given(customExtensionRepository.findAll()).willReturn(Collections.emptyList());
+
+            // when
+            policyHolder.afterSingletonsInstantiated();
+            ExtensionPolicy policy = policyHolder.current();
+
+            // then
+            assertThat(policy.version()).isEqualTo(2L);
+            assertThat(policy.isBlocked("exe")).isTrue();
+            then(transactionManager).should(times(1)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+            then(transactionManager).should(times(1)).commit(any());
+            verify(fixedExtensionRepository, times(1)).findByCheckedTrue();
+        }
+
+        @Test
+        @DisplayName("스냅샷이 로드된 이후에는 DB를 조회하지 않는다")
+        void current_DoesNotQueryAfterLoad() {
+            // given
+            given(fixedExtensionRepository.findByCheckedTrue()).willReturn(Collections.emptyList());
+            given(customExtensionRepository.findAll()).willReturn(Collections.emptyList());
+            ExtensionPolicy loaded = policyHolder.current();
+
+            // when
+            for (int i = 0; i < 100; i++) {
+                assertThat(policyHolder.current()).isSameAs(loaded);
+            }
+
+            // then
+            verify(fixedExtensionRepository, times(1)).findByCheckedTrue();
+            verify(customExtensionRepository, times(1)).findAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("변경 로그 동기화")
+    class SynchronizeTests {
+
+        @Test
+        @DisplayName("DB 버전이 같으면 버전 행만 조회한다")
+        void synchronize_SameVersion() {
+            // given
+            given(policyVersionRepository.findVersion(PolicyVersion.SINGLETON_ID)).willReturn(Optional.of(3L));
+            given(fixedExtensionRepository.findByCheckedTrue()).willReturn(List.of(checked("exe")));
+            given(customExtensionRepository.findAll()).willReturn(Collections.emptyList());
+            ExtensionPolicy loaded = policyHolder.refresh();
+
+            // when
+            ExtensionPolicy synced = policyHolder.synchronize();
+
+            // then
+            assertThat(synced).isSameAs(loaded);
+            verify(policyChangeLogRepository, never()).findByVersionGreaterThanOrderByVersionAsc(anyLong());
+            verify(fixedExtensionRepository, times(1)).findByCheckedTrue();
+        }
+
+        @Test
+        @DisplayName("뒤처진 경우 이후 변경분만 적용한다")
+        void synchronize_AppliesDeltas() {
+            // given
+            given(policyVersionRepository.findVersion(PolicyVersion.SINGLETON_ID))
+                .willReturn(Optional.of(3L))
+                .willReturn(Optional.of(5L));
+            given(fixedExtensionRepository.findByCheckedTrue()).willReturn(List.of(checked("exe")));
+            given(customExtensionRepository.findAll()).willReturn(Collections.emptyList());
+            ExtensionPolicy loaded = policyHolder.refresh();
+
+            given(policyChangeLogRepository.findByVersionGreaterThanOrderByVersionAsc(3L)).willReturn(List.of(
+                new PolicyChangeLog(4L, PolicyDelta.Scope.CUSTOM, PolicyDelta.Action.ADD, "pdf"),
+                new PolicyChangeLog(5L, PolicyDelta.Scope.FIXED, PolicyDelta.Action.REMOVE, "exe")
+            ));
+
+            // when
+            ExtensionPolicy synced = policyHolder.synchronize();
+
+            // then
+            assertThat(synced.version()).isEqualTo(5L);
+            assertThat(synced.blockedExtensions()).containsExactly("pdf");
+            assertThat(loaded.blockedExtensions()).containsExactly("exe");
+            assertThat(policyHolder.current()).isSameAs(synced);
+            verify(fixedExtensionRepository, times(1)).findByCheckedTrue();
+            verify(policyChangeFeed).publish(eq(synced), argThat(deltas -> deltas.size() == 2));
+        }
+
+        @Test
+        @DisplayName("변경 로그 중간이 비어 있으면 전체를 다시 적재한다")
+        void synchronize_GapFallsBackToRefresh() {
+            // given
+            given(policyVersionRepository.findVersion(PolicyVersion.SINGLETON_ID))
+                .willReturn(Optional.of(3L))
+                .willReturn(Optional.of(6L));
+            given(fixedExtensionRepository.findByCheckedTrue())
+                .willReturn(List.of(checked("exe")))
+                .willReturn(List.of(checked("exe"), checked("bat")));
+            given(customExtensionRepository.findAll()).willReturn(Collections.emptyList());
+            policyHolder.refresh();
+
+            given(policyChangeLogRepository.findByVersionGreaterThanOrderByVersionAsc(3L)).willReturn(List.of(
+                new PolicyChangeLog(6L, PolicyDelta.Scope.FIXED, PolicyDelta.Action.ADD, "bat")
+            ));
+
+            // when
+            ExtensionPolicy synced = policyHolder.synchronize();
+
+            // then
+            assertThat(synced.version()).isEqualTo(6L);
+            assertThat(synced.blockedExtensions()).containsExactlyInAnyOrder("exe", "bat");
+            verify(fixedExtensionRepository, times(2)).findByCheckedTrue();
+        }
+
+        @Test
+        @DisplayName("변경 로그 보관 범위보다 뒤처지면 로그를 읽지 않고 전체를 다시 적재한다")
+        void synchronize_BeyondRetentionReloads() {
+            // given
+            ReflectionTestUtils.setField(policyHolder, "retainedVersions", 2L);
+            given(policyVersionRepository.findVersion(PolicyVersion.SINGLETON_ID))
+                .willReturn(Optional.of(3L))
+                .willReturn(Optional.of(6L));
+            given(fixedExtensionRepository.findByCheckedTrue())
+                .willReturn(List.of(checked("exe")))
+                .willReturn(List.of(checked("bat")));
+            given(customExtensionRepository.findAll()).willReturn(Collections.emptyList());
+            policyHolder.refresh();
+
+            // when
+            ExtensionPolicy synced = policyHolder.synchronize();
+
+            // then
+            assertThat(synced.version()).isEqualTo(6L);
+            assertThat(synced.blockedExtensions()).containsExactly("bat");
+            verify(policyChangeLogRepository, never()).findByVersionGreaterThanOrderByVersionAsc(anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("커밋 변경분 적용")
+    class ApplyCommittedTests {
+
+        private ExtensionPolicy loadVersion3() {
+            given(policyVersionRepository.findVersion(PolicyVersion.SINGLETON_ID)).willReturn(Optional.of(3L));
+            given(fixedExtensionRepository.findByCheckedTrue()).willReturn(List.of(checked("exe")));
+            given(customExtensionRepository.findAll()).willReturn(Collections.emptyList());
+            return policyHolder.refresh();
+        }
+
+        @Test
+        @DisplayName("이어지는 변경분은 DB 조회 없이 스냅샷 교체 한 번으로 적용한다")
+        void applyCommitted_AppliesWithoutQuery() {
+            // given
+            loadVersion3();
+            List<PolicyDelta> deltas = List.of(
+                new PolicyDelta(4L, PolicyDelta.Scope.CUSTOM, PolicyDelta.Action.ADD, "pdf"),
+                new PolicyDelta(5L, PolicyDelta.Scope.FIXED, PolicyDelta.Action.REMOVE, "exe")
+            );
+
+            // when
+            boolean applied = policyHolder.applyCommitted(deltas);
+
+            // then
+            assertThat(applied).isTrue();
+            assertThat(policyHolder.current().version()).isEqualTo(5L);
+            assertThat(policyHolder.current().blockedExtensions()).containsExactly("pdf");
+            verify(policyVersionRepository, times(1)).findVersion(PolicyVersion.SINGLETON_ID);
+            verify(policyChangeLogRepository, never()).findByVersionGreaterThanOrderByVersionAsc(anyLong());
+            verify(policyChangeFeed).publish(any(), eq(deltas));
+        }
+
+        @Test
+        @DisplayName("이미 반영된 변경분은 건너뛴다")
+        void applyCommitted_SkipsApplied() {
+            // given
+            ExtensionPolicy loaded = loadVersion3();
+
+            // when
+            boolean applied = policyHolder.applyCommitted(
+                List.of(new PolicyDelta(3L, PolicyDelta.Scope.CUSTOM, PolicyDelta.Action.ADD, "pdf")));
+
+            // then
+            assertThat(applied).isTrue();
+            assertThat(policyHolder.current()).isSameAs(loaded);
+            verify(policyChangeFeed, times(1)).publish(any(), any());
+        }
+
+        @Test
+        @DisplayName("앞 버전이 비어 있으면 false를 반환하고, 앞 버전이 도착하면 보류한 변경분까지 함께 적용한다")
+        void applyCommitted_GapHoldsUntilContiguous() {
+            // given
+            ExtensionPolicy loaded = loadVersion3();
+
+            // when
+            boolean ahead = policyHolder.applyCommitted(
+                List.of(new PolicyDelta(5L, PolicyDelta.Scope.CUSTOM, PolicyDelta.Action.ADD, "pdf")));
+            ExtensionPolicy held = policyHolder.current();
+            boolean filled = policyHolder.applyCommitted(
+                List.of(new PolicyDelta(4L, PolicyDelta.Scope.CUSTOM, PolicyDelta.Action.ADD, "hwp")));
+
+            // then
+            assertThat(ahead).isFalse();
+            assertThat(held).isSameAs(loaded);
+            assertThat(filled).isTrue();
+            assertThat(policyHolder.current().version()).isEqualTo(5L);
+            assertThat(policyHolder.current().blockedExtensions()).containsExactlyInAnyOrder("exe", "hwp", "pdf");
+        }
+
+        @Test
+        @DisplayName("적재 중에 도착한 여러 커밋의 변경분은 적재가 끝난 뒤 한 번에 적용한다")
+        void applyCommitted_CoalescesBurst() throws Exception {
+            // given
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            given(policyVersionRepository.findVersion(PolicyVersion.SINGLETON_ID)).willAnswer(invocation -> {
+                loading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return Optional.of(3L);
+            });
+            given(fixedExtensionRepository.findByCheckedTrue()).willReturn(List.of(checked("exe")));
+            given(customExtensionRepository.findAll()).willReturn(Collections.emptyList());
+
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                executor.submit(() -> policyHolder.refresh());
+                assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+                List<Future<Boolean>> results = new ArrayList<>();
+                List<Thread> waiters = Collections.synchronizedList(new ArrayList<>());
+                for (long version = 4; version <= 6; version++) {
+                    PolicyDelta delta = new PolicyDelta(version, PolicyDelta.Scope.CUSTOM, PolicyDelta.Action.ADD,
+                        "ext" + version);
+                    results.add(executor.submit(() -> {
+                        waiters.add(Thread.currentThread());
+                        return policyHolder.applyCommitted(List.of(delta));
+                    }));
+                }
+                while (waiters.size() < 3) {
+                    Thread.sleep(5);
+                }
+                awaitBlocked(waiters);
+
+                // when
+                release.countDown();
+
+                // then
+                for (Future<Boolean> result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS)).isTrue();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertThat(policyHolder.current().version()).isEqualTo(6L);
+            assertThat(policyHolder.current().blockedExtensions())
+                .containsExactlyInAnyOrder("exe", "ext4", "ext5", "ext6");
+            verify(policyChangeFeed).publish(any(), argThat(deltas -> deltas.size() == 3));
+            verify(policyChangeFeed, times(2)).publish(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("동시 적재 합치기")
+    class SingleFlightTests {
+
+        @Test
+        @DisplayName("스냅샷이 없을 때 동시에 조회해도 DB 적재는 한 번만 수행한다")
+        void current_ColdStartLoadsOnce() throws Exception {
+            // given
+            given(fixedExtensionRepository.findByCheckedTrue()).willAnswer(invocation -> {
+                Thread.sleep(100);
+                return List.of(checked("exe"));
+            });
+            given(customExtensionRepository.findAll()).willReturn(Collections.emptyList());
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<ExtensionPolicy>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return policyHolder.current();
+                }));
+            }
+
+            // when
+            start.countDown();
+
+            // then
+            ExtensionPolicy first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<ExtensionPolicy> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+            executor.shutdownNow();
+            verify(fixedExtensionRepository, times(1)).findByCheckedTrue();
+        }
+
+        @Test
+        @DisplayName("적재 중 도착한 동기화 요청들은 다음 적재 한 번을 함께 사용한다")
+        void synchronize_CoalescesWaiters() throws Exception {
+            // given
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger versionReads = new AtomicInteger();
+            given(policyVersionRepository.findVersion(PolicyVersion.SINGLETON_ID)).willAnswer(invocation -> {
+                if (versionReads.incrementAndGet() == 2) {
+                    entered.countDown();
+                    release.await();
+                }
+                return Optional.of(3L);
+            });
+            given(fixedExtensionRepository.findByCheckedTrue()).willReturn(List.of(checked("exe")));
+            given(customExtensionRepository.findAll()).willReturn(Collections.emptyList());
+            ExtensionPolicy loaded = policyHolder.refresh();
+
+            Thread leader = new Thread(policyHolder::synchronize);
+            leader.start();
+            entered.await();
+            List<Thread> waiters = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                Thread waiter = new Thread(policyHolder::synchronize);
+                waiter.start();
+                waiters.add(waiter);
+            }
+            awaitBlocked(waiters);
+
+            // when
+            release.countDown();
+            leader.join(5_000);
+            for (Thread waiter : waiters) {
+                waiter.join(5_000);
+            }
+
+            // then (초기 적재 1 + 진행 중이던 동기화 1 + 대기자 공용 동기화 1)
+            assertThat(versionReads.get()).isEqualTo(3);
+            assertThat(policyHolder.current()).isSameAs(loaded);
+        }
+
+        @Test
+        @DisplayName("stale-while-revalidate가 켜져 있으면 적재 중에도 기다리지 않고 현재 스냅샷을 반환한 뒤 한 번 더 동기화한다")
+        void revalidate_StaleWhileRevalidate() throws Exception {
+            // given
+            ReflectionTestUtils.setField(policyHolder, "staleWhileRevalidate", true);
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger versionReads = new AtomicInteger();
+            given(policyVersionRepository.findVersion(PolicyVersion.SINGLETON_ID)).willAnswer(invocation -> {
+                if (versionReads.incrementAndGet() == 2) {
+                    entered.countDown();
+                    release.await();
+                }
+                return Optional.of(3L);
+            });
+            given(fixedExtensionRepository.findByCheckedTrue()).willReturn(List.of(checked("exe")));
+            given(customExtensionRepository.findAll()).willReturn(Collections.emptyList());
+            ExtensionPolicy loaded = policyHolder.refresh();
+
+            Thread leader = new Thread(policyHolder::synchronize);
+            leader.start();
+            entered.await();
+
+            // when
+            ExtensionPolicy stale = policyHolder.revalidate();
+
+            // then
+            assertThat(stale).isSameAs(loaded);
+            assertThat(versionReads.get()).isEqualTo(2);
+
+            release.countDown();
+            leader.join(5_000);
+            assertThat(versionReads.get()).isEqualTo(3);
+        }
+    }
+}
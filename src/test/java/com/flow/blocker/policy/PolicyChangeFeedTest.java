@@ -0,0 +1,97 @@
+package com.flow.blocker.policy;
+
+import com.flow.blocker.dto.PolicyChangesResponse;
+import com.flow.blocker.validation.ExtensionPolicy;
+import com.flow.blocker.validation.PolicyDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PolicyChangeFeed 테스트")
+class PolicyChangeFeedTest {
+
+    private final PolicyChangeFeed feed = new PolicyChangeFeed(3);
+
+    private static PolicyDelta delta(long version, PolicyDelta.Action action, String extension) {
+        return new PolicyDelta(version, PolicyDelta.Scope.CUSTOM, action, extension);
+    }
+
+    private ExtensionPolicy apply(ExtensionPolicy policy, List<PolicyDelta> deltas) {
+        ExtensionPolicy next = policy.apply(deltas);
+        feed.publish(next, deltas);
+        return next;
+    }
+
+    @Test
+    @DisplayName("sinceVersion 이후 변경을 확장자별로 합쳐 추가/삭제 목록으로 반환한다")
+    void changesSince_MergesDeltas() {
+        // given
+        ExtensionPolicy policy = new ExtensionPolicy(5L, Set.of("exe"), Set.of("sh"));
+        feed.publish(policy, List.of());
+        apply(policy, List.of(
+            delta(6L, PolicyDelta.Action.ADD, "py"),
+            delta(7L, PolicyDelta.Action.REMOVE, "sh")
+        ));
+
+        // when
+        PolicyChangesResponse fromFive = feed.changesSince(5L);
+        PolicyChangesResponse fromSix = feed.changesSince(6L);
+
+        // then
+        assertThat(fromFive.version()).isEqualTo(7L);
+        assertThat(fromFive.fullSync()).isFalse();
+        assertThat(fromFive.added()).containsExactly("py");
+        assertThat(fromFive.removed()).containsExactly("sh");
+        assertThat(fromSix.added()).isEmpty();
+        assertThat(fromSix.removed()).containsExactly("sh");
+        assertThat(feed.changesSince(7L)).isEqualTo(PolicyChangesResponse.none(7L));
+    }
+
+    @Test
+    @DisplayName("보관 범위 밖이거나 전체 재적재 이전 버전이면 전체 목록을 반환한다")
+    void changesSince_FullSyncOutsideHistory() {
+        // given
+        ExtensionPolicy policy = new ExtensionPolicy(5L, Set.of("exe"), Set.of("sh"));
+        feed.publish(policy, List.of());
+        policy = apply(policy, List.of(delta(6L, PolicyDelta.Action.ADD, "py")));
+        apply(policy, List.of(
+            delta(7L, PolicyDelta.Action.ADD, "rb"),
+            delta(8L, PolicyDelta.Action.ADD, "pl"),
+            delta(9L, PolicyDelta.Action.ADD, "go")
+        ));
+
+        // when
+        PolicyChangesResponse beforeLoad = feed.changesSince(0L);
+        PolicyChangesResponse trimmed = feed.changesSince(5L);
+        PolicyChangesResponse retained = feed.changesSince(6L);
+
+        // then
+        assertThat(beforeLoad.fullSync()).isTrue();
+        assertThat(beforeLoad.added()).containsExactly("exe", "go", "pl", "py", "rb", "sh");
+        assertThat(trimmed.fullSync()).isTrue();
+        assertThat(retained.fullSync()).isFalse();
+        assertThat(retained.added()).containsExactly("go", "pl", "rb");
+    }
+
+    @Test
+    @DisplayName("버전이 바뀔 때만 리스너를 호출한다")
+    void publish_NotifiesOnVersionChange() {
+        // given
+        List<Long> notified = new ArrayList<>();
+        feed.addListener(notified::add);
+        ExtensionPolicy policy = new ExtensionPolicy(1L, Set.of(), Set.of());
+
+        // when
+        feed.publish(policy, List.of());
+        feed.publish(policy, List.of());
+        apply(policy, List.of(delta(2L, PolicyDelta.Action.ADD, "sh")));
+
+        // then
+        assertThat(notified).containsExactly(1L, 2L);
+    }
+}
@@ -0,0 +1,74 @@
+package com.flow.blocker.policy;
+
+import com.flow.blocker.domain.PolicyVersion;
+import com.flow.blocker.repository.PolicyChangeLogRepository;
+import com.flow.blocker.repository.PolicyVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyChangeLogCleaner 테스트")
+class PolicyChangeLogCleanerTest {
+
+    @Mock
+    private PolicyVersionRepository policyVersionRepository;
+
+    @Mock
+    private PolicyChangeLogRepository policyChangeLogRepository;
+
+    private PolicyChangeLogCleaner cleaner;
+
+    @BeforeEach
+    void setUp() {
+        cleaner = new PolicyChangeLogCleaner(policyVersionRepository, policyChangeLogRepository, 100);
+    }
+
+    @Test
+    @DisplayName("현재 버전에서 보관 수만큼만 남기고 이전 변경 로그를 삭제한다")
+    void purge_DeletesBeyondRetention() {
+        // given
+        given(policyVersionRepository.findVersion(PolicyVersion.SINGLETON_ID)).willReturn(Optional.of(250L));
+        given(policyChangeLogRepository.deleteUpTo(150L)).willReturn(150);
+
+        // when
+        cleaner.purge();
+
+        // then
+        then(policyChangeLogRepository).should().deleteUpTo(150L);
+    }
+
+    @Test
+    @DisplayName("변경 수가 보관 수 이하면 삭제하지 않는다")
+    void purge_WithinRetention() {
+        // given
+        given(policyVersionRepository.findVersion(PolicyVersion.SINGLETON_ID)).willReturn(Optional.of(100L));
+
+        // when
+        cleaner.purge();
+
+        // then
+        then(policyChangeLogRepository).should(never()).deleteUpTo(anyLong());
+    }
+
+    @Test
+    @DisplayName("삭제에 실패해도 예외를 던지지 않고 다음 주기에 재시도한다")
+    void purge_FailureIsSwallowed() {
+        // given
+        given(policyVersionRepository.findVersion(PolicyVersion.SINGLETON_ID)).willReturn(Optional.of(250L));
+        given(policyChangeLogRepository.deleteUpTo(150L)).willThrow(new QueryTimeoutException("timeout"));
+
+        // when & then
+        assertThatCode(() -> cleaner.purge()).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,209 @@
+package com.flow.blocker.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TokenBucketRateLimiter 테스트")
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    private TokenBucketRateLimiter limiter(int limit, int maxClients) {
+        return new TokenBucketRateLimiter(limit, Duration.ofMinutes(1), maxClients, Duration.ofMinutes(10), clock::get);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    @Nested
+    @DisplayName("토큰 버킷")
+    class TokenBucketTests {
+
+        @Test
+        @DisplayName("한도만큼 허용한 뒤 거부한다")
+        void allowsUpToLimit() {
+            // given
+            TokenBucketRateLimiter limiter = limiter(10, 100);
+
+            // when
+            int allowed = 0;
+            for (int i = 0; i < 15; i++) {
+                if (limiter.tryAcquire("10.0.0.1")) {
+                    allowed++;
+                }
+            }
+
+            // then
+            assertThat(allowed).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("토큰은 주기 동안 연속적으로 채워진다")
+        void refillsContinuously() {
+            // given
+            TokenBucketRateLimiter limiter = limiter(10, 100);
+            for (int i = 0; i < 10; i++) {
+                limiter.tryAcquire("10.0.0.1");
+            }
+
+            // when & then - 6초(1분/10)마다 토큰 1개
+            advance(Duration.ofSeconds(5));
+            assertThat(limiter.tryAcquire("10.0.0.1")).isFalse();
+            advance(Duration.ofSeconds(1));
+            assertThat(limiter.tryAcquire("10.0.0.1")).isTrue();
+            assertThat(limiter.tryAcquire("10.0.0.1")).isFalse();
+        }
+
+        @Test
+        @DisplayName("분 경계에서 한도의 두 배가 허용되지 않는다")
+        void noBurstAtWindowBoundary() {
+            // given
+            TokenBucketRateLimiter limiter = limiter(10, 100);
+            advance(Duration.ofSeconds(59));
+            int allowed = 0;
+            for (int i = 0; i < 10; i++) {
+                if (limiter.tryAcquire("10.0.0.1")) {
+                    allowed++;
+                }
+            }
+
+            // when - 2초 뒤(고정 윈도우라면 새 윈도우) 다시 몰아서 요청
+            advance(Duration.ofSeconds(2));
+            for (int i = 0; i < 10; i++) {
+                if (limiter.tryAcquire("10.0.0.1")) {
+                    allowed++;
+                }
+            }
+
+            // then
+            assertThat(allowed).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("클라이언트마다 별도 버킷을 사용한다")
+        void separateBucketsPerClient() {
+            // given
+            TokenBucketRateLimiter limiter = limiter(1, 100);
+
+            // when & then
+            assertThat(limiter.tryAcquire("10.0.0.1")).isTrue();
+            assertThat(limiter.tryAcquire("10.0.0.1")).isFalse();
+            assertThat(limiter.tryAcquire("10.0.0.2")).isTrue();
+        }
+
+        @Test
+        @DisplayName("동시에 요청해도 한도를 정확히 지킨다")
+        void exactUnderContention() throws Exception {
+            // given
+            TokenBucketRateLimiter limiter = limiter(1_000, 100);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> futures = new ArrayList<>();
+
+            // when
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int allowed = 0;
+                    for (int i = 0; i < 1_000; i++) {
+                        if (limiter.tryAcquire("10.0.0.1")) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+            start.countDown();
+            int total = 0;
+            for (Future<Integer> future : futures) {
+                total += future.get(10, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            // then
+            assertThat(total).isEqualTo(1_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("메모리 상한")
+    class BoundedTests {
+
+        @Test
+        @DisplayName("추적 클라이언트 수가 상한에 도달해도 새 클라이언트는 가장 먼저 추적한 버킷을 내보내고 허용된다")
+        void servesNewClientsWhenFull() {
+            // given
+            TokenBucketRateLimiter limiter = limiter(1, 3);
+            limiter.tryAcquire("10.0.0.1");
+            limiter.tryAcquire("10.0.0.2");
+            limiter.tryAcquire("10.0.0.3");
+
+            // when & then
+            assertThat(limiter.tryAcquire("10.0.0.4")).isTrue();
+            assertThat(limiter.trackedClients()).isEqualTo(3);
+            assertThat(limiter.tryAcquire("10.0.0.2")).isFalse();
+            assertThat(limiter.tryAcquire("10.0.0.4")).isFalse();
+        }
+
+        @Test
+        @DisplayName("임의의 키로 상한을 채워도 이후의 새 클라이언트는 허용된다")
+        void servesFreshClientAfterFlood() {
+            // given
+            TokenBucketRateLimiter limiter = limiter(10, 1_000);
+            for (int i = 0; i < 5_000; i++) {
+                limiter.tryAcquire("spoofed-" + i);
+            }
+
+            // when & then
+            assertThat(limiter.trackedClients()).isEqualTo(1_000);
+            assertThat(limiter.tryAcquire("10.0.0.1")).isTrue();
+            assertThat(limiter.trackedClients()).isEqualTo(1_000);
+        }
+
+        @Test
+        @DisplayName("유휴 클라이언트를 정리하면 새 클라이언트를 받을 수 있다")
+        void evictsIdleClients() {
+            // given
+            TokenBucketRateLimiter limiter = limiter(10, 3);
+            limiter.tryAcquire("10.0.0.1");
+            limiter.tryAcquire("10.0.0.2");
+            limiter.tryAcquire("10.0.0.3");
+
+            // when
+            advance(Duration.ofMinutes(11));
+
+            // then
+            assertThat(limiter.tryAcquire("10.0.0.4")).isTrue();
+            assertThat(limiter.trackedClients()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("다수의 IP로 스캔해도 추적 수는 상한을 넘지 않는다")
+        void staysBoundedUnderScan() {
+            // given
+            TokenBucketRateLimiter limiter = limiter(10, 1_000);
+
+            // when
+            for (int i = 0; i < 50_000; i++) {
+                limiter.tryAcquire("10.0." + (i >> 8) + "." + (i & 0xFF));
+            }
+
+            // then
+            assertThat(limiter.trackedClients()).isEqualTo(1_000);
+        }
+    }
+}
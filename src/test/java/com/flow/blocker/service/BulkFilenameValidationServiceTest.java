@@ -0,0 +1,161 @@
+package com.flow.blocker.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.blocker.policy.ExtensionPolicyHolder;
+import com.flow.blocker.policy.UploadRuleHolder;
+import com.flow.blocker.validation.DecisionRule;
+import com.flow.blocker.validation.DecisionTable;
+import com.flow.blocker.validation.ExtensionPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkFilenameValidationService 테스트")
+class BulkFilenameValidationServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private ExtensionPolicyHolder policyHolder;
+
+    @Mock
+    private UploadRuleHolder uploadRuleHolder;
+
+    private BulkFilenameValidationService bulkValidationService;
+
+    @BeforeEach
+    void setUp() {
+        bulkValidationService = new BulkFilenameValidationService(policyHolder, uploadRuleHolder, objectMapper);
+        given(policyHolder.current()).willReturn(new ExtensionPolicy(7L, Set.of("exe"), Set.of("sh")));
+        given(uploadRuleHolder.current()).willReturn(DecisionTable.compile(List.of(
+            new DecisionRule("iso", DecisionRule.Mode.VALIDATE, true, DecisionRule.NO_LIMIT, Set.of(), false),
+            new DecisionRule("dmg", DecisionRule.Mode.UPLOAD, true, DecisionRule.NO_LIMIT, Set.of(), false))));
+    }
+
+    @Test
+    @DisplayName("한 줄당 하나의 판정을 사유 코드와 정책 버전과 함께 기록한다")
+    void validate_WritesVerdictPerLine() throws IOException {
+        // given
+        String input = "document.txt\r\nmalware.exe\n\nimage.jpg.exe\n\"run.sh\"\n\"broken\n";
+
+        // when
+        List<JsonNode> verdicts = run(new StringReader(input));
+
+        // then
+        assertThat(verdicts).extracting(node -> node.get("line").asLong())
+                .containsExactly(1L, 2L, 4L, 5L, 6L);
+        assertThat(verdicts).extracting(node -> node.get("allowed").asBoolean())
+                .containsExactly(true, false, false, false, false);
+        assertThat(verdicts).extracting(node -> node.get("reason").asText(null))
+                .containsExactly(null, "EXTENSION_BLOCKED", "DOUBLE_EXTENSION", "EXTENSION_BLOCKED", "INVALID_FILENAME");
+        assertThat(verdicts).extracting(node -> node.get("filename").asText())
+                .containsExactly("document.txt", "malware.exe", "image.jpg.exe", "run.sh", "\"broken");
+        assertThat(verdicts).allMatch(node -> node.get("policyVersion").asLong() == 7L);
+    }
+
+    @Test
+    @DisplayName("파일명 검증 경로 규칙으로 차단한 확장자만 거부하고 업로드 전용 규칙은 적용하지 않는다")
+    void validate_AppliesValidateRules() throws IOException {
+        // when
+        List<JsonNode> verdicts = run(new StringReader("disk.iso
+image.dmg
+"));
+
+        // then
+        assertThat(verdicts).extracting(node -> node.get("reason").asText(null))
+                .containsExactly("EXTENSION_BLOCKED", null);
+    }
+
+    @Test
+    @DisplayName("너무 긴 줄은 잘라서 INVALID_FILENAME으로 판정한다")
+    void validate_TooLongLine() throws IOException {
+        // given
+        String input = "a".repeat(BulkFilenameValidationService.MAX_LINE_LENGTH + 100) + ".txt\nok.txt\n";
+
+        // when
+        List<JsonNode> verdicts = run(new StringReader(input));
+
+        // then
+        assertThat(verdicts).hasSize(2);
+        assertThat(verdicts.get(0).get("reason").asText()).isEqualTo("INVALID_FILENAME");
+        assertThat(verdicts.get(0).get("filename").asText()).hasSize(BulkFilenameValidationService.MAX_LINE_LENGTH);
+        assertThat(verdicts.get(1).get("allowed").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("스트림 전체를 하나의 정책 스냅샷으로 판정한다")
+    void validate_UsesSingleSnapshot() throws IOException {
+        // given
+        Reader input = new GeneratedLines(10_000);
+
+        // when
+        List<JsonNode> verdicts = run(input);
+
+        // then
+        assertThat(verdicts).hasSize(10_000);
+        then(policyHolder).should(times(1)).current();
+    }
+
+    private List<JsonNode> run(Reader input) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = bulkValidationService.validate(input, out);
+
+        List<JsonNode> verdicts = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            verdicts.add(objectMapper.readTree(line));
+        }
+        assertThat(verdicts).hasSize((int) count);
+        return verdicts;
+    }
+
+    /**
+     * 메모리에 전체 입력을 만들지 않고 줄을 생성하는 Reader
+     */
+    private static class GeneratedLines extends Reader {
+
+        private final int total;
+        private int produced;
+        private String current = "";
+        private int position;
+
+        GeneratedLines(int total) {
+            this.total = total;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (position == current.length()) {
+                if (produced == total) {
+                    return -1;
+                }
+                current = "file-" + produced++ + (produced % 2 == 0 ? ".exe\n" : ".txt\n");
+                position = 0;
+            }
+            int n = Math.min(len, current.length() - position);
+            current.getChars(position, position + n, cbuf, off);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.flow.blocker.service;
+
+import com.flow.blocker.domain.ContentPattern;
+import com.flow.blocker.dto.ContentPatternResponse;
+import com.flow.blocker.event.CacheEvictionEvent;
+import com.flow.blocker.exception.ExtensionException;
+import com.flow.blocker.repository.ContentPatternRepository;
+import com.flow.blocker.validation.FileValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContentPatternService 테스트")
+class ContentPatternServiceTest {
+
+    @InjectMocks
+    private ContentPatternService contentPatternService;
+
+    @Mock
+    private ContentPatternRepository contentPatternRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Nested
+    @DisplayName("패턴 추가")
+    class AddPatternTests {
+
+        @Test
+        @DisplayName("패턴을 정규화하여 저장하고 변경 이벤트를 발행한다")
+        void addPattern_Success() {
+            // given
+            given(contentPatternRepository.countBy()).willReturn(0L);
+            given(contentPatternRepository.existsByPattern("<iframe")).willReturn(false);
+            given(contentPatternRepository.save(any(ContentPattern.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            ContentPatternResponse response = contentPatternService.addPattern("  <IFrame ");
+
+            // then
+            assertThat(response.pattern()).isEqualTo("<iframe");
+            then(eventPublisher).should().publishEvent(any(CacheEvictionEvent.ContentPatternChangeEvent.class));
+        }
+
+        @Test
+        @DisplayName("100자를 초과하는 패턴은 추가할 수 없다")
+        void addPattern_TooLong() {
+            // when & then
+            assertThatThrownBy(() -> contentPatternService.addPattern("a".repeat(101)))
+                .isInstanceOf(ExtensionException.class)
+                .hasMessage("패턴은 최대 100자까지 입력 가능합니다.");
+            then(contentPatternRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("패턴이 200개이면 더 추가할 수 없다")
+        void addPattern_LimitExceeded() {
+            // given
+            given(contentPatternRepository.countBy()).willReturn(200L);
+
+            // when & then
+            assertThatThrownBy(() -> contentPatternService.addPattern("<iframe"))
+                .isInstanceOf(ExtensionException.class)
+                .hasMessage(ContentPatternService.LIMIT_EXCEEDED_MESSAGE);
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("이미 추가된 패턴은 추가할 수 없다")
+        void addPattern_Duplicate() {
+            // given
+            given(contentPatternRepository.countBy()).willReturn(7L);
+            given(contentPatternRepository.existsByPattern("<script")).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> contentPatternService.addPattern("<SCRIPT"))
+                .isInstanceOf(ExtensionException.class)
+                .hasMessage(ContentPatternService.DUPLICATE_MESSAGE);
+        }
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 패턴은 삭제할 수 없다")
+    void deletePattern_NotFound() {
+        // given
+        given(contentPatternRepository.findById(9L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> contentPatternService.deletePattern(9L))
+            .isInstanceOf(ExtensionException.class)
+            .hasMessage("존재하지 않는 패턴입니다.");
+    }
+
+    @Nested
+    @DisplayName("기본 패턴 초기화")
+    class InitializeTests {
+
+        @Test
+        @DisplayName("패턴이 없으면 기본 패턴을 저장한다")
+        void initializeDefaultPatterns_Empty() {
+            // given
+            given(contentPatternRepository.count()).willReturn(0L);
+
+            // when
+            contentPatternService.initializeDefaultPatterns();
+
+            // then
+            then(contentPatternRepository).should().saveAll(argThat((List<ContentPattern> patterns) ->
+                patterns.stream().map(ContentPattern::getPattern).toList().equals(FileValidator.DEFAULT_CONTENT_PATTERNS)));
+        }
+
+        @Test
+        @DisplayName("패턴이 있으면 아무것도 하지 않는다")
+        void initializeDefaultPatterns_Existing() {
+            // given
+            given(contentPatternRepository.count()).willReturn(3L);
+
+            // when
+            contentPatternService.initializeDefaultPatterns();
+
+            // then
+            then(contentPatternRepository).should(never()).saveAll(anyList());
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+    }
+}
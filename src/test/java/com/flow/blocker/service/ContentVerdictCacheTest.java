@@ -0,0 +1,95 @@
+package com.flow.blocker.service;
+
+import com.flow.blocker.validation.ContentDigest;
+import com.flow.blocker.validation.ContentVerdict;
+import com.flow.blocker.validation.FileSignature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ContentVerdictCache 테스트")
+class ContentVerdictCacheTest {
+
+    private static final ContentVerdict PNG = new ContentVerdict(FileSignature.PNG);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("같은 다이제스트, 정책 버전, 판정 테이블 버전, 패턴 버전이면 캐시된 결과를 반환한다")
+    void get_Hit() {
+        // given
+        ContentVerdictCache cache = new ContentVerdictCache(registry, 10);
+        cache.put(new ContentDigest("aa"), 1L, 1L, 1L, PNG);
+
+        // when
+        ContentVerdict verdict = cache.get(new ContentDigest("aa"), 1L, 1L, 1L);
+
+        // then
+        assertThat(verdict).isEqualTo(PNG);
+        assertThat(registry.get("file.validation.content.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정책 버전이 바뀌면 이전 결과를 사용하지 않는다")
+    void get_MissOnNewPolicyVersion() {
+        // given
+        ContentVerdictCache cache = new ContentVerdictCache(registry, 10);
+        cache.put(new ContentDigest("aa"), 1L, 1L, 1L, PNG);
+
+        // when
+        ContentVerdict verdict = cache.get(new ContentDigest("aa"), 2L, 1L, 1L);
+
+        // then
+        assertThat(verdict).isNull();
+        assertThat(registry.get("file.validation.content.cache").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("판정 테이블 버전이 바뀌면 이전 결과를 사용하지 않는다")
+    void get_MissOnNewRuleVersion() {
+        // given
+        ContentVerdictCache cache = new ContentVerdictCache(registry, 10);
+        cache.put(new ContentDigest("aa"), 1L, 1L, 1L, PNG);
+
+        // when
+        ContentVerdict verdict = cache.get(new ContentDigest("aa"), 1L, 2L, 1L);
+
+        // then
+        assertThat(verdict).isNull();
+    }
+
+    @Test
+    @DisplayName("내용 검사 패턴 버전이 바뀌면 이전 결과를 사용하지 않는다")
+    void get_MissOnNewScannerVersion() {
+        // given
+        ContentVerdictCache cache = new ContentVerdictCache(registry, 10);
+        cache.put(new ContentDigest("aa"), 1L, 1L, 1L, PNG);
+
+        // when
+        ContentVerdict verdict = cache.get(new ContentDigest("aa"), 1L, 1L, 2L);
+
+        // then
+        assertThat(verdict).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 결과부터 제거한다")
+    void put_EvictsLeastRecentlyUsed() {
+        // given
+        ContentVerdictCache cache = new ContentVerdictCache(registry, 2);
+        cache.put(new ContentDigest("aa"), 1L, 1L, 1L, PNG);
+        cache.put(new ContentDigest("bb"), 1L, 1L, 1L, PNG);
+        cache.get(new ContentDigest("aa"), 1L, 1L, 1L);
+
+        // when
+        cache.put(new ContentDigest("cc"), 1L, 1L, 1L, PNG);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(new ContentDigest("aa"), 1L, 1L, 1L)).isNotNull();
+        assertThat(cache.get(new ContentDigest("bb"), 1L, 1L, 1L)).isNull();
+        assertThat(cache.get(new ContentDigest("cc"), 1L, 1L, 1L)).isNotNull();
+    }
+}
@@ -0,0 +1,301 @@
+package com.flow.blocker.service;
+
+import com.flow.blocker.domain.CustomExtension;
+import com.flow.blocker.domain.FixedExtension;
+import com.flow.blocker.domain.PolicyChangeLog;
+import com.flow.blocker.dto.BulkExtensionResponse;
+import com.flow.blocker.dto.BulkExtensionResult;
+import com.flow.blocker.event.CacheEvictionEvent;
+import com.flow.blocker.policy.ExtensionPolicyHolder;
+import com.flow.blocker.policy.PolicyChangeRecorder;
+import com.flow.blocker.repository.CustomExtensionBatchRepository;
+import com.flow.blocker.repository.CustomExtensionRepository;
+import com.flow.blocker.repository.FixedExtensionRepository;
+import com.flow.blocker.repository.PolicyChangeLogRepository;
+import com.flow.blocker.validation.ExtensionPolicy;
+import com.flow.blocker.validation.PolicyDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomExtensionBulkService 테스트")
+class CustomExtensionBulkServiceTest {
+
+    @InjectMocks
+    private CustomExtensionBulkService bulkService;
+
+    @Mock
+    private ExtensionPolicyHolder policyHolder;
+
+    @Mock
+    private PolicyChangeRecorder policyChangeRecorder;
+
+    @Mock
+    private FixedExtensionRepository fixedExtensionRepository;
+
+    @Mock
+    private CustomExtensionBatchRepository customExtensionBatchRepository;
+
+    @Mock
+    private CustomExtensionRepository customExtensionRepository;
+
+    @Mock
+    private PolicyChangeLogRepository policyChangeLogRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private void givenPolicy(long version, String... custom) {
+        given(policyChangeRecorder.lock()).willReturn(version);
+        given(policyHolder.current()).willReturn(new ExtensionPolicy(version, Set.of("exe"), Set.of(custom)));
+    }
+
+    private void givenFixed() {
+        given(fixedExtensionRepository.findAll()).willReturn(List.of(new FixedExtension("exe"), new FixedExtension("bat")));
+    }
+
+    private void givenRecorded(PolicyDelta.Action action, long firstVersion) {
+        given(policyChangeRecorder.recordAll(eq(PolicyDelta.Scope.CUSTOM), eq(action), anyCollection()))
+            .willAnswer(invocation -> {
+                Collection<String> extensions = invocation.getArgument(2);
+                long version = firstVersion;
+                List<PolicyDelta> deltas = new ArrayList<>();
+                for (String extension : extensions) {
+                    deltas.add(new PolicyDelta(version++, PolicyDelta.Scope.CUSTOM, action, extension));
+                }
+                return deltas;
+            });
+    }
+
+    private static List<BulkExtensionResult.Status> statuses(BulkExtensionResponse response) {
+        return response.results().stream().map(BulkExtensionResult::status).toList();
+    }
+
+    @Nested
+    @DisplayName("일괄 추가")
+    class AddAll {
+
+        @Test
+        @DisplayName("새 확장자만 배치로 저장하고 이벤트를 한 번 발행한다")
+        void addAll_Success() {
+            // given
+            givenPolicy(4L, "sh");
+            givenFixed();
+            givenRecorded(PolicyDelta.Action.ADD, 5L);
+
+            // when
+            BulkExtensionResponse response = bulkService.addAll(List.of(".PY", "sh", "py", "rb"));
+
+            // then
+            assertThat(response.applied()).isTrue();
+            assertThat(response.added()).isEqualTo(2);
+            assertThat(response.version()).isEqualTo(6L);
+            assertThat(statuses(response)).containsExactly(
+                BulkExtensionResult.Status.ADDED,
+                BulkExtensionResult.Status.UNCHANGED,
+                BulkExtensionResult.Status.UNCHANGED,
+                BulkExtensionResult.Status.ADDED
+            );
+            then(customExtensionBatchRepository).should().insertAll(Set.of("py", "rb"));
+            then(eventPublisher).should(times(1)).publishEvent(any(CacheEvictionEvent.ExtensionChangeEvent.class));
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 항목이 하나라도 있으면 아무것도 저장하지 않는다")
+        void addAll_RejectedItem() {
+            // given
+            givenPolicy(4L);
+            givenFixed();
+
+            // when
+            BulkExtensionResponse response = bulkService.addAll(List.of("py", "BAT", "a-b", ""));
+
+            // then
+            assertThat(response.applied()).isFalse();
+            assertThat(statuses(response)).containsExactly(
+                BulkExtensionResult.Status.ADDED,
+                BulkExtensionResult.Status.REJECTED,
+                BulkExtensionResult.Status.REJECTED,
+                BulkExtensionResult.Status.REJECTED
+            );
+            assertThat(response.results().get(1).message()).isEqualTo("이미 고정 확장자에 존재합니다.");
+            then(customExtensionBatchRepository).shouldHaveNoInteractions();
+            then(policyChangeRecorder).should(never()).recordAll(any(), any(), anyCollection());
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("최대 개수를 넘는 항목은 거부된다")
+        void addAll_ExceedLimit() {
+            // given
+            String[] existing = IntStream.range(0, 199).mapToObj(i -> "ext" + i).toArray(String[]::new);
+            givenPolicy(4L, existing);
+            givenFixed();
+
+            // when
+            BulkExtensionResponse response = bulkService.addAll(List.of("py", "rb"));
+
+            // then
+            assertThat(response.applied()).isFalse();
+            assertThat(statuses(response)).containsExactly(
+                BulkExtensionResult.Status.ADDED,
+                BulkExtensionResult.Status.REJECTED
+            );
+            assertThat(response.results().get(1).message()).isEqualTo("커스텀 확장자는 최대 200개까지만 추가 가능합니다.");
+        }
+
+        @Test
+        @DisplayName("스냅샷이 잠근 버전보다 뒤처져 있으면 같은 트랜잭션에서 빠진 변경 로그를 적용해 검증한다")
+        void addAll_StaleSnapshot() {
+            // given
+            given(policyChangeRecorder.lock()).willReturn(5L);
+            given(policyHolder.current()).willReturn(new ExtensionPolicy(4L, Set.of(), Set.of()));
+            given(policyChangeLogRepository.findByVersionGreaterThanOrderByVersionAsc(4L)).willReturn(List.of(
+                new PolicyChangeLog(5L, PolicyDelta.Scope.CUSTOM, PolicyDelta.Action.ADD, "py")));
+            givenFixed();
+
+            // when
+            BulkExtensionResponse response = bulkService.addAll(List.of("py"));
+
+            // then
+            assertThat(response.applied()).isTrue();
+            assertThat(statuses(response)).containsExactly(BulkExtensionResult.Status.UNCHANGED);
+            then(customExtensionBatchRepository).shouldHaveNoInteractions();
+            then(eventPublisher).shouldHaveNoInteractions();
+            then(policyHolder).should(never()).synchronize();
+        }
+
+        @Test
+        @DisplayName("빠진 변경 로그가 이어지지 않으면 같은 트랜잭션에서 목록 전체를 읽어 검증한다")
+        void addAll_StaleSnapshotWithLogGap() {
+            // given
+            given(policyChangeRecorder.lock()).willReturn(7L);
+            given(policyHolder.current()).willReturn(new ExtensionPolicy(4L, Set.of(), Set.of()));
+            given(policyChangeLogRepository.findByVersionGreaterThanOrderByVersionAsc(4L)).willReturn(List.of(
+                new PolicyChangeLog(7L, PolicyDelta.Scope.CUSTOM, PolicyDelta.Action.ADD, "rb")));
+            given(fixedExtensionRepository.findByCheckedTrue()).willReturn(List.of());
+            given(customExtensionRepository.findAll()).willReturn(List.of(new CustomExtension("py")));
+            givenFixed();
+
+            // when
+            BulkExtensionResponse response = bulkService.addAll(List.of("py"));
+
+            // then
+            assertThat(response.applied()).isTrue();
+            assertThat(response.version()).isEqualTo(7L);
+            assertThat(statuses(response)).containsExactly(BulkExtensionResult.Status.UNCHANGED);
+            then(policyHolder).should(never()).synchronize();
+        }
+
+        @Test
+        @DisplayName("변경 로그 보관 범위보다 뒤처져 있으면 로그를 읽지 않고 목록 전체를 읽어 검증한다")
+        void addAll_StaleSnapshotBeyondRetention() {
+            // given
+            ReflectionTestUtils.setField(bulkService, "retainedVersions", 2L);
+            given(policyChangeRecorder.lock()).willReturn(7L);
+            given(policyHolder.current()).willReturn(new ExtensionPolicy(4L, Set.of(), Set.of()));
+            given(fixedExtensionRepository.findByCheckedTrue()).willReturn(List.of());
+            given(customExtensionRepository.findAll()).willReturn(List.of(new CustomExtension("py")));
+            givenFixed();
+
+            // when
+            BulkExtensionResponse response = bulkService.addAll(List.of("py"));
+
+            // then
+            assertThat(response.version()).isEqualTo(7L);
+            assertThat(statuses(response)).containsExactly(BulkExtensionResult.Status.UNCHANGED);
+            then(policyChangeLogRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("일괄 삭제")
+    class RemoveAll {
+
+        @Test
+        @DisplayName("존재하는 확장자만 배치로 삭제한다")
+        void removeAll_Success() {
+            // given
+            givenPolicy(4L, "sh", "py");
+            givenRecorded(PolicyDelta.Action.REMOVE, 5L);
+
+            // when
+            BulkExtensionResponse response = bulkService.removeAll(List.of("sh", "rb"));
+
+            // then
+            assertThat(response.applied()).isTrue();
+            assertThat(response.removed()).isEqualTo(1);
+            assertThat(statuses(response)).containsExactly(
+                BulkExtensionResult.Status.REMOVED,
+                BulkExtensionResult.Status.UNCHANGED
+            );
+            then(customExtensionBatchRepository).should().deleteAll(Set.of("sh"));
+            then(eventPublisher).should(times(1)).publishEvent(any(CacheEvictionEvent.ExtensionChangeEvent.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("전체 교체")
+    class ReplaceAll {
+
+        @Test
+        @DisplayName("요청 목록과의 차이만 삭제하고 추가한다")
+        void replaceAll_Success() {
+            // given
+            givenPolicy(4L, "sh", "py");
+            givenFixed();
+            givenRecorded(PolicyDelta.Action.REMOVE, 5L);
+            givenRecorded(PolicyDelta.Action.ADD, 6L);
+
+            // when
+            BulkExtensionResponse response = bulkService.replaceAll(List.of("py", "rb"));
+
+            // then
+            assertThat(response.applied()).isTrue();
+            assertThat(response.added()).isEqualTo(1);
+            assertThat(response.removed()).isEqualTo(1);
+            assertThat(response.version()).isEqualTo(6L);
+            assertThat(statuses(response)).containsExactly(
+                BulkExtensionResult.Status.UNCHANGED,
+                BulkExtensionResult.Status.ADDED,
+                BulkExtensionResult.Status.REMOVED
+            );
+            then(customExtensionBatchRepository).should().deleteAll(Set.of("sh"));
+            then(customExtensionBatchRepository).should().insertAll(Set.of("rb"));
+            then(eventPublisher).should(times(1)).publishEvent(argThat((CacheEvictionEvent.ExtensionChangeEvent event) ->
+                event.deltas().equals(List.of(
+                    new PolicyDelta(5L, PolicyDelta.Scope.CUSTOM, PolicyDelta.Action.REMOVE, "sh"),
+                    new PolicyDelta(6L, PolicyDelta.Scope.CUSTOM, PolicyDelta.Action.ADD, "rb")))));
+        }
+    }
+
+    @Test
+    @DisplayName("내보내기는 스냅샷의 커스텀 확장자를 정렬하여 반환한다")
+    void exportCustomExtensions() {
+        // given
+        given(policyHolder.current()).willReturn(new ExtensionPolicy(1L, Set.of("exe"), Set.of("sh", "py")));
+
+        // when
+        List<String> result = bulkService.exportCustomExtensions();
+
+        // then
+        assertThat(result).containsExactly("py", "sh");
+    }
+}
@@ -2,11 +2,16 @@ package com.flow.blocker.service;
 
 import com.flow.blocker.domain.CustomExtension;
 import com.flow.blocker.domain.FixedExtension;
+import com.flow.blocker.domain.PolicyVersion;
 import com.flow.blocker.dto.ExtensionResponse;
+import com.flow.blocker.dto.VersionedExtensionList;
 import com.flow.blocker.event.CacheEvictionEvent;
 import com.flow.blocker.exception.ExtensionException;
+import com.flow.blocker.policy.PolicyChangeRecorder;
 import com.flow.blocker.repository.CustomExtensionRepository;
 import com.flow.blocker.repository.FixedExtensionRepository;
+import com.flow.blocker.repository.PolicyVersionRepository;
+import com.flow.blocker.validation.PolicyDelta;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -40,6 +45,12 @@ class ExtensionServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private PolicyChangeRecorder policyChangeRecorder;
+
+    @Mock
+    private PolicyVersionRepository policyVersionRepository;
+
     @Nested
     @DisplayName("고정 확장자 관리")
     class FixedExtensionTests {
@@ -68,15 +79,19 @@ class ExtensionServiceTest {
         void updateFixedExtensionCheck() {
             // given
             FixedExtension extension = new FixedExtension("exe");
+            PolicyDelta delta = new PolicyDelta(2L, PolicyDelta.Scope.FIXED, PolicyDelta.Action.ADD, "exe");
             given(fixedExtensionRepository.findByExtension("exe"))
                 .willReturn(Optional.of(extension));
+            given(policyChangeRecorder.record(PolicyDelta.Scope.FIXED, PolicyDelta.Action.ADD, "exe"))
+                .willReturn(delta);
 
             // when
             ExtensionResponse result = extensionService.updateFixedExtensionCheck("exe", true);
 
             // then
             assertThat(result.checked()).isTrue();
-            verify(eventPublisher).publishEvent(any(CacheEvictionEvent.ExtensionChangeEvent.class));
+            verify(eventPublisher).publishEvent(
+                argThat((CacheEvictionEvent.ExtensionChangeEvent event) -> event.deltas().equals(List.of(delta))));
         }
 
         @Test
@@ -105,6 +120,41 @@ class ExtensionServiceTest {
             // then
             verify(fixedExtensionRepository, times(7)).save(any(FixedExtension.class));
         }
+
+        @Test
+        @DisplayName("고정 확장자 행을 새로 만들면 차단 해제 변경분으로 정책 버전을 올린다")
+        void initializeFixedExtensions_BumpsVersion() {
+            // given
+            given(fixedExtensionRepository.existsByExtension(anyString())).willReturn(true);
+            given(fixedExtensionRepository.existsByExtension("exe")).willReturn(false);
+            List<PolicyDelta> deltas = List.of(
+                new PolicyDelta(1L, PolicyDelta.Scope.FIXED, PolicyDelta.Action.REMOVE, "exe"));
+            given(policyChangeRecorder.recordAll(PolicyDelta.Scope.FIXED, PolicyDelta.Action.REMOVE, List.of("exe")))
+                .willReturn(deltas);
+
+            // when
+            extensionService.initializeFixedExtensions();
+
+            // then
+            verify(fixedExtensionRepository, times(1)).save(any(FixedExtension.class));
+            verify(eventPublisher).publishEvent(
+                argThat((CacheEvictionEvent.ExtensionChangeEvent event) -> event.deltas().equals(deltas)));
+        }
+
+        @Test
+        @DisplayName("고정 확장자 행이 모두 있으면 정책 버전을 올리지 않는다")
+        void initializeFixedExtensions_AlreadySeeded() {
+            // given
+            given(fixedExtensionRepository.existsByExtension(anyString())).willReturn(true);
+
+            // when
+            extensionService.initializeFixedExtensions();
+
+            // then
+            verify(fixedExtensionRepository, never()).save(any(FixedExtension.class));
+            verify(policyChangeRecorder, never()).recordAll(any(), any(), any());
+            verifyNoInteractions(eventPublisher);
+        }
     }
 
     @Nested
@@ -123,6 +173,9 @@ class ExtensionServiceTest {
             given(fixedExtensionRepository.existsByExtension(extension)).willReturn(false);
             given(customExtensionRepository.existsByExtension(extension)).willReturn(false);
             given(customExtensionRepository.save(any(CustomExtension.class))).willReturn(saved);
+            PolicyDelta delta = new PolicyDelta(2L, PolicyDelta.Scope.CUSTOM, PolicyDelta.Action.ADD, "pdf");
+            given(policyChangeRecorder.record(PolicyDelta.Scope.CUSTOM, PolicyDelta.Action.ADD, "pdf"))
+                .willReturn(delta);
 
             // when
             ExtensionResponse result = extensionService.addCustomExtension(extension);
@@ -130,7 +183,8 @@ class ExtensionServiceTest {
             // then
             assertThat(result.extension()).isEqualTo(extension);
             assertThat(result.id()).isEqualTo(1L);
-            verify(eventPublisher).publishEvent(any(CacheEvictionEvent.ExtensionChangeEvent.class));
+            verify(eventPublisher).publishEvent(
+                argThat((CacheEvictionEvent.ExtensionChangeEvent event) -> event.deltas().equals(List.of(delta))));
         }
 
         @Test
@@ -163,20 +217,54 @@ class ExtensionServiceTest {
         }
 
         @Test
-        @DisplayName("영문자와 숫자 이외의 문자는 허용하지 않는다")
+        @DisplayName("영문자, 숫자, 와일드카드 이외의 문자는 허용하지 않는다")
         void addCustomExtension_InvalidCharacters() {
             // when & then
             assertThatThrownBy(() -> extensionService.addCustomExtension("test-ext"))
                 .isInstanceOf(ExtensionException.class)
-                .hasMessage("확장자는 영문자와 숫자만 입력 가능합니다.");
+                .hasMessage("확장자는 영문자, 숫자와 와일드카드(*, ?)만 입력 가능합니다.");
 
             assertThatThrownBy(() -> extensionService.addCustomExtension("test@ext"))
                 .isInstanceOf(ExtensionException.class)
-                .hasMessage("확장자는 영문자와 숫자만 입력 가능합니다.");
+                .hasMessage("확장자는 영문자, 숫자와 와일드카드(*, ?)만 입력 가능합니다.");
 
             assertThatThrownBy(() -> extensionService.addCustomExtension("한글"))
                 .isInstanceOf(ExtensionException.class)
-                .hasMessage("확장자는 영문자와 숫자만 입력 가능합니다.");
+                .hasMessage("확장자는 영문자, 숫자와 와일드카드(*, ?)만 입력 가능합니다.");
+        }
+
+        @Test
+        @DisplayName("와일드카드 패턴을 추가할 수 있다")
+        void addCustomExtension_Pattern() {
+            // given
+            CustomExtension saved = new CustomExtension("php*");
+            saved.setId(1L);
+
+            given(customExtensionRepository.countBy()).willReturn(0L);
+            given(fixedExtensionRepository.existsByExtension("php*")).willReturn(false);
+            given(customExtensionRepository.existsByExtension("php*")).willReturn(false);
+            given(customExtensionRepository.save(any(CustomExtension.class))).willReturn(saved);
+            given(policyChangeRecorder.record(PolicyDelta.Scope.CUSTOM, PolicyDelta.Action.ADD, "php*"))
+                .willReturn(new PolicyDelta(2L, PolicyDelta.Scope.CUSTOM, PolicyDelta.Action.ADD, "php*"));
+
+            // when
+            ExtensionResponse result = extensionService.addCustomExtension("PHP*");
+
+            // then
+            assertThat(result.extension()).isEqualTo("php*");
+        }
+
+        @Test
+        @DisplayName("와일드카드만으로 된 패턴은 추가할 수 없다")
+        void addCustomExtension_WildcardOnly() {
+            // when & then
+            assertThatThrownBy(() -> extensionService.addCustomExtension("*"))
+                .isInstanceOf(ExtensionException.class)
+                .hasMessage("와일드카드만으로 된 패턴은 사용할 수 없습니다.");
+
+            assertThatThrownBy(() -> extensionService.addCustomExtension("?*"))
+                .isInstanceOf(ExtensionException.class)
+                .hasMessage("와일드카드만으로 된 패턴은 사용할 수 없습니다.");
         }
 
         @Test
@@ -271,6 +359,8 @@ class ExtensionServiceTest {
             extension.setId(1L);
             given(customExtensionRepository.findById(1L))
                 .willReturn(Optional.of(extension));
+            given(policyChangeRecorder.record(PolicyDelta.Scope.CUSTOM, PolicyDelta.Action.REMOVE, "pdf"))
+                .willReturn(new PolicyDelta(2L, PolicyDelta.Scope.CUSTOM, PolicyDelta.Action.REMOVE, "pdf"));
 
             // when
             extensionService.deleteCustomExtension(1L);
@@ -318,5 +408,22 @@ class ExtensionServiceTest {
             assertThat(result.get(0).extension()).isEqualTo("pdf");
             assertThat(result.get(1).extension()).isEqualTo("doc");
         }
+
+        @Test
+        @DisplayName("커스텀 확장자 목록을 정책 버전과 함께 조회할 수 있다")
+        void getVersionedCustomExtensions() {
+            // given
+            CustomExtension ext1 = new CustomExtension("pdf");
+            ext1.setId(1L);
+            given(policyVersionRepository.findVersion(PolicyVersion.SINGLETON_ID)).willReturn(Optional.of(7L));
+            given(customExtensionRepository.findAllByOrderByIdAsc()).willReturn(List.of(ext1));
+
+            // when
+            VersionedExtensionList result = extensionService.getVersionedCustomExtensions();
+
+            // then
+            assertThat(result.version()).isEqualTo(7L);
+            assertThat(result.extensions()).extracting(ExtensionResponse::extension).containsExactly("pdf");
+        }
     }
 }
@@ -0,0 +1,150 @@
+package com.flow.blocker.service;
+
+import com.flow.blocker.dto.FileUploadResponse;
+import com.flow.blocker.validation.RejectionReason;
+import com.flow.blocker.validation.ValidationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FileBatchValidationService 테스트")
+class FileBatchValidationServiceTest {
+
+    @Mock
+    private FileValidationService fileValidationService;
+
+    private FileBatchValidationService batchValidationService;
+
+    @AfterEach
+    void tearDown() {
+        batchValidationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("검증 완료 순서와 무관하게 입력 순서대로 결과를 반환한다")
+    void validateAll_KeepsInputOrder() {
+        // given
+        batchValidationService = new FileBatchValidationService(
+                fileValidationService, 4, 16, 4, Duration.ofSeconds(5));
+        MultipartFile[] files = files("a.txt", "b.exe", "c.txt", "d.txt", "e.exe", "f.txt");
+        given(fileValidationService.checkFile(any(), any())).willAnswer(invocation -> {
+            MultipartFile file = invocation.getArgument(0);
+            // 앞쪽 파일일수록 늦게 끝나도록 지연
+            Thread.sleep(10L * (6 - file.getOriginalFilename().charAt(0) + 'a'));
+            if (file.getOriginalFilename().endsWith(".exe")) {
+                return ValidationResult.rejected(RejectionReason.EXTENSION_BLOCKED, "exe");
+            }
+            return ValidationResult.ALLOWED;
+        });
+
+        // when
+        List<FileUploadResponse> responses = batchValidationService.validateAll(files);
+
+        // then
+        assertThat(responses).extracting(FileUploadResponse::getFilename)
+                .containsExactly("a.txt", "b.exe", "c.txt", "d.txt", "e.exe", "f.txt");
+        assertThat(responses).extracting(FileUploadResponse::isAllowed)
+                .containsExactly(true, false, true, true, false, true);
+        assertThat(responses.get(1).getMessage()).isEqualTo("차단된 확장자입니다: .exe");
+        assertThat(responses.get(1).getReason()).isEqualTo(RejectionReason.EXTENSION_BLOCKED);
+    }
+
+    @Test
+    @DisplayName("요청당 동시 검증 수는 설정값을 넘지 않는다")
+    void validateAll_RespectsPerRequestConcurrency() {
+        // given
+        batchValidationService = new FileBatchValidationService(
+                fileValidationService, 8, 16, 2, Duration.ofSeconds(5));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        given(fileValidationService.checkFile(any(), any())).willAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return ValidationResult.ALLOWED;
+        });
+
+        // when
+        List<FileUploadResponse> responses = batchValidationService.validateAll(
+                files("1.txt", "2.txt", "3.txt", "4.txt", "5.txt", "6.txt", "7.txt", "8.txt"));
+
+        // then
+        assertThat(responses).allMatch(FileUploadResponse::isAllowed);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("배치 제한 시간을 넘긴 파일은 시간 초과로 실패 처리된다")
+    void validateAll_ExpiresSlowFiles() {
+        // given
+        batchValidationService = new FileBatchValidationService(
+                fileValidationService, 2, 16, 2, Duration.ofMillis(200));
+        given(fileValidationService.checkFile(any(), any())).willAnswer(invocation -> {
+            MultipartFile file = invocation.getArgument(0);
+            if (file.getOriginalFilename().startsWith("slow")) {
+                Thread.sleep(5_000);
+            }
+            return ValidationResult.ALLOWED;
+        });
+
+        // when
+        long start = System.nanoTime();
+        List<FileUploadResponse> responses = batchValidationService.validateAll(files("fast.txt", "slow.txt"));
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // then
+        assertThat(elapsedMillis).isLessThan(2_000);
+        assertThat(responses.get(0).isAllowed()).isTrue();
+        assertThat(responses.get(1).isAllowed()).isFalse();
+        assertThat(responses.get(1).getMessage()).isEqualTo(FileBatchValidationService.TIMEOUT_MESSAGE);
+    }
+
+    @Test
+    @DisplayName("스레드 풀이 포화되어 요청 스레드에서 검증해도 제한 시간 이후의 파일은 시간 초과로 처리된다")
+    void validateAll_SaturatedPoolRespectsDeadline() {
+        // given
+        batchValidationService = new FileBatchValidationService(
+                fileValidationService, 1, 1, 2, Duration.ofMillis(200));
+        // 종료된 풀은 모든 제출을 거부하므로 포화 상태와 같음
+        batchValidationService.shutdown();
+        given(fileValidationService.checkFile(any(), any())).willAnswer(invocation -> {
+            Thread.sleep(150);
+            return ValidationResult.ALLOWED;
+        });
+
+        // when
+        long start = System.nanoTime();
+        List<FileUploadResponse> responses = batchValidationService.validateAll(
+                files("1.txt", "2.txt", "3.txt", "4.txt", "5.txt", "6.txt"));
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // then
+        assertThat(elapsedMillis).isLessThan(600);
+        assertThat(responses.get(0).isAllowed()).isTrue();
+        assertThat(responses.get(5).isAllowed()).isFalse();
+        assertThat(responses.get(5).getMessage()).isEqualTo(FileBatchValidationService.TIMEOUT_MESSAGE);
+        then(fileValidationService).should(atMost(2)).checkFile(any(), any());
+    }
+
+    private static MultipartFile[] files(String... filenames) {
+        MultipartFile[] files = new MultipartFile[filenames.length];
+        for (int i = 0; i < filenames.length; i++) {
+            files[i] = new MockMultipartFile("files", filenames[i], "text/plain", "content".getBytes());
+        }
+        return files;
+    }
+}
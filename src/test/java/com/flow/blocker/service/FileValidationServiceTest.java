@@ -1,22 +1,52 @@
 package com.flow.blocker.service;
 
-import com.flow.blocker.domain.CustomExtension;
-import com.flow.blocker.domain.FixedExtension;
+import com.flow.blocker.audit.UploadAuditQueue;
+import com.flow.blocker.audit.UploadVerdict;
 import com.flow.blocker.exception.ExtensionException;
-import com.flow.blocker.repository.CustomExtensionRepository;
-import com.flow.blocker.repository.FixedExtensionRepository;
+import com.flow.blocker.metrics.ValidationMetrics;
+import com.flow.blocker.multipart.EarlyRejectMultipartResolver;
+import com.flow.blocker.multipart.SpooledMultipartFile;
+import com.flow.blocker.policy.ContentScannerHolder;
+import com.flow.blocker.policy.ExtensionPolicyHolder;
+import com.flow.blocker.policy.UploadRuleHolder;
+import com.flow.blocker.validation.ArchiveFinding;
+import com.flow.blocker.validation.ArchiveInspector;
+import com.flow.blocker.validation.ArchiveLimits;
+import com.flow.blocker.validation.ContentDigest;
+import com.flow.blocker.validation.ContentScanLimits;
+import com.flow.blocker.validation.ContentScanner;
+import com.flow.blocker.validation.ContentVerdict;
+import com.flow.blocker.validation.DecisionRule;
+import com.flow.blocker.validation.DecisionTable;
+import com.flow.blocker.validation.ExtensionPolicy;
+import com.flow.blocker.validation.FileSignature;
+import com.flow.blocker.validation.FileValidator;
+import com.flow.blocker.validation.RejectionReason;
+import com.flow.blocker.validation.ValidationResult;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockMultipartFile;
-
-import java.util.Collections;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.multipart.MultipartResolver;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
@@ -29,10 +59,60 @@ class FileValidationServiceTest {
     private FileValidationService fileValidationService;
 
     @Mock
-    private FixedExtensionRepository fixedExtensionRepository;
+    private ExtensionPolicyHolder policyHolder;
+
+    @Mock
+    private UploadRuleHolder uploadRuleHolder;
+
+    @Mock
+    private ValidationMetrics validationMetrics;
+
+    @Mock
+    private UploadAuditQueue uploadAuditQueue;
+
+    @Mock
+    private ContentVerdictCache contentVerdictCache;
+
+    @Mock
+    private ArchiveInspector archiveInspector;
 
     @Mock
-    private CustomExtensionRepository customExtensionRepository;
+    private ContentScannerHolder contentScannerHolder;
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * MZ 헤더와 e_lfanew(0x40)가 가리키는 PE 헤더만 있는 최소 PE
+     */
+    private static byte[] peStub() {
+        byte[] pe = new byte[0x80];
+        pe[0] = 'M';
+        pe[1] = 'Z';
+        pe[0x3C] = 0x40;
+        pe[0x40] = 'P';
+        pe[0x41] = 'E';
+        return pe;
+    }
+
+    @BeforeEach
+    void setUp() {
+        // 빈 파일 등 판정 테이블까지 가지 않는 경우가 있어 lenient
+        lenient().when(policyHolder.current()).thenReturn(ExtensionPolicy.empty());
+        lenient().when(uploadRuleHolder.current()).thenReturn(FileValidator.DEFAULT_DECISIONS);
+        lenient().when(contentScannerHolder.current()).thenReturn(ContentScanner.empty());
+    }
+
+    private void givenContentPatterns(String... patterns) {
+        given(contentScannerHolder.current()).willReturn(ContentScanner.compile(3L, List.of(patterns)));
+        given(contentScannerHolder.limits()).willReturn(new ContentScanLimits(1024, 16));
+    }
+
+    private void givenRules(DecisionRule... rules) {
+        List<DecisionRule> merged = new ArrayList<>(FileValidator.DEFAULT_RULES);
+        merged.addAll(List.of(rules));
+        given(uploadRuleHolder.current()).willReturn(DecisionTable.compile(merged));
+    }
 
     @Nested
     @DisplayName("파일 검증")
@@ -46,14 +126,36 @@ class FileValidationServiceTest {
                 "file", "document.txt", "text/plain", "Hello World".getBytes()
             );
 
-			given(fixedExtensionRepository.findByCheckedTrue()).willReturn(Collections.emptyList());
-			given(customExtensionRepository.findAll()).willReturn(Collections.emptyList());
+			given(policyHolder.current()).willReturn(ExtensionPolicy.empty());
 
             // when
             boolean result = fileValidationService.validateFile(file);
 
             // then
             assertThat(result).isTrue();
+            then(validationMetrics).should().recordValidation(eq(true), anyLong());
+            then(validationMetrics).should(never()).rejected(any(), any());
+            then(uploadAuditQueue).should().offer(argThat(UploadVerdict::allowed));
+        }
+
+        @Test
+        @DisplayName("거부 감사 기록에는 판정에 사용한 스냅샷의 정책 버전을 남긴다")
+        void checkFile_RejectionAuditedWithDecidingVersion() {
+            // given
+            MockMultipartFile file = new MockMultipartFile(
+                "file", "disk.iso", "application/octet-stream", "data".getBytes()
+            );
+            given(policyHolder.current()).willReturn(new ExtensionPolicy(4L, Set.of("iso"), Set.of()));
+            // 판정 도중 스냅샷이 교체된 상황
+            lenient().when(policyHolder.version()).thenReturn(5L);
+
+            // when
+            ValidationResult result = fileValidationService.checkFile(file, "127.0.0.1");
+
+            // then
+            assertThat(result.reason()).isEqualTo(RejectionReason.EXTENSION_BLOCKED);
+            then(uploadAuditQueue).should().offer(argThat(verdict ->
+                    verdict.reason() == RejectionReason.EXTENSION_BLOCKED && verdict.policyVersion() == 4L));
         }
 
         @Test
@@ -92,17 +194,19 @@ class FileValidationServiceTest {
                 "file", "malware.exe", "application/x-msdownload", "MZ".getBytes()
             );
 
-			FixedExtension blockedExt = new FixedExtension("exe");
-			blockedExt.updateChecked(true);
-
-			given(fixedExtensionRepository.findByCheckedTrue())
-					.willReturn(List.of(blockedExt));
-			given(customExtensionRepository.findAll()).willReturn(Collections.emptyList());
+			given(policyHolder.current())
+					.willReturn(new ExtensionPolicy(1L, Set.of("exe"), Set.of()));
 
             // when & then
             assertThatThrownBy(() -> fileValidationService.validateFile(file))
                 .isInstanceOf(ExtensionException.class)
                 .hasMessage("차단된 확장자입니다: .exe");
+            then(validationMetrics).should().rejected(RejectionReason.EXTENSION_BLOCKED, "exe");
+            then(validationMetrics).should().recordValidation(eq(false), anyLong());
+            then(uploadAuditQueue).should().offer(argThat(verdict ->
+                    verdict.reason() == RejectionReason.EXTENSION_BLOCKED
+                            && "exe".equals(verdict.extension())
+                            && verdict.size() == 2));
         }
 
         @Test
@@ -113,11 +217,8 @@ class FileValidationServiceTest {
                 "file", "document.pdf", "application/pdf", "%PDF".getBytes()
             );
 
-			CustomExtension blockedExt = new CustomExtension("pdf");
-
-			given(fixedExtensionRepository.findByCheckedTrue()).willReturn(Collections.emptyList());
-			given(customExtensionRepository.findAll())
-					.willReturn(List.of(blockedExt));
+			given(policyHolder.current())
+					.willReturn(new ExtensionPolicy(1L, Set.of(), Set.of("pdf")));
 
             // when & then
             assertThatThrownBy(() -> fileValidationService.validateFile(file))
@@ -125,6 +226,23 @@ class FileValidationServiceTest {
                 .hasMessage("차단된 확장자입니다: .pdf");
         }
 
+        @Test
+        @DisplayName("패턴으로 차단된 확장자는 요청 확장자 대신 패턴으로 메트릭을 남긴다")
+        void validateFile_BlockedByPatternTaggedWithPattern() {
+            // given
+            MockMultipartFile file = new MockMultipartFile(
+                "file", "shell.php7random", "text/plain", "<?php".getBytes()
+            );
+
+			given(policyHolder.current())
+					.willReturn(new ExtensionPolicy(1L, Set.of(), Set.of("php*")));
+
+            // when & then
+            assertThatThrownBy(() -> fileValidationService.validateFile(file))
+                .isInstanceOf(ExtensionException.class);
+            then(validationMetrics).should().rejected(RejectionReason.EXTENSION_BLOCKED, "php*");
+        }
+
         @Test
         @DisplayName("이중 확장자는 업로드할 수 없다")
         void validateFile_DoubleExtension() {
@@ -167,6 +285,275 @@ class FileValidationServiceTest {
                 .hasMessage("유효하지 않은 파일명입니다.");
         }
 
+        @Test
+        @DisplayName("다른 확장자로 위장한 실행 파일은 업로드할 수 없다")
+        void validateFile_DisguisedExecutable() {
+            // given
+            MockMultipartFile peAsText = new MockMultipartFile(
+                "file", "report.txt", "text/plain", peStub()
+            );
+            MockMultipartFile elfAsImage = new MockMultipartFile(
+                "file", "photo.jpg", "image/jpeg", new byte[]{0x7F, 'E', 'L', 'F', 0x02}
+            );
+            given(policyHolder.current()).willReturn(ExtensionPolicy.empty());
+
+            // when & then
+            assertThatThrownBy(() -> fileValidationService.validateFile(peAsText))
+                .isInstanceOf(ExtensionException.class)
+                .hasMessage("파일 형식이 일치하지 않습니다.");
+            assertThatThrownBy(() -> fileValidationService.validateFile(elfAsImage))
+                .isInstanceOf(ExtensionException.class)
+                .hasMessage("파일 형식이 일치하지 않습니다.");
+        }
+
+        @Test
+        @DisplayName("MZ나 #!로 시작하는 텍스트 파일은 위장 실행 파일로 차단하지 않는다")
+        void validateFile_TextStartingWithExecutableMagic() {
+            // given
+            MockMultipartFile csv = new MockMultipartFile(
+                "file", "members.csv", "text/csv", "MZ,Kim,Seoul\nLee,Busan,Daegu\n".getBytes()
+            );
+            MockMultipartFile markdown = new MockMultipartFile(
+                "file", "install.md", "text/markdown", "#!/bin/sh 예제는 아래를 참고\n".getBytes()
+            );
+            given(policyHolder.current()).willReturn(ExtensionPolicy.empty());
+
+            // when & then
+            assertThat(fileValidationService.validateFile(csv)).isTrue();
+            assertThat(fileValidationService.validateFile(markdown)).isTrue();
+        }
+
+        @Test
+        @DisplayName("시그니처와 확장자가 일치하는 파일은 검증을 통과한다")
+        void validateFile_MatchingSignature() {
+            // given
+            MockMultipartFile png = new MockMultipartFile(
+                "file", "photo.png", "image/png",
+                new byte[]{(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0x00}
+            );
+            given(policyHolder.current()).willReturn(ExtensionPolicy.empty());
+
+            // when
+            boolean result = fileValidationService.validateFile(png);
+
+            // then
+            assertThat(result).isTrue();
+        }
+
+        @Test
+        @DisplayName("같은 내용과 정책 버전의 검사 결과가 캐시에 있으면 파일을 다시 읽지 않는다")
+        void validateFile_ContentVerdictCached() throws Exception {
+            // given
+            ContentDigest digest = new ContentDigest("ab12");
+            SpooledMultipartFile file = mock(SpooledMultipartFile.class);
+            given(file.isEmpty()).willReturn(false);
+            given(file.getOriginalFilename()).willReturn("report.txt");
+            given(file.getContentType()).willReturn("text/plain");
+            given(file.getContentDigest()).willReturn(digest);
+            given(policyHolder.current()).willReturn(new ExtensionPolicy(5L, Set.of(), Set.of()));
+            given(contentVerdictCache.get(digest, 5L, 0L, 0L)).willReturn(new ContentVerdict(FileSignature.PE_EXECUTABLE));
+
+            // when & then
+            assertThatThrownBy(() -> fileValidationService.validateFile(file))
+                .isInstanceOf(ExtensionException.class)
+                .hasMessage("파일 형식이 일치하지 않습니다.");
+            then(file).should(never()).getInputStream();
+        }
+
+        @Test
+        @DisplayName("캐시에 없는 내용은 검사 후 결과를 캐시에 저장한다")
+        void validateFile_ContentVerdictStored() throws Exception {
+            // given
+            ContentDigest digest = new ContentDigest("cd34");
+            SpooledMultipartFile file = mock(SpooledMultipartFile.class);
+            given(file.isEmpty()).willReturn(false);
+            given(file.getOriginalFilename()).willReturn("photo.png");
+            given(file.getContentType()).willReturn("image/png");
+            given(file.getContentDigest()).willReturn(digest);
+            given(file.getInputStream()).willReturn(new ByteArrayInputStream(
+                new byte[]{(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0x00}));
+            given(policyHolder.current()).willReturn(new ExtensionPolicy(5L, Set.of(), Set.of()));
+
+            // when
+            boolean result = fileValidationService.validateFile(file);
+
+            // then
+            assertThat(result).isTrue();
+            then(contentVerdictCache).should().put(digest, 5L, 0L, 0L, new ContentVerdict(FileSignature.PNG));
+        }
+
+        @Test
+        @DisplayName("차단된 파일이 든 압축 파일은 업로드할 수 없다")
+        void validateFile_ArchiveWithBlockedEntry() throws Exception {
+            // given
+            MockMultipartFile zip = new MockMultipartFile(
+                "file", "bundle.zip", "application/zip", new byte[]{'P', 'K', 0x03, 0x04, 0x14, 0x00}
+            );
+            given(policyHolder.current()).willReturn(new ExtensionPolicy(1L, Set.of("exe"), Set.of()));
+            given(archiveInspector.inspect(any(InputStream.class), any()))
+                .willReturn(new ArchiveFinding(RejectionReason.ARCHIVE_ENTRY_BLOCKED, "bin/setup.exe", "EXTENSION_BLOCKED"));
+
+            // when & then
+            assertThatThrownBy(() -> fileValidationService.validateFile(zip))
+                .isInstanceOf(ExtensionException.class)
+                .hasMessage("압축 파일에 허용되지 않는 파일이 포함되어 있습니다: bin/setup.exe");
+            then(validationMetrics).should().rejected(RejectionReason.ARCHIVE_ENTRY_BLOCKED, null);
+        }
+
+        @Test
+        @DisplayName("업로드 정책 규칙으로 차단된 확장자가 든 압축 파일은 업로드할 수 없다")
+        void validateFile_ArchiveWithRuleBlockedEntry() throws Exception {
+            // given
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (ZipOutputStream entries = new ZipOutputStream(out)) {
+                entries.putNextEntry(new ZipEntry("lib/a.js"));
+                entries.write("alert(1)".getBytes());
+                entries.closeEntry();
+            }
+            MockMultipartFile zip = new MockMultipartFile("file", "bundle.zip", "application/zip", out.toByteArray());
+            given(policyHolder.current()).willReturn(ExtensionPolicy.empty());
+            givenRules(new DecisionRule("js", DecisionRule.Mode.UPLOAD, true, DecisionRule.NO_LIMIT, Set.of(), false));
+            ArchiveInspector inspector = new ArchiveInspector(new ArchiveLimits(100, 1024 * 1024, 100, 2));
+            given(archiveInspector.inspect(any(InputStream.class), any())).willAnswer(invocation ->
+                inspector.inspect(invocation.<InputStream>getArgument(0), invocation.getArgument(1)));
+
+            // when & then
+            assertThatThrownBy(() -> fileValidationService.validateFile(zip))
+                .isInstanceOf(ExtensionException.class)
+                .hasMessage("압축 파일에 허용되지 않는 파일이 포함되어 있습니다: lib/a.js");
+            then(validationMetrics).should().rejected(RejectionReason.ARCHIVE_ENTRY_BLOCKED, null);
+        }
+
+        @Test
+        @DisplayName("압축 파일이 아니면 항목 검사를 하지 않는다")
+        void validateFile_NotArchive() {
+            // given
+            MockMultipartFile file = new MockMultipartFile(
+                "file", "document.txt", "text/plain", "Hello World".getBytes()
+            );
+            given(policyHolder.current()).willReturn(ExtensionPolicy.empty());
+
+            // when
+            fileValidationService.validateFile(file);
+
+            // then
+            then(archiveInspector).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("내용 검사 패턴이 포함된 파일은 업로드할 수 없다")
+        void validateFile_ContentPatternDetected() {
+            // given
+            MockMultipartFile file = new MockMultipartFile(
+                "file", "notes.txt", "text/plain", "comment <SCRIPT>alert(1)</script>".getBytes()
+            );
+            given(policyHolder.current()).willReturn(ExtensionPolicy.empty());
+            givenContentPatterns("<script", "vbaproject.bin");
+
+            // when & then
+            assertThatThrownBy(() -> fileValidationService.validateFile(file))
+                .isInstanceOf(ExtensionException.class)
+                .hasMessage("파일에 허용되지 않는 내용이 포함되어 있습니다.");
+            then(validationMetrics).should().rejected(RejectionReason.CONTENT_PATTERN_DETECTED, null);
+            then(validationMetrics).should().recordScan(anyLong(), anyLong(), eq(false));
+        }
+
+        @Test
+        @DisplayName("임시 파일로 저장된 업로드는 스트림 대신 파일 채널로 검사한다")
+        void validateFile_FileBackedChannel() throws Exception {
+            // given
+            Path stored = Files.write(tempDir.resolve("upload.tmp"), "%PDF-1.7 ... javascript:app.alert(1)".getBytes());
+            SpooledMultipartFile file = mock(SpooledMultipartFile.class);
+            given(file.isEmpty()).willReturn(false);
+            given(file.getOriginalFilename()).willReturn("report.pdf");
+            given(file.getContentType()).willReturn("application/pdf");
+            given(file.isFileBacked()).willReturn(true);
+            given(file.getFile()).willReturn(stored);
+            given(policyHolder.current()).willReturn(ExtensionPolicy.empty());
+            givenContentPatterns("javascript:");
+
+            // when & then
+            assertThatThrownBy(() -> fileValidationService.validateFile(file))
+                .isInstanceOf(ExtensionException.class)
+                .hasMessage("파일에 허용되지 않는 내용이 포함되어 있습니다.");
+            then(file).should(never()).getInputStream();
+        }
+
+        @Test
+        @DisplayName("임시 파일로 저장된 업로드도 선두 바이트로 위장 실행 파일을 차단한다")
+        void validateFile_FileBackedDisguisedExecutable() throws Exception {
+            // given
+            Path stored = Files.write(tempDir.resolve("upload.tmp"), peStub());
+            SpooledMultipartFile file = mock(SpooledMultipartFile.class);
+            given(file.isEmpty()).willReturn(false);
+            given(file.getOriginalFilename()).willReturn("report.txt");
+            given(file.getContentType()).willReturn("text/plain");
+            given(file.isFileBacked()).willReturn(true);
+            given(file.getFile()).willReturn(stored);
+            given(policyHolder.current()).willReturn(ExtensionPolicy.empty());
+
+            // when & then
+            assertThatThrownBy(() -> fileValidationService.validateFile(file))
+                .isInstanceOf(ExtensionException.class)
+                .hasMessage("파일 형식이 일치하지 않습니다.");
+            then(file).should(never()).getInputStream();
+            then(contentScannerHolder).should(never()).limits();
+        }
+
+        @Test
+        @DisplayName("임시 파일로 저장된 업로드는 내용 검사 후 요청 정리 시 실제로 삭제된다")
+        void validateFile_SpoolFileDeletedAfterValidation() throws Exception {
+            // given
+            EarlyRejectMultipartResolver resolver = new EarlyRejectMultipartResolver(
+                mock(MultipartResolver.class), fileValidationService, Set.of("/api/files/upload"),
+                1024 * 1024, 4 * 1024 * 1024, 50, 2 * 1024, tempDir);
+            String boundary = "----SpoolBoundary";
+            String body = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"notes.txt\"\r\n"
+                + "Content-Type: text/plain\r\n\r\n"
+                + "x".repeat(64 * 1024) + "\r\n"
+                + "--" + boundary + "--\r\n";
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/files/upload");
+            request.setContentType("multipart/form-data; boundary=" + boundary);
+            request.setContent(body.getBytes());
+            given(policyHolder.current()).willReturn(ExtensionPolicy.empty());
+            givenContentPatterns("<script");
+
+            MultipartHttpServletRequest multipart = resolver.resolveMultipart(request);
+            SpooledMultipartFile file = (SpooledMultipartFile) multipart.getFile("file");
+
+            // when
+            boolean result = fileValidationService.validateFile(file);
+            resolver.cleanupMultipart(multipart);
+
+            // then
+            assertThat(result).isTrue();
+            assertThat(file.isFileBacked()).isTrue();
+            assertThat(Files.exists(file.getFile())).isFalse();
+            try (var remaining = Files.list(tempDir)) {
+                assertThat(remaining).isEmpty();
+            }
+            then(validationMetrics).should().recordScan(eq(1024L), anyLong(), eq(true));
+        }
+
+        @Test
+        @DisplayName("내용 검사 패턴이 없는 파일은 검증을 통과한다")
+        void validateFile_ContentPatternClean() {
+            // given
+            MockMultipartFile file = new MockMultipartFile(
+                "file", "document.txt", "text/plain", "Hello World".getBytes()
+            );
+            given(policyHolder.current()).willReturn(ExtensionPolicy.empty());
+            givenContentPatterns("<script", "vbaproject.bin");
+
+            // when
+            boolean result = fileValidationService.validateFile(file);
+
+            // then
+            assertThat(result).isTrue();
+            then(validationMetrics).should().recordScan(eq(11L), anyLong(), eq(false));
+        }
+
         @Test
         @DisplayName("100MB를 초과하는 파일은 업로드할 수 없다")
         void validateFile_FileSizeExceeded() {
@@ -183,6 +570,61 @@ class FileValidationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("업로드 정책 규칙")
+    class UploadRuleTests {
+
+        @Test
+        @DisplayName("확장자별 크기 제한을 넘으면 제한 크기와 함께 거부된다")
+        void checkFile_ExtensionSizeLimit() {
+            // given
+            givenRules(DecisionRule.maxSize("txt", 1024));
+            MockMultipartFile file = new MockMultipartFile(
+                "file", "notes.txt", "text/plain", new byte[2048]
+            );
+
+            // when
+            ValidationResult result = fileValidationService.checkFile(file, "127.0.0.1");
+
+            // then
+            assertThat(result.reason()).isEqualTo(RejectionReason.SIZE_EXCEEDED);
+            assertThat(ValidationMessages.of(result)).isEqualTo("파일 크기는 1KB를 초과할 수 없습니다.");
+        }
+
+        @Test
+        @DisplayName("확장자의 MIME Type 허용 목록에 없는 형식은 거부된다")
+        void checkFile_MimeTypeAllowlist() {
+            // given
+            givenRules(DecisionRule.mimeTypes("csv", true, "text/csv"));
+            given(policyHolder.current()).willReturn(ExtensionPolicy.empty());
+            MockMultipartFile file = new MockMultipartFile(
+                "file", "report.csv", "text/plain", "a,b".getBytes()
+            );
+
+            // when
+            ValidationResult result = fileValidationService.checkFile(file, "127.0.0.1");
+
+            // then
+            assertThat(result.reason()).isEqualTo(RejectionReason.MIME_TYPE_MISMATCH);
+        }
+
+        @Test
+        @DisplayName("업로드 경로에서만 차단한 확장자는 파일명 검증을 통과한다")
+        void uploadOnlyRule() {
+            // given
+            givenRules(new DecisionRule("iso", DecisionRule.Mode.UPLOAD, true, DecisionRule.NO_LIMIT, Set.of(), false));
+            given(policyHolder.current()).willReturn(ExtensionPolicy.empty());
+
+            // when
+            ValidationResult validated = fileValidationService.checkFilename("disk.iso");
+            ValidationResult uploaded = fileValidationService.checkUploadFilename("disk.iso", "127.0.0.1");
+
+            // then
+            assertThat(validated.isAllowed()).isTrue();
+            assertThat(uploaded.reason()).isEqualTo(RejectionReason.EXTENSION_BLOCKED);
+        }
+    }
+
     @Nested
     @DisplayName("파일명 검증")
     class ValidateFilenameTests {
@@ -193,8 +635,7 @@ class FileValidationServiceTest {
             // given
             String filename = "document.txt";
             
-            given(fixedExtensionRepository.findByCheckedTrue()).willReturn(Collections.emptyList());
-            given(customExtensionRepository.findAll()).willReturn(Collections.emptyList());
+            given(policyHolder.current()).willReturn(ExtensionPolicy.empty());
 
             // when
             boolean result = fileValidationService.validateFilename(filename);
@@ -216,12 +657,8 @@ class FileValidationServiceTest {
         @DisplayName("차단된 확장자 파일명은 검증에 실패한다")
         void validateFilename_BlockedExtension() {
             // given
-            FixedExtension blockedExt = new FixedExtension("exe");
-            blockedExt.updateChecked(true);
-            
-            given(fixedExtensionRepository.findByCheckedTrue())
-                .willReturn(List.of(blockedExt));
-            given(customExtensionRepository.findAll()).willReturn(Collections.emptyList());
+            given(policyHolder.current())
+                .willReturn(new ExtensionPolicy(1L, Set.of("exe"), Set.of()));
 
             // when & then
             assertThatThrownBy(() -> fileValidationService.validateFilename("virus.exe"))
@@ -244,8 +681,7 @@ class FileValidationServiceTest {
             // given
             String maliciousFilename = "<script>alert('xss')</script>.txt";
             
-            given(fixedExtensionRepository.findByCheckedTrue()).willReturn(Collections.emptyList());
-            given(customExtensionRepository.findAll()).willReturn(Collections.emptyList());
+            given(policyHolder.current()).willReturn(ExtensionPolicy.empty());
 
             // when
             boolean result = fileValidationService.validateFilename(maliciousFilename);
@@ -257,50 +693,111 @@ class FileValidationServiceTest {
     }
 
     @Nested
-    @DisplayName("차단된 확장자 목록 조회")
-    class GetBlockedExtensionsTests {
+    @DisplayName("판정 결과 API")
+    class CheckTests {
 
         @Test
-        @DisplayName("차단된 고정 확장자와 커스텀 확장자를 모두 반환한다")
-        void getBlockedExtensions_All() {
+        @DisplayName("차단된 파일은 예외 없이 사유와 메시지 키를 반환한다")
+        void checkFile_Rejected() {
             // given
-            FixedExtension fixedExt = new FixedExtension("exe");
-            fixedExt.updateChecked(true);
-            CustomExtension customExt = new CustomExtension("pdf");
-            
-            given(fixedExtensionRepository.findByCheckedTrue())
-                .willReturn(List.of(fixedExt));
-            given(customExtensionRepository.findAll())
-                .willReturn(List.of(customExt));
+            MockMultipartFile file = new MockMultipartFile(
+                "file", "malware.exe", "application/x-msdownload", "MZ".getBytes()
+            );
+            given(policyHolder.current()).willReturn(new ExtensionPolicy(1L, Set.of("exe"), Set.of()));
 
             // when
-            Set<String> blocked = fileValidationService.getBlockedExtensions();
+            ValidationResult result = fileValidationService.checkFile(file, "10.0.0.1");
 
             // then
-            assertThat(blocked).containsExactlyInAnyOrder("exe", "pdf");
+            assertThat(result.isAllowed()).isFalse();
+            assertThat(result.reason()).isEqualTo(RejectionReason.EXTENSION_BLOCKED);
+            assertThat(result.messageKey()).isEqualTo("rejection.extension-blocked");
+            assertThat(ValidationMessages.of(result)).isEqualTo("차단된 확장자입니다: .exe");
+            then(validationMetrics).should().recordValidation(eq(false), anyLong());
         }
 
         @Test
-        @DisplayName("체크되지 않은 고정 확장자는 포함하지 않는다")
-        void getBlockedExtensions_UncheckedFixed() {
+        @DisplayName("빈 파일은 파일명 사유에 빈 파일 메시지 키로 거부된다")
+        void checkFile_Empty() {
             // given
-            FixedExtension checkedExt = new FixedExtension("exe");
-            checkedExt.updateChecked(true);
-            
-            FixedExtension uncheckedExt = new FixedExtension("bat");
-            uncheckedExt.updateChecked(false);
-            
-            given(fixedExtensionRepository.findByCheckedTrue())
-                .willReturn(List.of(checkedExt));
-            given(customExtensionRepository.findAll())
-                .willReturn(Collections.emptyList());
+            MockMultipartFile file = new MockMultipartFile("file", "empty.txt", "text/plain", new byte[0]);
+
+            // when
+            ValidationResult result = fileValidationService.checkFile(file, "10.0.0.1");
+
+            // then
+            assertThat(result.reason()).isEqualTo(RejectionReason.INVALID_FILENAME);
+            assertThat(result.messageKey()).isEqualTo(ValidationMessages.EMPTY_FILE_KEY);
+        }
+
+        @Test
+        @DisplayName("파일명 판정은 통과 시 ALLOWED를 반환한다")
+        void checkFilename_Allowed() {
+            // given
+            given(policyHolder.current()).willReturn(ExtensionPolicy.empty());
+
+            // when & then
+            assertThat(fileValidationService.checkFilename("report.pdf")).isSameAs(ValidationResult.ALLOWED);
+            assertThat(fileValidationService.checkFilename("image.jpg.exe").reason())
+                .isEqualTo(RejectionReason.DOUBLE_EXTENSION);
+        }
+    }
+
+    @Nested
+    @DisplayName("업로드 파일명 검증")
+    class CheckUploadFilenameTests {
+
+        @Test
+        @DisplayName("차단된 업로드 파일명은 크기 없이 감사 기록된다")
+        void checkUploadFilename_BlockedAudited() {
+            // given
+            given(policyHolder.current())
+                .willReturn(new ExtensionPolicy(7L, Set.of("exe"), Set.of()));
+
+            // when
+            ValidationResult result = fileValidationService.checkUploadFilename("virus.exe", "10.0.0.1");
+
+            // then
+            assertThat(ValidationMessages.of(result)).isEqualTo("차단된 확장자입니다: .exe");
+            then(uploadAuditQueue).should().offer(argThat(verdict ->
+                    verdict.reason() == RejectionReason.EXTENSION_BLOCKED
+                            && "exe".equals(verdict.extension())
+                            && verdict.size() == -1
+                            && "10.0.0.1".equals(verdict.clientIp())
+                            && verdict.policyVersion() == 7L));
+        }
+
+        @Test
+        @DisplayName("허용된 업로드 파일명은 본문 검증 단계에서 기록하므로 감사 기록하지 않는다")
+        void checkUploadFilename_AllowedNotAudited() {
+            // given
+            given(policyHolder.current()).willReturn(ExtensionPolicy.empty());
+
+            // when
+            ValidationResult result = fileValidationService.checkUploadFilename("report.pdf", "10.0.0.1");
+
+            // then
+            assertThat(result.isAllowed()).isTrue();
+            then(uploadAuditQueue).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("차단된 확장자 목록 조회")
+    class GetBlockedExtensionsTests {
+
+        @Test
+        @DisplayName("현재 정책 스냅샷의 차단 확장자를 반환한다")
+        void getBlockedExtensions_FromSnapshot() {
+            // given
+            given(policyHolder.current())
+                .willReturn(new ExtensionPolicy(3L, Set.of("exe"), Set.of("pdf")));
 
             // when
             Set<String> blocked = fileValidationService.getBlockedExtensions();
 
             // then
-            assertThat(blocked).containsExactly("exe");
-            assertThat(blocked).doesNotContain("bat");
+            assertThat(blocked).containsExactlyInAnyOrder("exe", "pdf");
         }
     }
 }
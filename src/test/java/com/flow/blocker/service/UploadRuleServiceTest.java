@@ -0,0 +1,178 @@
+package com.flow.blocker.service;
+
+import com.flow.blocker.domain.UploadRule;
+import com.flow.blocker.dto.UploadRuleRequest;
+import com.flow.blocker.dto.UploadRuleResponse;
+import com.flow.blocker.event.CacheEvictionEvent;
+import com.flow.blocker.exception.ExtensionException;
+import com.flow.blocker.repository.UploadRuleRepository;
+import com.flow.blocker.validation.DecisionRule;
+import com.flow.blocker.validation.FileValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UploadRuleService 테스트")
+class UploadRuleServiceTest {
+
+    @InjectMocks
+    private UploadRuleService uploadRuleService;
+
+    @Mock
+    private UploadRuleRepository uploadRuleRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private static UploadRuleRequest request(String extension, String... mimeTypes) {
+        UploadRuleRequest request = new UploadRuleRequest();
+        request.setExtension(extension);
+        request.setMode(DecisionRule.Mode.UPLOAD);
+        request.setMaxSizeBytes(1024L);
+        request.setMimeTypes(Set.of(mimeTypes));
+        return request;
+    }
+
+    @Nested
+    @DisplayName("규칙 추가")
+    class AddRuleTests {
+
+        @Test
+        @DisplayName("확장자와 MIME Type을 정규화하여 저장하고 변경 이벤트를 발행한다")
+        void addRule_Success() {
+            // given
+            given(uploadRuleRepository.save(any(UploadRule.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            UploadRuleResponse response = uploadRuleService.addRule(request(".CSV", "Text/CSV"));
+
+            // then
+            assertThat(response.extension()).isEqualTo("csv");
+            assertThat(response.mimeTypes()).containsExactly("text/csv");
+            assertThat(response.maxSizeBytes()).isEqualTo(1024L);
+            then(eventPublisher).should().publishEvent(any(CacheEvictionEvent.UploadRuleChangeEvent.class));
+        }
+
+        @Test
+        @DisplayName("전체 확장자(*) 규칙을 추가할 수 있다")
+        void addRule_AnyExtension() {
+            // given
+            given(uploadRuleRepository.save(any(UploadRule.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            UploadRuleResponse response = uploadRuleService.addRule(request(DecisionRule.ANY_EXTENSION));
+
+            // then
+            assertThat(response.extension()).isEqualTo(DecisionRule.ANY_EXTENSION);
+        }
+
+        @Test
+        @DisplayName("확장자 형식이 올바르지 않으면 예외가 발생한다")
+        void addRule_InvalidExtension() {
+            // when & then
+            assertThatThrownBy(() -> uploadRuleService.addRule(request("php*")))
+                .isInstanceOf(ExtensionException.class)
+                .hasMessage("확장자는 영문자와 숫자만 입력 가능합니다.");
+            then(uploadRuleRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("MIME Type 형식이 올바르지 않으면 예외가 발생한다")
+        void addRule_InvalidMimeType() {
+            // when & then
+            assertThatThrownBy(() -> uploadRuleService.addRule(request("csv", "csv")))
+                .isInstanceOf(ExtensionException.class)
+                .hasMessage(UploadRuleService.INVALID_MIME_TYPE_MESSAGE + "csv");
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("MIME Type 목록이 없으면 예외가 발생한다")
+        void addRule_NullMimeTypes() {
+            // given
+            UploadRuleRequest request = request("csv");
+            request.setMimeTypes(null);
+
+            // when & then
+            assertThatThrownBy(() -> uploadRuleService.addRule(request))
+                .isInstanceOf(ExtensionException.class)
+                .hasMessage("MIME Type 목록을 입력해주세요.");
+            then(uploadRuleRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("MIME Type 목록이 저장 컬럼 길이를 넘으면 예외가 발생한다")
+        void addRule_MimeTypesTooLong() {
+            // given
+            String[] mimeTypes = new String[10];
+            for (int i = 0; i < mimeTypes.length; i++) {
+                mimeTypes[i] = "application/vnd." + "x".repeat(40) + i;
+            }
+
+            // when & then
+            assertThatThrownBy(() -> uploadRuleService.addRule(request("csv", mimeTypes)))
+                .isInstanceOf(ExtensionException.class)
+                .hasMessage(UploadRuleService.MIME_TYPES_TOO_LONG_MESSAGE);
+            then(uploadRuleRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 규칙은 삭제할 수 없다")
+    void deleteRule_NotFound() {
+        // given
+        given(uploadRuleRepository.findById(9L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> uploadRuleService.deleteRule(9L))
+            .isInstanceOf(ExtensionException.class)
+            .hasMessage("존재하지 않는 규칙입니다.");
+    }
+
+    @Nested
+    @DisplayName("기본 규칙 초기화")
+    class InitializeTests {
+
+        @Test
+        @DisplayName("규칙이 없으면 기본 규칙을 저장한다")
+        void initializeDefaultRules_Empty() {
+            // given
+            given(uploadRuleRepository.count()).willReturn(0L);
+
+            // when
+            uploadRuleService.initializeDefaultRules();
+
+            // then
+            then(uploadRuleRepository).should().saveAll(argThat((List<UploadRule> rules) ->
+                rules.stream().map(UploadRule::toRule).toList().equals(FileValidator.DEFAULT_RULES)));
+        }
+
+        @Test
+        @DisplayName("규칙이 있으면 아무것도 하지 않는다")
+        void initializeDefaultRules_Existing() {
+            // given
+            given(uploadRuleRepository.count()).willReturn(3L);
+
+            // when
+            uploadRuleService.initializeDefaultRules();
+
+            // then
+            then(uploadRuleRepository).should(never()).saveAll(anyList());
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+    }
+}
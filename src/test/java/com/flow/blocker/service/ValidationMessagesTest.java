@@ -0,0 +1,31 @@
+package com.flow.blocker.service;
+
+import com.flow.blocker.validation.RejectionReason;
+import com.flow.blocker.validation.ValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ValidationMessages 테스트")
+class ValidationMessagesTest {
+
+    @Test
+    @DisplayName("상세값이 있으면 문구에 넣는다")
+    void of_WithDetail() {
+        assertThat(ValidationMessages.of(ValidationResult.rejected(RejectionReason.EXTENSION_BLOCKED, "exe")))
+                .isEqualTo("차단된 확장자입니다: .exe");
+        assertThat(ValidationMessages.of(ValidationResult.rejected(RejectionReason.SIZE_EXCEEDED, "10MB")))
+                .isEqualTo("파일 크기는 10MB를 초과할 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("상세값이 없으면 자리 표시자 없는 문구를 반환한다")
+    void of_WithoutDetail() {
+        for (RejectionReason reason : RejectionReason.values()) {
+            assertThat(ValidationMessages.of(ValidationResult.rejected(reason))).doesNotContain("%s");
+        }
+        assertThat(ValidationMessages.of(ValidationResult.rejected(RejectionReason.EXTENSION_BLOCKED)))
+                .isEqualTo("차단된 확장자입니다.");
+    }
+}
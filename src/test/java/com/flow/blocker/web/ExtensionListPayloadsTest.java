@@ -0,0 +1,123 @@
+package com.flow.blocker.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.blocker.dto.ExtensionResponse;
+import com.flow.blocker.dto.VersionedExtensionList;
+import com.flow.blocker.policy.ExtensionPolicyHolder;
+import com.flow.blocker.service.ExtensionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExtensionListPayloads 테스트")
+class ExtensionListPayloadsTest {
+
+    @Mock
+    private ExtensionService extensionService;
+
+    @Mock
+    private ExtensionPolicyHolder policyHolder;
+
+    private ExtensionListPayloads payloads;
+
+    @BeforeEach
+    void setUp() {
+        payloads = new ExtensionListPayloads(extensionService, policyHolder, new ObjectMapper().findAndRegisterModules());
+    }
+
+    private static List<ExtensionResponse> extensions(String... names) {
+        return Arrays.stream(names)
+                .map(name -> new ExtensionResponse(null, name, true, null))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("정책 버전이 그대로면 직렬화한 본문을 재사용한다")
+    void reuseWhileVersionUnchanged() {
+        // given
+        given(policyHolder.version()).willReturn(2L);
+        given(extensionService.getVersionedCustomExtensions())
+                .willReturn(new VersionedExtensionList(2L, extensions("sh")));
+
+        // when
+        PrecomputedPayload first = payloads.custom();
+        PrecomputedPayload second = payloads.custom();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.etag()).isEqualTo("\"custom-v2\"");
+        assertThat(new String(first.body(), StandardCharsets.UTF_8))
+                .contains("\"success\":true")
+                .contains("\"extension\":\"sh\"");
+        then(extensionService).should(times(1)).getVersionedCustomExtensions();
+    }
+
+    @Test
+    @DisplayName("스냅샷 버전이 앞서면 목록을 다시 읽어 본문과 ETag를 갱신한다")
+    void rebuildWhenVersionAdvances() {
+        // given
+        // 첫 조회는 캐시가 없어 스냅샷 버전을 보지 않음
+        given(policyHolder.version()).willReturn(3L);
+        given(extensionService.getVersionedFixedExtensions())
+                .willReturn(new VersionedExtensionList(2L, extensions("exe")))
+                .willReturn(new VersionedExtensionList(3L, extensions("exe", "bat")));
+
+        // when
+        PrecomputedPayload before = payloads.fixed();
+        PrecomputedPayload after = payloads.fixed();
+
+        // then
+        assertThat(before.etag()).isEqualTo("\"fixed-v2\"");
+        assertThat(after.etag()).isEqualTo("\"fixed-v3\"");
+        assertThat(new String(after.body(), StandardCharsets.UTF_8)).contains("\"extension\":\"bat\"");
+    }
+
+    @Test
+    @DisplayName("고정 확장자 시드 전에 만든 빈 목록은 시드로 버전이 오르면 다른 ETag로 다시 만든다")
+    void rebuildAfterSeedFollowsFirstRequest() {
+        // given
+        // 시드가 올린 버전이 스냅샷에 반영된 뒤의 두 번째 조회
+        given(policyHolder.version()).willReturn(7L);
+        given(extensionService.getVersionedFixedExtensions())
+                .willReturn(new VersionedExtensionList(0L, List.of()))
+                .willReturn(new VersionedExtensionList(7L, extensions("bat", "cmd", "com", "cpl", "exe", "scr", "js")));
+
+        // when
+        PrecomputedPayload beforeSeed = payloads.fixed();
+        PrecomputedPayload afterSeed = payloads.fixed();
+
+        // then
+        assertThat(beforeSeed.etag()).isEqualTo("\"fixed-v0\"");
+        assertThat(new String(beforeSeed.body(), StandardCharsets.UTF_8)).contains("\"data\":[]");
+        assertThat(afterSeed.etag()).isEqualTo("\"fixed-v7\"");
+        assertThat(new String(afterSeed.body(), StandardCharsets.UTF_8)).contains("\"extension\":\"exe\"");
+    }
+
+    @Test
+    @DisplayName("DB에서 읽은 버전이 로컬 스냅샷보다 앞서도 그대로 사용한다")
+    void keepPayloadAheadOfSnapshot() {
+        // given
+        given(policyHolder.version()).willReturn(2L);
+        given(extensionService.getVersionedFixedExtensions())
+                .willReturn(new VersionedExtensionList(4L, extensions("exe")));
+
+        // when
+        payloads.fixed();
+        PrecomputedPayload payload = payloads.fixed();
+
+        // then
+        assertThat(payload.version()).isEqualTo(4L);
+        then(extensionService).should(times(1)).getVersionedFixedExtensions();
+    }
+}
@@ -0,0 +1,91 @@
+package com.flow.blocker.web;
+
+import com.flow.blocker.dto.ApiResponse;
+import com.flow.blocker.dto.PolicyChangesResponse;
+import com.flow.blocker.policy.PolicyChangeFeed;
+import com.flow.blocker.validation.ExtensionPolicy;
+import com.flow.blocker.validation.PolicyDelta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PolicyLongPollRegistry 테스트")
+class PolicyLongPollRegistryTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private PolicyChangeFeed feed;
+    private ExtensionPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        feed = new PolicyChangeFeed(100);
+        policy = new ExtensionPolicy(3L, Set.of("exe"), Set.of());
+        feed.publish(policy, List.of());
+    }
+
+    private PolicyLongPollRegistry registry(int maxWaiters) {
+        return new PolicyLongPollRegistry(feed, registry, Duration.ofSeconds(30), maxWaiters);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PolicyChangesResponse changes(DeferredResult<ApiResponse<PolicyChangesResponse>> result) {
+        return ((ApiResponse<PolicyChangesResponse>) result.getResult()).data();
+    }
+
+    @Test
+    @DisplayName("클라이언트가 뒤처져 있으면 기다리지 않고 바로 응답한다")
+    void poll_RespondsImmediatelyWhenBehind() {
+        // when
+        DeferredResult<ApiResponse<PolicyChangesResponse>> result = registry(10).poll(1L);
+
+        // then
+        assertThat(result.hasResult()).isTrue();
+        assertThat(changes(result).fullSync()).isTrue();
+    }
+
+    @Test
+    @DisplayName("최신 버전이면 대기하다가 정책이 바뀌면 변경분으로 응답한다")
+    void poll_CompletesOnPublish() {
+        // given
+        PolicyLongPollRegistry longPoll = registry(10);
+        DeferredResult<ApiResponse<PolicyChangesResponse>> first = longPoll.poll(3L);
+        DeferredResult<ApiResponse<PolicyChangesResponse>> second = longPoll.poll(3L);
+        assertThat(first.hasResult()).isFalse();
+        assertThat(longPoll.waiting()).isEqualTo(2);
+        assertThat(registry.get("policy.long-poll.waiters").gauge().value()).isEqualTo(2);
+
+        // when
+        List<PolicyDelta> deltas = List.of(new PolicyDelta(4L, PolicyDelta.Scope.CUSTOM, PolicyDelta.Action.ADD, "sh"));
+        feed.publish(policy.apply(deltas), deltas);
+
+        // then
+        assertThat(changes(first).version()).isEqualTo(4L);
+        assertThat(changes(first).added()).containsExactly("sh");
+        assertThat(changes(second)).isEqualTo(changes(first));
+        assertThat(longPoll.waiting()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 수가 한도에 도달하면 기다리지 않고 빈 변경분으로 응답한다")
+    void poll_RespondsImmediatelyWhenFull() {
+        // given
+        PolicyLongPollRegistry longPoll = registry(1);
+        longPoll.poll(3L);
+
+        // when
+        DeferredResult<ApiResponse<PolicyChangesResponse>> result = longPoll.poll(3L);
+
+        // then
+        assertThat(result.hasResult()).isTrue();
+        assertThat(changes(result)).isEqualTo(PolicyChangesResponse.none(3L));
+        assertThat(longPoll.waiting()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,106 @@
+package com.flow.blocker.benchmark;
+
+import com.flow.blocker.validation.ExtensionPolicy;
+import com.flow.blocker.validation.ExtensionTable;
+import com.flow.blocker.validation.FilenameAnalysis;
+import com.flow.blocker.validation.FilenameAnalyzer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 차단 목록 조회 벤치마크
+ * - 규칙 수 7개(기본 고정 확장자) ~ 10만 개
+ * - 조회 대상의 절반은 차단 목록에 있고 절반은 없음, 대소문자 혼합
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BlocklistLookupBenchmark {
+
+    private static final int PROBES = 1024;
+    private static final Set<String> DEFAULT_FIXED = Set.of("bat", "cmd", "com", "cpl", "exe", "scr", "js");
+
+    @Param({"7", "200", "1000", "10000", "100000"})
+    public int rules;
+
+    private ExtensionPolicy policy;
+    private Set<String> hashSet;
+    private ExtensionTable table;
+    private final FilenameAnalyzer analyzer = new FilenameAnalyzer(ExtensionTable.of(List.of()));
+    private final FilenameAnalysis analysis = new FilenameAnalysis();
+    private String[] extensions;
+    private String[] filenames;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Set<String> blocked = new HashSet<>(DEFAULT_FIXED);
+        while (blocked.size() < rules) {
+            blocked.add(randomExtension(random));
+        }
+        List<String> blockedList = List.copyOf(blocked);
+
+        policy = new ExtensionPolicy(1L, DEFAULT_FIXED, blocked);
+        hashSet = Set.copyOf(blocked);
+        table = ExtensionTable.of(blocked);
+
+        extensions = new String[PROBES];
+        filenames = new String[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            String extension = i % 2 == 0
+                    ? blockedList.get(random.nextInt(blockedList.size()))
+                    : "q" + randomExtension(random);
+            if (random.nextBoolean()) {
+                extension = extension.toUpperCase(Locale.ROOT);
+            }
+            extensions[i] = extension;
+            filenames[i] = "document_" + i + "." + extension;
+        }
+    }
+
+    /** 기준선: 소문자 변환 후 HashSet 조회 (기존 방식) */
+    @Benchmark
+    public boolean hashSetLowerCase() {
+        return hashSet.contains(next(extensions).toLowerCase(Locale.ROOT));
+    }
+
+    /** 대소문자 무시 해시 테이블 직접 조회 */
+    @Benchmark
+    public boolean extensionTable() {
+        return table.contains(next(extensions));
+    }
+
+    /** 파일명 분석 + 정책 스냅샷 조회 (검증 경로와 동일) */
+    @Benchmark
+    public boolean policySnapshot() {
+        analyzer.analyze(next(filenames), analysis);
+        return policy.isBlocked(analysis);
+    }
+
+    private String next(String[] values) {
+        return values[cursor++ & (PROBES - 1)];
+    }
+
+    private static String randomExtension(Random random) {
+        int length = 2 + random.nextInt(7);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + random.nextInt(26)));
+        }
+        return sb.toString();
+    }
+}
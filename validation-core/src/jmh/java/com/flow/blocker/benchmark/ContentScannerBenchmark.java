@@ -0,0 +1,105 @@
+package com.flow.blocker.benchmark;
+
+import com.flow.blocker.validation.ContentScanLimits;
+import com.flow.blocker.validation.ContentScanResult;
+import com.flow.blocker.validation.ContentScanner;
+import com.flow.blocker.validation.FileValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내용 검사 벤치마크
+ * - 패턴 7개(기본) ~ 200개(최대), 패턴이 없는 1MB 본문을 끝까지 검사 (가장 느린 경우)
+ * - 본문 하나가 1MB이므로 처리량(ops/s)이 곧 MB/s
+ * - 비교: 패턴마다 본문 전체를 순차 탐색 / 하나의 Aho-Corasick 오토마톤
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ContentScannerBenchmark {
+
+    private static final int BODY_SIZE = 1024 * 1024;
+
+    @Param({"7", "50", "200"})
+    public int patterns;
+
+    private byte[][] keys;
+    private ContentScanner scanner;
+    private ContentScanLimits limits;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<String> all = new ArrayList<>(FileValidator.DEFAULT_CONTENT_PATTERNS);
+        while (all.size() < patterns) {
+            all.add("<" + randomWord(random, 6 + random.nextInt(10)));
+        }
+        scanner = ContentScanner.compile(1L, all);
+        keys = all.stream().map(pattern -> pattern.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new);
+        limits = new ContentScanLimits(BODY_SIZE, 64 * 1024);
+
+        // 영문 단어와 공백, 일부 바이너리가 섞인 본문 ('<'는 넣지 않아 어떤 패턴과도 일치하지 않음)
+        body = new byte[BODY_SIZE];
+        for (int i = 0; i < BODY_SIZE; i++) {
+            int roll = random.nextInt(100);
+            body[i] = roll < 15 ? (byte) ' ' : roll < 90 ? (byte) ('a' + random.nextInt(26)) : (byte) (0x80 + random.nextInt(128));
+        }
+    }
+
+    /** 기준선: 패턴마다 본문 전체를 대소문자 무시 순차 탐색 */
+    @Benchmark
+    public int naivePerPattern() {
+        for (int k = 0; k < keys.length; k++) {
+            if (indexOf(body, keys[k]) >= 0) {
+                return k;
+            }
+        }
+        return -1;
+    }
+
+    /** 모든 패턴을 합친 하나의 오토마톤으로 청크 단위 검사 */
+    @Benchmark
+    public ContentScanResult automaton() throws IOException {
+        return scanner.scan(new ByteArrayInputStream(body), limits);
+    }
+
+    private static int indexOf(byte[] data, byte[] key) {
+        outer:
+        for (int i = 0; i <= data.length - key.length; i++) {
+            for (int j = 0; j < key.length; j++) {
+                byte b = data[i + j];
+                if (b >= 'A' && b <= 'Z') {
+                    b += 'a' - 'A';
+                }
+                if (b != key[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + random.nextInt(26)));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,90 @@
+package com.flow.blocker.benchmark;
+
+import com.flow.blocker.validation.DecisionRule;
+import com.flow.blocker.validation.DecisionTable;
+import com.flow.blocker.validation.FileValidator;
+import com.flow.blocker.validation.UploadDecision;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 정책 판정 벤치마크
+ * - 규칙 수 기본(47개) ~ 10만 개, 조회 대상의 절반은 규칙이 있는 확장자
+ * - 판정 = 조회 + 크기 + MIME Type 조건 (업로드 검증 경로와 동일)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DecisionTableBenchmark {
+
+    private static final int PROBES = 1024;
+    private static final String[] MIME_TYPES = {"text/plain", "application/pdf", "image/png", null};
+
+    @Param({"0", "1000", "10000", "100000"})
+    public int extraRules;
+
+    private List<DecisionRule> rules;
+    private DecisionTable table;
+    private String[] extensions;
+    private long[] sizes;
+    private String[] contentTypes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rules = new ArrayList<>(FileValidator.DEFAULT_RULES);
+        for (int i = 0; i < extraRules; i++) {
+            rules.add(new DecisionRule("r" + i, DecisionRule.Mode.UPLOAD, i % 10 == 0, 1024L * (1 + random.nextInt(1024)),
+                    i % 3 == 0 ? Set.of("application/x-r" + (i % 50)) : Set.of(), i % 7 == 0));
+        }
+        table = DecisionTable.compile(rules);
+
+        extensions = new String[PROBES];
+        sizes = new long[PROBES];
+        contentTypes = new String[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            DecisionRule rule = rules.get(random.nextInt(rules.size()));
+            extensions[i] = i % 2 == 0 ? rule.extension() : "q" + i;
+            sizes[i] = random.nextInt(2 * 1024 * 1024);
+            contentTypes[i] = MIME_TYPES[random.nextInt(MIME_TYPES.length)];
+        }
+    }
+
+    /** 기준선: 규칙을 순서대로 훑으며 조건 확인 (규칙 수에 비례) */
+    @Benchmark
+    public boolean linearScan() {
+        int i = cursor++ & (PROBES - 1);
+        String extension = extensions[i];
+        for (DecisionRule rule : rules) {
+            if (!rule.appliesTo(DecisionRule.Mode.UPLOAD)
+                    || !(rule.isDefault() || rule.extension().equals(extension))) {
+                continue;
+            }
+            if (rule.blocked() || (rule.maxSizeBytes() >= 0 && sizes[i] > rule.maxSizeBytes())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 컴파일된 판정 테이블 조회 + 조건 확인 */
+    @Benchmark
+    public boolean decisionTable() {
+        int i = cursor++ & (PROBES - 1);
+        UploadDecision decision = table.lookup(extensions[i], DecisionRule.Mode.UPLOAD);
+        return !decision.blocked() && decision.isSizeAllowed(sizes[i]) && decision.isMimeTypeAllowed(contentTypes[i]);
+    }
+}
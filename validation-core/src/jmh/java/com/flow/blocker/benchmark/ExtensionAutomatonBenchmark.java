@@ -0,0 +1,159 @@
+package com.flow.blocker.benchmark;
+
+import com.flow.blocker.validation.ExtensionAutomaton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 와일드카드 확장자 규칙 벤치마크
+ * - 규칙 수 200(커스텀 최대) ~ 5천 개, 절반은 정확한 확장자, 나머지는 접두(php*)/한 글자(ps?xml) 패턴
+ * - 조회 대상의 절반은 규칙과 일치하고 절반은 일치하지 않음, 대소문자 혼합
+ * - 비교: 패턴마다 정규식 대조 / 패턴마다 glob 순차 대조 / 하나의 DFA
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExtensionAutomatonBenchmark {
+
+    private static final int PROBES = 1024;
+
+    @Param({"200", "1000", "2000", "5000"})
+    public int rules;
+
+    private Set<String> exact;
+    private Pattern[] regexes;
+    private String[] globs;
+    private ExtensionAutomaton automaton;
+    private String[] extensions;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        exact = new LinkedHashSet<>();
+        Set<String> patterns = new LinkedHashSet<>();
+        while (exact.size() < rules / 2) {
+            exact.add(randomExtension(random));
+        }
+        while (patterns.size() < rules - rules / 2) {
+            String base = randomExtension(random);
+            patterns.add(random.nextBoolean()
+                    ? base + "*"
+                    : base.substring(0, 1) + "?" + base.substring(1));
+        }
+
+        List<String> all = new ArrayList<>(exact);
+        all.addAll(patterns);
+        automaton = ExtensionAutomaton.compile(all);
+        globs = patterns.toArray(String[]::new);
+        regexes = patterns.stream()
+                .map(pattern -> Pattern.compile(pattern.replace("?", ".").replace("*", ".*")))
+                .toArray(Pattern[]::new);
+
+        List<String> exactList = List.copyOf(exact);
+        extensions = new String[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            String extension;
+            if (i % 2 == 1) {
+                extension = "q" + randomExtension(random);
+            } else if (i % 4 == 0) {
+                extension = exactList.get(random.nextInt(exactList.size()));
+            } else {
+                extension = globs[random.nextInt(globs.length)].replace('?', 'z').replace("*", "abc");
+            }
+            if (random.nextBoolean()) {
+                extension = extension.toUpperCase(Locale.ROOT);
+            }
+            extensions[i] = extension;
+        }
+    }
+
+    /** 기준선: 정확한 확장자는 HashSet, 패턴은 하나씩 정규식 대조 */
+    @Benchmark
+    public boolean regexPerPattern() {
+        String extension = next().toLowerCase(Locale.ROOT);
+        if (exact.contains(extension)) {
+            return true;
+        }
+        for (Pattern regex : regexes) {
+            if (regex.matcher(extension).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 정확한 확장자는 HashSet, 패턴은 하나씩 glob 대조 */
+    @Benchmark
+    public boolean globPerPattern() {
+        String extension = next().toLowerCase(Locale.ROOT);
+        if (exact.contains(extension)) {
+            return true;
+        }
+        for (String glob : globs) {
+            if (globMatches(glob, extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 정확한 확장자와 패턴을 합친 하나의 DFA */
+    @Benchmark
+    public boolean automaton() {
+        return automaton.matches(next());
+    }
+
+    private String next() {
+        return extensions[cursor++ & (PROBES - 1)];
+    }
+
+    private static boolean globMatches(String glob, String text) {
+        int g = 0;
+        int t = 0;
+        int starGlob = -1;
+        int starText = 0;
+        while (t < text.length()) {
+            if (g < glob.length() && (glob.charAt(g) == '?' || glob.charAt(g) == text.charAt(t))) {
+                g++;
+                t++;
+            } else if (g < glob.length() && glob.charAt(g) == '*') {
+                starGlob = g++;
+                starText = t;
+            } else if (starGlob >= 0) {
+                g = starGlob + 1;
+                t = ++starText;
+            } else {
+                return false;
+            }
+        }
+        while (g < glob.length() && glob.charAt(g) == '*') {
+            g++;
+        }
+        return g == glob.length();
+    }
+
+    private static String randomExtension(Random random) {
+        int length = 2 + random.nextInt(7);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + random.nextInt(26)));
+        }
+        return sb.toString();
+    }
+}
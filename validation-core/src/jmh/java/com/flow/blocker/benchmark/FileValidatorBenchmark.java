@@ -0,0 +1,75 @@
+package com.flow.blocker.benchmark;
+
+import com.flow.blocker.validation.DecisionRule;
+import com.flow.blocker.validation.DecisionTable;
+import com.flow.blocker.validation.ExtensionPolicy;
+import com.flow.blocker.validation.FileSignature;
+import com.flow.blocker.validation.FileValidator;
+import com.flow.blocker.validation.RejectionReason;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FileValidator 판정 벤치마크
+ * - 스프링, 메트릭, 감사 큐 없이 임베디드 호출자가 얻는 판정 비용만 측정
+ * - 차단/통과가 섞인 코퍼스, 예외 없이 차단 사유만 반환
+ * - GC 프로파일러(build.gradle의 profilers = ['gc'])의 gc.alloc.rate.norm으로 호출당 할당량 확인
+ *   (checkFilenameWithRules는 checkFilename과 같아야 함, 규칙 조회에서 확장자 문자열을 만들면 증가)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FileValidatorBenchmark {
+
+    private static final Set<String> DEFAULT_FIXED = Set.of("bat", "cmd", "com", "cpl", "exe", "scr", "js");
+
+    @Param({"ASCII", "UNICODE", "DOUBLE_EXTENSION", "LONG", "MIXED"})
+    public FilenameCorpus corpus;
+
+    private final ExtensionPolicy policy = new ExtensionPolicy(1L, DEFAULT_FIXED, Set.of("sh", "php"));
+    private final DecisionTable rules = FileValidator.DEFAULT_DECISIONS;
+    private String[] names;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        names = corpus.names();
+    }
+
+    /** 파일명 판정 (분석 + 차단 목록 조회) */
+    @Benchmark
+    public RejectionReason checkFilename() {
+        return FileValidator.checkFilename(next(), policy);
+    }
+
+    /** 파일명 판정 + 업로드 정책 규칙의 확장자 차단 (일괄 검증 경로) */
+    @Benchmark
+    public RejectionReason checkFilenameWithRules() {
+        return FileValidator.checkFilename(next(), policy, rules, DecisionRule.Mode.VALIDATE);
+    }
+
+    /** 파일명 판정 + MIME/시그니처 판정 (업로드 검증 경로의 순수 판정 부분) */
+    @Benchmark
+    public boolean fullVerdict() {
+        String filename = next();
+        if (FileValidator.checkFilename(filename, policy) != null) {
+            return false;
+        }
+        String extension = FileValidator.analyze(filename).extension();
+        return FileValidator.isMimeTypeAllowed("application/pdf", extension)
+                && !FileValidator.isDisguisedExecutable(FileSignature.PDF, extension);
+    }
+
+    private String next() {
+        return names[cursor++ & (FilenameCorpus.SIZE - 1)];
+    }
+}
@@ -0,0 +1,74 @@
+package com.flow.blocker.benchmark;
+
+import com.flow.blocker.validation.ExtensionTable;
+import com.flow.blocker.validation.FilenameAnalysis;
+import com.flow.blocker.validation.FilenameAnalyzer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일명 분석 벤치마크
+ * - 기존 sanitizeFilename / extractExtension / hasDoubleExtension 헬퍼는 FilenameAnalyzer 한 번의 순회로 대체됨
+ * - 분석 자체와, 분석 후 정제된 파일명/확장자 문자열을 꺼내는 비용을 나눠 측정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FilenameAnalyzerBenchmark {
+
+    private static final ExtensionTable RISKY = ExtensionTable.of(List.of(
+            "exe", "com", "bat", "cmd", "scr", "vbs", "js", "ps1", "lnk", "dll", "jar", "jsp", "asp", "php"));
+
+    @Param({"ASCII", "UNICODE", "DOUBLE_EXTENSION", "LONG", "MIXED"})
+    public FilenameCorpus corpus;
+
+    private final FilenameAnalyzer analyzer = new FilenameAnalyzer(RISKY);
+    private final FilenameAnalysis analysis = new FilenameAnalysis();
+    private String[] names;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        names = corpus.names();
+    }
+
+    /** 분석만 수행 (재사용 버퍼, 할당 없음 기대) */
+    @Benchmark
+    public boolean analyze() {
+        analyzer.analyze(next(), analysis);
+        return analysis.hasDoubleExtension();
+    }
+
+    /** 기존 sanitizeFilename 대응 */
+    @Benchmark
+    public String sanitizedFilename() {
+        analyzer.analyze(next(), analysis);
+        return analysis.filename();
+    }
+
+    /** 기존 extractExtension 대응 */
+    @Benchmark
+    public String extension() {
+        analyzer.analyze(next(), analysis);
+        return analysis.extension();
+    }
+
+    /** 분석 결과를 매번 새로 할당하는 경우 */
+    @Benchmark
+    public FilenameAnalysis analyzeAllocating() {
+        return analyzer.analyze(next());
+    }
+
+    private String next() {
+        return names[cursor++ & (FilenameCorpus.SIZE - 1)];
+    }
+}
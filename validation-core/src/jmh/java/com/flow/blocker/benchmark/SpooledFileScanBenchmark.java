@@ -0,0 +1,91 @@
+package com.flow.blocker.benchmark;
+
+import com.flow.blocker.validation.ContentScanLimits;
+import com.flow.blocker.validation.ContentScanResult;
+import com.flow.blocker.validation.ContentScanner;
+import com.flow.blocker.validation.FileValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 임시 파일 내용 검사 벤치마크
+ * - 1MB / 10MB / 100MB 임시 파일(패턴 없음)을 끝까지 검사 (기본 내용 검사 패턴)
+ * - 비교: 스트림으로 64KB 힙 배열에 복사하며 검사 / 파일 채널에서 매번 만든 64KB 힙 버퍼로 읽으며 검사
+ *   / 파일 채널에서 재사용하는 64KB 다이렉트 버퍼로 읽으며 검사 (업로드 경로와 같이 스레드별 버퍼 하나)
+ * - 메모리 매핑은 해제 시점이 GC에 달려 임시 파일 정리와 맞지 않아 비교하지 않음
+ * - 파일은 페이지 캐시에 올라와 있는 상태 (업로드 직후 임시 파일과 같은 조건)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SpooledFileScanBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int megabytes;
+
+    private Path file;
+    private ContentScanner scanner;
+    private ContentScanLimits limits;
+    private ByteBuffer reusedBuffer;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        byte[] content = new byte[megabytes * 1024 * 1024];
+        for (int i = 0; i < content.length; i++) {
+            int roll = random.nextInt(100);
+            content[i] = roll < 15 ? (byte) ' ' : roll < 90 ? (byte) ('a' + random.nextInt(26)) : (byte) (0x80 + random.nextInt(128));
+        }
+        file = Files.createTempFile("mapped-scan-", ".tmp");
+        Files.write(file, content);
+        scanner = ContentScanner.compile(1L, FileValidator.DEFAULT_CONTENT_PATTERNS);
+        limits = new ContentScanLimits(content.length, 64 * 1024);
+        reusedBuffer = ByteBuffer.allocateDirect(limits.chunkSize());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /** 기준선: MultipartFile.getInputStream()과 같은 스트림 복사 */
+    @Benchmark
+    public ContentScanResult stream() throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return scanner.scan(in, limits);
+        }
+    }
+
+    /** 파일 채널에서 힙 버퍼로 읽음 (채널이 임시 다이렉트 버퍼를 거쳐 힙으로 복사) */
+    @Benchmark
+    public ContentScanResult heapBuffer() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return scanner.scan(channel, ByteBuffer.allocate(limits.chunkSize()), limits);
+        }
+    }
+
+    /** 파일 채널에서 재사용하는 다이렉트 버퍼로 읽음 (임시 파일 업로드 검사 경로) */
+    @Benchmark
+    public ContentScanResult directBuffer() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return scanner.scan(channel, reusedBuffer, limits);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.flow.blocker.validation;
+
+/**
+ * 압축 파일 검사에서 발견한 차단 사유
+ * @param reason ARCHIVE_ENTRY_BLOCKED, ARCHIVE_LIMIT_EXCEEDED, ARCHIVE_INVALID 중 하나
+ * @param entryName 문제가 된 항목 경로 (중첩된 경우 "outer.zip!/inner.exe", 해당 없으면 null)
+ * @param detail 로그용 상세 내용 (항목의 차단 사유, 초과한 한도 등)
+ */
+public record ArchiveFinding(RejectionReason reason, String entryName, String detail) {
+}
@@ -0,0 +1,305 @@
+package com.flow.blocker.validation;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+/**
+ * ZIP 계열 압축 파일 검사기 (디스크에 풀지 않음)
+ * - 모든 항목 이름을 업로드 파일명과 같은 규칙(차단 확장자, 이중 확장자)으로 검사
+ * - 임시 파일이 있으면 중앙 디렉터리(ZipFile)로 항목을 훑고, 없으면 ZipInputStream으로 순차 검사
+ * - 항목 수, 전체 해제 크기, 압축률, 중첩 깊이 한도를 넘으면 즉시 중단 (압축 폭탄 방지)
+ * - 크기 한도는 헤더에 기록된 값이 아닌 실제로 풀리는 바이트 수로 판정 (헤더 값은 조작 가능)
+ * - 중첩된 압축 파일은 선두 바이트로 판별하여 한도를 공유하며 재귀 검사
+ */
+public final class ArchiveInspector {
+
+    /** 이 크기 이하의 항목은 압축률 검사 생략 (작은 파일은 압축률이 높아도 위험하지 않음) */
+    static final long RATIO_CHECK_MIN_SIZE = 1024 * 1024;
+
+    private static final byte[] ZIP_MAGIC = {'P', 'K', 0x03, 0x04};
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final String NESTED_SEPARATOR = "!/";
+
+    private final ArchiveLimits limits;
+
+    public ArchiveInspector(ArchiveLimits limits) {
+        this.limits = limits;
+    }
+
+    /**
+     * 임시 파일로 저장된 압축 파일 검사 (중앙 디렉터리 사용)
+     * @param entryCheck 항목 파일명 검사 (허용이면 null 반환)
+     * @return 차단 사유, 문제가 없으면 null
+     */
+    public ArchiveFinding inspect(Path archive, Function<String, RejectionReason> entryCheck) throws IOException {
+        Budget budget = new Budget();
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            // 본문을 읽기 전에 중앙 디렉터리의 항목 수부터 확인
+            if (zip.size() > limits.maxEntries()) {
+                return limitExceeded(null, "항목 수 " + zip.size() + "개 > " + limits.maxEntries());
+            }
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                String path = entry.getName();
+                checkEntry(path, entry.isDirectory(), entryCheck, budget);
+                if (entry.isDirectory()) {
+                    continue;
+                }
+
+                // 기록된 크기만으로 한도를 넘으면 풀기 전에 거부
+                budget.checkDeclared(entry.getSize(), path);
+                checkRatio(entry.getSize(), entry.getCompressedSize(), path);
+
+                // 기록된 크기는 조작할 수 있으므로 실제로 풀리는 바이트 수로 다시 검사
+                long compressedSize = entry.getCompressedSize();
+                try (InputStream in = zip.getInputStream(entry)) {
+                    EntryStream data = new EntryStream(in, () -> compressedSize, path, budget);
+                    inspectIfNested(data, path, 1, entryCheck, budget);
+                    data.drain();
+                    if (entry.getSize() >= 0 && data.size != entry.getSize()) {
+                        return new ArchiveFinding(RejectionReason.ARCHIVE_INVALID, path,
+                                "기록된 크기 " + entry.getSize() + " != 실제 크기 " + data.size);
+                    }
+                }
+            }
+            return null;
+        } catch (FindingException e) {
+            return e.finding;
+        } catch (ZipException | EOFException e) {
+            return new ArchiveFinding(RejectionReason.ARCHIVE_INVALID, null, e.getMessage());
+        }
+    }
+
+    /**
+     * 스트림으로 압축 파일 검사 (스트림은 닫지 않음)
+     * @param entryCheck 항목 파일명 검사 (허용이면 null 반환)
+     * @return 차단 사유, 문제가 없으면 null
+     */
+    public ArchiveFinding inspect(InputStream in, Function<String, RejectionReason> entryCheck) throws IOException {
+        try {
+            inspectStream(in, "", 1, entryCheck, new Budget());
+            return null;
+        } catch (FindingException e) {
+            return e.finding;
+        } catch (ZipException | EOFException e) {
+            return new ArchiveFinding(RejectionReason.ARCHIVE_INVALID, null, e.getMessage());
+        }
+    }
+
+    private void inspectStream(InputStream in, String prefix, int depth,
+                               Function<String, RejectionReason> entryCheck, Budget budget) throws IOException {
+        CountingInputStream compressed = new CountingInputStream(in);
+        ZipInputStream zip = new ZipInputStream(compressed);
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            String path = prefix + entry.getName();
+            checkEntry(path, entry.isDirectory(), entryCheck, budget);
+            if (entry.isDirectory()) {
+                continue;
+            }
+
+            // 실제로 풀리는 바이트 수로 한도 검사
+            long compressedStart = compressed.count;
+            EntryStream data = new EntryStream(zip, () -> compressed.count - compressedStart, path, budget);
+            inspectIfNested(data, path, depth, entryCheck, budget);
+            data.drain();
+        }
+    }
+
+    /**
+     * 항목이 압축 파일이면 깊이를 하나 늘려 재귀 검사
+     */
+    private void inspectIfNested(InputStream data, String path, int depth,
+                                 Function<String, RejectionReason> entryCheck, Budget budget) throws IOException {
+        byte[] head = data.readNBytes(ZIP_MAGIC.length);
+        if (!Arrays.equals(head, ZIP_MAGIC)) {
+            return;
+        }
+        if (depth + 1 > limits.maxDepth()) {
+            throw new FindingException(limitExceeded(path, "중첩 깊이 > " + limits.maxDepth()));
+        }
+        inspectStream(new SequenceInputStream(new ByteArrayInputStream(head), data),
+                path + NESTED_SEPARATOR, depth + 1, entryCheck, budget);
+    }
+
+    private void checkEntry(String path, boolean directory,
+                            Function<String, RejectionReason> entryCheck, Budget budget) throws FindingException {
+        if (++budget.entries > limits.maxEntries()) {
+            throw new FindingException(limitExceeded(path, "항목 수 > " + limits.maxEntries()));
+        }
+        if (directory) {
+            return;
+        }
+        String name = baseName(path);
+        RejectionReason reason = entryCheck.apply(name);
+        if (reason != null) {
+            throw new FindingException(new ArchiveFinding(RejectionReason.ARCHIVE_ENTRY_BLOCKED, path, reason.name()));
+        }
+    }
+
+    private void checkRatio(long size, long compressedSize, String path) throws FindingException {
+        if (size > RATIO_CHECK_MIN_SIZE && size > (long) limits.maxCompressionRatio() * Math.max(compressedSize, 1)) {
+            throw new FindingException(limitExceeded(path, "압축률 > " + limits.maxCompressionRatio()));
+        }
+    }
+
+    private ArchiveFinding limitExceeded(String path, String detail) {
+        return new ArchiveFinding(RejectionReason.ARCHIVE_LIMIT_EXCEEDED, path, detail);
+    }
+
+    private static String baseName(String path) {
+        int slash = Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\'));
+        return path.substring(slash + 1);
+    }
+
+    /**
+     * 전체 검사에서 공유하는 한도 사용량
+     */
+    private final class Budget {
+
+        private int entries;
+        private long bytes;
+
+        /**
+         * 아직 더하지 않고, 기록된 크기만으로 한도를 넘는지 확인
+         */
+        void checkDeclared(long count, String path) throws FindingException {
+            if (bytes + Math.max(count, 0) > limits.maxTotalSize()) {
+                throw new FindingException(limitExceeded(path, "전체 해제 크기 > " + limits.maxTotalSize()));
+            }
+        }
+
+        void addBytes(long count, String path) throws FindingException {
+            bytes += Math.max(count, 0);
+            if (bytes > limits.maxTotalSize()) {
+                throw new FindingException(limitExceeded(path, "전체 해제 크기 > " + limits.maxTotalSize()));
+            }
+        }
+    }
+
+    /**
+     * 현재 항목의 해제된 데이터 (읽는 즉시 전체 크기와 압축률 한도 검사)
+     * @param compressedBytes 지금까지 읽은(또는 항목에 할당된) 압축 바이트 수
+     */
+    private final class EntryStream extends FilterInputStream {
+
+        private final LongSupplier compressedBytes;
+        private final String path;
+        private final Budget budget;
+        private long size;
+
+        EntryStream(InputStream data, LongSupplier compressedBytes, String path, Budget budget) {
+            super(data);
+            this.compressedBytes = compressedBytes;
+            this.path = path;
+            this.budget = budget;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = in.read(b, off, len);
+            if (read > 0) {
+                size += read;
+                budget.addBytes(read, path);
+                checkRatio(size, compressedBytes.getAsLong(), path);
+            }
+            return read;
+        }
+
+        void drain() throws IOException {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (read(buffer, 0, buffer.length) >= 0) {
+                // 한도 검사를 위해 끝까지 읽음
+            }
+        }
+
+        @Override
+        public void close() {
+            // 항목 스트림은 ZipInputStream/ZipFile 쪽에서 관리
+        }
+    }
+
+    /**
+     * 압축된 바이트 수 측정
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = in.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = in.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public void close() {
+            // 바깥 스트림은 호출한 쪽에서 닫음
+        }
+    }
+
+    /**
+     * 검사 중단용 (스택을 거슬러 결과 전달)
+     * - 차단되는 압축 파일마다 만들어지는 흐름 제어용 예외라 스택 트레이스를 채우지 않음
+     * - 스트림 읽기 도중에도 던지므로 IOException을 상속 (IOException에는 스택 생략 생성자가 없어 fillInStackTrace 재정의)
+     */
+    private static final class FindingException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient ArchiveFinding finding;
+
+        FindingException(ArchiveFinding finding) {
+            super(finding.reason() + ": " + finding.detail());
+            this.finding = finding;
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.flow.blocker.validation;
+
+/**
+ * 압축 파일 검사 한도 (압축 폭탄 방지)
+ * @param maxEntries 중첩된 압축 파일을 포함한 전체 항목 수
+ * @param maxTotalSize 전체 압축 해제 크기 (bytes)
+ * @param maxCompressionRatio 항목별 최대 압축률 (해제 크기 / 압축 크기)
+ * @param maxDepth 최대 중첩 깊이 (최상위 압축 파일 = 1)
+ */
+public record ArchiveLimits(int maxEntries, long maxTotalSize, int maxCompressionRatio, int maxDepth) {
+
+    public ArchiveLimits {
+        if (maxEntries < 1 || maxTotalSize < 1 || maxCompressionRatio < 1 || maxDepth < 1) {
+            throw new IllegalArgumentException("압축 파일 검사 한도는 1 이상이어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.flow.blocker.validation;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 파일 내용 다이제스트 (SHA-256, 16진수 문자열)
+ * - 같은 내용의 파일을 식별하는 판정 캐시 키로 사용
+ */
+public record ContentDigest(String value) {
+
+    public static final String ALGORITHM = "SHA-256";
+
+    /**
+     * 내용을 읽는 쪽에서 갱신할 새 MessageDigest
+     */
+    public static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JDK에 포함
+            throw new IllegalStateException(ALGORITHM + " 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 갱신이 끝난 MessageDigest로 다이제스트 생성 (MessageDigest는 초기화됨)
+     */
+    public static ContentDigest of(MessageDigest messageDigest) {
+        return new ContentDigest(HexFormat.of().formatHex(messageDigest.digest()));
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,9 @@
+package com.flow.blocker.validation;
+
+/**
+ * 내용 검사에서 발견한 패턴
+ * @param pattern 일치한 패턴 (소문자로 정규화된 값)
+ * @param offset 파일 안에서 패턴이 시작하는 위치 (bytes)
+ */
+public record ContentMatch(String pattern, long offset) {
+}
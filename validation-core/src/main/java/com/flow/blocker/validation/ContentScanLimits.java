@@ -0,0 +1,15 @@
+package com.flow.blocker.validation;
+
+/**
+ * 내용 검사 한도
+ * @param maxBytes 파일당 검사할 최대 바이트 수 (넘는 부분은 검사하지 않음)
+ * @param chunkSize 한 번에 읽는 크기 (bytes)
+ */
+public record ContentScanLimits(long maxBytes, int chunkSize) {
+
+    public ContentScanLimits {
+        if (maxBytes < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("내용 검사 한도는 1 이상이어야 합니다.");
+        }
+    }
+}
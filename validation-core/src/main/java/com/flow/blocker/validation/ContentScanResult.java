@@ -0,0 +1,14 @@
+package com.flow.blocker.validation;
+
+/**
+ * 내용 검사 결과
+ * @param match 발견한 패턴 (없으면 null)
+ * @param scannedBytes 실제로 검사한 바이트 수
+ * @param truncated 바이트 한도에 걸려 파일 끝까지 검사하지 못했는지 여부
+ */
+public record ContentScanResult(ContentMatch match, long scannedBytes, boolean truncated) {
+
+    public boolean isMatched() {
+        return match != null;
+    }
+}
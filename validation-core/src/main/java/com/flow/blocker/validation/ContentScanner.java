@@ -0,0 +1,250 @@
+package com.flow.blocker.validation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 파일 내용 다중 패턴 검사기 (Aho-Corasick)
+ * - 모든 패턴을 하나의 오토마톤으로 컴파일해 바이트당 전이 한 번으로 검사 (패턴 수와 무관)
+ * - 고정 크기 청크로 읽으며 청크 경계에 걸친 패턴도 찾음 (본문 전체를 메모리에 올리지 않음)
+ * - 채널은 호출자가 준 버퍼로 읽어 그대로 훑음 (재사용하는 다이렉트 버퍼면 파일 내용이 힙으로 복사되지 않음)
+ * - ASCII 영문자는 대소문자를 구분하지 않고, 패턴은 UTF-8 바이트열로 비교
+ * - 생성 이후 변경 불가 (패턴이 바뀌면 새로 컴파일)
+ */
+public final class ContentScanner {
+
+    private static final ContentScanner EMPTY = compile(0L, List.of());
+
+    private final long version;
+    private final String[] patterns;
+    private final int[] classes;
+    private final int classCount;
+    /** 상태 x 문자 클래스 전이표 (값은 대상 상태의 행 시작 위치, 패턴이 끝나는 상태면 ~행 위치) */
+    private final int[] transitions;
+    private final int[] outputs;
+    private final int[] lengths;
+
+    private ContentScanner(long version, String[] patterns, int[] classes, int classCount,
+                           int[] transitions, int[] outputs, int[] lengths) {
+        this.version = version;
+        this.patterns = patterns;
+        this.classes = classes;
+        this.classCount = classCount;
+        this.transitions = transitions;
+        this.outputs = outputs;
+        this.lengths = lengths;
+    }
+
+    public static ContentScanner empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 패턴 집합 컴파일
+     * @param version 패턴 집합 버전 (검사 결과 캐시 키에 사용)
+     */
+    public static ContentScanner compile(long version, Collection<String> patterns) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String pattern : patterns) {
+            if (!pattern.isEmpty()) {
+                normalized.add(pattern.toLowerCase(Locale.ROOT));
+            }
+        }
+        String[] names = normalized.toArray(String[]::new);
+        byte[][] keys = new byte[names.length][];
+        for (int i = 0; i < names.length; i++) {
+            keys[i] = names[i].getBytes(StandardCharsets.UTF_8);
+        }
+
+        // 바이트 -> 문자 클래스 (패턴에 없는 바이트는 모두 0번)
+        int[] classes = new int[256];
+        int classCount = 1;
+        for (byte[] key : keys) {
+            for (byte b : key) {
+                if (classes[b & 0xFF] == 0) {
+                    classes[b & 0xFF] = classCount++;
+                }
+            }
+        }
+        for (int c = 'A'; c <= 'Z'; c++) {
+            classes[c] = classes[c + ('a' - 'A')];
+        }
+
+        // 트라이 (상태 0 = 루트, 없는 전이는 -1)
+        List<int[]> trie = new ArrayList<>();
+        List<Integer> terminal = new ArrayList<>();
+        trie.add(newRow(classCount));
+        terminal.add(0);
+        for (int i = 0; i < keys.length; i++) {
+            int state = 0;
+            for (byte b : keys[i]) {
+                int cls = classes[b & 0xFF];
+                int next = trie.get(state)[cls];
+                if (next < 0) {
+                    next = trie.size();
+                    trie.get(state)[cls] = next;
+                    trie.add(newRow(classCount));
+                    terminal.add(0);
+                }
+                state = next;
+            }
+            if (terminal.get(state) == 0) {
+                terminal.set(state, i + 1);
+            }
+        }
+
+        // 실패 링크를 따라 없는 전이를 채워 완전한 DFA로 만듦 (BFS)
+        int states = trie.size();
+        int[] transitions = new int[states * classCount];
+        int[] outputs = new int[states];
+        int[] fail = new int[states];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        int[] root = trie.get(0);
+        for (int cls = 0; cls < classCount; cls++) {
+            int child = root[cls];
+            transitions[cls] = Math.max(child, 0);
+            if (child > 0) {
+                queue.add(child);
+            }
+        }
+        outputs[0] = terminal.get(0);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs[state] = terminal.get(state) != 0 ? terminal.get(state) : outputs[fail[state]];
+            int[] row = trie.get(state);
+            for (int cls = 0; cls < classCount; cls++) {
+                int child = row[cls];
+                int fallback = transitions[fail[state] * classCount + cls];
+                if (child < 0) {
+                    transitions[state * classCount + cls] = fallback;
+                } else {
+                    fail[child] = fallback;
+                    transitions[state * classCount + cls] = child;
+                    queue.add(child);
+                }
+            }
+        }
+
+        // 전이 값을 대상 상태의 행 시작 위치로 바꾸고, 패턴이 끝나는 상태로의 전이는 음수(~행 위치)로 표시
+        for (int i = 0; i < transitions.length; i++) {
+            int target = transitions[i];
+            transitions[i] = outputs[target] != 0 ? ~(target * classCount) : target * classCount;
+        }
+
+        int[] lengths = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            lengths[i] = keys[i].length;
+        }
+        return new ContentScanner(version, names, classes, classCount, transitions, outputs, lengths);
+    }
+
+    /**
+     * 스트림을 청크 단위로 읽으며 검사 (스트림은 닫지 않음)
+     * - 첫 번째로 발견한 패턴에서 중단
+     * - 바이트 한도까지 읽고도 남은 내용이 있으면 truncated
+     */
+    public ContentScanResult scan(InputStream in, ContentScanLimits limits) throws IOException {
+        if (isEmpty()) {
+            return new ContentScanResult(null, 0, false);
+        }
+        byte[] chunk = new byte[(int) Math.min(limits.chunkSize(), limits.maxBytes())];
+        long scanned = 0;
+        int row = 0;
+        while (scanned < limits.maxBytes()) {
+            int read = in.read(chunk, 0, (int) Math.min(chunk.length, limits.maxBytes() - scanned));
+            if (read < 0) {
+                return new ContentScanResult(null, scanned, false);
+            }
+            for (int i = 0; i < read; i++) {
+                row = transitions[row + classes[chunk[i] & 0xFF]];
+                if (row < 0) {
+                    return matched(outputs[~row / classCount] - 1, scanned + i + 1);
+                }
+            }
+            scanned += read;
+        }
+        return new ContentScanResult(null, scanned, in.read(chunk, 0, 1) > 0);
+    }
+
+    /**
+     * 채널을 주어진 버퍼 단위로 읽으며 검사 (채널은 닫지 않음, 현재 위치부터)
+     * - 청크 크기는 limits.chunkSize() 대신 버퍼 용량을 사용하고, 버퍼 내용은 덮어씀
+     * - 스레드마다 다이렉트 버퍼 하나를 재사용하면 파일 채널에서 힙 배열로 복사하지 않고 검사
+     */
+    public ContentScanResult scan(ReadableByteChannel channel, ByteBuffer buffer, ContentScanLimits limits)
+            throws IOException {
+        if (isEmpty()) {
+            return new ContentScanResult(null, 0, false);
+        }
+        long scanned = 0;
+        int row = 0;
+        while (scanned < limits.maxBytes()) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), limits.maxBytes() - scanned));
+            int read = channel.read(buffer);
+            if (read < 0) {
+                return new ContentScanResult(null, scanned, false);
+            }
+            for (int i = 0; i < read; i++) {
+                row = transitions[row + classes[buffer.get(i) & 0xFF]];
+                if (row < 0) {
+                    return matched(outputs[~row / classCount] - 1, scanned + i + 1);
+                }
+            }
+            scanned += read;
+        }
+        buffer.clear().limit(1);
+        return new ContentScanResult(null, scanned, channel.read(buffer) > 0);
+    }
+
+    private ContentScanResult matched(int pattern, long end) {
+        return new ContentScanResult(new ContentMatch(patterns[pattern], end - lengths[pattern]), end, false);
+    }
+
+    public boolean isEmpty() {
+        return patterns.length == 0;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int patternCount() {
+        return patterns.length;
+    }
+
+    /**
+     * 컴파일된 패턴 (소문자로 정규화, 중복 제거)
+     */
+    public List<String> patterns() {
+        return List.of(patterns);
+    }
+
+    /**
+     * 오토마톤 상태 수 (루트 포함)
+     */
+    public int stateCount() {
+        return outputs.length;
+    }
+
+    private static int[] newRow(int classCount) {
+        int[] row = new int[classCount];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    @Override
+    public String toString() {
+        return "ContentScanner{version=" + version + ", patterns=" + patterns.length + ", states=" + stateCount() + "}";
+    }
+}
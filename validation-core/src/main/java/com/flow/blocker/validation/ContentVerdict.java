@@ -0,0 +1,14 @@
+package com.flow.blocker.validation;
+
+/**
+ * 파일 내용 검사 결과 (내용과 정책 버전이 같으면 재사용 가능)
+ * @param signature 탐지된 파일 형식 (알 수 없으면 null)
+ * @param archive 압축 파일 항목 검사에서 발견한 차단 사유 (압축 파일이 아니거나 문제가 없으면 null)
+ * @param contentMatch 내용 검사에서 발견한 패턴 (없거나 검사하지 않았으면 null)
+ */
+public record ContentVerdict(FileSignature signature, ArchiveFinding archive, ContentMatch contentMatch) {
+
+    public ContentVerdict(FileSignature signature) {
+        this(signature, null, null);
+    }
+}
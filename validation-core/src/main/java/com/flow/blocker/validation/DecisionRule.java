@@ -0,0 +1,60 @@
+package com.flow.blocker.validation;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 업로드 정책 규칙 (확장자 하나 또는 전체에 대한 조건)
+ * - 같은 확장자/모드에 여러 규칙이 있으면 DecisionTable이 하나의 판정으로 합침
+ * @param extension 대상 확장자 (소문자, 전체 확장자는 {@link #ANY_EXTENSION})
+ * @param mode 적용 경로 (업로드, 파일명 검증, 둘 다)
+ * @param blocked 이 경로에서 확장자 차단
+ * @param maxSizeBytes 최대 크기 (제한 없으면 {@link #NO_LIMIT})
+ * @param mimeTypes 이 확장자에 허용하는 MIME Type (다른 확장자에는 사용할 수 없게 됨)
+ * @param strictMime 목록에 없는 MIME Type이나 MIME Type이 없는 업로드도 거부
+ */
+public record DecisionRule(String extension, Mode mode, boolean blocked, long maxSizeBytes,
+                           Set<String> mimeTypes, boolean strictMime) {
+
+    public static final String ANY_EXTENSION = "*";
+    public static final long NO_LIMIT = -1L;
+
+    public DecisionRule {
+        extension = extension.trim().toLowerCase(Locale.ROOT);
+        mimeTypes = mimeTypes.stream()
+                .map(mimeType -> mimeType.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * MIME Type 허용 목록 규칙 (업로드 경로)
+     */
+    public static DecisionRule mimeTypes(String extension, boolean strictMime, String... mimeTypes) {
+        return new DecisionRule(extension, Mode.UPLOAD, false, NO_LIMIT, Set.of(mimeTypes), strictMime);
+    }
+
+    /**
+     * 크기 제한 규칙 (업로드 경로)
+     */
+    public static DecisionRule maxSize(String extension, long maxSizeBytes) {
+        return new DecisionRule(extension, Mode.UPLOAD, false, maxSizeBytes, Set.of(), false);
+    }
+
+    public boolean appliesTo(Mode target) {
+        return mode == Mode.ALL || mode == target;
+    }
+
+    public boolean isDefault() {
+        return ANY_EXTENSION.equals(extension);
+    }
+
+    public enum Mode {
+        /** 파일 업로드 (크기, MIME Type까지 판정) */
+        UPLOAD,
+        /** 파일명만 검증 (/validate, 대량 검증) */
+        VALIDATE,
+        /** 두 경로 모두 */
+        ALL
+    }
+}
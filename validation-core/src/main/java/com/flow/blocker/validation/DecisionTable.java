@@ -0,0 +1,147 @@
+package com.flow.blocker.validation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 업로드 정책 규칙을 확장자별 판정으로 미리 합친 불변 테이블
+ * - 조회는 확장자 해시 조회 한 번이며, 판정 비용은 전체 규칙 수와 무관
+ * - 확장자 인덱스는 ExtensionTable(오픈 어드레싱)이므로 파일명 분석 버퍼의 구간으로 문자열 생성 없이 조회 가능
+ * - 규칙이 없는 확장자는 전체 확장자({@code *}) 규칙만 합친 기본 판정을 사용
+ * - 같은 확장자의 여러 규칙은 차단/엄격 여부는 하나라도 있으면 적용, 크기는 가장 작은 제한, MIME Type은 합집합
+ * - 생성 이후 변경 불가 (규칙이 바뀌면 새 버전으로 다시 컴파일)
+ */
+public final class DecisionTable {
+
+    private static final List<DecisionRule.Mode> LOOKUP_MODES = List.of(DecisionRule.Mode.UPLOAD, DecisionRule.Mode.VALIDATE);
+
+    private static final DecisionTable EMPTY = compile(List.of());
+
+    private final long version;
+    // 모드(UPLOAD, VALIDATE)의 ordinal로 접근, 판정 배열은 확장자 인덱스의 슬롯 위치로 접근
+    private final ExtensionTable[] extensions;
+    private final UploadDecision[][] decisions;
+    private final UploadDecision[] defaults;
+    private final int ruleCount;
+
+    private DecisionTable(long version, ExtensionTable[] extensions, UploadDecision[][] decisions,
+                          UploadDecision[] defaults, int ruleCount) {
+        this.version = version;
+        this.extensions = extensions;
+        this.decisions = decisions;
+        this.defaults = defaults;
+        this.ruleCount = ruleCount;
+    }
+
+    public static DecisionTable empty() {
+        return EMPTY;
+    }
+
+    public static DecisionTable compile(Collection<DecisionRule> rules) {
+        return compile(0L, rules);
+    }
+
+    /**
+     * 규칙 집합 컴파일
+     * @param version 규칙 집합 버전 (검사 결과 캐시 키에 사용)
+     */
+    public static DecisionTable compile(long version, Collection<DecisionRule> rules) {
+        ExtensionTable[] extensions = new ExtensionTable[LOOKUP_MODES.size()];
+        UploadDecision[][] decisions = new UploadDecision[LOOKUP_MODES.size()][];
+        UploadDecision[] defaults = new UploadDecision[LOOKUP_MODES.size()];
+
+        for (DecisionRule.Mode mode : LOOKUP_MODES) {
+            List<DecisionRule> general = new ArrayList<>();
+            Map<String, List<DecisionRule>> byExtension = new HashMap<>();
+            Set<String> claimed = new HashSet<>();
+            for (DecisionRule rule : rules) {
+                if (!rule.appliesTo(mode)) {
+                    continue;
+                }
+                claimed.addAll(rule.mimeTypes());
+                if (rule.isDefault()) {
+                    general.add(rule);
+                } else {
+                    byExtension.computeIfAbsent(rule.extension(), extension -> new ArrayList<>()).add(rule);
+                }
+            }
+
+            Set<String> claimedMimeTypes = Set.copyOf(claimed);
+            ExtensionTable index = ExtensionTable.of(byExtension.keySet());
+            UploadDecision[] table = new UploadDecision[index.capacity()];
+            byExtension.forEach((extension, specific) -> {
+                List<DecisionRule> merged = new ArrayList<>(general);
+                merged.addAll(specific);
+                table[index.slotOf(extension, 0, extension.length())] = merge(merged, claimedMimeTypes);
+            });
+            extensions[mode.ordinal()] = index;
+            decisions[mode.ordinal()] = table;
+            defaults[mode.ordinal()] = merge(general, claimedMimeTypes);
+        }
+        return new DecisionTable(version, extensions, decisions, defaults, rules.size());
+    }
+
+    /**
+     * 확장자 판정 조회
+     * @param extension 소문자 확장자 (없으면 null, 기본 판정 반환)
+     * @param mode UPLOAD 또는 VALIDATE
+     */
+    public UploadDecision lookup(String extension, DecisionRule.Mode mode) {
+        checkMode(mode);
+        int slot = extension != null ? extensions[mode.ordinal()].slotOf(extension, 0, extension.length()) : -1;
+        return decision(slot, mode);
+    }
+
+    /**
+     * 확장자 판정 조회 (char 배열 구간, 문자열 생성 없음, 대소문자 무시)
+     * - 빈 구간이면 기본 판정 반환
+     */
+    public UploadDecision lookup(char[] chars, int from, int to, DecisionRule.Mode mode) {
+        checkMode(mode);
+        return decision(extensions[mode.ordinal()].slotOf(chars, from, to), mode);
+    }
+
+    private UploadDecision decision(int slot, DecisionRule.Mode mode) {
+        return slot >= 0 ? decisions[mode.ordinal()][slot] : defaults[mode.ordinal()];
+    }
+
+    private static void checkMode(DecisionRule.Mode mode) {
+        if (mode == DecisionRule.Mode.ALL) {
+            throw new IllegalArgumentException("조회 모드는 UPLOAD 또는 VALIDATE여야 합니다.");
+        }
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int ruleCount() {
+        return ruleCount;
+    }
+
+    private static UploadDecision merge(List<DecisionRule> rules, Set<String> claimedMimeTypes) {
+        boolean blocked = false;
+        boolean strictMime = false;
+        long maxSizeBytes = DecisionRule.NO_LIMIT;
+        Set<String> allowed = new HashSet<>();
+        for (DecisionRule rule : rules) {
+            blocked |= rule.blocked();
+            strictMime |= rule.strictMime();
+            if (rule.maxSizeBytes() >= 0 && (maxSizeBytes < 0 || rule.maxSizeBytes() < maxSizeBytes)) {
+                maxSizeBytes = rule.maxSizeBytes();
+            }
+            allowed.addAll(rule.mimeTypes());
+        }
+        return new UploadDecision(blocked, maxSizeBytes, Set.copyOf(allowed), claimedMimeTypes, strictMime);
+    }
+
+    @Override
+    public String toString() {
+        return "DecisionTable{version=" + version + ", rules=" + ruleCount + ", extensions=" + extensions[DecisionRule.Mode.UPLOAD.ordinal()].size() + "}";
+    }
+}
@@ -0,0 +1,404 @@
+package com.flow.blocker.validation;
+
+import java.nio.CharBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 확장자 패턴 매처 (대소문자 무시)
+ * - 패턴 문법: 영문자/숫자는 그대로, ?는 임의의 한 글자, *는 0글자 이상 (예: php*, ps?xml)
+ * - 패턴이 있으면 정확한 확장자와 패턴을 하나의 DFA로 컴파일해 규칙 수와 무관하게 확장자 길이에 비례해 판정
+ * - 패턴이 없으면 ExtensionTable만 사용
+ * - 상태 수가 한도를 넘으면 정확한 확장자는 해시 테이블, 패턴만 따로 컴파일 (그래도 넘으면 패턴을 순차 대조)
+ * - 생성 이후 변경 불가
+ */
+public final class ExtensionAutomaton {
+
+    public static final char ANY_CHAR = '?';
+    public static final char ANY_SEQUENCE = '*';
+
+    /** DFA 상태 수 한도 (전이표 크기 = 상태 수 x 문자 클래스 수) */
+    static final int MAX_STATES = 1 << 16;
+
+    /** 컴파일 중 상태들이 담는 NFA 위치 수 합계 한도 (중간에 *가 많은 패턴의 상태 폭증 시 조기 포기) */
+    static final int MAX_POSITIONS = 1 << 20;
+
+    private static final ExtensionAutomaton EMPTY =
+            new ExtensionAutomaton(ExtensionTable.of(List.of()), null, new String[0]);
+
+    private final ExtensionTable exact;
+    private final Dfa dfa;
+    private final String[] globs;
+
+    private ExtensionAutomaton(ExtensionTable exact, Dfa dfa, String[] globs) {
+        this.exact = exact;
+        this.dfa = dfa;
+        this.globs = globs;
+    }
+
+    public static ExtensionAutomaton compile(Collection<String> entries) {
+        return compile(entries, MAX_STATES);
+    }
+
+    static ExtensionAutomaton compile(Collection<String> entries, int maxStates) {
+        Set<String> exactEntries = new LinkedHashSet<>();
+        Set<String> patternEntries = new LinkedHashSet<>();
+        for (String entry : entries) {
+            String key = entry.toLowerCase(Locale.ROOT);
+            (isPattern(key) ? patternEntries : exactEntries).add(key);
+        }
+        if (patternEntries.isEmpty()) {
+            return exactEntries.isEmpty() ? EMPTY : new ExtensionAutomaton(ExtensionTable.of(exactEntries), null, new String[0]);
+        }
+
+        List<String> all = new ArrayList<>(exactEntries);
+        all.addAll(patternEntries);
+        Dfa combined = Dfa.build(all, maxStates);
+        if (combined != null) {
+            return new ExtensionAutomaton(ExtensionTable.of(List.of()), combined, new String[0]);
+        }
+
+        ExtensionTable table = ExtensionTable.of(exactEntries);
+        Dfa patterns = exactEntries.isEmpty() ? null : Dfa.build(List.copyOf(patternEntries), maxStates);
+        if (patterns != null) {
+            return new ExtensionAutomaton(table, patterns, new String[0]);
+        }
+        return new ExtensionAutomaton(table, null, patternEntries.toArray(String[]::new));
+    }
+
+    public static ExtensionAutomaton empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 와일드카드(*, ?) 포함 여부
+     */
+    public static boolean isPattern(String entry) {
+        return entry.indexOf(ANY_SEQUENCE) >= 0 || entry.indexOf(ANY_CHAR) >= 0;
+    }
+
+    public boolean matches(CharSequence extension) {
+        if (extension == null) {
+            return false;
+        }
+        if (exact.contains(extension)) {
+            return true;
+        }
+        if (dfa != null) {
+            return dfa.matches(extension);
+        }
+        for (String glob : globs) {
+            if (globMatches(glob, extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean matches(char[] chars, int from, int to) {
+        if (exact.contains(chars, from, to)) {
+            return true;
+        }
+        if (dfa != null) {
+            return dfa.matches(chars, from, to);
+        }
+        return globs.length > 0 && matches(CharBuffer.wrap(chars, from, to - from));
+    }
+
+    /**
+     * 패턴 전체가 하나의 DFA로 컴파일되었는지 여부 (순차 대조로 물러나지 않았는지)
+     */
+    public boolean isDeterministic() {
+        return globs.length == 0;
+    }
+
+    /**
+     * DFA 상태 수 (죽은 상태 포함, DFA가 없으면 0)
+     */
+    public int stateCount() {
+        return dfa == null ? 0 : dfa.accept.length;
+    }
+
+    /**
+     * 패턴 하나를 순차 대조 (* 위치로만 되돌아가므로 O(패턴 길이 x 확장자 길이))
+     */
+    static boolean globMatches(String glob, CharSequence text) {
+        int g = 0;
+        int t = 0;
+        int starGlob = -1;
+        int starText = 0;
+        while (t < text.length()) {
+            char c = Character.toLowerCase(text.charAt(t));
+            if (g < glob.length() && (glob.charAt(g) == ANY_CHAR || glob.charAt(g) == c)) {
+                g++;
+                t++;
+            } else if (g < glob.length() && glob.charAt(g) == ANY_SEQUENCE) {
+                starGlob = g++;
+                starText = t;
+            } else if (starGlob >= 0) {
+                g = starGlob + 1;
+                t = ++starText;
+            } else {
+                return false;
+            }
+        }
+        while (g < glob.length() && glob.charAt(g) == ANY_SEQUENCE) {
+            g++;
+        }
+        return g == glob.length();
+    }
+
+    /**
+     * 부분집합 구성으로 만든 DFA
+     * - 문자 클래스: 패턴에 등장한 글자마다 하나 + 그 외 모든 글자(0번)
+     * - 상태 0은 죽은 상태, 상태 1은 시작 상태, 전이표는 상태 x 클래스 밀집 배열
+     */
+    private static final class Dfa {
+
+        private static final int DEAD = 0;
+        private static final int START = 1;
+        private static final char END = '\uffff';
+
+        private final int[] asciiClasses;
+        private final char[] otherChars;
+        private final int[] otherClasses;
+        private final int classes;
+        private final int[] transitions;
+        private final boolean[] accept;
+
+        private Dfa(int[] asciiClasses, char[] otherChars, int[] otherClasses, int classes,
+                    int[] transitions, boolean[] accept) {
+            this.asciiClasses = asciiClasses;
+            this.otherChars = otherChars;
+            this.otherClasses = otherClasses;
+            this.classes = classes;
+            this.transitions = transitions;
+            this.accept = accept;
+        }
+
+        /**
+         * @return 상태 수나 위치 수 합계가 한도를 넘으면 null
+         */
+        static Dfa build(List<String> patterns, int maxStates) {
+            // 패턴을 하나의 토큰 배열로 이어 붙임 (패턴마다 끝 표시), NFA 위치 = 토큰 인덱스
+            StringBuilder tokenBuilder = new StringBuilder();
+            int[] starts = new int[patterns.size()];
+            TreeSet<Character> literals = new TreeSet<>();
+            for (int i = 0; i < patterns.size(); i++) {
+                String pattern = patterns.get(i);
+                starts[i] = tokenBuilder.length();
+                for (int j = 0; j < pattern.length(); j++) {
+                    char c = pattern.charAt(j);
+                    if (c != ANY_CHAR && c != ANY_SEQUENCE) {
+                        literals.add(c);
+                    }
+                }
+                tokenBuilder.append(pattern).append(END);
+            }
+            char[] tokens = tokenBuilder.toString().toCharArray();
+
+            int classes = literals.size() + 1;
+            int[] asciiClasses = new int[128];
+            char[] literalChars = new char[literals.size()];
+            List<Character> others = new ArrayList<>();
+            int index = 0;
+            for (char c : literals) {
+                literalChars[index++] = c;
+                if (c < 128) {
+                    asciiClasses[c] = index;
+                } else {
+                    others.add(c);
+                }
+            }
+            char[] otherChars = new char[others.size()];
+            int[] otherClasses = new int[others.size()];
+            for (int i = 0; i < others.size(); i++) {
+                otherChars[i] = others.get(i);
+                otherClasses[i] = Arrays.binarySearch(literalChars, otherChars[i]) + 1;
+            }
+
+            Map<StateKey, Integer> ids = new HashMap<>();
+            int[] positionBudget = {MAX_POSITIONS};
+            List<int[]> states = new ArrayList<>();
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            BitSet scratch = new BitSet(tokens.length);
+
+            int[] dead = new int[0];
+            ids.put(new StateKey(dead), DEAD);
+            states.add(dead);
+            for (int start : starts) {
+                scratch.set(start);
+            }
+            int[] start = closure(scratch, tokens);
+            ids.put(new StateKey(start), START);
+            states.add(start);
+            queue.add(START);
+
+            int[] transitions = new int[Math.min(maxStates, 1024) * classes];
+            BitSet wildcardMoves = new BitSet(tokens.length);
+            int[][] literalMoves = new int[classes][];
+            int[] literalCounts = new int[classes];
+            int[] touched = new int[classes];
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                int[] positions = states.get(state);
+
+                // 위치를 한 번만 훑어 와일드카드 이동과 글자별 이동을 분리
+                wildcardMoves.clear();
+                int touchedCount = 0;
+                for (int position : positions) {
+                    char token = tokens[position];
+                    if (token == ANY_SEQUENCE) {
+                        wildcardMoves.set(position);
+                    } else if (token == ANY_CHAR) {
+                        wildcardMoves.set(position + 1);
+                    } else if (token != END) {
+                        int cls = classOf(token, asciiClasses, otherChars, otherClasses);
+                        if (literalCounts[cls] == 0) {
+                            touched[touchedCount++] = cls;
+                            if (literalMoves[cls] == null) {
+                                literalMoves[cls] = new int[4];
+                            }
+                        } else if (literalCounts[cls] == literalMoves[cls].length) {
+                            literalMoves[cls] = Arrays.copyOf(literalMoves[cls], literalCounts[cls] * 2);
+                        }
+                        literalMoves[cls][literalCounts[cls]++] = position + 1;
+                    }
+                }
+
+                // 이 상태에서 언급되지 않은 글자는 모두 와일드카드 이동만 적용
+                scratch.clear();
+                scratch.or(wildcardMoves);
+                int fallback = intern(closure(scratch, tokens), ids, states, queue, maxStates, positionBudget);
+                if (fallback < 0) {
+                    return null;
+                }
+                Arrays.fill(transitions, state * classes, (state + 1) * classes, fallback);
+
+                for (int i = 0; i < touchedCount; i++) {
+                    int cls = touched[i];
+                    scratch.clear();
+                    scratch.or(wildcardMoves);
+                    for (int j = 0; j < literalCounts[cls]; j++) {
+                        scratch.set(literalMoves[cls][j]);
+                    }
+                    literalCounts[cls] = 0;
+                    int target = intern(closure(scratch, tokens), ids, states, queue, maxStates, positionBudget);
+                    if (target < 0) {
+                        return null;
+                    }
+                    transitions[state * classes + cls] = target;
+                }
+
+                if (states.size() * classes > transitions.length) {
+                    transitions = Arrays.copyOf(transitions, Math.min(maxStates, states.size() * 2) * classes);
+                }
+            }
+
+            boolean[] accept = new boolean[states.size()];
+            for (int i = 0; i < states.size(); i++) {
+                for (int position : states.get(i)) {
+                    if (tokens[position] == END) {
+                        accept[i] = true;
+                        break;
+                    }
+                }
+            }
+            return new Dfa(asciiClasses, otherChars, otherClasses, classes,
+                    Arrays.copyOf(transitions, states.size() * classes), accept);
+        }
+
+        /**
+         * 위치 집합에 상태 번호 부여 (처음 보는 집합이면 새 상태로 등록)
+         * @return 상태 수나 위치 수 합계가 한도를 넘으면 -1
+         */
+        private static int intern(int[] positions, Map<StateKey, Integer> ids, List<int[]> states,
+                                  ArrayDeque<Integer> queue, int maxStates, int[] positionBudget) {
+            StateKey key = new StateKey(positions);
+            Integer id = ids.get(key);
+            if (id != null) {
+                return id;
+            }
+            if (states.size() >= maxStates || (positionBudget[0] -= positions.length) < 0) {
+                return -1;
+            }
+            int created = states.size();
+            ids.put(key, created);
+            states.add(positions);
+            queue.add(created);
+            return created;
+        }
+
+        /**
+         * * 앞의 위치는 *를 건너뛴 위치도 포함 (*는 0글자와도 일치)
+         */
+        private static int[] closure(BitSet positions, char[] tokens) {
+            for (int p = positions.nextSetBit(0); p >= 0; p = positions.nextSetBit(p + 1)) {
+                if (tokens[p] == ANY_SEQUENCE) {
+                    positions.set(p + 1);
+                }
+            }
+            return positions.stream().toArray();
+        }
+
+        boolean matches(CharSequence chars) {
+            int state = START;
+            for (int i = 0, length = chars.length(); i < length; i++) {
+                state = transitions[state * classes + classOf(chars.charAt(i))];
+                if (state == DEAD) {
+                    return false;
+                }
+            }
+            return accept[state];
+        }
+
+        boolean matches(char[] chars, int from, int to) {
+            int state = START;
+            for (int i = from; i < to; i++) {
+                state = transitions[state * classes + classOf(chars[i])];
+                if (state == DEAD) {
+                    return false;
+                }
+            }
+            return accept[state];
+        }
+
+        private int classOf(char c) {
+            return classOf(Character.toLowerCase(c), asciiClasses, otherChars, otherClasses);
+        }
+
+        private static int classOf(char lower, int[] asciiClasses, char[] otherChars, int[] otherClasses) {
+            if (lower < 128) {
+                return asciiClasses[lower];
+            }
+            int index = Arrays.binarySearch(otherChars, lower);
+            return index < 0 ? 0 : otherClasses[index];
+        }
+    }
+
+    /**
+     * NFA 위치 집합 (정렬된 배열) 을 상태 키로 사용
+     */
+    private record StateKey(int[] positions) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof StateKey other && Arrays.equals(positions, other.positions);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(positions);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.flow.blocker.validation;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 차단 정책 스냅샷
+ * - 체크된 고정 확장자 + 커스텀 확장자를 합친 불변 뷰
+ * - 버전 단위로 통째로 교체되며, 생성 이후에는 변경되지 않음
+ * - 항목에 와일드카드 패턴(php*, ps?xml)이 있으면 정확한 확장자와 함께 하나의 오토마톤으로 판정
+ */
+public final class ExtensionPolicy {
+
+    private static final ExtensionPolicy EMPTY = new ExtensionPolicy(0L, Set.of(), Set.of());
+
+    private final long version;
+    private final Set<String> fixedExtensions;
+    private final Set<String> customExtensions;
+    private final Set<String> blockedExtensions;
+    private final List<String> blockedPatterns;
+    private final ExtensionAutomaton blockedMatcher;
+
+    public ExtensionPolicy(long version, Set<String> fixedExtensions, Set<String> customExtensions) {
+        this.version = version;
+        this.fixedExtensions = normalize(fixedExtensions);
+        this.customExtensions = normalize(customExtensions);
+
+        Set<String> blocked = new HashSet<>(this.fixedExtensions);
+        blocked.addAll(this.customExtensions);
+        this.blockedExtensions = Set.copyOf(blocked);
+        this.blockedPatterns = this.blockedExtensions.stream()
+                .filter(ExtensionAutomaton::isPattern)
+                .sorted(Comparator.comparingInt(String::length).reversed().thenComparing(Comparator.naturalOrder()))
+                .toList();
+        this.blockedMatcher = ExtensionAutomaton.compile(this.blockedExtensions);
+    }
+
+    public static ExtensionPolicy empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 차단 여부 조회 (정확한 확장자 또는 패턴과 일치, 대소문자 무시)
+     */
+    public boolean isBlocked(String extension) {
+        return extension != null && blockedMatcher.matches(extension);
+    }
+
+    /**
+     * 분석된 파일명의 확장자 차단 여부 조회 (문자열 생성 없음)
+     */
+    public boolean isBlocked(FilenameAnalysis analysis) {
+        return analysis.hasExtension() && analysis.extensionMatches(blockedMatcher);
+    }
+
+    /**
+     * 확장자를 차단한 정책 항목 조회 (메트릭 태그용, 거부 경로에서만 호출)
+     * - 정확한 항목과 일치하면 그 확장자, 패턴과 일치하면 가장 긴 패턴 문자열, 없으면 null
+     * - 반환값은 정책 항목 중 하나라 요청 값이 그대로 태그가 되지 않음
+     */
+    public String matchedEntry(String extension) {
+        if (extension == null) {
+            return null;
+        }
+        String normalized = extension.toLowerCase(Locale.ROOT);
+        if (blockedExtensions.contains(normalized) && !ExtensionAutomaton.isPattern(normalized)) {
+            return normalized;
+        }
+        for (String pattern : blockedPatterns) {
+            if (ExtensionAutomaton.globMatches(pattern, normalized)) {
+                return pattern;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 변경분을 순서대로 적용한 새 스냅샷 생성 (이 스냅샷은 변하지 않음)
+     */
+    public ExtensionPolicy apply(List<PolicyDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return this;
+        }
+
+        Set<String> fixed = new HashSet<>(fixedExtensions);
+        Set<String> custom = new HashSet<>(customExtensions);
+        long nextVersion = version;
+        for (PolicyDelta delta : deltas) {
+            Set<String> target = delta.scope() == PolicyDelta.Scope.FIXED ? fixed : custom;
+            String extension = delta.extension().toLowerCase(Locale.ROOT);
+            if (delta.action() == PolicyDelta.Action.ADD) {
+                target.add(extension);
+            } else {
+                target.remove(extension);
+            }
+            nextVersion = Math.max(nextVersion, delta.version());
+        }
+        return new ExtensionPolicy(nextVersion, fixed, custom);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Set<String> fixedExtensions() {
+        return fixedExtensions;
+    }
+
+    public Set<String> customExtensions() {
+        return customExtensions;
+    }
+
+    public Set<String> blockedExtensions() {
+        return blockedExtensions;
+    }
+
+    private static Set<String> normalize(Set<String> extensions) {
+        Set<String> normalized = new HashSet<>(extensions.size() * 2);
+        for (String extension : extensions) {
+            normalized.add(extension.toLowerCase(Locale.ROOT));
+        }
+        return Set.copyOf(normalized);
+    }
+
+    @Override
+    public String toString() {
+        return "ExtensionPolicy{version=" + version + ", blocked=" + blockedExtensions.size() + "}";
+    }
+}
@@ -0,0 +1,139 @@
+package com.flow.blocker.validation;
+
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * 확장자 조회 전용 해시 테이블
+ * - 문자열을 만들지 않고 char 배열의 구간으로 바로 조회 (대소문자 무시)
+ * - 오픈 어드레싱, 생성 이후 변경 불가
+ * - 같은 패키지에는 슬롯 위치를 노출해 슬롯별 값 배열을 붙인 조회 테이블로도 사용 (DecisionTable)
+ */
+public final class ExtensionTable {
+
+    private static final ExtensionTable EMPTY = new ExtensionTable(new String[2], 0);
+
+    private final String[] slots;
+    private final int mask;
+    private final int size;
+
+    private ExtensionTable(String[] slots, int size) {
+        this.slots = slots;
+        this.mask = slots.length - 1;
+        this.size = size;
+    }
+
+    public static ExtensionTable of(Collection<String> extensions) {
+        if (extensions.isEmpty()) {
+            return EMPTY;
+        }
+        // 적재율 50% 이하 유지
+        int capacity = Integer.highestOneBit(Math.max(2, extensions.size()) * 2 - 1) << 1;
+        String[] slots = new String[capacity];
+        int mask = capacity - 1;
+        int size = 0;
+
+        for (String extension : extensions) {
+            String key = extension.toLowerCase(Locale.ROOT);
+            int index = hash(key, 0, key.length()) & mask;
+            while (slots[index] != null && !slots[index].equals(key)) {
+                index = (index + 1) & mask;
+            }
+            if (slots[index] == null) {
+                slots[index] = key;
+                size++;
+            }
+        }
+        return new ExtensionTable(slots, size);
+    }
+
+    public boolean contains(CharSequence extension) {
+        return extension != null && contains(extension, 0, extension.length());
+    }
+
+    public boolean contains(CharSequence chars, int from, int to) {
+        return slotOf(chars, from, to) >= 0;
+    }
+
+    public boolean contains(char[] chars, int from, int to) {
+        return slotOf(chars, from, to) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 확장자가 있는 슬롯 위치 (없으면 -1)
+     */
+    int slotOf(CharSequence chars, int from, int to) {
+        int index = hash(chars, from, to) & mask;
+        String candidate;
+        while ((candidate = slots[index]) != null) {
+            if (matches(candidate, chars, from, to)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    int slotOf(char[] chars, int from, int to) {
+        int h = 0;
+        for (int i = from; i < to; i++) {
+            h = 31 * h + Character.toLowerCase(chars[i]);
+        }
+        int index = spread(h) & mask;
+        String candidate;
+        while ((candidate = slots[index]) != null) {
+            if (matches(candidate, chars, from, to)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * 슬롯 수 (slotOf가 돌려주는 위치의 상한)
+     */
+    int capacity() {
+        return slots.length;
+    }
+
+    private static int hash(CharSequence chars, int from, int to) {
+        int h = 0;
+        for (int i = from; i < to; i++) {
+            h = 31 * h + Character.toLowerCase(chars.charAt(i));
+        }
+        return spread(h);
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean matches(String candidate, CharSequence chars, int from, int to) {
+        if (candidate.length() != to - from) {
+            return false;
+        }
+        for (int i = from, j = 0; i < to; i++, j++) {
+            if (Character.toLowerCase(chars.charAt(i)) != candidate.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String candidate, char[] chars, int from, int to) {
+        if (candidate.length() != to - from) {
+            return false;
+        }
+        for (int i = from, j = 0; i < to; i++, j++) {
+            if (Character.toLowerCase(chars[i]) != candidate.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
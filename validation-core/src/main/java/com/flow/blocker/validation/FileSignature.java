@@ -0,0 +1,92 @@
+package com.flow.blocker.validation;
+
+import java.util.Set;
+
+/**
+ * 파일 시그니처(Magic Number) 목록
+ * - 각 형식의 선두 바이트 패턴과 그 형식에 해당하는 확장자
+ * - 패턴은 16진수 문자열, 선두가 아닌 위치는 "@오프셋:" 접두사로 지정
+ */
+public enum FileSignature {
+
+    // 실행 파일 (PE는 MagicNumberDetector가 e_lfanew의 PE 헤더까지 확인)
+    PE_EXECUTABLE(true, Set.of("exe", "dll", "com", "scr", "cpl", "sys", "ocx", "drv", "efi", "mui"),
+            "4D5A"),
+    ELF_EXECUTABLE(true, Set.of("so", "elf", "bin", "out", "o", "ko"),
+            "7F454C46"),
+    MACH_O_EXECUTABLE(true, Set.of("dylib", "bundle", "o", "class"),
+            "FEEDFACE", "FEEDFACF", "CEFAEDFE", "CFFAEDFE", "CAFEBABE"),
+    SHEBANG_SCRIPT(true, Set.of("sh", "bash", "zsh", "ksh", "csh", "py", "pl", "rb", "php", "command", "js", "mjs"),
+            "2321"),
+    WINDOWS_SHORTCUT(true, Set.of("lnk"),
+            "4C0000000114020000000000C000000000000046"),
+    WEB_ASSEMBLY(true, Set.of("wasm"),
+            "0061736D"),
+
+    // 압축 파일
+    ZIP(false, Set.of("zip", "jar", "war", "ear", "apk", "aar", "docx", "xlsx", "pptx", "docm", "xlsm", "pptm",
+            "odt", "ods", "odp", "epub", "xpi", "vsix", "whl", "ipa", "kmz"),
+            "504B0304", "504B0506", "504B0708"),
+    GZIP(false, Set.of("gz", "tgz"),
+            "1F8B"),
+    SEVEN_ZIP(false, Set.of("7z"),
+            "377ABCAF271C"),
+    RAR(false, Set.of("rar"),
+            "526172211A07"),
+    TAR(false, Set.of("tar"),
+            "@257:7573746172"),
+
+    // 문서
+    PDF(false, Set.of("pdf", "ai"),
+            "255044462D"),
+    OLE2(false, Set.of("doc", "xls", "ppt", "msi", "msg", "hwp", "vsd"),
+            "D0CF11E0A1B11AE1"),
+    RTF(false, Set.of("rtf"),
+            "7B5C72746631"),
+
+    // 이미지/미디어
+    PNG(false, Set.of("png"),
+            "89504E470D0A1A0A"),
+    JPEG(false, Set.of("jpg", "jpeg", "jpe", "jfif"),
+            "FFD8FF"),
+    GIF(false, Set.of("gif"),
+            "474946383761", "474946383961"),
+    BMP(false, Set.of("bmp", "dib"),
+            "424D"),
+    TIFF(false, Set.of("tif", "tiff"),
+            "49492A00", "4D4D002A"),
+    ISO_MEDIA(false, Set.of("mp4", "m4a", "m4v", "mov", "3gp", "heic", "heif", "avif"),
+            "@4:66747970");
+
+    private final boolean executable;
+    private final Set<String> extensions;
+    private final String[] magics;
+
+    FileSignature(boolean executable, Set<String> extensions, String... magics) {
+        this.executable = executable;
+        this.extensions = extensions;
+        this.magics = magics;
+    }
+
+    /**
+     * 실행 가능한 형식(바이너리, 스크립트) 여부
+     */
+    public boolean isExecutable() {
+        return executable;
+    }
+
+    /**
+     * 확장자가 이 형식에 해당하는지 여부 (확장자는 소문자)
+     */
+    public boolean matchesExtension(String extension) {
+        return extensions.contains(extension);
+    }
+
+    public Set<String> extensions() {
+        return extensions;
+    }
+
+    String[] magics() {
+        return magics;
+    }
+}
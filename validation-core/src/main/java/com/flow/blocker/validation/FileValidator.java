@@ -0,0 +1,159 @@
+package com.flow.blocker.validation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * 파일 검증 규칙 (프레임워크 의존성 없음)
+ * - 서버의 FileValidationService와 다른 JVM 서비스가 같은 판정을 내리도록 규칙을 한 곳에 둠
+ * - 모든 메서드는 예외를 던지지 않고 차단 사유 또는 판정값을 반환
+ * - 파일명 분석 버퍼는 스레드별로 재사용하므로 분석 결과는 같은 스레드의 다음 분석 전까지만 유효
+ */
+public final class FileValidator {
+
+    /** 위험한 확장자 목록 (차단 목록과 별개로 경고, MIME 검증, 이중 확장자 판정에 사용) */
+    public static final Set<String> HIGH_RISK_EXTENSIONS = Set.of(
+            "exe", "com", "bat", "cmd", "scr", "vbs", "vbe", "js", "jse",
+            "ws", "wsf", "wsc", "wsh", "ps1", "ps1xml", "ps2", "ps2xml",
+            "psc1", "psc2", "msh", "msh1", "msh2", "mshxml", "msh1xml",
+            "msh2xml", "scf", "lnk", "inf", "reg", "dll", "app", "jar",
+            "jsp", "jspx", "asp", "aspx", "php", "php3", "php4", "php5"
+    );
+
+    public static final ExtensionTable HIGH_RISK_TABLE = ExtensionTable.of(HIGH_RISK_EXTENSIONS);
+
+    /** 텍스트 계열 확장자 (첫 줄이 #!로 시작해도 스크립트로 실행되지 않으므로 위장 실행 파일로 보지 않음) */
+    public static final Set<String> TEXT_EXTENSIONS = Set.of(
+            "txt", "text", "md", "markdown", "rst", "adoc", "csv", "tsv", "log",
+            "ini", "cfg", "conf", "properties", "toml", "yaml", "yml", "json", "xml"
+    );
+
+    /** 최대 업로드 크기 기본값 (100MB) */
+    public static final long DEFAULT_MAX_SIZE_BYTES = 100L * 1024 * 1024;
+
+    /**
+     * 기본 업로드 정책 규칙 (DB에 규칙이 없을 때 사용, 최초 기동 시 DB에 저장하는 초기값)
+     * - 전체 확장자 크기 제한, 확장자별 MIME Type 허용 목록
+     * - 위험한 확장자는 목록에 없는 MIME Type이나 MIME Type이 없는 업로드를 거부
+     */
+    public static final List<DecisionRule> DEFAULT_RULES = defaultRules();
+
+    public static final DecisionTable DEFAULT_DECISIONS = DecisionTable.compile(DEFAULT_RULES);
+
+    /**
+     * 기본 내용 검사 패턴 (최초 기동 시 DB에 저장하는 초기값)
+     * - 허용된 형식 안에 숨긴 스크립트, 인코딩된 PowerShell 실행, Office 매크로(VBA) 표식
+     */
+    public static final List<String> DEFAULT_CONTENT_PATTERNS = List.of(
+            "<script", "javascript:", "eval(", "powershell -enc", "powershell.exe -enc",
+            "vbaproject.bin", "attribute vb_name"
+    );
+
+    private static final FilenameAnalyzer FILENAME_ANALYZER = new FilenameAnalyzer(HIGH_RISK_TABLE);
+
+    // 스레드별 분석 결과 재사용 (파일명마다 가비지를 만들지 않기 위함)
+    private static final ThreadLocal<FilenameAnalysis> ANALYSIS = ThreadLocal.withInitial(FilenameAnalysis::new);
+
+    private FileValidator() {
+    }
+
+    /**
+     * 파일명 분석 (XSS 문자 제거, 확장자 추출, 이중 확장자 판정)
+     * - 반환값은 스레드별 버퍼이므로 보관하지 말 것
+     */
+    public static FilenameAnalysis analyze(String filename) {
+        FilenameAnalysis analysis = ANALYSIS.get();
+        FILENAME_ANALYZER.analyze(filename, analysis);
+        return analysis;
+    }
+
+    /**
+     * 파일명 차단 사유 조회
+     * - 주어진 정책 스냅샷 기준으로 판정하며, 통과 시 null 반환
+     */
+    public static RejectionReason checkFilename(String filename, ExtensionPolicy policy) {
+        if (filename == null || filename.isBlank()) {
+            return RejectionReason.INVALID_FILENAME;
+        }
+
+        FilenameAnalysis analysis = analyze(filename);
+        if (analysis.isEmpty()) {
+            return RejectionReason.INVALID_FILENAME;
+        }
+        if (analysis.hasNullByte()) {
+            return RejectionReason.NULL_BYTE_INJECTION;
+        }
+        if (analysis.hasDoubleExtension()) {
+            return RejectionReason.DOUBLE_EXTENSION;
+        }
+        if (policy.isBlocked(analysis)) {
+            return RejectionReason.EXTENSION_BLOCKED;
+        }
+        return null;
+    }
+
+    /**
+     * 파일명 차단 사유 조회 (업로드 정책 규칙의 확장자 차단 포함)
+     * - 주어진 정책 스냅샷과 규칙 테이블 기준으로 판정하며, 통과 시 null 반환
+     */
+    public static RejectionReason checkFilename(String filename, ExtensionPolicy policy,
+                                                DecisionTable rules, DecisionRule.Mode mode) {
+        RejectionReason reason = checkFilename(filename, policy);
+        if (reason != null) {
+            return reason;
+        }
+        // 통과한 파일명은 분석 버퍼가 그대로 남아 있음
+        return ANALYSIS.get().decisionIn(rules, mode).blocked() ? RejectionReason.EXTENSION_BLOCKED : null;
+    }
+
+    /**
+     * 선언된 MIME Type과 확장자가 맞는지 확인 (기본 규칙 기준)
+     * - MIME Type이 없거나 알려지지 않은 경우 위험한 확장자가 아닌 경우만 허용
+     */
+    public static boolean isMimeTypeAllowed(String contentType, String extension) {
+        return DEFAULT_DECISIONS.lookup(extension, DecisionRule.Mode.UPLOAD).isMimeTypeAllowed(contentType);
+    }
+
+    /**
+     * 실행 파일을 다른 확장자로 위장했는지 확인
+     * - #!로 시작하는 텍스트 계열 파일은 위장으로 보지 않음
+     * @param signature 탐지된 파일 형식 (알 수 없으면 null)
+     */
+    public static boolean isDisguisedExecutable(FileSignature signature, String extension) {
+        if (signature == null || !signature.isExecutable() || signature.matchesExtension(extension)) {
+            return false;
+        }
+        return signature != FileSignature.SHEBANG_SCRIPT || !TEXT_EXTENSIONS.contains(extension);
+    }
+
+    private static List<DecisionRule> defaultRules() {
+        Map<String, Set<String>> mimeTypes = new LinkedHashMap<>();
+        BiConsumer<String, List<String>> allow = (mimeType, extensions) -> extensions.forEach(
+                extension -> mimeTypes.computeIfAbsent(extension, key -> new LinkedHashSet<>()).add(mimeType));
+        allow.accept("application/x-msdownload", List.of("exe", "dll", "com"));
+        allow.accept("application/x-msdos-program", List.of("exe", "com", "bat"));
+        allow.accept("application/x-executable", List.of("exe"));
+        allow.accept("application/x-sh", List.of("sh"));
+        allow.accept("application/x-batch", List.of("bat", "cmd"));
+        allow.accept("text/javascript", List.of("js"));
+        allow.accept("application/javascript", List.of("js"));
+        allow.accept("application/x-vbscript", List.of("vbs"));
+        allow.accept("application/java-archive", List.of("jar"));
+        allow.accept("application/pdf", List.of("pdf"));
+        allow.accept("image/jpeg", List.of("jpg", "jpeg"));
+        allow.accept("image/png", List.of("png"));
+        allow.accept("image/gif", List.of("gif"));
+        HIGH_RISK_EXTENSIONS.stream().sorted().forEach(extension -> mimeTypes.putIfAbsent(extension, Set.of()));
+
+        List<DecisionRule> rules = new ArrayList<>();
+        rules.add(DecisionRule.maxSize(DecisionRule.ANY_EXTENSION, DEFAULT_MAX_SIZE_BYTES));
+        mimeTypes.forEach((extension, allowed) -> rules.add(DecisionRule.mimeTypes(
+                extension, HIGH_RISK_EXTENSIONS.contains(extension), allowed.toArray(String[]::new))));
+        return List.copyOf(rules);
+    }
+}
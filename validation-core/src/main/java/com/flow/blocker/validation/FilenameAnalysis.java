@@ -0,0 +1,121 @@
+package com.flow.blocker.validation;
+
+/**
+ * 파일명 분석 결과
+ * - FilenameAnalyzer가 채우는 재사용 가능한 결과 객체 (스레드 간 공유 금지)
+ * - 정제된 파일명은 내부 버퍼에만 보관하고, 문자열은 필요할 때만 생성
+ */
+public final class FilenameAnalysis {
+
+    private static final int RETAINED_BUFFER_LIMIT = 4096;
+
+    char[] buffer = new char[256];
+    int start;
+    int end;
+    int extensionStart;
+    int extensionEnd;
+    int riskySegmentStart;
+    int riskySegmentEnd;
+    boolean nullByte;
+    boolean doubleExtension;
+
+    private String filename;
+    private String extension;
+
+    void reset(int capacity) {
+        if (buffer.length < capacity || buffer.length > RETAINED_BUFFER_LIMIT && capacity <= RETAINED_BUFFER_LIMIT) {
+            buffer = new char[Math.max(capacity, 256)];
+        }
+        start = 0;
+        end = 0;
+        extensionStart = 0;
+        extensionEnd = 0;
+        riskySegmentStart = -1;
+        riskySegmentEnd = -1;
+        nullByte = false;
+        doubleExtension = false;
+        filename = null;
+        extension = null;
+    }
+
+    /**
+     * 정제 후 파일명이 비어있는지 여부
+     */
+    public boolean isEmpty() {
+        return end <= start;
+    }
+
+    /**
+     * Null Byte(\0, %00) 포함 여부
+     */
+    public boolean hasNullByte() {
+        return nullByte;
+    }
+
+    /**
+     * 이중 확장자(위험 확장자가 중간에 포함되거나 연속된 점) 여부
+     */
+    public boolean hasDoubleExtension() {
+        return doubleExtension;
+    }
+
+    public boolean hasExtension() {
+        return extensionEnd > extensionStart;
+    }
+
+    /**
+     * 확장자가 주어진 테이블에 포함되는지 조회 (문자열 생성 없음)
+     */
+    public boolean extensionIn(ExtensionTable table) {
+        return table.contains(buffer, extensionStart, extensionEnd);
+    }
+
+    /**
+     * 확장자가 주어진 패턴 매처와 일치하는지 조회 (문자열 생성 없음)
+     */
+    public boolean extensionMatches(ExtensionAutomaton automaton) {
+        return automaton.matches(buffer, extensionStart, extensionEnd);
+    }
+
+    /**
+     * 확장자에 대한 업로드 정책 판정 조회 (문자열 생성 없음, 확장자가 없으면 기본 판정)
+     */
+    public UploadDecision decisionIn(DecisionTable rules, DecisionRule.Mode mode) {
+        return rules.lookup(buffer, extensionStart, extensionEnd, mode);
+    }
+
+    /**
+     * 정제된 파일명 (XSS 문자, 개행 제거 및 trim)
+     */
+    public String filename() {
+        if (filename == null) {
+            filename = isEmpty() ? "" : new String(buffer, start, end - start);
+        }
+        return filename;
+    }
+
+    /**
+     * 소문자로 정규화된 확장자, 없으면 빈 문자열
+     */
+    public String extension() {
+        if (extension == null) {
+            extension = hasExtension() ? lowerCase(extensionStart, extensionEnd) : "";
+        }
+        return extension;
+    }
+
+    /**
+     * 이중 확장자로 판정된 위험 구간, 없으면 null
+     */
+    public String riskySegment() {
+        return riskySegmentStart < 0 ? null : new String(buffer, riskySegmentStart, riskySegmentEnd - riskySegmentStart);
+    }
+
+    private String lowerCase(int from, int to) {
+        char[] chars = new char[to - from];
+        for (int i = from; i < to; i++) {
+            chars[i - from] = Character.toLowerCase(buffer[i]);
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,124 @@
+package com.flow.blocker.validation;
+
+/**
+ * 단일 패스 파일명 분석기
+ * - 파일명을 한 번만 순회하며 정제, Null Byte 탐지, 확장자 추출, 이중 확장자 판정을 동시에 수행
+ * - 중간 문자열/배열을 만들지 않고 결과를 FilenameAnalysis 버퍼에 기록
+ */
+public final class FilenameAnalyzer {
+
+    private final ExtensionTable riskyExtensions;
+
+    /**
+     * @param riskyExtensions 이중 확장자 판정에 사용할 위험 확장자 목록
+     */
+    public FilenameAnalyzer(ExtensionTable riskyExtensions) {
+        this.riskyExtensions = riskyExtensions;
+    }
+
+    public FilenameAnalysis analyze(String filename) {
+        FilenameAnalysis analysis = new FilenameAnalysis();
+        analyze(filename, analysis);
+        return analysis;
+    }
+
+    /**
+     * 파일명 분석
+     * - 정제: HTML 특수문자(<>"'&)와 개행 제거 후 trim
+     * - 이중 확장자: "."으로 나눈 두 번째 구간부터 위험 확장자가 있거나 연속된 점이 있는 경우 (구간 3개 이상)
+     */
+    public void analyze(String filename, FilenameAnalysis into) {
+        int length = filename.length();
+        into.reset(length);
+        char[] buf = into.buffer;
+
+        int size = 0;
+        int start = -1;
+        int end = 0;
+        boolean nullByte = false;
+        boolean consecutiveDots = false;
+
+        int lastDot = -1;
+        int segmentIndex = 0;
+        int lastNonEmptySegment = -1;
+
+        for (int i = 0; i < length; i++) {
+            char c = filename.charAt(i);
+            switch (c) {
+                case '<', '>', '"', '\'', '&', '\r', '\n' -> {
+                    continue;
+                }
+                default -> {
+                }
+            }
+            buf[size] = c;
+
+            if (c == '\0') {
+                nullByte = true;
+            } else if (c == '0' && size >= 2 && buf[size - 1] == '0' && buf[size - 2] == '%') {
+                nullByte = true;
+            }
+
+            if (c > ' ') {
+                if (start < 0) {
+                    start = size;
+                }
+                end = size + 1;
+            }
+
+            if (c == '.') {
+                if (size > 0 && buf[size - 1] == '.') {
+                    consecutiveDots = true;
+                }
+                int segmentStart = lastDot < 0 ? start : lastDot + 1;
+                if (size > segmentStart) {
+                    lastNonEmptySegment = segmentIndex;
+                    if (segmentIndex > 0) {
+                        checkRisky(into, buf, segmentStart, size);
+                    }
+                }
+                lastDot = size;
+                segmentIndex++;
+            }
+            size++;
+        }
+
+        if (start < 0) {
+            // 공백만 남은 경우
+            into.start = 0;
+            into.end = 0;
+            into.nullByte = nullByte;
+            return;
+        }
+
+        // 마지막 구간
+        int segmentStart = lastDot < 0 ? start : lastDot + 1;
+        if (end > segmentStart) {
+            lastNonEmptySegment = segmentIndex;
+            if (segmentIndex > 0) {
+                checkRisky(into, buf, segmentStart, end);
+            }
+        }
+
+        into.start = start;
+        into.end = end;
+        into.nullByte = nullByte;
+        into.doubleExtension = lastNonEmptySegment >= 2 && (into.riskySegmentStart >= 0 || consecutiveDots);
+
+        if (lastDot >= 0 && lastDot != end - 1) {
+            int extensionStart = lastDot + 1;
+            while (extensionStart < end && buf[extensionStart] <= ' ') {
+                extensionStart++;
+            }
+            into.extensionStart = extensionStart;
+            into.extensionEnd = end;
+        }
+    }
+
+    private void checkRisky(FilenameAnalysis into, char[] buf, int from, int to) {
+        if (into.riskySegmentStart < 0 && riskyExtensions.contains(buf, from, to)) {
+            into.riskySegmentStart = from;
+            into.riskySegmentEnd = to;
+        }
+    }
+}
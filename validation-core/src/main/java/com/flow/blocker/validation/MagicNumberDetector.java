@@ -0,0 +1,189 @@
+package com.flow.blocker.validation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 파일 시그니처(Magic Number) 탐지기
+ * - 시그니처를 오프셋별 바이트 트라이로 컴파일하여, 시그니처 개수와 무관하게 선두 바이트만 한 번 훑음
+ * - 스트림에서는 가장 긴 시그니처 끝까지만 읽음 (본문 전체를 읽지 않음)
+ * - MZ는 2바이트뿐이라 텍스트와 겹치므로, e_lfanew가 가리키는 PE 헤더(PE\0\0)까지 확인한 경우만 PE로 판정
+ */
+public final class MagicNumberDetector {
+
+    /**
+     * 선두 바이트 최대 읽기 크기
+     */
+    public static final int MAX_PREFIX_LENGTH = 64 * 1024;
+
+    /** PE 헤더 확인용 선두 바이트 수 (일반적인 e_lfanew 범위를 포함) */
+    static final int PE_PROBE_LENGTH = 4 * 1024;
+
+    // DOS 헤더의 e_lfanew(PE 헤더 위치, little-endian 4바이트) 오프셋
+    private static final int E_LFANEW_OFFSET = 0x3C;
+
+    private static final MagicNumberDetector DEFAULT = new MagicNumberDetector(List.of(FileSignature.values()));
+
+    private final SignatureTrie[] tries;
+    private final int prefixLength;
+
+    public MagicNumberDetector(List<FileSignature> signatures) {
+        TreeMap<Integer, SignatureTrie> byOffset = new TreeMap<>();
+        int maxEnd = 0;
+
+        for (FileSignature signature : signatures) {
+            for (String magic : signature.magics()) {
+                int offset = 0;
+                String hex = magic;
+                if (magic.startsWith("@")) {
+                    int colon = magic.indexOf(':');
+                    offset = Integer.parseInt(magic.substring(1, colon));
+                    hex = magic.substring(colon + 1);
+                }
+                byte[] bytes = parseHex(hex);
+                byOffset.computeIfAbsent(offset, SignatureTrie::new).add(bytes, signature);
+                maxEnd = Math.max(maxEnd, offset + bytes.length);
+            }
+            if (signature == FileSignature.PE_EXECUTABLE) {
+                maxEnd = Math.max(maxEnd, PE_PROBE_LENGTH);
+            }
+        }
+
+        if (maxEnd > MAX_PREFIX_LENGTH) {
+            throw new IllegalArgumentException("시그니처가 최대 읽기 크기를 초과합니다: " + maxEnd);
+        }
+        this.tries = byOffset.values().toArray(new SignatureTrie[0]);
+        this.prefixLength = maxEnd;
+    }
+
+    public static MagicNumberDetector defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * 판정에 필요한 선두 바이트 수
+     */
+    public int prefixLength() {
+        return prefixLength;
+    }
+
+    /**
+     * 스트림 선두 바이트로 형식 탐지 (스트림은 닫지 않음)
+     * @return 탐지된 형식, 알 수 없으면 null
+     */
+    public FileSignature detect(InputStream in) throws IOException {
+        byte[] prefix = new byte[prefixLength];
+        int read = in.readNBytes(prefix, 0, prefixLength);
+        return detect(prefix, read);
+    }
+
+    /**
+     * 버퍼 선두 바이트로 형식 탐지 (position부터, position은 바꾸지 않음)
+     * @return 탐지된 형식, 알 수 없으면 null
+     */
+    public FileSignature detect(ByteBuffer buffer) {
+        int length = Math.min(prefixLength, buffer.remaining());
+        byte[] prefix = new byte[length];
+        buffer.get(buffer.position(), prefix, 0, length);
+        return detect(prefix, length);
+    }
+
+    /**
+     * 선두 바이트로 형식 탐지
+     * - 앞쪽 오프셋의 시그니처가 우선, 같은 오프셋에서는 가장 긴 시그니처가 우선
+     * - MZ로 시작해도 PE 헤더가 확인되지 않으면 다음 오프셋의 시그니처로 넘어감
+     * @return 탐지된 형식, 알 수 없으면 null
+     */
+    public FileSignature detect(byte[] data, int length) {
+        for (SignatureTrie trie : tries) {
+            FileSignature match = trie.match(data, length);
+            if (match == FileSignature.PE_EXECUTABLE && !hasPeHeader(data, length)) {
+                continue;
+            }
+            if (match != null) {
+                return match;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * e_lfanew가 가리키는 위치에 PE 헤더가 있는지 확인
+     * - 헤더가 읽은 범위 밖이면 확인할 수 없으므로, 선두를 다 채워 읽었고 최대 읽기 크기 안을 가리키는 경우 PE로 간주
+     *   (텍스트는 e_lfanew 자리에 인쇄 가능 문자가 있어 값이 최대 읽기 크기를 훨씬 넘음)
+     */
+    private boolean hasPeHeader(byte[] data, int length) {
+        if (length < E_LFANEW_OFFSET + 4) {
+            return false;
+        }
+        long header = (data[E_LFANEW_OFFSET] & 0xFFL)
+                | (data[E_LFANEW_OFFSET + 1] & 0xFFL) << 8
+                | (data[E_LFANEW_OFFSET + 2] & 0xFFL) << 16
+                | (data[E_LFANEW_OFFSET + 3] & 0xFFL) << 24;
+        if (header + 4 <= length) {
+            int at = (int) header;
+            return data[at] == 'P' && data[at + 1] == 'E' && data[at + 2] == 0 && data[at + 3] == 0;
+        }
+        return length >= prefixLength && header < MAX_PREFIX_LENGTH;
+    }
+
+    private static byte[] parseHex(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+        }
+        return bytes;
+    }
+
+    /**
+     * 특정 오프셋에서 시작하는 시그니처들의 바이트 트라이
+     */
+    private static final class SignatureTrie {
+
+        private final int offset;
+        private int[] transitions = new int[256 * 16];
+        private FileSignature[] terminals = new FileSignature[16];
+        private int nodeCount = 1;
+
+        SignatureTrie(int offset) {
+            this.offset = offset;
+        }
+
+        void add(byte[] magic, FileSignature signature) {
+            int node = 0;
+            for (byte b : magic) {
+                int slot = node * 256 + (b & 0xFF);
+                if (transitions[slot] == 0) {
+                    int child = nodeCount++;
+                    if (child == terminals.length) {
+                        terminals = Arrays.copyOf(terminals, child * 2);
+                        transitions = Arrays.copyOf(transitions, child * 2 * 256);
+                    }
+                    transitions[slot] = child;
+                }
+                node = transitions[slot];
+            }
+            terminals[node] = signature;
+        }
+
+        FileSignature match(byte[] data, int length) {
+            FileSignature found = null;
+            int node = 0;
+            for (int i = offset; i < length; i++) {
+                node = transitions[node * 256 + (data[i] & 0xFF)];
+                if (node == 0) {
+                    break;
+                }
+                FileSignature terminal = terminals[node];
+                if (terminal != null) {
+                    found = terminal;
+                }
+            }
+            return found;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.flow.blocker.validation;
+
+/**
+ * 차단 정책 변경분
+ * - 정책 버전 하나당 변경 하나 (확장자 추가/제거, 고정/커스텀 구분)
+ * - 집합 연산이므로 같은 변경을 다시 적용해도 결과가 같음
+ */
+public record PolicyDelta(long version, Scope scope, Action action, String extension) {
+
+    public enum Scope {
+        FIXED,
+        CUSTOM
+    }
+
+    public enum Action {
+        ADD,
+        REMOVE
+    }
+}
@@ -0,0 +1,30 @@
+package com.flow.blocker.validation;
+
+/**
+ * 파일 차단 사유 코드
+ * - 로그의 reason 값 및 대량 검증 응답에 사용
+ * - 사유별 기본 메시지 키를 가짐 (문구는 호출자가 키로 결정)
+ */
+public enum RejectionReason {
+
+    INVALID_FILENAME("rejection.invalid-filename"),
+    NULL_BYTE_INJECTION("rejection.null-byte-injection"),
+    SIZE_EXCEEDED("rejection.size-exceeded"),
+    DOUBLE_EXTENSION("rejection.double-extension"),
+    EXTENSION_BLOCKED("rejection.extension-blocked"),
+    MIME_TYPE_MISMATCH("rejection.mime-type-mismatch"),
+    ARCHIVE_ENTRY_BLOCKED("rejection.archive-entry-blocked"),
+    ARCHIVE_LIMIT_EXCEEDED("rejection.archive-limit-exceeded"),
+    ARCHIVE_INVALID("rejection.archive-invalid"),
+    CONTENT_PATTERN_DETECTED("rejection.content-pattern-detected");
+
+    private final String messageKey;
+
+    RejectionReason(String messageKey) {
+        this.messageKey = messageKey;
+    }
+
+    public String messageKey() {
+        return messageKey;
+    }
+}
@@ -0,0 +1,31 @@
+package com.flow.blocker.validation;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 확장자 하나에 대한 컴파일된 판정 (DecisionTable 조회 결과)
+ * @param blocked 확장자 차단
+ * @param maxSizeBytes 최대 크기 (제한 없으면 음수)
+ * @param allowedMimeTypes 이 확장자에 허용된 MIME Type
+ * @param claimedMimeTypes 어떤 규칙이든 허용 목록에 올린 MIME Type 전체 (허용 목록 밖이면 거부)
+ * @param strictMime 어느 목록에도 없는 MIME Type이나 MIME Type이 없는 경우도 거부
+ */
+public record UploadDecision(boolean blocked, long maxSizeBytes, Set<String> allowedMimeTypes,
+                             Set<String> claimedMimeTypes, boolean strictMime) {
+
+    public boolean isSizeAllowed(long size) {
+        return maxSizeBytes < 0 || size <= maxSizeBytes;
+    }
+
+    public boolean isMimeTypeAllowed(String contentType) {
+        if (contentType == null) {
+            return !strictMime;
+        }
+        String mimeType = contentType.toLowerCase(Locale.ROOT);
+        if (allowedMimeTypes.contains(mimeType)) {
+            return true;
+        }
+        return !claimedMimeTypes.contains(mimeType) && !strictMime;
+    }
+}
@@ -0,0 +1,31 @@
+package com.flow.blocker.validation;
+
+/**
+ * 검증 판정 결과 (거부를 예외 없이 값으로 전달)
+ * - 통과: reason이 null
+ * - messageKey: 사용자 메시지 키, detail: 메시지에 넣을 값 (차단된 확장자, 압축 파일 항목명 등)
+ * - 상세값이 없는 판정은 사유별로 미리 만든 인스턴스를 재사용 (거부 경로에서 할당 없음)
+ */
+public record ValidationResult(RejectionReason reason, String messageKey, String detail) {
+
+    public static final ValidationResult ALLOWED = new ValidationResult(null, null, null);
+
+    private static final ValidationResult[] REJECTED = new ValidationResult[RejectionReason.values().length];
+    static {
+        for (RejectionReason reason : RejectionReason.values()) {
+            REJECTED[reason.ordinal()] = new ValidationResult(reason, reason.messageKey(), null);
+        }
+    }
+
+    public static ValidationResult rejected(RejectionReason reason) {
+        return REJECTED[reason.ordinal()];
+    }
+
+    public static ValidationResult rejected(RejectionReason reason, String detail) {
+        return detail == null ? rejected(reason) : new ValidationResult(reason, reason.messageKey(), detail);
+    }
+
+    public boolean isAllowed() {
+        return reason == null;
+    }
+}
@@ -0,0 +1,201 @@
+package com.flow.blocker.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ArchiveInspector 테스트")
+class ArchiveInspectorTest {
+
+    private static final Function<String, RejectionReason> BLOCK_EXE =
+            name -> name.endsWith(".exe") ? RejectionReason.EXTENSION_BLOCKED : null;
+
+    private final ArchiveInspector inspector = new ArchiveInspector(new ArchiveLimits(100, 50L * 1024 * 1024, 100, 2));
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("항목 이름 검사")
+    class EntryNameTests {
+
+        @Test
+        @DisplayName("허용된 항목만 있으면 통과한다")
+        void allowedEntries() throws IOException {
+            // given
+            byte[] zip = zip("docs/readme.txt", text("hello"), "report.pdf", new byte[10]);
+
+            // when & then
+            assertThat(inspectStream(zip)).isNull();
+            assertThat(inspectFile(zip)).isNull();
+        }
+
+        @Test
+        @DisplayName("차단된 항목이 있으면 항목 경로와 함께 거부한다")
+        void blockedEntry() throws IOException {
+            // given
+            byte[] zip = zip("docs/readme.txt", text("hello"), "bin/setup.exe", new byte[10]);
+
+            // when
+            ArchiveFinding fromStream = inspectStream(zip);
+            ArchiveFinding fromFile = inspectFile(zip);
+
+            // then
+            assertThat(fromStream.reason()).isEqualTo(RejectionReason.ARCHIVE_ENTRY_BLOCKED);
+            assertThat(fromStream.entryName()).isEqualTo("bin/setup.exe");
+            assertThat(fromStream.detail()).isEqualTo("EXTENSION_BLOCKED");
+            assertThat(fromFile).isEqualTo(fromStream);
+        }
+
+        @Test
+        @DisplayName("중첩된 압축 파일 안의 항목도 검사한다")
+        void nestedEntry() throws IOException {
+            // given
+            byte[] zip = zip("inner.zip", zip("x/setup.exe", new byte[3]));
+
+            // when & then
+            assertThat(inspectStream(zip).entryName()).isEqualTo("inner.zip!/x/setup.exe");
+            assertThat(inspectFile(zip).entryName()).isEqualTo("inner.zip!/x/setup.exe");
+        }
+    }
+
+    @Nested
+    @DisplayName("압축 폭탄 방지")
+    class LimitTests {
+
+        @Test
+        @DisplayName("항목 수 한도를 넘으면 거부한다")
+        void tooManyEntries() throws IOException {
+            // given
+            Object[] entries = new Object[202];
+            for (int i = 0; i < 101; i++) {
+                entries[i * 2] = "file" + i + ".txt";
+                entries[i * 2 + 1] = new byte[1];
+            }
+            byte[] zip = zip(entries);
+
+            // when & then
+            assertThat(inspectStream(zip).reason()).isEqualTo(RejectionReason.ARCHIVE_LIMIT_EXCEEDED);
+            assertThat(inspectFile(zip).reason()).isEqualTo(RejectionReason.ARCHIVE_LIMIT_EXCEEDED);
+        }
+
+        @Test
+        @DisplayName("압축률이 한도를 넘으면 끝까지 풀지 않고 거부한다")
+        void compressionRatioExceeded() throws IOException {
+            // given
+            byte[] zip = zip("zeros.txt", new byte[20 * 1024 * 1024]);
+
+            // when & then
+            assertThat(inspectStream(zip).reason()).isEqualTo(RejectionReason.ARCHIVE_LIMIT_EXCEEDED);
+            assertThat(inspectFile(zip).reason()).isEqualTo(RejectionReason.ARCHIVE_LIMIT_EXCEEDED);
+        }
+
+        @Test
+        @DisplayName("전체 해제 크기가 한도를 넘으면 거부한다")
+        void totalSizeExceeded() throws IOException {
+            // given
+            ArchiveInspector lenient = new ArchiveInspector(new ArchiveLimits(100, 1024, 100, 2));
+            byte[] zip = zip("a.txt", new byte[600], "b.txt", new byte[600]);
+
+            // when
+            ArchiveFinding finding = lenient.inspect(new ByteArrayInputStream(zip), BLOCK_EXE);
+
+            // then
+            assertThat(finding.reason()).isEqualTo(RejectionReason.ARCHIVE_LIMIT_EXCEEDED);
+            assertThat(finding.entryName()).isEqualTo("b.txt");
+        }
+
+        @Test
+        @DisplayName("중앙 디렉터리의 크기를 조작해도 실제로 풀리는 바이트 수로 한도를 검사한다")
+        void falsifiedDeclaredSize() throws IOException {
+            // given
+            byte[] bomb = declareSize(zip("zeros.txt", new byte[20 * 1024 * 1024]), 1024);
+            byte[] mismatched = declareSize(zip("a.txt", new byte[600]), 10);
+
+            // when & then
+            assertThat(inspectFile(bomb).reason()).isEqualTo(RejectionReason.ARCHIVE_LIMIT_EXCEEDED);
+            assertThat(inspectFile(mismatched).reason()).isEqualTo(RejectionReason.ARCHIVE_INVALID);
+            assertThat(inspectFile(mismatched).entryName()).isEqualTo("a.txt");
+        }
+
+        @Test
+        @DisplayName("중첩 깊이 한도를 넘으면 거부한다")
+        void nestingTooDeep() throws IOException {
+            // given
+            byte[] zip = zip("l1.zip", zip("l2.zip", zip("a.txt", new byte[1])));
+
+            // when
+            ArchiveFinding finding = inspectStream(zip);
+
+            // then
+            assertThat(finding.reason()).isEqualTo(RejectionReason.ARCHIVE_LIMIT_EXCEEDED);
+            assertThat(finding.entryName()).isEqualTo("l1.zip!/l2.zip");
+        }
+    }
+
+    @Test
+    @DisplayName("손상된 압축 파일은 읽을 수 없는 파일로 거부한다")
+    void corruptedArchive() throws IOException {
+        // given
+        byte[] zip = zip("a.txt", text("hello"));
+        byte[] truncated = Arrays.copyOf(zip, zip.length / 2);
+
+        // when & then
+        assertThat(inspectFile(truncated).reason()).isEqualTo(RejectionReason.ARCHIVE_INVALID);
+    }
+
+    private ArchiveFinding inspectStream(byte[] zip) throws IOException {
+        return inspector.inspect(new ByteArrayInputStream(zip), BLOCK_EXE);
+    }
+
+    private ArchiveFinding inspectFile(byte[] zip) throws IOException {
+        Path file = Files.createTempFile(tempDir, "archive-", ".zip");
+        Files.write(file, zip);
+        return inspector.inspect(file, BLOCK_EXE);
+    }
+
+    /**
+     * 모든 중앙 디렉터리 항목의 해제 크기를 바꿈 (헤더 조작 재현)
+     */
+    private static byte[] declareSize(byte[] zip, int size) {
+        byte[] patched = zip.clone();
+        for (int i = 0; i + 28 <= patched.length; i++) {
+            if (patched[i] == 'P' && patched[i + 1] == 'K' && patched[i + 2] == 0x01 && patched[i + 3] == 0x02) {
+                for (int b = 0; b < 4; b++) {
+                    patched[i + 24 + b] = (byte) (size >>> (8 * b));
+                }
+            }
+        }
+        return patched;
+    }
+
+    private static byte[] text(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] zip(Object... entries) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (int i = 0; i < entries.length; i += 2) {
+                zip.putNextEntry(new ZipEntry((String) entries[i]));
+                zip.write((byte[]) entries[i + 1]);
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,132 @@
+package com.flow.blocker.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ContentScanner 테스트")
+class ContentScannerTest {
+
+    private static final ContentScanLimits LIMITS = new ContentScanLimits(1024, 4);
+
+    private static ContentScanResult scan(ContentScanner scanner, String content, ContentScanLimits limits)
+            throws IOException {
+        return scanner.scan(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), limits);
+    }
+
+    @Test
+    @DisplayName("대소문자 구분 없이 패턴과 시작 위치를 찾는다")
+    void scan_Match() throws IOException {
+        // given
+        ContentScanner scanner = ContentScanner.compile(1L, FileValidator.DEFAULT_CONTENT_PATTERNS);
+
+        // when
+        ContentScanResult result = scan(scanner, "GIF89a...<ScRiPt>alert(1)", LIMITS);
+
+        // then
+        assertThat(result.isMatched()).isTrue();
+        assertThat(result.match()).isEqualTo(new ContentMatch("<script", 9));
+        assertThat(result.truncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("청크 경계에 걸친 패턴과 다른 패턴의 접미사인 패턴도 찾는다")
+    void scan_AcrossChunksAndSuffix() throws IOException {
+        // given
+        ContentScanner scanner = ContentScanner.compile(1L, List.of("she", "hers", "사용자"));
+
+        // when & then
+        assertThat(scan(scanner, "ushers", LIMITS).match()).isEqualTo(new ContentMatch("she", 1));
+        assertThat(scan(scanner, "xxxhers", LIMITS).match()).isEqualTo(new ContentMatch("hers", 3));
+        assertThat(scan(scanner, "ab사용자", LIMITS).match()).isEqualTo(new ContentMatch("사용자", 2));
+        assertThat(scan(scanner, "he is here", LIMITS).isMatched()).isFalse();
+    }
+
+    @Test
+    @DisplayName("바이트 한도를 넘는 부분은 검사하지 않고 truncated로 표시한다")
+    void scan_Truncated() throws IOException {
+        // given
+        ContentScanner scanner = ContentScanner.compile(1L, List.of("eval("));
+        ContentScanLimits limits = new ContentScanLimits(8, 4);
+
+        // when
+        ContentScanResult result = scan(scanner, "12345678eval(x)", limits);
+
+        // then
+        assertThat(result.isMatched()).isFalse();
+        assertThat(result.scannedBytes()).isEqualTo(8);
+        assertThat(result.truncated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("채널은 주어진 버퍼 단위로 읽어 스트림과 같은 결과로 검사한다")
+    void scan_Channel() throws IOException {
+        // given
+        ContentScanner scanner = ContentScanner.compile(1L, List.of("eval("));
+        byte[] content = "12345678eval(x)".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(4);
+
+        // when
+        ContentScanResult found = scanner.scan(Channels.newChannel(new ByteArrayInputStream(content)), buffer, LIMITS);
+        ContentScanResult truncated = scanner.scan(
+                Channels.newChannel(new ByteArrayInputStream(content)), buffer, new ContentScanLimits(8, 4));
+
+        // then
+        assertThat(found).isEqualTo(scan(scanner, "12345678eval(x)", LIMITS));
+        assertThat(found.match()).isEqualTo(new ContentMatch("eval(", 8));
+        assertThat(truncated).isEqualTo(new ContentScanResult(null, 8, true));
+    }
+
+    @Test
+    @DisplayName("버퍼를 재사용해도 이전 검사 내용이 남지 않는다")
+    void scan_ChannelReusesBuffer() throws IOException {
+        // given
+        ContentScanner scanner = ContentScanner.compile(1L, List.of("eval("));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+        scanner.scan(Channels.newChannel(new ByteArrayInputStream("xxxxxxxxxxxeval(".getBytes(StandardCharsets.US_ASCII))),
+                buffer, LIMITS);
+
+        // when
+        ContentScanResult result = scanner.scan(
+                Channels.newChannel(new ByteArrayInputStream("xev".getBytes(StandardCharsets.US_ASCII))), buffer, LIMITS);
+
+        // then
+        assertThat(result).isEqualTo(new ContentScanResult(null, 3, false));
+    }
+
+    @Test
+    @DisplayName("패턴이 없으면 읽지 않고 통과한다")
+    void scan_Empty() throws IOException {
+        // given
+        ContentScanner scanner = ContentScanner.compile(3L, List.of(""));
+
+        // when
+        ContentScanResult result = scan(scanner, "<script>", LIMITS);
+
+        // then
+        assertThat(scanner.isEmpty()).isTrue();
+        assertThat(result.isMatched()).isFalse();
+        assertThat(result.scannedBytes()).isZero();
+        assertThat(ContentScanner.empty().version()).isZero();
+    }
+
+    @Test
+    @DisplayName("패턴은 소문자로 정규화하고 중복을 제거한다")
+    void compile_Normalizes() {
+        // when
+        ContentScanner scanner = ContentScanner.compile(2L, List.of("<SCRIPT", "<script", "Eval("));
+
+        // then
+        assertThat(scanner.version()).isEqualTo(2L);
+        assertThat(scanner.patterns()).containsExactly("<script", "eval(");
+        assertThat(scanner.stateCount()).isEqualTo(13);
+    }
+}
@@ -0,0 +1,118 @@
+package com.flow.blocker.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DecisionTable 테스트")
+class DecisionTableTest {
+
+    private static DecisionRule blocked(String extension, DecisionRule.Mode mode) {
+        return new DecisionRule(extension, mode, true, DecisionRule.NO_LIMIT, Set.of(), false);
+    }
+
+    @Test
+    @DisplayName("확장자 규칙과 전체 확장자 규칙을 합쳐 가장 작은 크기 제한을 적용한다")
+    void lookup_MergesWithDefault() {
+        // given
+        DecisionTable table = DecisionTable.compile(List.of(
+            DecisionRule.maxSize(DecisionRule.ANY_EXTENSION, 100),
+            DecisionRule.maxSize("mp4", 1000),
+            DecisionRule.maxSize("csv", 10)
+        ));
+
+        // when & then
+        assertThat(table.lookup("mp4", DecisionRule.Mode.UPLOAD).maxSizeBytes()).isEqualTo(100);
+        assertThat(table.lookup("csv", DecisionRule.Mode.UPLOAD).maxSizeBytes()).isEqualTo(10);
+        assertThat(table.lookup("txt", DecisionRule.Mode.UPLOAD).maxSizeBytes()).isEqualTo(100);
+        assertThat(table.lookup("txt", DecisionRule.Mode.VALIDATE).isSizeAllowed(Long.MAX_VALUE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("차단 규칙은 지정한 경로에만 적용되고 ALL은 두 경로 모두에 적용된다")
+    void lookup_ByMode() {
+        // given
+        DecisionTable table = DecisionTable.compile(List.of(
+            blocked("iso", DecisionRule.Mode.UPLOAD),
+            blocked("tmp", DecisionRule.Mode.VALIDATE),
+            blocked("lnk", DecisionRule.Mode.ALL)
+        ));
+
+        // when & then
+        assertThat(table.lookup("iso", DecisionRule.Mode.UPLOAD).blocked()).isTrue();
+        assertThat(table.lookup("iso", DecisionRule.Mode.VALIDATE).blocked()).isFalse();
+        assertThat(table.lookup("tmp", DecisionRule.Mode.UPLOAD).blocked()).isFalse();
+        assertThat(table.lookup("tmp", DecisionRule.Mode.VALIDATE).blocked()).isTrue();
+        assertThat(table.lookup("lnk", DecisionRule.Mode.UPLOAD).blocked()).isTrue();
+        assertThat(table.lookup("lnk", DecisionRule.Mode.VALIDATE).blocked()).isTrue();
+        assertThatThrownBy(() -> table.lookup("lnk", DecisionRule.Mode.ALL))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("다른 확장자의 허용 목록에 있는 MIME Type은 거부하고, 엄격 규칙은 모르는 MIME Type도 거부한다")
+    void isMimeTypeAllowed() {
+        // given
+        DecisionTable table = DecisionTable.compile(List.of(
+            DecisionRule.mimeTypes("csv", true, "text/csv"),
+            DecisionRule.mimeTypes("pdf", false, "application/pdf")
+        ));
+        UploadDecision csv = table.lookup("csv", DecisionRule.Mode.UPLOAD);
+        UploadDecision txt = table.lookup("txt", DecisionRule.Mode.UPLOAD);
+
+        // when & then
+        assertThat(csv.isMimeTypeAllowed("TEXT/CSV")).isTrue();
+        assertThat(csv.isMimeTypeAllowed("text/plain")).isFalse();
+        assertThat(csv.isMimeTypeAllowed(null)).isFalse();
+        assertThat(txt.isMimeTypeAllowed("text/plain")).isTrue();
+        assertThat(txt.isMimeTypeAllowed("application/pdf")).isFalse();
+        assertThat(txt.isMimeTypeAllowed(null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("규칙 수와 관계없이 확장자별 판정은 미리 합쳐져 같은 인스턴스를 반환한다")
+    void lookup_Precompiled() {
+        // given
+        List<DecisionRule> rules = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            rules.add(DecisionRule.maxSize("ext" + i, i));
+        }
+        DecisionTable table = DecisionTable.compile(rules);
+
+        // when & then
+        assertThat(table.ruleCount()).isEqualTo(10_000);
+        assertThat(table.lookup("ext42", DecisionRule.Mode.UPLOAD))
+            .isSameAs(table.lookup("ext42", DecisionRule.Mode.UPLOAD));
+        assertThat(table.lookup("ext42", DecisionRule.Mode.UPLOAD).maxSizeBytes()).isEqualTo(42);
+        assertThat(table.lookup("", DecisionRule.Mode.UPLOAD).maxSizeBytes()).isEqualTo(DecisionRule.NO_LIMIT);
+    }
+
+    @Test
+    @DisplayName("char 배열 구간 조회는 대소문자를 무시하고 문자열 조회와 같은 판정을 반환한다")
+    void lookup_CharRange() {
+        // given
+        DecisionTable table = DecisionTable.compile(List.of(
+            DecisionRule.maxSize(DecisionRule.ANY_EXTENSION, 100),
+            blocked("iso", DecisionRule.Mode.UPLOAD),
+            DecisionRule.maxSize("csv", 10)
+        ));
+        char[] chars = "report.ISO.Csv".toCharArray();
+
+        // when & then
+        assertThat(table.lookup(chars, 7, 10, DecisionRule.Mode.UPLOAD))
+            .isSameAs(table.lookup("iso", DecisionRule.Mode.UPLOAD));
+        assertThat(table.lookup(chars, 7, 10, DecisionRule.Mode.UPLOAD).blocked()).isTrue();
+        assertThat(table.lookup(chars, 7, 10, DecisionRule.Mode.VALIDATE).blocked()).isFalse();
+        assertThat(table.lookup(chars, 11, 14, DecisionRule.Mode.UPLOAD).maxSizeBytes()).isEqualTo(10);
+        assertThat(table.lookup(chars, 0, 6, DecisionRule.Mode.UPLOAD))
+            .isSameAs(table.lookup("report", DecisionRule.Mode.UPLOAD));
+        assertThat(table.lookup(chars, 6, 6, DecisionRule.Mode.UPLOAD).maxSizeBytes()).isEqualTo(100);
+        assertThatThrownBy(() -> table.lookup(chars, 7, 10, DecisionRule.Mode.ALL))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,116 @@
+package com.flow.blocker.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ExtensionAutomaton 테스트")
+class ExtensionAutomatonTest {
+
+    private static final List<String> RULES = List.of("exe", "php*", "ps?xml", "msh*", "*sh");
+
+    @Test
+    @DisplayName("정확한 확장자와 와일드카드 패턴을 대소문자 구분 없이 판정한다")
+    void matches() {
+        // given
+        ExtensionAutomaton automaton = ExtensionAutomaton.compile(RULES);
+
+        // when & then
+        assertThat(automaton.isDeterministic()).isTrue();
+        assertThat(automaton.matches("EXE")).isTrue();
+        assertThat(automaton.matches("php")).isTrue();
+        assertThat(automaton.matches("Php5")).isTrue();
+        assertThat(automaton.matches("ps1xml")).isTrue();
+        assertThat(automaton.matches("mshxml")).isTrue();
+        assertThat(automaton.matches("bash")).isTrue();
+        assertThat(automaton.matches("psxml")).isFalse();
+        assertThat(automaton.matches("ps12xml")).isFalse();
+        assertThat(automaton.matches("exe1")).isFalse();
+        assertThat(automaton.matches("ph")).isFalse();
+        assertThat(automaton.matches("")).isFalse();
+        assertThat(automaton.matches(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("char 배열의 구간으로 조회해도 같은 결과를 낸다")
+    void matches_CharArray() {
+        // given
+        ExtensionAutomaton automaton = ExtensionAutomaton.compile(RULES);
+        char[] chars = "report.PHP7".toCharArray();
+
+        // when & then
+        assertThat(automaton.matches(chars, 7, 11)).isTrue();
+        assertThat(automaton.matches(chars, 0, 6)).isFalse();
+    }
+
+    @Test
+    @DisplayName("상태 수 한도를 넘으면 순차 대조로 물러나도 판정은 같다")
+    void compile_StateLimitFallback() {
+        // given
+        ExtensionAutomaton automaton = ExtensionAutomaton.compile(RULES, 3);
+        ExtensionAutomaton exactOnly = ExtensionAutomaton.compile(List.of("exe", "bat"), 3);
+
+        // when & then
+        assertThat(automaton.isDeterministic()).isFalse();
+        assertThat(automaton.matches("exe")).isTrue();
+        assertThat(automaton.matches("php5")).isTrue();
+        assertThat(automaton.matches("ps1xml")).isTrue();
+        assertThat(automaton.matches("psxml")).isFalse();
+        assertThat(exactOnly.stateCount()).isZero();
+        assertThat(exactOnly.matches("BAT")).isTrue();
+    }
+
+    @Test
+    @DisplayName("패턴이 수천 개여도 하나의 DFA로 컴파일된다")
+    void compile_ThousandsOfPatterns() {
+        // given
+        List<String> rules = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            rules.add("x" + i + (i % 2 == 0 ? "y*" : "y?"));
+        }
+
+        // when
+        ExtensionAutomaton automaton = ExtensionAutomaton.compile(rules);
+
+        // then
+        assertThat(automaton.isDeterministic()).isTrue();
+        assertThat(automaton.stateCount()).isPositive();
+        assertThat(automaton.matches("x2998yabc")).isTrue();
+        assertThat(automaton.matches("x2999ya")).isTrue();
+        assertThat(automaton.matches("x2999y")).isFalse();
+        assertThat(automaton.matches("y1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("정책 스냅샷은 패턴 항목으로도 확장자를 차단한다")
+    void policy_BlocksByPattern() {
+        // given
+        ExtensionPolicy policy = new ExtensionPolicy(1L, Set.of("exe"), Set.of("php*", "PS?XML"));
+
+        // when & then
+        assertThat(policy.isBlocked("php5")).isTrue();
+        assertThat(policy.isBlocked("ps2xml")).isTrue();
+        assertThat(policy.isBlocked(FileValidator.analyze("index.PHP3"))).isTrue();
+        assertThat(policy.isBlocked(FileValidator.analyze("photo.png"))).isFalse();
+        assertThat(policy.customExtensions()).containsExactlyInAnyOrder("php*", "ps?xml");
+    }
+
+    @Test
+    @DisplayName("차단 항목 조회는 정확한 항목이면 확장자, 패턴이면 패턴 문자열을 돌려준다")
+    void policy_MatchedEntry() {
+        // given
+        ExtensionPolicy policy = new ExtensionPolicy(1L, Set.of("exe"), Set.of("php*", "PS?XML"));
+
+        // when & then
+        assertThat(policy.matchedEntry("EXE")).isEqualTo("exe");
+        assertThat(policy.matchedEntry("php7-attacker-chosen")).isEqualTo("php*");
+        assertThat(policy.matchedEntry("ps1xml")).isEqualTo("ps?xml");
+        assertThat(policy.matchedEntry("png")).isNull();
+        assertThat(policy.matchedEntry(null)).isNull();
+    }
+}
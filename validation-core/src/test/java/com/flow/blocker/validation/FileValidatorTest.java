@@ -0,0 +1,55 @@
+package com.flow.blocker.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FileValidator 테스트")
+class FileValidatorTest {
+
+    private final ExtensionPolicy policy = new ExtensionPolicy(1L, Set.of("exe", "bat"), Set.of("sh"));
+
+    @Test
+    @DisplayName("파일명 판정은 차단 사유를 반환하고 통과하면 null을 반환한다")
+    void checkFilename() {
+        assertThat(FileValidator.checkFilename("report.pdf", policy)).isNull();
+        assertThat(FileValidator.checkFilename("setup.EXE", policy)).isEqualTo(RejectionReason.EXTENSION_BLOCKED);
+        assertThat(FileValidator.checkFilename("deploy.sh", policy)).isEqualTo(RejectionReason.EXTENSION_BLOCKED);
+        assertThat(FileValidator.checkFilename("photo.exe.jpg", policy)).isEqualTo(RejectionReason.DOUBLE_EXTENSION);
+        assertThat(FileValidator.checkFilename("file.pdf\0.exe", policy)).isEqualTo(RejectionReason.NULL_BYTE_INJECTION);
+        assertThat(FileValidator.checkFilename("  ", policy)).isEqualTo(RejectionReason.INVALID_FILENAME);
+        assertThat(FileValidator.checkFilename(null, policy)).isEqualTo(RejectionReason.INVALID_FILENAME);
+    }
+
+    @Test
+    @DisplayName("MIME Type과 확장자가 맞지 않으면 거부한다")
+    void isMimeTypeAllowed() {
+        assertThat(FileValidator.isMimeTypeAllowed("application/pdf", "pdf")).isTrue();
+        assertThat(FileValidator.isMimeTypeAllowed("IMAGE/JPEG", "jpeg")).isTrue();
+        assertThat(FileValidator.isMimeTypeAllowed("application/pdf", "exe")).isFalse();
+        assertThat(FileValidator.isMimeTypeAllowed("application/octet-stream", "txt")).isTrue();
+        assertThat(FileValidator.isMimeTypeAllowed(null, "jsp")).isFalse();
+    }
+
+    @Test
+    @DisplayName("실행 파일 시그니처를 다른 확장자로 위장하면 탐지한다")
+    void isDisguisedExecutable() {
+        assertThat(FileValidator.isDisguisedExecutable(FileSignature.PE_EXECUTABLE, "pdf")).isTrue();
+        assertThat(FileValidator.isDisguisedExecutable(FileSignature.PE_EXECUTABLE, "dll")).isFalse();
+        assertThat(FileValidator.isDisguisedExecutable(FileSignature.PDF, "txt")).isFalse();
+        assertThat(FileValidator.isDisguisedExecutable(null, "pdf")).isFalse();
+    }
+
+    @Test
+    @DisplayName("#!로 시작하는 텍스트 계열 파일은 위장 실행 파일로 보지 않는다")
+    void isDisguisedExecutable_ShebangInText() {
+        assertThat(FileValidator.isDisguisedExecutable(FileSignature.SHEBANG_SCRIPT, "md")).isFalse();
+        assertThat(FileValidator.isDisguisedExecutable(FileSignature.SHEBANG_SCRIPT, "txt")).isFalse();
+        assertThat(FileValidator.isDisguisedExecutable(FileSignature.SHEBANG_SCRIPT, "csv")).isFalse();
+        assertThat(FileValidator.isDisguisedExecutable(FileSignature.SHEBANG_SCRIPT, "jpg")).isTrue();
+        assertThat(FileValidator.isDisguisedExecutable(FileSignature.PE_EXECUTABLE, "txt")).isTrue();
+    }
+}
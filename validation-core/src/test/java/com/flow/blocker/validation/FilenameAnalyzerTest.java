@@ -0,0 +1,94 @@
+package com.flow.blocker.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FilenameAnalyzer 테스트")
+class FilenameAnalyzerTest {
+
+    private final FilenameAnalyzer analyzer = new FilenameAnalyzer(
+        ExtensionTable.of(Set.of("exe", "bat", "js", "php"))
+    );
+
+    @ParameterizedTest(name = "[{index}] {0} -> {1}")
+    @CsvSource(delimiter = '|', value = {
+        "document.txt          | txt",
+        "ARCHIVE.TAR.GZ        | gz",
+        "report. PDF           | pdf",
+        "noextension           | ''",
+        "trailingdot.          | ''",
+        "'  spaced.Docx  '     | docx"
+    })
+    @DisplayName("마지막 점 이후를 소문자 확장자로 추출한다")
+    void extractsExtension(String filename, String expected) {
+        FilenameAnalysis analysis = analyzer.analyze(filename);
+
+        assertThat(analysis.extension()).isEqualTo(expected);
+        assertThat(analysis.hasExtension()).isEqualTo(!expected.isEmpty());
+    }
+
+    @Test
+    @DisplayName("HTML 특수문자와 개행을 제거하고 앞뒤 공백을 정리한다")
+    void sanitizes() {
+        FilenameAnalysis analysis = analyzer.analyze("  <script>alert('x')</script>\r\n.txt ");
+
+        assertThat(analysis.filename()).isEqualTo("scriptalert(x)/script.txt");
+        assertThat(analysis.extension()).isEqualTo("txt");
+    }
+
+    @Test
+    @DisplayName("Null Byte와 %00을 탐지한다 (정제 후 만들어지는 %00 포함)")
+    void detectsNullByte() {
+        assertThat(analyzer.analyze("document.txt\0.exe").hasNullByte()).isTrue();
+        assertThat(analyzer.analyze("document.txt%00.exe").hasNullByte()).isTrue();
+        assertThat(analyzer.analyze("document%<00.exe").hasNullByte()).isTrue();
+        assertThat(analyzer.analyze("document%0.txt").hasNullByte()).isFalse();
+    }
+
+    @ParameterizedTest(name = "[{index}] {0} -> {1}")
+    @CsvSource({
+        "image.jpg.exe, true",
+        "image.EXE.jpg, true",
+        "document..txt, true",
+        "archive.tar.gz, false",
+        "malware.exe, false",
+        "a..b, true",
+        "a.., false",
+        "..., false"
+    })
+    @DisplayName("위험 확장자가 중간에 있거나 연속된 점이 있으면 이중 확장자로 판정한다")
+    void detectsDoubleExtension(String filename, boolean expected) {
+        assertThat(analyzer.analyze(filename).hasDoubleExtension()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("결과 객체를 재사용해도 이전 분석 결과가 남지 않는다")
+    void reusesResult() {
+        FilenameAnalysis analysis = new FilenameAnalysis();
+
+        analyzer.analyze("image.jpg.exe", analysis);
+        assertThat(analysis.riskySegment()).isEqualTo("exe");
+
+        analyzer.analyze("document.txt", analysis);
+        assertThat(analysis.hasDoubleExtension()).isFalse();
+        assertThat(analysis.riskySegment()).isNull();
+        assertThat(analysis.filename()).isEqualTo("document.txt");
+        assertThat(analysis.extension()).isEqualTo("txt");
+    }
+
+    @Test
+    @DisplayName("문자열 생성 없이 확장자를 테이블에서 조회한다")
+    void looksUpExtensionInTable() {
+        ExtensionTable blocked = ExtensionTable.of(Set.of("pdf", "docx"));
+
+        assertThat(analyzer.analyze("Report.PDF").extensionIn(blocked)).isTrue();
+        assertThat(analyzer.analyze("Report.pdfx").extensionIn(blocked)).isFalse();
+        assertThat(analyzer.analyze("Report").extensionIn(blocked)).isFalse();
+    }
+}
@@ -0,0 +1,144 @@
+package com.flow.blocker.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MagicNumberDetector 테스트")
+class MagicNumberDetectorTest {
+
+    private final MagicNumberDetector detector = MagicNumberDetector.defaults();
+
+    @Test
+    @DisplayName("실행 파일 시그니처를 탐지한다")
+    void detectsExecutables() throws IOException {
+        assertThat(detect(pe(0x80))).isEqualTo(FileSignature.PE_EXECUTABLE);
+        assertThat(detect(new byte[]{0x7F, 'E', 'L', 'F', 0x02, 0x01})).isEqualTo(FileSignature.ELF_EXECUTABLE);
+        assertThat(detect(new byte[]{(byte) 0xCF, (byte) 0xFA, (byte) 0xED, (byte) 0xFE})).isEqualTo(FileSignature.MACH_O_EXECUTABLE);
+        assertThat(detect("#!/bin/sh\necho hi".getBytes(StandardCharsets.US_ASCII))).isEqualTo(FileSignature.SHEBANG_SCRIPT);
+        assertThat(FileSignature.PE_EXECUTABLE.isExecutable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("MZ로 시작해도 PE 헤더가 없으면 실행 파일로 보지 않는다")
+    void ignoresMzWithoutPeHeader() throws IOException {
+        // given
+        byte[] csv = "MZ,Kim,Seoul,010-1234-5678\nLee,Busan,010-9876-5432\n".repeat(4).getBytes(StandardCharsets.US_ASCII);
+        byte[] wrongHeader = pe(0x80);
+        wrongHeader[0x80] = 'N';
+
+        // when & then
+        assertThat(detect(csv)).isNull();
+        assertThat(detect("MZ".getBytes(StandardCharsets.US_ASCII))).isNull();
+        assertThat(detect(wrongHeader)).isNull();
+    }
+
+    @Test
+    @DisplayName("PE 헤더가 읽은 범위 밖을 가리키면 실행 파일로 간주한다")
+    void treatsFarPeHeaderAsExecutable() throws IOException {
+        // given
+        byte[] far = new byte[MagicNumberDetector.PE_PROBE_LENGTH + 1024];
+        far[0] = 'M';
+        far[1] = 'Z';
+        far[0x3C] = 0x00;
+        far[0x3D] = 0x14;
+
+        // when & then
+        assertThat(detect(far)).isEqualTo(FileSignature.PE_EXECUTABLE);
+    }
+
+    @Test
+    @DisplayName("문서/이미지/압축 시그니처를 탐지한다")
+    void detectsDocumentsAndImages() throws IOException {
+        assertThat(detect("%PDF-1.7".getBytes(StandardCharsets.US_ASCII))).isEqualTo(FileSignature.PDF);
+        assertThat(detect(new byte[]{'P', 'K', 0x03, 0x04, 0x14})).isEqualTo(FileSignature.ZIP);
+        assertThat(detect(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0})).isEqualTo(FileSignature.JPEG);
+        assertThat(detect("GIF89a".getBytes(StandardCharsets.US_ASCII))).isEqualTo(FileSignature.GIF);
+        assertThat(FileSignature.ZIP.matchesExtension("docx")).isTrue();
+    }
+
+    @Test
+    @DisplayName("선두가 아닌 위치의 시그니처도 탐지한다")
+    void detectsOffsetSignatures() throws IOException {
+        byte[] mp4 = new byte[16];
+        System.arraycopy("ftyp".getBytes(StandardCharsets.US_ASCII), 0, mp4, 4, 4);
+        byte[] tar = new byte[512];
+        System.arraycopy("ustar".getBytes(StandardCharsets.US_ASCII), 0, tar, 257, 5);
+
+        assertThat(detect(mp4)).isEqualTo(FileSignature.ISO_MEDIA);
+        assertThat(detect(tar)).isEqualTo(FileSignature.TAR);
+    }
+
+    @Test
+    @DisplayName("알 수 없거나 잘린 데이터는 null을 반환한다")
+    void returnsNullForUnknown() throws IOException {
+        assertThat(detect("Hello World".getBytes(StandardCharsets.US_ASCII))).isNull();
+        assertThat(detect(new byte[]{(byte) 0x89, 'P', 'N'})).isNull();
+        assertThat(detect(new byte[0])).isNull();
+    }
+
+    @Test
+    @DisplayName("버퍼는 position부터 탐지하고 position을 바꾸지 않는다")
+    void detectsFromBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0x00, 0x00, 'P', 'K', 0x03, 0x04, 0x14});
+        buffer.position(2);
+
+        assertThat(detector.detect(buffer)).isEqualTo(FileSignature.ZIP);
+        assertThat(buffer.position()).isEqualTo(2);
+        assertThat(detector.detect(ByteBuffer.allocate(0))).isNull();
+    }
+
+    @Test
+    @DisplayName("본문 전체가 아닌 선두 바이트만 읽는다")
+    void readsOnlyPrefix() throws IOException {
+        CountingInputStream in = new CountingInputStream(100L * 1024 * 1024);
+
+        detector.detect(in);
+
+        assertThat(in.read).isEqualTo(detector.prefixLength());
+        assertThat(detector.prefixLength()).isLessThanOrEqualTo(MagicNumberDetector.MAX_PREFIX_LENGTH);
+    }
+
+    /**
+     * MZ 헤더와 e_lfanew가 가리키는 PE 헤더만 있는 최소 PE
+     */
+    private static byte[] pe(int header) {
+        byte[] pe = new byte[header + 64];
+        pe[0] = 'M';
+        pe[1] = 'Z';
+        pe[0x3C] = (byte) header;
+        pe[0x3D] = (byte) (header >>> 8);
+        pe[header] = 'P';
+        pe[header + 1] = 'E';
+        return pe;
+    }
+
+    private FileSignature detect(byte[] content) throws IOException {
+        return detector.detect(new ByteArrayInputStream(content));
+    }
+
+    private static class CountingInputStream extends InputStream {
+        private final long size;
+        private long read;
+
+        CountingInputStream(long size) {
+            this.size = size;
+        }
+
+        @Override
+        public int read() {
+            if (read >= size) {
+                return -1;
+            }
+            read++;
+            return 'A';
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.flow.blocker.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ValidationResult 테스트")
+class ValidationResultTest {
+
+    @Test
+    @DisplayName("상세값이 없는 거부 판정은 사유별 인스턴스를 재사용한다")
+    void rejected_Cached() {
+        ValidationResult result = ValidationResult.rejected(RejectionReason.DOUBLE_EXTENSION);
+
+        assertThat(result.isAllowed()).isFalse();
+        assertThat(result.messageKey()).isEqualTo("rejection.double-extension");
+        assertThat(ValidationResult.rejected(RejectionReason.DOUBLE_EXTENSION, null)).isSameAs(result);
+    }
+
+    @Test
+    @DisplayName("상세값이 있는 거부 판정은 사유의 기본 메시지 키를 사용한다")
+    void rejected_WithDetail() {
+        ValidationResult result = ValidationResult.rejected(RejectionReason.EXTENSION_BLOCKED, "exe");
+
+        assertThat(result.reason()).isEqualTo(RejectionReason.EXTENSION_BLOCKED);
+        assertThat(result.messageKey()).isEqualTo("rejection.extension-blocked");
+        assertThat(result.detail()).isEqualTo("exe");
+        assertThat(ValidationResult.ALLOWED.isAllowed()).isTrue();
+    }
+}
@@ -0,0 +1,83 @@
+package com.flow.blocker.benchmark;
+
+import java.util.Random;
+
+/**
+ * 합성 파일명 코퍼스
+ * - 고정 시드로 생성하여 실행마다 같은 입력 사용
+ * - 크기는 2의 거듭제곱 (인덱스 마스킹용)
+ */
+public enum FilenameCorpus {
+
+    /** 일반 ASCII 파일명 */
+    ASCII {
+        @Override
+        String generate(Random random) {
+            return word(random, 4, 16) + "_" + random.nextInt(10_000) + "." + pick(random, COMMON_EXTENSIONS);
+        }
+    },
+    /** 한글, 일본어, 이모지가 섞인 파일명 */
+    UNICODE {
+        @Override
+        String generate(Random random) {
+            return pick(random, UNICODE_WORDS) + " " + pick(random, UNICODE_WORDS) + "_" + random.nextInt(100)
+                    + "." + pick(random, COMMON_EXTENSIONS);
+        }
+    },
+    /** 이중 확장자 (위험 확장자 포함/미포함) */
+    DOUBLE_EXTENSION {
+        @Override
+        String generate(Random random) {
+            return word(random, 4, 12) + "." + pick(random, COMMON_EXTENSIONS) + "." + pick(random, RISKY_EXTENSIONS);
+        }
+    },
+    /** 200자 이상의 긴 파일명 */
+    LONG {
+        @Override
+        String generate(Random random) {
+            return word(random, 200, 250) + "." + pick(random, COMMON_EXTENSIONS);
+        }
+    },
+    /** 위 유형을 섞은 코퍼스 */
+    MIXED {
+        @Override
+        String generate(Random random) {
+            FilenameCorpus[] kinds = {ASCII, ASCII, ASCII, UNICODE, DOUBLE_EXTENSION, LONG};
+            return kinds[random.nextInt(kinds.length)].generate(random);
+        }
+    };
+
+    public static final int SIZE = 1024;
+
+    private static final String[] COMMON_EXTENSIONS = {
+            "txt", "pdf", "docx", "xlsx", "png", "jpg", "zip", "csv", "exe", "sh", "JS", "Bat"
+    };
+    private static final String[] RISKY_EXTENSIONS = {"exe", "js", "php", "bat", "dll", "txt", "png"};
+    private static final String[] UNICODE_WORDS = {
+            "보고서", "최종본", "회의록", "견적서", "議事録", "資料", "résumé", "naïve", "📄", "🚀"
+    };
+
+    abstract String generate(Random random);
+
+    public String[] names() {
+        Random random = new Random(42);
+        String[] names = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            names[i] = generate(random);
+        }
+        return names;
+    }
+
+    private static String word(Random random, int minLength, int maxLength) {
+        int length = minLength + random.nextInt(maxLength - minLength + 1);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + random.nextInt(26)));
+        }
+        return sb.toString();
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}